@@ -66,6 +66,7 @@ import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.MediatorRequest;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigBatchRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.UISchemaRequest;
@@ -106,6 +107,9 @@ import org.eclipse.lemminx.customservice.synapse.connectors.SchemaGenerate;
 import org.eclipse.lemminx.customservice.synapse.definition.SynapseDefinitionProvider;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeChange;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeModel;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeNotification;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverDownloadRequest;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverLoader;
 import org.eclipse.lemminx.customservice.synapse.dynamic.db.DynamicField;
@@ -123,12 +127,16 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeRes
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.utils.ExtendedLocation;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptor;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptorService;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.customservice.synapse.idp.PdfToImagesRequest;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionResponse;
 import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lemminx.settings.capabilities.XMLCapabilityManager;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lsp4j.DefinitionParams;
 import org.eclipse.lsp4j.Diagnostic;
@@ -156,6 +164,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -169,6 +178,9 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         }
     };
 
+    private static final String SYNAPSE_GRAMMAR_PRELOAD_DOCUMENT =
+            "<api xmlns=\"" + Constant.SYNAPSE_NAMESPACE + "\"/>";
+
     private XMLTextDocumentService xmlTextDocumentService;
     private XMLLanguageServer xmlLanguageServer;
     private SynapseLanguageClientAPI languageClient;
@@ -188,6 +200,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     private ExpressionHelperProvider expressionHelperProvider;
     private DynamicFieldsHandler dynamicFieldsHandler;
     private final URIResolverExtensionManager uriResolverExtensionManager;
+    // Directory trees of the requested project folders, which are updated with the changed files
+    private final Map<String, DirectoryTreeModel> directoryTreeModels = new ConcurrentHashMap<>();
 
     public SynapseLanguageService(XMLTextDocumentService xmlTextDocumentService, XMLLanguageServer xmlLanguageServer) {
 
@@ -210,8 +224,9 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         }
         if (projectUri != null) {
             this.projectUri = projectUri;
-            this.isLegacyProject = Utils.isLegacyProject(projectUri);
-            this.projectServerVersion = Utils.getServerVersion(projectUri, Constant.DEFAULT_MI_VERSION);
+            ProjectDescriptor projectDescriptor = ProjectDescriptorService.getDescriptor(projectUri);
+            this.isLegacyProject = projectDescriptor.isLegacyProject();
+            this.projectServerVersion = projectDescriptor.getServerVersion();
             try {
                 inboundConnectorHolder.init(projectUri, projectServerVersion);
                 initializeConnectorLoader();
@@ -227,11 +242,34 @@ public class SynapseLanguageService implements ISynapseLanguageService {
             this.expressionHelperProvider = new ExpressionHelperProvider(projectUri);
             resourceFinder = ResourceFinderFactory.getResourceFinder(isLegacyProject);
             resourceFinder.loadDependentResources(projectUri);
+            preloadSynapseGrammar();
         } else {
             log.log(Level.SEVERE, "Project path is null. Language server initialization failed.");
         }
     }
 
+    /**
+     * Compile the Synapse schemas in the background, so that the first validation and completion of a Synapse
+     * document do not wait for the schemas to be loaded.
+     */
+    private void preloadSynapseGrammar() {
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                DOMDocument document = Utils.getDOMDocument(SYNAPSE_GRAMMAR_PRELOAD_DOCUMENT,
+                        uriResolverExtensionManager);
+                doDiagnostics(document, NULL_CANCEL_CHECKER);
+                ContentModelManager contentModelManager =
+                        xmlLanguageServer.getXMLLanguageService().getComponent(ContentModelManager.class);
+                if (contentModelManager != null) {
+                    contentModelManager.findCMDocument(document, Constant.SYNAPSE_NAMESPACE);
+                }
+            } catch (Exception e) {
+                log.log(Level.WARNING, "Error while preloading the synapse schemas.", e);
+            }
+        });
+    }
+
     private void initializeConnectorLoader() throws InvalidConfigurationException {
 
         if (isLegacyProject) {
@@ -312,10 +350,55 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<DirectoryMapResponse> directoryTree(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.buildDirectoryTree(param);
+        DirectoryMapResponse response;
+        if (isProjectFolderWatched()) {
+            response = getDirectoryTreeModel(param).getDirectoryTree();
+        } else {
+            response = DirectoryTreeBuilder.buildDirectoryTree(param);
+        }
         return CompletableFuture.supplyAsync(() -> response);
     }
 
+    private DirectoryTreeModel getDirectoryTreeModel(WorkspaceFolder projectFolder) {
+
+        return directoryTreeModels.computeIfAbsent(projectFolder.getUri(),
+                uri -> new DirectoryTreeModel(projectFolder));
+    }
+
+    /**
+     * The kept directory trees are updated with the changed files only, hence they are used only if the client sends
+     * the events of the watched project folders. Otherwise the trees are built from the files on each request.
+     */
+    private boolean isProjectFolderWatched() {
+
+        XMLCapabilityManager capabilityManager = xmlLanguageServer.getCapabilityManager();
+        return capabilityManager != null &&
+                capabilityManager.getClientCapabilities().isDidChangeWatchedFilesRegistered();
+    }
+
+    /**
+     * Updates the directory trees and the project explorer models of the projects with the changed files and sends
+     * the changed nodes to the client.
+     *
+     * @param uris the uris of the created, changed and deleted files
+     */
+    public void filesChanged(List<String> uris) {
+
+        for (DirectoryTreeModel directoryTreeModel : directoryTreeModels.values()) {
+            List<DirectoryTreeChange> changes = directoryTreeModel.update(uris);
+            if (changes.isEmpty() || languageClient == null) {
+                continue;
+            }
+            languageClient.directoryTreeChanged(
+                    new DirectoryTreeNotification(directoryTreeModel.getProjectUri(), changes));
+            List<DirectoryTreeChange> projectExplorerChanges = directoryTreeModel.updateProjectExplorer();
+            if (!projectExplorerChanges.isEmpty()) {
+                languageClient.projectExplorerChanged(
+                        new DirectoryTreeNotification(directoryTreeModel.getProjectUri(), projectExplorerChanges));
+            }
+        }
+    }
+
     @Override
     public CompletableFuture<ExtendedLocation> definition(
             DefinitionParams params) {
@@ -357,7 +440,7 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         if (mediatorHandler.isInitialized()) {
             mediatorHandler.reloadMediatorList(projectServerVersion);
         }
-        //Generate xsd schema for the available connectors and write it to the schema file.
+        //Generate xsd schema for the available connectors and write it to the schema file if it has changed.
         String connectorPath = synapseXSDPath.resolve("mediators").resolve("connectors.xsd").toString();
         SchemaGenerate.generate(connectorHolder, connectorPath);
     }
@@ -367,6 +450,22 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         inboundConnectorHolder.getCustomInboundConnectors();
     }
 
+    /**
+     * Drops the cached mediator UI schemas when a resource of the project, such as a registry resource, is changed.
+     *
+     * @param uri the uri of the changed file
+     */
+    public void resourceChanged(String uri) {
+
+        if (projectUri == null || !mediatorHandler.isInitialized()) {
+            return;
+        }
+        Path resourcesPath = Path.of(projectUri).resolve(Constant.RESOURCE_RELATIVE_PATH);
+        if (Path.of(Utils.getAbsolutePath(uri)).startsWith(resourcesPath)) {
+            mediatorHandler.invalidateUISchemas();
+        }
+    }
+
     @Override
     public CompletableFuture<List<String>> getRegistryFiles(TextDocumentIdentifier param) {
 
@@ -448,7 +547,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
 
         SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
         FileType fileType = FileType.valueOf(schemaGenRequest.type);
-        String schema = schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter);
+        String schema = schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter,
+                schemaGenRequest.sampleSize);
         SchemaGenResponse schemaGenResponse = new SchemaGenResponse(schema);
         return CompletableFuture.supplyAsync(() -> schemaGenResponse);
     }
@@ -571,7 +671,12 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<DirectoryMapResponse> getProjectExplorerModel(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.getProjectExplorerModel(param);
+        DirectoryMapResponse response;
+        if (isProjectFolderWatched()) {
+            response = getDirectoryTreeModel(param).getProjectExplorerModel();
+        } else {
+            response = DirectoryTreeBuilder.getProjectExplorerModel(param);
+        }
         return CompletableFuture.supplyAsync(() -> response);
     }
 
@@ -603,6 +708,15 @@ public class SynapseLanguageService implements ISynapseLanguageService {
                         synapseConfigRequest.dirtyFields));
     }
 
+    @Override
+    public CompletableFuture<SynapseConfigResponse> generateSynapseConfigs(
+            SynapseConfigBatchRequest synapseConfigBatchRequest) {
+
+        return CompletableFuture.supplyAsync(() -> mediatorHandler.generateSynapseConfigs(
+                synapseConfigBatchRequest.documentUri, synapseConfigBatchRequest.configs != null ?
+                        synapseConfigBatchRequest.configs : Collections.emptyList()));
+    }
+
     @Override
     public CompletableFuture<JsonObject> getMediatorUISchemaWithValues(MediatorRequest mediatorRequest) {
 
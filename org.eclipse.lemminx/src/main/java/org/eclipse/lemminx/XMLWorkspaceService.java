@@ -20,7 +20,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.commons.WorkspaceFolders;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptorService;
 import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
@@ -93,17 +95,23 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 		XMLTextDocumentService xmlTextDocumentService = (XMLTextDocumentService) xmlLanguageServer
 				.getTextDocumentService();
 		List<FileEvent> changes = params.getChanges();
+		List<String> changedUris = new ArrayList<>();
 		for (FileEvent change : changes) {
+			changedUris.add(change.getUri());
+			ProjectDescriptorService.projectFileChanged(change.getUri());
+			DirectoryTreeBuilder.fileChanged(change.getUri());
 			if (change.getUri().contains(Constant.INBOUND_CONNECTORS_DIR) && change.getUri().contains(".zip")) {
 				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateInboundConnectors();
 			} else if (change.getUri().contains(Constant.CONNECTORS) && change.getUri().contains(".zip")) {
 				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateConnectors();
 			} else {
+				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).resourceChanged(change.getUri());
 				if (!xmlTextDocumentService.documentIsOpen(change.getUri())) {
 					xmlTextDocumentService.doSave(change.getUri());
 				}
 			}
 		}
+		((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).filesChanged(changedUris);
 	}
 
 	@Override
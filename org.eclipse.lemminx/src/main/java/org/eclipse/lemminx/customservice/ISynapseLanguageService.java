@@ -55,6 +55,7 @@ import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnect
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorParam;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.MediatorRequest;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigBatchRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.UISchemaRequest;
@@ -217,6 +218,10 @@ public interface ISynapseLanguageService {
     @JsonRequest
     CompletableFuture<SynapseConfigResponse> generateSynapseConfig(SynapseConfigRequest synapseConfigRequest);
 
+    @JsonRequest
+    CompletableFuture<SynapseConfigResponse> generateSynapseConfigs(
+            SynapseConfigBatchRequest synapseConfigBatchRequest);
+
     @JsonRequest
     CompletableFuture<JsonObject> getMediatorUISchemaWithValues(MediatorRequest mediatorRequest);
 
@@ -14,6 +14,7 @@
 package org.eclipse.lemminx.customservice;
 
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 
@@ -47,4 +48,20 @@ public interface SynapseLanguageClientAPI extends XMLLanguageClientAPI {
      */
     @JsonNotification("tryoutLog")
     void tryoutLog(String message);
+
+    /**
+     * Notification to be sent to the client when the nodes of the directory tree of a project are changed
+     *
+     * @param message the changed nodes of the directory tree
+     */
+    @JsonNotification("directoryTreeChanged")
+    void directoryTreeChanged(DirectoryTreeNotification message);
+
+    /**
+     * Notification to be sent to the client when the nodes of the project explorer model of a project are changed
+     *
+     * @param message the changed nodes of the project explorer model
+     */
+    @JsonNotification("projectExplorerChanged")
+    void projectExplorerChanged(DirectoryTreeNotification message);
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse;
+
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatches a mediator to the visit method of an {@link AbstractMediatorVisitor} which matches its tag and class,
+ * e.g. visitLog(Log) for a log mediator. The visit method of each mediator class and tag is resolved once to a
+ * {@link MethodHandle}, so that visiting a mediator does not look up and invoke the method reflectively.
+ */
+public final class MediatorVisitorDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(MediatorVisitorDispatcher.class.getName());
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType VISIT_TYPE = MethodType.methodType(void.class, AbstractMediatorVisitor.class,
+            Mediator.class);
+
+    // Visit methods by mediator tag, per mediator class. A mediator class can be visited by different methods
+    // depending on its tag, e.g. DbMediator by visitDblookup and visitDbreport.
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> VISIT_METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MediatorVisitorDispatcher() {
+
+    }
+
+    /**
+     * Visit the mediator with the visit method of the visitor which matches the mediator.
+     *
+     * @param node    The mediator node to visit.
+     * @param visitor The visitor to visit the mediator.
+     */
+    public static void visit(Mediator node, AbstractMediatorVisitor visitor) {
+
+        String tag = node.getTag();
+        Optional<MethodHandle> visitMethod = VISIT_METHODS.get(node.getClass())
+                .computeIfAbsent(tag, key -> findVisitMethod(key, node.getClass()));
+        if (visitMethod.isEmpty()) {
+            LOGGER.log(Level.SEVERE, "No visit method found for mediator: " + tag);
+            return;
+        }
+        try {
+            visitMethod.get().invokeExact(visitor, node);
+        } catch (Throwable e) {
+            LOGGER.log(Level.SEVERE, "Error while invoking visit method for mediator: " + tag, e);
+        }
+    }
+
+    private static Optional<MethodHandle> findVisitMethod(String tag, Class<?> mediatorClass) {
+
+        String sanitizedTag = Utils.sanitizeTag(tag);
+        if (sanitizedTag == null || sanitizedTag.isEmpty()) {
+            return Optional.empty();
+        }
+        String visitFn = "visit" + sanitizedTag.substring(0, 1).toUpperCase() + sanitizedTag.substring(1);
+        try {
+            MethodHandle visitMethod = LOOKUP.findVirtual(AbstractMediatorVisitor.class, visitFn,
+                    MethodType.methodType(void.class, mediatorClass));
+            return Optional.of(visitMethod.asType(VISIT_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOGGER.log(Level.FINE, "No visit method " + visitFn + " found for mediator class: " +
+                    mediatorClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+}
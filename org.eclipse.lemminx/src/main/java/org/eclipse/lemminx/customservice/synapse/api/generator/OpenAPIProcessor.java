@@ -41,9 +41,8 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.lemminx.customservice.synapse.parser.AdvanceDetails;
-import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
-import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.API;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.ApiVersionType;
 
@@ -208,11 +207,9 @@ public class OpenAPIProcessor {
 
         String serverVersionPath = api.getContext().startsWith("/") ? "" : "/";
         if (StringUtils.isNotBlank(projectPath)){
-            OverviewPageDetailsResponse overviewPageDetailsResponse = new OverviewPageDetailsResponse();
-            PomParser.getPomDetails(projectPath, overviewPageDetailsResponse);
-            AdvanceDetails advanceDetails = overviewPageDetailsResponse.getBuildDetails().getAdvanceDetails();
-            serverVersionPath = "/" + advanceDetails.getProjectGroupId().getValue() + "/" + advanceDetails.getProjectArtifactId().getValue()
-                    + "/" + overviewPageDetailsResponse.getPrimaryDetails().getProjectVersion().getValue()
+            PomModel pomModel = PomModelService.getPomModel(projectPath);
+            serverVersionPath = "/" + pomModel.getProjectGroupId() + "/" + pomModel.getProjectArtifactId()
+                    + "/" + pomModel.getProjectVersion()
                     + serverVersionPath;
         }
 
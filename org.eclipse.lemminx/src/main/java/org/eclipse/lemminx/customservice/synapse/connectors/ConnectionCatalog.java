@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.connectors;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectionParameter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Catalog of the connections defined as local entries of a project.
+ * <p>
+ * The catalog is updated with the local entries of the project, where only the local entries which are new or have
+ * been modified since the last update are read again. The connections are indexed by the connector name and by the
+ * parameter values.
+ */
+class ConnectionCatalog {
+
+    private final Function<LocalEntry, Connection> connectionReader;
+    private final Map<String, CatalogEntry> entries = new HashMap<>();
+    private List<String> entryPaths = Collections.emptyList();
+    private Map<String, List<Connection>> connectionsByConnector = Collections.emptyMap();
+    private Map<String, List<Connection>> connectionsByParameterValue = Collections.emptyMap();
+
+    /**
+     * @param connectionReader reads the connection of a local entry, returning null if it is not a connection
+     */
+    ConnectionCatalog(Function<LocalEntry, Connection> connectionReader) {
+
+        this.connectionReader = connectionReader;
+    }
+
+    /**
+     * Update the catalog with the current local entries of the project. Only the size and the last modified time of
+     * the files are compared, hence the files which have not changed are not read again.
+     *
+     * @param files the local entry files
+     */
+    synchronized void update(List<File> files) {
+
+        boolean isModified = false;
+        List<String> paths = new ArrayList<>();
+        Set<String> pathSet = new LinkedHashSet<>();
+        for (File file : files) {
+            String path = file.getAbsolutePath();
+            LocalEntry localEntry = new LocalEntry(path, file.lastModified(), file.length());
+            CatalogEntry entry = entries.get(path);
+            if (entry == null || !entry.localEntry.equals(localEntry)) {
+                entries.put(path, new CatalogEntry(localEntry, connectionReader.apply(localEntry)));
+                isModified = true;
+            }
+            if (pathSet.add(path)) {
+                paths.add(path);
+            }
+        }
+        isModified |= entries.keySet().retainAll(pathSet);
+        if (isModified || !paths.equals(entryPaths)) {
+            entryPaths = paths;
+            index();
+        }
+    }
+
+    /**
+     * Get the connections of the given connector, in the order of the local entries.
+     *
+     * @param connectorName the connector name
+     * @return the connections
+     */
+    synchronized List<Connection> getConnections(String connectorName) {
+
+        return connectionsByConnector.getOrDefault(connectorName, Collections.emptyList());
+    }
+
+    /**
+     * Get the connections having a parameter with the given value.
+     *
+     * @param value the parameter value
+     * @return the connections
+     */
+    synchronized List<Connection> getConnectionsByParameterValue(String value) {
+
+        return connectionsByParameterValue.getOrDefault(value, Collections.emptyList());
+    }
+
+    private void index() {
+
+        Map<String, List<Connection>> byConnector = new HashMap<>();
+        Map<String, List<Connection>> byParameterValue = new HashMap<>();
+        for (String path : entryPaths) {
+            Connection connection = entries.get(path).connection;
+            if (connection == null) {
+                continue;
+            }
+            byConnector.computeIfAbsent(connection.getConnectorName(), key -> new ArrayList<>()).add(connection);
+            if (connection.getParameters() != null) {
+                Set<String> values = new HashSet<>();
+                for (ConnectionParameter parameter : connection.getParameters()) {
+                    if (parameter.getValue() != null && values.add(parameter.getValue())) {
+                        byParameterValue.computeIfAbsent(parameter.getValue(), key -> new ArrayList<>())
+                                .add(connection);
+                    }
+                }
+            }
+        }
+        connectionsByConnector = byConnector;
+        connectionsByParameterValue = byParameterValue;
+    }
+
+    static final class LocalEntry {
+
+        final String path;
+        final long lastModified;
+        final long size;
+
+        LocalEntry(String path, long lastModified, long size) {
+
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LocalEntry)) {
+                return false;
+            }
+            LocalEntry that = (LocalEntry) o;
+            return lastModified == that.lastModified && size == that.size && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(path, lastModified, size);
+        }
+    }
+
+    private static final class CatalogEntry {
+
+        private final LocalEntry localEntry;
+        private final Connection connection;
+
+        CatalogEntry(LocalEntry localEntry, Connection connection) {
+
+            this.localEntry = localEntry;
+            this.connection = connection;
+        }
+    }
+}
@@ -18,12 +18,9 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectionParameter;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connections;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
-import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
-import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
-import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
-import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
-import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.legacyBuilder.utils.ProjectType;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.LegacyConfigFinder;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
@@ -32,16 +29,22 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ConnectionFinder {
 
     private static final Logger log = Logger.getLogger(ConnectionFinder.class.getName());
+    // Connection catalogs keyed by the project path
+    private static final Map<String, ConnectionCatalog> CATALOGS = new ConcurrentHashMap<>();
 
     /**
      * Find connections for a given uri and name. If the name is null, it will return all the connections.
@@ -56,67 +59,129 @@ public class ConnectionFinder {
                                                                                 ConnectorHolder connectorHolder,
                                                                                 boolean isLegacyProject) {
 
-        if (uri != null) {
-            AbstractResourceFinder resourceFinder = ResourceFinderFactory.getResourceFinder(isLegacyProject);
-            ResourceResponse response = resourceFinder.getAvailableResources(uri, Either.forLeft(Constant.LOCAL_ENTRY));
-            if (response != null) {
-                List<Resource> resources = response.getResources();
-                if (name != null) {
-                    Connections connections = getConnections(resources, name);
-                    return Either.forLeft(connections);
-                } else {
-                    Map<String, Connections> connections = new HashMap<>();
-                    populateConnectors(connectorHolder, connections);
-                    getConnections(connections, resources);
-                    return Either.forRight(connections);
+        ConnectionCatalog catalog = getConnectionCatalog(uri, isLegacyProject);
+        if (catalog != null) {
+            if (name != null) {
+                return Either.forLeft(getConnections(catalog, name));
+            } else {
+                Map<String, Connections> connections = new HashMap<>();
+                if (connectorHolder != null) {
+                    for (Connector connector : connectorHolder.getConnectors()) {
+                        connections.put(connector.getName(), getConnections(catalog, connector.getName()));
+                    }
                 }
+                return Either.forRight(connections);
             }
         }
         return null;
     }
 
-    private static void populateConnectors(ConnectorHolder connectors, Map<String, Connections> connections) {
-
-        if (connectors != null) {
-            List<Connector> connectorList = connectors.getConnectors();
-            for (Connector connector : connectorList) {
-                String connectorName = connector.getName();
-                connections.put(connectorName, new Connections());
+    /**
+     * Find the connections of the available connectors which have a parameter with the given value.
+     *
+     * @param uri             uri of the project
+     * @param value           the parameter value
+     * @param connectorHolder available connectors
+     * @return connections
+     */
+    public static List<Connection> findConnectionsByParameterValue(String uri, String value,
+                                                                   ConnectorHolder connectorHolder,
+                                                                   boolean isLegacyProject) {
+
+        List<Connection> connections = new ArrayList<>();
+        ConnectionCatalog catalog = getConnectionCatalog(uri, isLegacyProject);
+        if (catalog != null && connectorHolder != null) {
+            for (Connection connection : catalog.getConnectionsByParameterValue(value)) {
+                if (connectorHolder.exists(connection.getConnectorName())) {
+                    connections.add(connection);
+                }
             }
         }
+        return connections;
     }
 
-    private static Connections getConnections(List<Resource> resources, String name) {
+    private static ConnectionCatalog getConnectionCatalog(String uri, boolean isLegacyProject) {
 
-        HashMap<String, Connections> connections = new HashMap<>();
-        connections.put(name, new Connections());
-        getConnections(connections, resources);
-        return connections.get(name);
+        if (uri != null) {
+            ConnectionCatalog catalog =
+                    CATALOGS.computeIfAbsent(uri, key -> new ConnectionCatalog(ConnectionFinder::readConnection));
+            catalog.update(getLocalEntryFiles(uri, isLegacyProject));
+            return catalog;
+        }
+        return null;
     }
 
-    private static void getConnections(Map<String, Connections> connections, List<Resource> resources) {
+    /**
+     * Get the local entry files of the project by listing the local entry folders, without reading the files.
+     *
+     * @param projectPath     path of the project
+     * @param isLegacyProject whether the project is a legacy project
+     * @return the local entry files sorted by the file name in each folder
+     */
+    private static List<File> getLocalEntryFiles(String projectPath, boolean isLegacyProject) {
 
-        for (Resource resource : resources) {
+        List<Path> localEntryFolders = new ArrayList<>();
+        if (isLegacyProject) {
             try {
-                String localEntryName = resource.getName();
-                String filePath = ((ArtifactResource) resource).getAbsolutePath();
-                File file = new File(filePath);
-                DOMDocument document = Utils.getDOMDocument(file);
-                DOMElement childElement = Utils.getFirstElement(document.getDocumentElement());
-                if (childElement != null) {
-                    String nodeName = childElement.getNodeName();
-                    String connectorName = getConnectorName(nodeName);
-                    String connectionType = getConnectionType(childElement);
-                    List<ConnectionParameter> parameters = getParameters(childElement);
+                for (String esbConfigPath : LegacyConfigFinder.getConfigPaths(projectPath,
+                        ProjectType.ESB_CONFIGS.value)) {
+                    localEntryFolders.add(Path.of(esbConfigPath + Constant.SYNAPSE_CONFIG_PATH,
+                            Constant.LOCAL_ENTRIES));
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Error while finding the local entries of the legacy project", e);
+            }
+        } else {
+            localEntryFolders.add(Path.of(projectPath, Constant.SRC, Constant.MAIN, Constant.WSO2MI,
+                    Constant.ARTIFACTS, Constant.LOCAL_ENTRIES));
+        }
+        List<File> localEntryFiles = new ArrayList<>();
+        for (Path localEntryFolder : localEntryFolders) {
+            File[] files = localEntryFolder.toFile().listFiles(file -> file.isFile() &&
+                    file.getName().endsWith(Constant.XML_EXTENSION));
+            if (files != null) {
+                Arrays.sort(files, Comparator.comparing(File::getName));
+                localEntryFiles.addAll(Arrays.asList(files));
+            }
+        }
+        return localEntryFiles;
+    }
+
+    private static Connections getConnections(ConnectionCatalog catalog, String connectorName) {
+
+        Connections connections = new Connections();
+        catalog.getConnections(connectorName).forEach(connections::addConnection);
+        return connections;
+    }
+
+    private static Connection readConnection(ConnectionCatalog.LocalEntry localEntry) {
+
+        try {
+            DOMDocument document = Utils.getDOMDocument(new File(localEntry.path));
+            DOMNode localEntryNode = Utils.getChildNodeByName(document, Constant.LOCAL_ENTRY);
+            if (localEntryNode instanceof DOMElement) {
+                String name = getLocalEntryName((DOMElement) localEntryNode);
+                DOMElement childElement = Utils.getFirstElement((DOMElement) localEntryNode);
+                if (name != null && childElement != null) {
+                    String connectorName = getConnectorName(childElement.getNodeName());
                     if (connectorName != null) {
-                        addToConnections(connections, connectorName, localEntryName, connectionType, parameters,
-                                filePath);
+                        return new Connection(connectorName, name, getConnectionType(childElement),
+                                getParameters(childElement), localEntry.path);
                     }
                 }
-            } catch (IOException e) {
-                log.log(Level.SEVERE, "Error while reading local entry file", e);
             }
+        } catch (IOException e) {
+            log.log(Level.SEVERE, "Error while reading local entry file", e);
         }
+        return null;
+    }
+
+    private static String getLocalEntryName(DOMElement localEntryElement) {
+
+        if (localEntryElement.hasAttribute(Constant.NAME)) {
+            return localEntryElement.getAttribute(Constant.NAME);
+        }
+        return localEntryElement.getAttribute(Constant.KEY);
     }
 
     private static List<ConnectionParameter> getParameters(DOMElement element) {
@@ -161,16 +226,6 @@ public class ConnectionFinder {
         return null;
     }
 
-    private static void addToConnections(Map<String, Connections> connections, String connectorName,
-                                         String connectionName, String connectionType,
-                                         List<ConnectionParameter> parameters, String path) {
-
-        if (connections.containsKey(connectorName)) {
-            Connection connection = new Connection(connectorName, connectionName, connectionType, parameters, path);
-            connections.get(connectorName).addConnection(connection);
-        }
-    }
-
     private static String getConnectionType(DOMElement element) {
 
         List<DOMNode> children = element.getChildren();
@@ -14,9 +14,13 @@
 
 package org.eclipse.lemminx.customservice.synapse.connectors;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
@@ -28,31 +32,58 @@ import org.eclipse.lemminx.dom.DOMNode;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ConnectorReader {
 
     private static final Logger log = Logger.getLogger(ConnectorReader.class.getName());
     private static final Pattern ARTIFACT_VERSION_REGEX = Pattern.compile("(.+)-(\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?)");
-    private HashMap<String, List<String>> allowedConnectionTypesMap = new HashMap<>();
     private static final String BALLERINA_PACKAGE_NAME = "io.ballerina.stdlib.mi";
     private static final List<String> EXCLUDED_AGENT_TOOLS = List.of("ai.chat", "ai.ragChat", "ai.agent");
-
+    private static final String CONNECTOR_XML = "connector.xml";
+    private static final String UI_SCHEMA = "uischema";
+    private static final String OUTPUT_SCHEMA = "outputschema";
+    private static final String METADATA_FILE = ".connector-metadata.json";
+    private static final String XML_EXTENSION = ".xml";
+    // Change when the cached metadata no longer matches what is read from the connector
+    private static final int METADATA_VERSION = 2;
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Read the connector extracted to the given path.
+     * <p>
+     * The metadata of a connector is cached in the extracted folder, hence an unchanged connector is read from the
+     * cached metadata without parsing its component and ui schema files again.
+     *
+     * @param connectorPath the extracted connector path
+     * @param projectUri    the project path
+     * @return the connector, or null if the path is not a valid connector
+     */
     public Connector readConnector(String connectorPath, String projectUri) {
 
         Connector connector = null;
         if (connectorPath != null) {
-            File connectorFile = new File(connectorPath + File.separator + "connector.xml");
+            File connectorFile = new File(connectorPath + File.separator + CONNECTOR_XML);
             if (connectorFile.exists()) {
+                connector = readConnectorMetadata(connectorPath);
+                if (connector != null) {
+                    setBallerinaModulePath(connector, projectUri);
+                    return connector;
+                }
                 try {
                     DOMDocument connectorDocument = Utils.getDOMDocument(connectorFile);
                     DOMNode connectorElement = Utils.getChildNodeByName(connectorDocument, "connector");
@@ -61,13 +92,8 @@ public class ConnectorReader {
                     String name = componentElement.getAttribute(Constant.NAME);
                     connector = new Connector();
                     connector.setName(name);
-                    connector.setBallerinaModulePath(StringUtils.EMPTY);
-                    String packageName = componentElement.getAttribute(Constant.PACKAGE);
-                    if (BALLERINA_PACKAGE_NAME.equals(packageName)) {
-                        connector.setBallerinaModulePath(getBallerinaModulePath(name,
-                                Paths.get(projectUri, Constant.SRC, Constant.MAIN, Constant.BALLERINA).toString()));
-                    }
-                    connector.setPackageName(packageName);
+                    connector.setPackageName(componentElement.getAttribute(Constant.PACKAGE));
+                    setBallerinaModulePath(connector, projectUri);
                     if (displayNameElement != null && displayNameElement.isElement()) {
                         String displayName = Utils.getInlineString(displayNameElement.getFirstChild());
                         connector.setDisplayName(displayName);
@@ -75,11 +101,12 @@ public class ConnectorReader {
                     connector.setExtractedConnectorPath(connectorPath);
                     setConnectorArtifactIdAndVersion(connector, connectorPath);
                     connector.setIconPath(connectorPath + File.separator + "icon");
-                    connector.setUiSchemaPath(connectorPath + File.separator + "uischema");
-                    connector.setOutputSchemaPath(connectorPath + File.separator + "outputschema");
-                    populateAllowedConnectionTypesMap(connector);
-                    populateConnectorActions(connector, componentElement);
-                    populateConnectionUiSchema(connector);
+                    connector.setUiSchemaPath(connectorPath + File.separator + UI_SCHEMA);
+                    connector.setOutputSchemaPath(connectorPath + File.separator + OUTPUT_SCHEMA);
+                    List<UISchemaInfo> uiSchemas = readUISchemaInfo(connector);
+                    populateConnectorActions(connector, componentElement, uiSchemas);
+                    populateConnectionUiSchema(connector, uiSchemas);
+                    writeConnectorMetadata(connector, connectorPath);
                 } catch (Exception e) {
                     log.log(Level.SEVERE, "Error reading connector file", e);
                 }
@@ -88,6 +115,80 @@ public class ConnectorReader {
         return connector;
     }
 
+    private void setBallerinaModulePath(Connector connector, String projectUri) {
+
+        connector.setBallerinaModulePath(StringUtils.EMPTY);
+        if (BALLERINA_PACKAGE_NAME.equals(connector.getPackageName())) {
+            connector.setBallerinaModulePath(getBallerinaModulePath(connector.getName(),
+                    Paths.get(projectUri, Constant.SRC, Constant.MAIN, Constant.BALLERINA).toString()));
+        }
+    }
+
+    private Connector readConnectorMetadata(String connectorPath) {
+
+        File metadataFile = new File(connectorPath, METADATA_FILE);
+        if (!metadataFile.exists()) {
+            return null;
+        }
+        try {
+            ConnectorMetadata metadata = GSON.fromJson(Utils.readFile(metadataFile), ConnectorMetadata.class);
+            if (metadata != null && metadata.connector != null &&
+                    getMetadataDigest(connectorPath).equals(metadata.digest) &&
+                    connectorPath.equals(metadata.connector.getExtractedConnectorPath())) {
+                return metadata.connector;
+            }
+        } catch (IOException | JsonParseException e) {
+            log.log(Level.WARNING, "Error while reading the cached metadata of connector: " + connectorPath, e);
+        }
+        return null;
+    }
+
+    private void writeConnectorMetadata(Connector connector, String connectorPath) {
+
+        ConnectorMetadata metadata = new ConnectorMetadata();
+        // Computed after reading the connector, as the missing ui schemas are generated while reading
+        metadata.digest = getMetadataDigest(connectorPath);
+        metadata.connector = connector;
+        try {
+            Utils.writeToFile(new File(connectorPath, METADATA_FILE).getAbsolutePath(), GSON.toJson(metadata));
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Error while caching the metadata of connector: " + connector.getName(), e);
+        }
+    }
+
+    /**
+     * Fingerprint of the files the metadata is read from, i.e. the path, size and modification time of the component
+     * XMLs and of every file in the schema folders. Editing a file in place does not change its folder, hence the
+     * files are fingerprinted individually.
+     */
+    private String getMetadataDigest(String connectorPath) {
+
+        Path connectorFolder = Path.of(connectorPath);
+        Path uiSchemaFolder = connectorFolder.resolve(UI_SCHEMA);
+        Path outputSchemaFolder = connectorFolder.resolve(OUTPUT_SCHEMA);
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(METADATA_VERSION);
+        try (Stream<Path> files = Files.walk(connectorFolder)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                boolean isSchema = file.startsWith(uiSchemaFolder) || file.startsWith(outputSchemaFolder);
+                if (!isSchema && !file.getFileName().toString().endsWith(XML_EXTENSION)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    hasher.putString(connectorFolder.relativize(file).toString(), StandardCharsets.UTF_8)
+                            .putLong(attributes.size())
+                            .putLong(attributes.lastModifiedTime().toMillis());
+                }
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Error while fingerprinting the connector: " + connectorPath, e);
+            // A unique digest, so that the cached metadata is not used
+            hasher.putLong(System.nanoTime());
+        }
+        return hasher.hash().toString();
+    }
+
     private String getBallerinaModulePath(String moduleName, String ballerinaFolder) {
 
         List<String> ballerinaTomlPaths = new ArrayList<>();
@@ -137,55 +238,67 @@ public class ConnectorReader {
         return StringUtils.EMPTY;
     }
 
-    private void populateAllowedConnectionTypesMap(Connector connector) {
+    /**
+     * Read the ui schemas of the connector once, keeping only the details needed to map them to the operations and
+     * connections of the connector.
+     */
+    private List<UISchemaInfo> readUISchemaInfo(Connector connector) {
 
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
+        List<UISchemaInfo> uiSchemas = new ArrayList<>();
+        File uiSchemaFolder = new File(connector.getUiSchemaPath());
         if (uiSchemaFolder.exists()) {
             File[] files = uiSchemaFolder.listFiles();
             if (files != null) {
                 for (File file : files) {
+                    UISchemaInfo uiSchema = new UISchemaInfo(file);
                     try {
-                        String schema = Utils.readFile(file);
-                        JsonObject uiJson = Utils.getJsonObject(schema);
-                        JsonElement operation = uiJson.get("operationName");
-                        if (operation != null) {
-                            String operationName = operation.getAsString();
-                            getAllowedConnectionTypes(uiJson, operationName);
+                        JsonObject uiJson = Utils.getJsonObject(Utils.readFile(file));
+                        if (uiJson != null) {
+                            JsonElement operation = uiJson.get(Constant.OPERATION_NAME);
+                            if (operation != null) {
+                                uiSchema.operationName = operation.getAsString();
+                                uiSchema.allowedConnectionTypes = getAllowedConnectionTypes(uiJson);
+                            }
+                            JsonElement connectionName = uiJson.get(Constant.CONNECTION_NAME);
+                            if (connectionName != null) {
+                                uiSchema.connectionName = connectionName.getAsString();
+                            }
                         }
                     } catch (IOException e) {
                         log.log(Level.SEVERE, "Error while reading connector ui schema file.", e);
                     }
+                    uiSchemas.add(uiSchema);
                 }
             }
         }
+        return uiSchemas;
     }
 
-    private void getAllowedConnectionTypes(JsonObject uiJson, String operationName) {
+    private List<String> getAllowedConnectionTypes(JsonObject uiJson) {
 
         JsonArray elements = getElements(uiJson);
         if (elements != null) {
             for (JsonElement element : elements) {
-                if (!allowedConnectionTypesMap.containsKey(operationName)) {
-                    String type = element.getAsJsonObject().get(Constant.TYPE).getAsString();
-                    if (Constant.ATTRIBUTE.equalsIgnoreCase(type)) {
-                        JsonElement value = element.getAsJsonObject().get(Constant.VALUE);
-                        JsonElement allowedConnectionType = value.getAsJsonObject().get("allowedConnectionTypes");
-                        if (allowedConnectionType != null) {
-                            JsonArray allowedConnectionTypes = allowedConnectionType.getAsJsonArray();
-                            List<String> allowedConnectionTypeList = new ArrayList<>();
-                            for (JsonElement connectionType : allowedConnectionTypes) {
-                                allowedConnectionTypeList.add(connectionType.getAsString());
-                            }
-                            allowedConnectionTypesMap.put(operationName, allowedConnectionTypeList);
-                            break;
+                String type = element.getAsJsonObject().get(Constant.TYPE).getAsString();
+                if (Constant.ATTRIBUTE.equalsIgnoreCase(type)) {
+                    JsonElement value = element.getAsJsonObject().get(Constant.VALUE);
+                    JsonElement allowedConnectionType = value.getAsJsonObject().get("allowedConnectionTypes");
+                    if (allowedConnectionType != null) {
+                        List<String> allowedConnectionTypeList = new ArrayList<>();
+                        for (JsonElement connectionType : allowedConnectionType.getAsJsonArray()) {
+                            allowedConnectionTypeList.add(connectionType.getAsString());
                         }
-                    } else if ("attributeGroup".equalsIgnoreCase(type)) {
-                        getAllowedConnectionTypes(element.getAsJsonObject(), operationName);
+                        return allowedConnectionTypeList;
+                    }
+                } else if ("attributeGroup".equalsIgnoreCase(type)) {
+                    List<String> allowedConnectionTypes = getAllowedConnectionTypes(element.getAsJsonObject());
+                    if (allowedConnectionTypes != null) {
+                        return allowedConnectionTypes;
                     }
                 }
             }
         }
+        return null;
     }
 
     private JsonArray getElements(JsonObject uiJson) {
@@ -212,32 +325,37 @@ public class ConnectorReader {
         }
     }
 
-    private void populateConnectorActions(Connector connector, DOMNode componentElement) {
+    private void populateConnectorActions(Connector connector, DOMNode componentElement,
+                                          List<UISchemaInfo> uiSchemas) {
 
         List<String> dependencies = getDependencies(componentElement);
         readDependencies(connector, dependencies);
-        readUISchema(connector);
+        populateAllowedConnectionTypes(connector, uiSchemas);
+        readUISchema(connector, uiSchemas);
         readOutputSchema(connector);
     }
 
-    private void readUISchema(Connector connector) {
+    private void populateAllowedConnectionTypes(Connector connector, List<UISchemaInfo> uiSchemas) {
 
-        addUISchemasFromConnector(connector);
-        generateUISchemasIfNeeded(connector);
+        Map<String, List<String>> allowedConnectionTypesMap = new HashMap<>();
+        for (UISchemaInfo uiSchema : uiSchemas) {
+            if (uiSchema.operationName != null && uiSchema.allowedConnectionTypes != null) {
+                allowedConnectionTypesMap.putIfAbsent(uiSchema.operationName, uiSchema.allowedConnectionTypes);
+            }
+        }
+        for (ConnectorAction action : connector.getActions()) {
+            if (allowedConnectionTypesMap.containsKey(action.getName())) {
+                action.setAllowedConnectionTypes(allowedConnectionTypesMap.get(action.getName()));
+            }
+        }
     }
 
-    private void addUISchemasFromConnector(Connector connector) {
+    private void readUISchema(Connector connector, List<UISchemaInfo> uiSchemas) {
 
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    processUISchemaFile(file, connector);
-                }
-            }
+        for (UISchemaInfo uiSchema : uiSchemas) {
+            processUISchemaFile(uiSchema, connector);
         }
+        generateUISchemasIfNeeded(connector);
     }
 
     private void generateUISchemasIfNeeded(Connector connector) {
@@ -279,30 +397,16 @@ public class ConnectorReader {
         action.setUiSchemaPath(uiSchemaPath.toString());
     }
 
-    private void processUISchemaFile(File file, Connector connector) {
+    private void processUISchemaFile(UISchemaInfo uiSchema, Connector connector) {
 
-        try {
-            String fileName = Utils.getFileName(file);
-            if (connector.getAction(fileName) != null) {
-                connector.addOperationUiSchema(fileName, file.getAbsolutePath());
-            } else {
-                JsonElement operation = getOperationNameFromUISchema(file);
-                if (operation != null) {
-                    connector.addOperationUiSchema(operation.getAsString(), file.getAbsolutePath());
-                }
-            }
-        } catch (IOException e) {
-            log.log(Level.SEVERE, "Error while reading connector ui schema file", e);
+        String fileName = Utils.getFileName(uiSchema.file);
+        if (connector.getAction(fileName) != null) {
+            connector.addOperationUiSchema(fileName, uiSchema.file.getAbsolutePath());
+        } else {
+            connector.addOperationUiSchema(uiSchema.operationName, uiSchema.file.getAbsolutePath());
         }
     }
 
-    private JsonElement getOperationNameFromUISchema(File file) throws IOException {
-
-        String schema = Utils.readFile(file);
-        JsonObject uiJson = Utils.getJsonObject(schema);
-        return uiJson.get(Constant.OPERATION_NAME);
-    }
-
     private void readOutputSchema(Connector connector) {
 
         String outputSchemaPath = connector.getOutputSchemaPath();
@@ -319,38 +423,14 @@ public class ConnectorReader {
         }
     }
 
-    private void populateConnectionUiSchema(Connector connector) {
+    private void populateConnectionUiSchema(Connector connector, List<UISchemaInfo> uiSchemas) {
 
-        File uiSchemaFolder = new File(connector.getUiSchemaPath());
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    String connectionName = getConnectionSchemaName(file);
-                    if (connectionName != null) {
-                        connector.addConnectionUiSchema(connectionName.toUpperCase(), file.getAbsolutePath());
-                    }
-                }
-            }
-        }
-    }
-
-    private String getConnectionSchemaName(File file) {
-
-        String connectionName = null;
-        try {
-            String schema = Utils.readFile(file);
-            JsonObject uiJson = Utils.getJsonObject(schema);
-            if (uiJson != null) {
-                JsonElement connectionNameEle = uiJson.get("connectionName");
-                if (connectionNameEle != null) {
-                    connectionName = connectionNameEle.getAsString();
-                }
+        for (UISchemaInfo uiSchema : uiSchemas) {
+            if (uiSchema.connectionName != null) {
+                connector.addConnectionUiSchema(uiSchema.connectionName.toUpperCase(),
+                        uiSchema.file.getAbsolutePath());
             }
-        } catch (IOException e) {
-            log.log(Level.WARNING, "Error while reading connection ui schema file", e);
         }
-        return connectionName;
     }
 
     private List<String> getDependencies(DOMNode connectorElement) {
@@ -422,9 +502,6 @@ public class ConnectorReader {
                     } else {
                         action.setHidden(Boolean.FALSE);
                     }
-                    if (allowedConnectionTypesMap.containsKey(action.getName())) {
-                        action.setAllowedConnectionTypes(allowedConnectionTypesMap.get(action.getName()));
-                    }
                     connector.addAction(action);
                 }
             }
@@ -479,7 +556,7 @@ public class ConnectorReader {
     public String getConnectorName(File connectorFolder) {
 
         String connectorName = null;
-        File connectorFile = new File(connectorFolder.getAbsolutePath() + File.separator + "connector.xml");
+        File connectorFile = new File(connectorFolder.getAbsolutePath() + File.separator + CONNECTOR_XML);
         if (connectorFile.exists()) {
             try {
                 DOMDocument connectorDocument = Utils.getDOMDocument(connectorFile);
@@ -492,4 +569,23 @@ public class ConnectorReader {
         }
         return connectorName;
     }
+
+    private static class UISchemaInfo {
+
+        private final File file;
+        private String operationName;
+        private String connectionName;
+        private List<String> allowedConnectionTypes;
+
+        UISchemaInfo(File file) {
+
+            this.file = file;
+        }
+    }
+
+    private static class ConnectorMetadata {
+
+        private String digest;
+        private Connector connector;
+    }
 }
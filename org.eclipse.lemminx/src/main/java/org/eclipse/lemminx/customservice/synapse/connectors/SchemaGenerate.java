@@ -18,17 +18,48 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.OperationParameter;
 
-import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Generates the connector schema (mediators/connectors.xsd) which is included by the Synapse schema.
+ * <p>
+ * The generated schema is kept in memory and the schema file is only replaced when the connector operations have
+ * changed. The Synapse grammar is compiled as a whole by Xerces and is invalidated through the modification time of
+ * its included files, hence rewriting an unchanged connector schema would recompile the Synapse grammar and revalidate
+ * the open documents for nothing.
+ */
 public class SchemaGenerate {
 
     private static final Logger LOGGER = Logger.getLogger(SchemaGenerate.class.getName());
 
-    public static void generate(ConnectorHolder holder, String schemaPath) {
+    // Last schema content written to each schema path
+    private static final Map<String, GeneratedSchema> GENERATED_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * Generate the schema of the connector operations and update the schema file if it has changed.
+     *
+     * @param holder     connector holder
+     * @param schemaPath path of the connector schema file
+     * @return true if the schema file was updated, false otherwise
+     */
+    public static boolean generate(ConnectorHolder holder, String schemaPath) {
+
+        return updateSchemaFile(createSchema(holder).getBytes(), schemaPath);
+    }
+
+    private static String createSchema(ConnectorHolder holder) {
 
         StringBuilder sb = new StringBuilder();
         sb.append("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n" +
@@ -71,16 +102,55 @@ public class SchemaGenerate {
         sb.append("        </xs:choice>\n" +
                 "    </xs:group>\n" +
                 "</xs:schema>");
-
-        writeToFile(sb.toString(), schemaPath);
+        return sb.toString();
     }
 
-    private static void writeToFile(String string, String schemaPath) {
+    private static synchronized boolean updateSchemaFile(byte[] schema, String schemaPath) {
 
-        try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(schemaPath))) {
-            bos.write(string.getBytes());
+        Path path = Paths.get(schemaPath);
+        try {
+            if (Arrays.equals(schema, getCurrentSchema(path, schemaPath))) {
+                return false;
+            }
+            // Replace the file at once so that the grammar is never loaded from a partially written schema
+            Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), "connectors", ".xsd.tmp");
+            try {
+                Files.write(tempFile, schema);
+                moveFile(tempFile, path);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            GENERATED_SCHEMAS.put(schemaPath, new GeneratedSchema(schema, Files.getLastModifiedTime(path)));
+            return true;
         } catch (Exception e) {
+            GENERATED_SCHEMAS.remove(schemaPath);
             LOGGER.log(Level.SEVERE, "Could not update connector schemas. Connectors will not be validated.", e);
+            return false;
+        }
+    }
+
+    private static byte[] getCurrentSchema(Path path, String schemaPath) throws IOException {
+
+        if (!Files.exists(path)) {
+            return null;
+        }
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        GeneratedSchema generated = GENERATED_SCHEMAS.get(schemaPath);
+        if (generated != null && generated.lastModified.equals(lastModified)) {
+            return generated.content;
+        }
+        // The file has been changed by someone else, e.g. the schemas were extracted again
+        byte[] content = Files.readAllBytes(path);
+        GENERATED_SCHEMAS.put(schemaPath, new GeneratedSchema(content, lastModified));
+        return content;
+    }
+
+    private static void moveFile(Path source, Path target) throws IOException {
+
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
@@ -112,4 +182,16 @@ public class SchemaGenerate {
         }
         return sb.toString();
     }
+
+    private static class GeneratedSchema {
+
+        private final byte[] content;
+        private final FileTime lastModified;
+
+        GeneratedSchema(byte[] content, FileTime lastModified) {
+
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+    }
 }
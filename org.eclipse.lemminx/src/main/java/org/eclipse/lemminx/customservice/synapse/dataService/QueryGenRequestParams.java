@@ -22,6 +22,7 @@ public class QueryGenRequestParams {
     String url;
     String tableData;
     String datasourceName;
+    Integer parallelism;
 
     public void setClassName(String className) {
         this.className = className;
@@ -47,6 +48,10 @@ public class QueryGenRequestParams {
         this.datasourceName = datasourceName;
     }
 
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public String getClassName() {
         return className;
     }
@@ -62,4 +67,8 @@ public class QueryGenRequestParams {
     public String getUrl() {
         return url;
     }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
 }
@@ -32,9 +32,18 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
@@ -45,6 +54,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -54,13 +64,28 @@ import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.Delet
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.InsertQueryBuilder;
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.SelectAllQueryBuilder;
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.UpdateQueryBuilder;
-import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTester;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 public class QueryGenerator {
 
     private static final Logger LOGGER = Logger.getLogger(QueryGenerator.class.getName());
+    private static final String XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+    private static final String DATA_START_TAG = "<data>";
+    private static final String DATA_END_TAG = "</data>";
+    private static final int DEFAULT_INTROSPECTION_PARALLELISM = 4;
+    private static final int MAX_INTROSPECTION_PARALLELISM = 16;
+    // Shared by all requests, hence bounded to the workers of a single request. The calling thread of a request is
+    // the remaining worker, so a request still progresses while the workers are busy with other requests.
+    private static final ExecutorService INTROSPECTION_EXECUTOR =
+            Executors.newFixedThreadPool(MAX_INTROSPECTION_PARALLELISM - 1, runnable -> {
+                Thread thread = new Thread(runnable, "db-table-introspection");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     /**
      * Generate resources and queries for data service based on a datasource
@@ -70,27 +95,34 @@ public class QueryGenerator {
      * @return dbs file content with resources and queries
      */
     public static String generateDSSQueries(QueryGenRequestParams requestParams) {
-        DBConnectionTester dbConnectionTester = new DBConnectionTester();
         DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-        try (Connection connection = dbConnectionTester.getConnection(requestParams.url, requestParams.username,
+        try (Connection connection = DBConnectionPool.getConnection(requestParams.url, requestParams.username,
                 requestParams.password, requestParams.className)) {
+            if (connection == null) {
+                LOGGER.log(Level.SEVERE, "Could not establish database connection.");
+                return "";
+            }
             DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
             Document doc = docBuilder.newDocument();
-            Element dataElement = doc.createElement("data");
-
-            DatabaseMetaData metadata = connection.getMetaData();
+            Transformer transformer = createTransformer();
 
             ObjectMapper mapper = new ObjectMapper();
             Map<String, String> tableData = mapper.readValue(requestParams.tableData, Map.class);
+            if (tableData.isEmpty()) {
+                doc.appendChild(doc.createElement("data"));
+                return generateServiceFromDoc(transformer, doc);
+            }
+            Map<String, TableMetadata> tables = introspectTables(connection, requestParams, tableData.keySet());
 
+            // The definitions are serialized table by table, so that only the DOM of a single table is kept in memory
+            StringBuilder content = new StringBuilder();
             for (Map.Entry<String, String> entry : tableData.entrySet()) {
                 String table = entry.getKey();
-                List<Map<String, String>> tableDetails = extractTableColumns(connection, metadata, table);
-                Map<String, String> columnsList = tableDetails.get(0);
-                Map<String, String> autoIncrementFields = tableDetails.get(1);
-                Map<String, String> primaryKeys = extractTablePrimaryKeys(connection, metadata, table, columnsList, autoIncrementFields);
+                TableMetadata tableMetadata = tables.get(table);
+                Map<String, String> columnsList = tableMetadata.columnsList;
+                Map<String, String> primaryKeys = tableMetadata.primaryKeys;
                 String columnNamesCombined = String.join(", ", columnsList.keySet());
+                Element dataElement = doc.createElement("data");
 
                 String methods = entry.getValue();
                 if (methods.contains("GET")) {
@@ -106,10 +138,9 @@ public class QueryGenerator {
                 if (methods.contains("DELETE")) {
                     generateDeleteDefinition(doc, dataElement, table, primaryKeys, requestParams.datasourceName);
                 }
+                appendDefinitions(transformer, dataElement, content, content.length() == 0);
             }
-
-            doc.appendChild(dataElement);
-            return generateServiceFromDoc(doc);
+            return content.append('\n').toString().trim();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error occurred while generating the DBS file content.", e);
             return "";
@@ -124,43 +155,129 @@ public class QueryGenerator {
      * @return List of tables that exist in the database
      */
     public static Map<String, List<Boolean>> getTableList(QueryGenRequestParams requestParams) {
-        DBConnectionTester dbConnectionTester = new DBConnectionTester();
-        try (Connection connection = dbConnectionTester.getConnection(requestParams.url, requestParams.username,
+        try (Connection connection = DBConnectionPool.getConnection(requestParams.url, requestParams.username,
                 requestParams.password, requestParams.className)) {
-            Map<String, List<Boolean>> tablesMap = new HashMap<String, List<Boolean>>();
-            DatabaseMetaData mObject = null;
-            if (connection != null) {
-                mObject = connection.getMetaData();
-                ResultSet tableNamesList = null;
-                try {
-                    String schema = extractDatabaseSchema(mObject, connection);
-                    String dbProduct = mObject.getDatabaseProductName();
-                    List<String> types = new ArrayList<>(List.of(DataServiceConstants.TABLE));
-                    if (DataServiceConstants.ORACLE.equalsIgnoreCase(dbProduct)) {
-                        types.add(DataServiceConstants.SYNONYM);
-                    }
-                    tableNamesList = mObject.getTables(connection.getCatalog(), schema, "%",
-                            types.toArray(new String[0]));
-                    while (tableNamesList.next()) {
-                        String tableName = tableNamesList.getString(DataServiceConstants.TABLE_NAME);
-                        List<Map<String, String>> tableDetails = extractTableColumns(connection, mObject, tableName);
-                        Map<String, String> primaryKeys = extractTablePrimaryKeys(connection, mObject, tableName,
-                                tableDetails.get(0), tableDetails.get(1));
-                        tablesMap.put(tableName, Arrays.asList(mObject.isReadOnly(), !primaryKeys.isEmpty()));
-                    }
-                } finally {
-                    if (tableNamesList != null) {
-                        tableNamesList.close();
-                    }
-                }
+            if (connection == null) {
+                return new HashMap<>();
             }
-            return tablesMap;
+            return new HashMap<>(DBConnectionPool.getMetadata(connection, "tables", "",
+                    pooledConnection -> extractTables(pooledConnection, requestParams)));
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Could not establish database connection.", e);
             return null;
         }
     }
 
+    /**
+     * Extract the tables in a datasource, with whether the database is read only and whether the table has primary keys
+     *
+     * @param connection Connection to the database
+     * @param requestParams datasource parameters object
+     *
+     * @return Tables that exist in the database
+     */
+    private static Map<String, List<Boolean>> extractTables(Connection connection, QueryGenRequestParams requestParams)
+            throws SQLException {
+        Map<String, List<Boolean>> tablesMap = new HashMap<String, List<Boolean>>();
+        DatabaseMetaData mObject = connection.getMetaData();
+        String schema = extractDatabaseSchema(mObject, connection);
+        String dbProduct = mObject.getDatabaseProductName();
+        List<String> types = new ArrayList<>(List.of(DataServiceConstants.TABLE));
+        if (DataServiceConstants.ORACLE.equalsIgnoreCase(dbProduct)) {
+            types.add(DataServiceConstants.SYNONYM);
+        }
+        List<String> tableNames = new ArrayList<>();
+        try (ResultSet tableNamesList = mObject.getTables(connection.getCatalog(), schema, "%",
+                types.toArray(new String[0]))) {
+            while (tableNamesList.next()) {
+                tableNames.add(tableNamesList.getString(DataServiceConstants.TABLE_NAME));
+            }
+        }
+        boolean readOnly = mObject.isReadOnly();
+        Map<String, TableMetadata> tables = introspectTables(connection, requestParams, tableNames);
+        for (String tableName : tableNames) {
+            tablesMap.put(tableName, Arrays.asList(readOnly, !tables.get(tableName).primaryKeys.isEmpty()));
+        }
+        return Collections.unmodifiableMap(tablesMap);
+    }
+
+    /**
+     * Extract the columns and primary keys of the given tables. The tables are introspected concurrently over
+     * connections of the pool, at most as many at a time as the parallelism of the request.
+     *
+     * @param connection Connection to the database, which is used by the calling thread
+     * @param requestParams datasource parameters object
+     * @param tables Names of the tables
+     *
+     * @return Columns and primary keys of the tables
+     */
+    private static Map<String, TableMetadata> introspectTables(Connection connection,
+                                                               QueryGenRequestParams requestParams,
+                                                               Collection<String> tables) throws SQLException {
+        Map<String, TableMetadata> tableMetadata = new ConcurrentHashMap<>();
+        Queue<String> remainingTables = new ConcurrentLinkedQueue<>(tables);
+        int workers = Math.min(getParallelism(requestParams), tables.size()) - 1;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(INTROSPECTION_EXECUTOR.submit(() -> {
+                // A worker queued behind other requests may start after the calling thread has read all the tables
+                if (remainingTables.isEmpty()) {
+                    return null;
+                }
+                try (Connection workerConnection = DBConnectionPool.getConnection(requestParams.url,
+                        requestParams.username, requestParams.password, requestParams.className)) {
+                    // Without a connection, the remaining tables are introspected by the other workers
+                    if (workerConnection != null) {
+                        introspectTables(workerConnection, remainingTables, tableMetadata);
+                    }
+                }
+                return null;
+            }));
+        }
+        try {
+            introspectTables(connection, remainingTables, tableMetadata);
+        } finally {
+            for (Future<?> future : futures) {
+                waitForIntrospection(future);
+            }
+        }
+        return tableMetadata;
+    }
+
+    private static void introspectTables(Connection connection, Queue<String> remainingTables,
+                                         Map<String, TableMetadata> tableMetadata) throws SQLException {
+        DatabaseMetaData metadata = connection.getMetaData();
+        String table;
+        while ((table = remainingTables.poll()) != null) {
+            List<Map<String, String>> tableDetails = extractTableColumns(connection, metadata, table);
+            Map<String, String> primaryKeys = extractTablePrimaryKeys(connection, metadata, table,
+                    tableDetails.get(0), tableDetails.get(1));
+            tableMetadata.put(table, new TableMetadata(tableDetails.get(0), primaryKeys));
+        }
+    }
+
+    private static void waitForIntrospection(Future<?> future) throws SQLException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while extracting the table metadata", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e.getCause());
+        }
+    }
+
+    private static int getParallelism(QueryGenRequestParams requestParams) {
+        Integer parallelism = requestParams.getParallelism();
+        if (parallelism == null) {
+            return DEFAULT_INTROSPECTION_PARALLELISM;
+        }
+        return Math.max(1, Math.min(parallelism, MAX_INTROSPECTION_PARALLELISM));
+    }
+
     /**
      * Check whether a driver is available in the class path
      *
@@ -361,29 +478,64 @@ public class QueryGenerator {
     /**
      * Generate the XML content with the given DOM document
      *
+     * @param transformer Transformer which formats the content
      * @param doc DOM document with resources and queries
      *
      * @return Formatted dbs file content
      */
-    private static String generateServiceFromDoc(Document doc) {
-        try {
-            TransformerFactory tf = TransformerFactory.newInstance();
-            Transformer trans = tf.newTransformer();
-            StringWriter sw = new StringWriter();
-            trans.setOutputProperty(OutputKeys.INDENT, "yes");
-            trans.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            trans.transform(new DOMSource(doc), new StreamResult(sw));
-
-            String templateContent = sw.toString();
-            templateContent = templateContent.replace("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>", "");
-            templateContent = templateContent.replaceAll("(?s)<data>(.*)</data>", "$1").trim();
-            return templateContent;
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while generating the DBS file content.", e);
-            return "";
+    private static String generateServiceFromDoc(Transformer transformer, Document doc) throws TransformerException {
+        String templateContent = transform(transformer, doc);
+        templateContent = templateContent.replace(XML_DECLARATION, "");
+        templateContent = templateContent.replaceAll("(?s)<data>(.*)</data>", "$1").trim();
+        return templateContent;
+    }
+
+    /**
+     * Append the resources and queries of a table to the dbs file content, formatted as if they were in the same
+     * document as the resources and queries of the other tables
+     *
+     * @param transformer Transformer which formats the content
+     * @param dataElement DOM element with the resources and queries of the table
+     * @param content dbs file content of the previous tables
+     * @param first Whether this is the first table
+     */
+    private static void appendDefinitions(Transformer transformer, Element dataElement, StringBuilder content,
+                                          boolean first) throws TransformerException {
+        String definitions = transform(transformer, dataElement);
+        int start = definitions.indexOf(DATA_START_TAG);
+        int end = definitions.lastIndexOf(DATA_END_TAG);
+        if (start < 0 || end < start) {
+            return;
+        }
+        if (first) {
+            content.append(definitions, 0, start).append(definitions, start + DATA_START_TAG.length(), end);
+            int declarationStart = content.indexOf(XML_DECLARATION);
+            if (declarationStart >= 0) {
+                content.delete(declarationStart, declarationStart + XML_DECLARATION.length());
+            }
+        } else {
+            content.append(definitions, start + DATA_START_TAG.length(), end);
+        }
+        // The line break before the closing data tag is only kept after the last table
+        if (content.length() > 0 && content.charAt(content.length() - 1) == '\n') {
+            content.setLength(content.length() - 1);
         }
     }
 
+    private static Transformer createTransformer() throws TransformerException {
+        TransformerFactory tf = TransformerFactory.newInstance();
+        Transformer trans = tf.newTransformer();
+        trans.setOutputProperty(OutputKeys.INDENT, "yes");
+        trans.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+        return trans;
+    }
+
+    private static String transform(Transformer transformer, Node node) throws TransformerException {
+        StringWriter sw = new StringWriter();
+        transformer.transform(new DOMSource(node), new StreamResult(sw));
+        return sw.toString();
+    }
+
     /**
      * Extract data columns in a DB table
      *
@@ -394,6 +546,12 @@ public class QueryGenerator {
      */
     private static List<Map<String, String>> extractTableColumns(Connection connection, DatabaseMetaData metadata,
                                                                  String table) throws SQLException {
+        return DBConnectionPool.getMetadata(connection, "columns", table,
+                pooledConnection -> readTableColumns(pooledConnection, metadata, table));
+    }
+
+    private static List<Map<String, String>> readTableColumns(Connection connection, DatabaseMetaData metadata,
+                                                              String table) throws SQLException {
         Map<String, String> columnsList = new HashMap<>();
         Map<String, String> autoIncrementFields = new HashMap<String, String>();
 
@@ -425,7 +583,8 @@ public class QueryGenerator {
                 columnsList.put(name, sqlType);
             }
         }
-        return Arrays.asList(columnsList, autoIncrementFields);
+        return Arrays.asList(Collections.unmodifiableMap(columnsList),
+                Collections.unmodifiableMap(autoIncrementFields));
     }
 
     /**
@@ -441,6 +600,14 @@ public class QueryGenerator {
     private static Map<String, String> extractTablePrimaryKeys(Connection connection, DatabaseMetaData metadata,
                                                 String table, Map<String, String> columnsList,
                                                 Map<String, String> autoIncrementFields) throws SQLException {
+        return DBConnectionPool.getMetadata(connection, "primaryKeys", table,
+                pooledConnection -> Collections.unmodifiableMap(
+                        readTablePrimaryKeys(pooledConnection, metadata, table, columnsList, autoIncrementFields)));
+    }
+
+    private static Map<String, String> readTablePrimaryKeys(Connection connection, DatabaseMetaData metadata,
+                                                String table, Map<String, String> columnsList,
+                                                Map<String, String> autoIncrementFields) throws SQLException {
         Map<String, String> primaryKeys = new HashMap<>();
         try (ResultSet rs = metadata.getPrimaryKeys(null, null, table)) {
             while (rs.next()) {
@@ -460,7 +627,8 @@ public class QueryGenerator {
                     "FROM ALL_SYNONYMS WHERE SYNONYM_NAME = ? AND OWNER = ?";
             try (PreparedStatement stmt = connection.prepareStatement(synonymQuery)) {
                 stmt.setString(1, table.toUpperCase());
-                stmt.setString(2, connection.getMetaData().getUserName().toUpperCase());
+                stmt.setString(2, DBConnectionPool.getMetadata(connection, "userName", "",
+                        pooledConnection -> pooledConnection.getMetaData().getUserName()).toUpperCase());
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
                         baseOwner = rs.getString(DataServiceConstants.TABLE_OWNER);
@@ -582,4 +750,17 @@ public class QueryGenerator {
         }
         return StringUtils.EMPTY;
     }
+
+    /**
+     * Columns and primary keys of a table
+     */
+    private static final class TableMetadata {
+        private final Map<String, String> columnsList;
+        private final Map<String, String> primaryKeys;
+
+        TableMetadata(Map<String, String> columnsList, Map<String, String> primaryKeys) {
+            this.columnsList = columnsList;
+            this.primaryKeys = primaryKeys;
+        }
+    }
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.db;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pools the database connections of the data service wizard and the database connector forms per datasource, i.e.
+ * per connection URL, credentials and driver class, so that the steps of a wizard do not connect to the database
+ * again. Idle connections are validated before they are reused, and are closed once they have been idle for a while.
+ * <p>
+ * The pool also caches the metadata read from a datasource, such as its tables, columns, keys and procedures. The
+ * metadata of a datasource is cached for a limited time, and is read again once it has expired or once the datasource
+ * is refreshed explicitly, e.g. when the user tests the connection again.
+ * </p>
+ */
+public final class DBConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(DBConnectionPool.class.getName());
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long METADATA_TTL_MINUTES = 5;
+    private static final int MAX_IDLE_CONNECTIONS = 2;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final Cache<DataSourceKey, DataSource> DATA_SOURCES = CacheBuilder.newBuilder()
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .removalListener((RemovalNotification<DataSourceKey, DataSource> notification) ->
+                    notification.getValue().closeIdleConnections())
+            .build();
+    private static final ScheduledExecutorService IDLE_CONNECTION_EVICTOR =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "db-idle-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        IDLE_CONNECTION_EVICTOR.scheduleWithFixedDelay(DBConnectionPool::evictIdleConnections,
+                IDLE_TIMEOUT_MILLIS / 2, IDLE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS);
+    }
+
+    private DBConnectionPool() {
+
+    }
+
+    /**
+     * Get a connection to the given datasource, which is an idle connection of the pool if there is a valid one. The
+     * connection is returned to the pool once it is closed.
+     *
+     * @param connectionUrl the connection URL
+     * @param username      the username
+     * @param password      the password
+     * @param className     the driver class name
+     * @return the connection, or null if the connection cannot be established
+     */
+    public static Connection getConnection(String connectionUrl, String username, String password,
+                                           String className) {
+
+        return getDataSource(connectionUrl, username, password, className).getConnection();
+    }
+
+    /**
+     * Get metadata of the datasource of the given connection, which is read with the loader unless it is cached.
+     *
+     * @param connection a connection of the pool
+     * @param type       the type of the metadata, e.g. columns
+     * @param name       the name of the object the metadata belongs to, e.g. the table name
+     * @param loader     the loader which reads the metadata with the connection
+     * @return the metadata, which must not be modified
+     * @throws SQLException if the metadata cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getMetadata(Connection connection, String type, String name, MetadataLoader<T> loader)
+            throws SQLException {
+
+        if (!Proxy.isProxyClass(connection.getClass()) ||
+                !(Proxy.getInvocationHandler(connection) instanceof PooledConnection)) {
+            return loader.load(connection);
+        }
+        DataSource dataSource = ((PooledConnection) Proxy.getInvocationHandler(connection)).dataSource;
+        try {
+            return (T) dataSource.metadata.get(type + ":" + name, () -> loader.load(connection));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e.getCause());
+        }
+    }
+
+    /**
+     * Close the idle connections of the given datasource and drop its cached metadata, e.g. once the user has tested
+     * the connection to the datasource again.
+     *
+     * @param connectionUrl the connection URL
+     * @param username      the username
+     * @param password      the password
+     * @param className     the driver class name
+     */
+    public static void refresh(String connectionUrl, String username, String password, String className) {
+
+        DataSource dataSource =
+                DATA_SOURCES.getIfPresent(new DataSourceKey(connectionUrl, username, password, className));
+        if (dataSource != null) {
+            dataSource.closeIdleConnections();
+            dataSource.metadata.invalidateAll();
+        }
+    }
+
+    private static DataSource getDataSource(String connectionUrl, String username, String password,
+                                            String className) {
+
+        DataSourceKey key = new DataSourceKey(connectionUrl, username, password, className);
+        return DATA_SOURCES.asMap().computeIfAbsent(key, DataSource::new);
+    }
+
+    private static void evictIdleConnections() {
+
+        long evictBefore = System.currentTimeMillis() - IDLE_TIMEOUT_MILLIS;
+        for (DataSource dataSource : DATA_SOURCES.asMap().values()) {
+            dataSource.evictIdleConnections(evictBefore);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error occurred while closing the database connection.", e);
+        }
+    }
+
+    /**
+     * Reads metadata of a datasource with a connection.
+     *
+     * @param <T> the type of the metadata
+     */
+    public interface MetadataLoader<T> {
+
+        T load(Connection connection) throws SQLException;
+    }
+
+    private static final class DataSourceKey {
+
+        private final String connectionUrl;
+        private final String username;
+        private final String password;
+        private final String className;
+
+        DataSourceKey(String connectionUrl, String username, String password, String className) {
+
+            this.connectionUrl = connectionUrl;
+            this.username = username;
+            this.password = password;
+            this.className = className;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DataSourceKey)) {
+                return false;
+            }
+            DataSourceKey that = (DataSourceKey) o;
+            return Objects.equals(connectionUrl, that.connectionUrl) && Objects.equals(username, that.username) &&
+                    Objects.equals(password, that.password) && Objects.equals(className, that.className);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(connectionUrl, username, password, className);
+        }
+    }
+
+    private static final class DataSource {
+
+        private final DataSourceKey key;
+        private final Deque<IdleConnection> idleConnections = new ConcurrentLinkedDeque<>();
+        private final Cache<String, Object> metadata =
+                CacheBuilder.newBuilder().expireAfterWrite(METADATA_TTL_MINUTES, TimeUnit.MINUTES).build();
+
+        DataSource(DataSourceKey key) {
+
+            this.key = key;
+        }
+
+        Connection getConnection() {
+
+            IdleConnection idleConnection;
+            while ((idleConnection = idleConnections.pollFirst()) != null) {
+                if (isValid(idleConnection.connection)) {
+                    return createPooledConnection(idleConnection.connection);
+                }
+                closeQuietly(idleConnection.connection);
+            }
+            Connection connection = DBConnectionTester.getConnection(key.connectionUrl, key.username, key.password,
+                    key.className);
+            if (connection == null) {
+                return null;
+            }
+            return createPooledConnection(connection);
+        }
+
+        void release(Connection connection) {
+
+            try {
+                if (connection.isClosed()) {
+                    return;
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                closeQuietly(connection);
+                return;
+            }
+            // The idle connections of a datasource which has been removed from the pool are not closed anymore
+            if (!isRegistered() || idleConnections.size() >= MAX_IDLE_CONNECTIONS) {
+                closeQuietly(connection);
+                return;
+            }
+            idleConnections.addFirst(new IdleConnection(connection, System.currentTimeMillis()));
+            if (!isRegistered()) {
+                // The datasource has been removed from the pool meanwhile
+                closeIdleConnections();
+            }
+        }
+
+        void evictIdleConnections(long evictBefore) {
+
+            Iterator<IdleConnection> iterator = idleConnections.iterator();
+            while (iterator.hasNext()) {
+                IdleConnection idleConnection = iterator.next();
+                if (idleConnection.idleSince < evictBefore && idleConnections.remove(idleConnection)) {
+                    closeQuietly(idleConnection.connection);
+                }
+            }
+        }
+
+        void closeIdleConnections() {
+
+            IdleConnection idleConnection;
+            while ((idleConnection = idleConnections.pollFirst()) != null) {
+                closeQuietly(idleConnection.connection);
+            }
+        }
+
+        private boolean isRegistered() {
+
+            return DATA_SOURCES.asMap().get(key) == this;
+        }
+
+        private Connection createPooledConnection(Connection connection) {
+
+            return (Connection) Proxy.newProxyInstance(DBConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new PooledConnection(this, connection));
+        }
+
+        private static boolean isValid(Connection connection) {
+
+            try {
+                return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException | AbstractMethodError e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class IdleConnection {
+
+        private final Connection connection;
+        private final long idleSince;
+
+        IdleConnection(Connection connection, long idleSince) {
+
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    /**
+     * Hands out a physical connection of the pool, which is returned to the pool instead of being closed.
+     */
+    private static final class PooledConnection implements InvocationHandler {
+
+        private final DataSource dataSource;
+        private final Connection connection;
+        private boolean closed;
+
+        PooledConnection(DataSource dataSource, Connection connection) {
+
+            this.dataSource = dataSource;
+            this.connection = connection;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        dataSource.release(connection);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + connection;
+                default:
+                    if (closed) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
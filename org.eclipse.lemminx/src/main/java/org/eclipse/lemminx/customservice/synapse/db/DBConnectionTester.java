@@ -31,6 +31,8 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,6 +40,7 @@ import java.util.logging.Logger;
 public class DBConnectionTester {
 
     private static final Logger LOGGER = Logger.getLogger(DBConnectionTester.class.getName());
+    private static final Map<Class<?>, Driver> REGISTERED_DRIVERS = new ConcurrentHashMap<>();
 
     /**
      * Test the database connection with the given parameters.
@@ -53,15 +56,15 @@ public class DBConnectionTester {
     public boolean testDBConnection(String dbType, String username, String password, String host, String port,
                                     String dbName, String url, String className) {
 
-        Connection connection;
-        if (StringUtils.isBlank(url)) {
-            String connUriStr = generateConnectionUrl(dbType, host, port, dbName);
-            connection = getConnection(connUriStr, username, password, className);
-        } else {
-            connection = getConnection(url, username, password, className);
+        String connectionUrl = StringUtils.isBlank(url) ? generateConnectionUrl(dbType, host, port, dbName) : url;
+        // Testing the connection again connects to the database and reads its metadata afresh
+        DBConnectionPool.refresh(connectionUrl, username, password, className);
+        try (Connection connection = DBConnectionPool.getConnection(connectionUrl, username, password, className)) {
+            return connection != null;
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Error occurred while closing the database connection.", e);
+            return true;
         }
-
-        return connection != null;
     }
 
     public static Connection getConnection(String connectionUrl, String username, String password, String className) {
@@ -69,10 +72,10 @@ public class DBConnectionTester {
         Connection connection = null;
 
         try {
-            URLClassLoader urlClassLoader = DynamicClassLoader.getClassLoader();
-
-            Driver driver = (Driver) Class.forName(className, true, urlClassLoader).newInstance();
-            DriverManager.registerDriver(new DriverShim(driver));
+            // Without a driver class, a driver which has already been registered for the URL is used
+            if (StringUtils.isNotBlank(className)) {
+                registerDriver(className);
+            }
 
             // Check username and password are empty due to Derby db can connect without username and password
             if (connectionUrl.contains(DBConstant.DBTypes.DB_TYPE_DERBY_CONN) &&
@@ -92,6 +95,23 @@ public class DBConnectionTester {
         return connection;
     }
 
+    /**
+     * Register the given driver class with the driver manager, unless it is already registered. A driver class is
+     * registered again once it is loaded by a new class loader, i.e. once the drivers have been updated.
+     */
+    private static void registerDriver(String className) throws ReflectiveOperationException, SQLException {
+
+        URLClassLoader urlClassLoader = DynamicClassLoader.getClassLoader();
+        Class<?> driverClass = Class.forName(className, true, urlClassLoader);
+        if (REGISTERED_DRIVERS.containsKey(driverClass)) {
+            return;
+        }
+        DriverShim driverShim = new DriverShim((Driver) driverClass.getDeclaredConstructor().newInstance());
+        if (REGISTERED_DRIVERS.putIfAbsent(driverClass, driverShim) == null) {
+            DriverManager.registerDriver(driverShim);
+        }
+    }
+
     private List<URL> getDBDriverUrl(String dbType, String dbDriverFolder, String version) {
 
         // TODO: Improve this logic to get exact driver jar file
@@ -15,16 +15,14 @@
 package org.eclipse.lemminx.customservice.synapse.debugger.visitor;
 
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
+import org.eclipse.lemminx.customservice.synapse.MediatorVisitorDispatcher;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.BreakpointMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
-import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.logging.Level;
@@ -168,22 +166,7 @@ public class VisitorUtils {
      */
     public static void visitMediator(Mediator node, AbstractMediatorVisitor visitor) {
 
-        String tag = node.getTag();
-        tag = Utils.sanitizeTag(tag);
-
-        String visitFn;
-        visitFn = "visit" + tag.substring(0, 1).toUpperCase() + tag.substring(1);
-        try {
-            Method method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, node.getClass());
-            method.setAccessible(true);
-            method.invoke(visitor, node);
-        } catch (NoSuchMethodException e) {
-            LOGGER.log(Level.SEVERE, "No visit method found for mediator: " + tag, e);
-        } catch (InvocationTargetException e) {
-            LOGGER.log(Level.SEVERE, "Error while invoking visit method for mediator: " + tag, e);
-        } catch (IllegalAccessException e) {
-            LOGGER.log(Level.SEVERE, "Error while accessing visit method for mediator: " + tag, e);
-        }
+        MediatorVisitorDispatcher.visit(node, visitor);
     }
 
     /**
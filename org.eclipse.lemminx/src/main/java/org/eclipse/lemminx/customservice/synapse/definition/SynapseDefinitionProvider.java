@@ -19,6 +19,7 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceRes
 import org.eclipse.lemminx.customservice.synapse.utils.ConfigFinder;
 import org.eclipse.lemminx.customservice.synapse.utils.ExtendedLocation;
 import org.eclipse.lemminx.customservice.synapse.utils.LegacyConfigFinder;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptorService;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMAttr;
@@ -69,7 +70,7 @@ public class SynapseDefinitionProvider {
 
         KeyAndTypeHolder keyAndType = getKeyAndType(document, offset);
         if (!keyAndType.isNull()) {
-            Boolean isLegacyProject = Utils.isLegacyProject(projectPath);
+            boolean isLegacyProject = ProjectDescriptorService.getDescriptor(projectPath).isLegacyProject();
 
             String path = null;
             try {
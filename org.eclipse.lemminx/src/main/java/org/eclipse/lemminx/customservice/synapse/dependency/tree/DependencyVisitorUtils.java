@@ -14,7 +14,7 @@
 
 package org.eclipse.lemminx.customservice.synapse.dependency.tree;
 
-import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
+import org.eclipse.lemminx.customservice.synapse.MediatorVisitorDispatcher;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.EndpointVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
@@ -29,8 +29,6 @@ import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -111,16 +109,7 @@ public class DependencyVisitorUtils {
         if (Constant.INVALID.equalsIgnoreCase(tag)) {
             return;
         }
-        String visitFn = "visit" + tag.substring(0, 1).toUpperCase() + tag.substring(1);
-        try {
-            Method method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, node.getClass());
-            method.setAccessible(true);
-            method.invoke(visitor, node);
-        } catch (NoSuchMethodException e) {
-            LOGGER.log(Level.SEVERE, "No visit method found for mediator: " + tag, e);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            LOGGER.log(Level.SEVERE, "Error while invoking visit method for mediator: " + tag, e);
-        }
+        MediatorVisitorDispatcher.visit(node, visitor);
     }
 
     /**
@@ -16,6 +16,7 @@ package org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
+import org.eclipse.lemminx.customservice.synapse.MediatorVisitorDispatcher;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.ArtifactType;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
@@ -96,17 +97,12 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transf
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.common.Sequence;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 public class MediatorDependencyVisitor extends AbstractMediatorVisitor {
 
-    private static final Logger LOGGER = Logger.getLogger(MediatorDependencyVisitor.class.getName());
     private final String projectPath;
     private final List<Dependency> dependencies;
     private final DependencyLookUp dependencyLookUp;
@@ -123,15 +119,7 @@ public class MediatorDependencyVisitor extends AbstractMediatorVisitor {
         if (mediator == null) {
             return;
         }
-        String tag = mediator.getTag();
-        String visitFn = "visit" + tag.substring(0, 1).toUpperCase() + tag.substring(1);
-        try {
-            Method method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, mediator.getClass());
-            method.setAccessible(true);
-            method.invoke(this, mediator);
-        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-            LOGGER.log(Level.SEVERE, String.format("Error while visiting mediator: %s", tag), e);
-        }
+        MediatorVisitorDispatcher.visit(mediator, this);
     }
 
     private void addSimpleDependency(String name, String from, ArtifactType type) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Caches a value computed from the content of a project file, e.g. the directory tree node of an artifact. A cached
+ * value is reused as long as the file keeps its last modified time and size and the value was computed for the same
+ * context, so that rebuilding the directory tree only reads the files which have changed since the last build.
+ *
+ * @param <T> the type of the cached values
+ */
+final class ArtifactFileCache<T> {
+
+    private final Cache<Path, Entry<T>> entries;
+
+    ArtifactFileCache(int maximumSize) {
+
+        this.entries = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Get the value of the given file, computing it with the loader if the file has changed since it was cached.
+     *
+     * @param file    the file
+     * @param context the context the value depends on apart from the file content, e.g. the main sequence name
+     * @param loader  the loader which computes the value from the file, which may return null
+     * @return the value of the file
+     */
+    T get(File file, String context, Supplier<T> loader) {
+
+        Path key = file.toPath().toAbsolutePath().normalize();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        Entry<T> entry = entries.getIfPresent(key);
+        if (entry != null && entry.lastModified == lastModified && entry.size == size &&
+                Objects.equals(entry.context, context)) {
+            return entry.value;
+        }
+        T value = loader.get();
+        entries.put(key, new Entry<>(lastModified, size, context, value));
+        return value;
+    }
+
+    void invalidate(Path file) {
+
+        entries.invalidate(file.toAbsolutePath().normalize());
+    }
+
+    private static final class Entry<T> {
+
+        private final long lastModified;
+        private final long size;
+        private final String context;
+        private final T value;
+
+        Entry(long lastModified, long size, String context, T value) {
+
+            this.lastModified = lastModified;
+            this.size = size;
+            this.context = context;
+            this.value = value;
+        }
+    }
+}
@@ -57,6 +57,11 @@ public class DirectoryMapResponse {
         }
     }
 
+    public DirectoryMapResponse(JsonElement directoryMap) {
+
+        this.directoryMap = directoryMap;
+    }
+
     //Convert the format to default file structure view.
     private JsonElement convertFormat(JsonElement jsonTree) {
 
@@ -14,12 +14,7 @@
 
 package org.eclipse.lemminx.customservice.synapse.directoryTree;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonElement;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.APINode;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.APIResource;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.AdvancedNode;
@@ -52,16 +47,24 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URLDecoder;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getItems;
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getMember;
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getText;
+
 public class DirectoryTreeBuilder {
 
     private static final Logger LOGGER = Logger.getLogger(DirectoryTreeBuilder.class.getName());
@@ -69,9 +72,23 @@ public class DirectoryTreeBuilder {
     private static final String WSO2MI = "wso2mi";
     private static final String RESOURCES = "resources";
     private static final String JAVA = "java";
-    private static String projectPath;
-    private static String mainSequence;
-    private static List<String> artifactResourcePaths = new ArrayList<>();
+    private static final int MAX_CACHED_ARTIFACTS = 10000;
+    private static final Pattern CONNECTION_INIT_PATTERN = Pattern.compile("(.*)\\.init");
+
+    // Directory tree nodes of the artifacts and the root element names of the registry resources, which are reused
+    // across builds until the files change
+    private static final ArtifactFileCache<Node> ARTIFACT_NODES = new ArtifactFileCache<>(MAX_CACHED_ARTIFACTS);
+    private static final ArtifactFileCache<String> REGISTRY_ARTIFACT_TYPES =
+            new ArtifactFileCache<>(MAX_CACHED_ARTIFACTS);
+
+    private final String projectPath;
+    private String mainSequence;
+    private final Set<String> artifactResourcePaths = new HashSet<>();
+
+    private DirectoryTreeBuilder(String projectPath) {
+
+        this.projectPath = projectPath;
+    }
 
     public static DirectoryMapResponse buildDirectoryTree(WorkspaceFolder projectFolder) {
 
@@ -79,6 +96,25 @@ public class DirectoryTreeBuilder {
         if (DirectoryTreeUtils.isLegacyProject(projectFolder)) {
             return LegacyDirectoryTreeBuilder.buildDirectoryTree(projectFolder);
         }
+        String projectPath = getProjectPath(projectFolder);
+        Tree directoryTree = null;
+        if (projectPath != null) {
+            directoryTree = new DirectoryTreeBuilder(projectPath).buildTree();
+        }
+
+        DirectoryMapResponse directoryMapResponse = new DirectoryMapResponse(directoryTree);
+        return directoryMapResponse;
+    }
+
+    /**
+     * Get the path of the given project folder.
+     *
+     * @param projectFolder the project folder
+     * @return the decoded path of the project folder, or null if it could not be decoded
+     */
+    static String getProjectPath(WorkspaceFolder projectFolder) {
+
+        String projectPath = null;
         try {
             String encodedPath = projectFolder.getUri();
             if (encodedPath.startsWith(Constant.FILE_PREFIX)) {
@@ -88,23 +124,74 @@ public class DirectoryTreeBuilder {
         } catch (UnsupportedEncodingException e) {
             LOGGER.log(Level.SEVERE, "Could not decode the file path.", e);
         }
-        Tree directoryTree = null;
-        if (projectPath != null) {
-            String projectType = DirectoryTreeUtils.getProjectType(projectPath);
-            if (Constant.INTEGRATION_PROJECT.equalsIgnoreCase(projectType)) {
-                updateMainSequence();
-                directoryTree = new IntegrationDirectoryTree(projectPath, projectType);
-                analyzeIntegrationProject((IntegrationDirectoryTree) directoryTree);
-                ((IntegrationDirectoryTree) directoryTree).sort();
-            } else if (Constant.DOCKER_PROJECT.equalsIgnoreCase(projectType) || Constant.KUBERNETES_PROJECT.
-                    equalsIgnoreCase(projectType)) {
-                directoryTree = new DistributionDirectoryTree(projectPath, projectType);
-                analyzeDistributionProject((DistributionDirectoryTree) directoryTree);
-            }
+        return projectPath;
+    }
+
+    /**
+     * Build a single part of the directory tree of an integration project. The part is the same as the matching part
+     * of the tree built for the whole project, so that it can replace that part once the files of the part change.
+     *
+     * @param projectPath the path of the integration project
+     * @param part        the part of the tree to build
+     * @return the part of the directory tree in its JSON form
+     */
+    static JsonElement buildTreePart(String projectPath, TreePart part) {
+
+        DirectoryTreeBuilder builder = new DirectoryTreeBuilder(projectPath);
+        IntegrationDirectoryTree directoryTree = new IntegrationDirectoryTree(projectPath,
+                Constant.INTEGRATION_PROJECT);
+        switch (part) {
+            case WSO2MI:
+                builder.updateMainSequence();
+                builder.analyzeArtifacts(directoryTree);
+                builder.analyzeResources(directoryTree);
+                directoryTree.sort();
+                break;
+            case JAVA:
+                builder.analyzeJavaProjects(directoryTree);
+                break;
+            case BALLERINA:
+                builder.analyzeBallerinaProjects(directoryTree);
+                break;
+            case TESTS:
+                builder.analyzeTestsFolder(directoryTree);
+                break;
         }
+        return part.get(new DirectoryMapResponse(directoryTree).getDirectoryMap());
+    }
 
-        DirectoryMapResponse directoryMapResponse = new DirectoryMapResponse(directoryTree);
-        return directoryMapResponse;
+    /**
+     * Discard the cached directory tree details of the given file, e.g. once the file has been deleted. Files which
+     * are modified are detected by the next build as well.
+     *
+     * @param fileUri the uri of the changed file
+     */
+    public static void fileChanged(String fileUri) {
+
+        try {
+            Path file = Path.of(Utils.getAbsolutePath(fileUri));
+            ARTIFACT_NODES.invalidate(file);
+            REGISTRY_ARTIFACT_TYPES.invalidate(file);
+        } catch (InvalidPathException e) {
+            LOGGER.log(Level.FINE, "Invalid path for the changed file: " + fileUri, e);
+        }
+    }
+
+    private Tree buildTree() {
+
+        Tree directoryTree = null;
+        String projectType = DirectoryTreeUtils.getProjectType(projectPath);
+        if (Constant.INTEGRATION_PROJECT.equalsIgnoreCase(projectType)) {
+            updateMainSequence();
+            directoryTree = new IntegrationDirectoryTree(projectPath, projectType);
+            analyzeIntegrationProject((IntegrationDirectoryTree) directoryTree);
+            ((IntegrationDirectoryTree) directoryTree).sort();
+        } else if (Constant.DOCKER_PROJECT.equalsIgnoreCase(projectType) || Constant.KUBERNETES_PROJECT.
+                equalsIgnoreCase(projectType)) {
+            directoryTree = new DistributionDirectoryTree(projectPath, projectType);
+            analyzeDistributionProject((DistributionDirectoryTree) directoryTree);
+        }
+        return directoryTree;
     }
 
     /**
@@ -120,157 +207,41 @@ public class DirectoryTreeBuilder {
             LOGGER.log(Level.SEVERE, "Error occurred while building directory tree.");
             return null;
         }
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(directoryMap.getDirectoryMap().getAsJsonObject().toString());
-            removeGitkeepFiles(root);
-            JsonNode artifacts = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.ARTIFACTS);
-            JsonNode resources = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.RESOURCES);
-            ObjectNode newArtifacts = mapper.createObjectNode();
-
-            newArtifacts.set("APIs", artifacts.path(Constant.APIS));
-            newArtifacts.set("Event Integrations", artifacts.path(Constant.INBOUNDENDPOINTS));
-            newArtifacts.set("Automations", artifacts.path(Constant.TASKS));
-            newArtifacts.set("Data Services", artifacts.path(Constant.DATA_SERVICES));
-
-            ObjectNode otherArtifacts = newArtifacts.putObject("Other Artifacts");
-            otherArtifacts.set("Sequences", artifacts.path(Constant.SEQUENCES));
-            otherArtifacts.set("Connections", artifacts.path(Constant.CONNECTIONS));
-            otherArtifacts.set("Data Sources", artifacts.path(Constant.DATA_SOURCES));
-
-            ArrayNode classMediatorArray = mapper.createArrayNode();
-            JsonNode mediatorFolders = root.path(Constant.SRC).path(MAIN).path(JAVA).path(Constant.FOLDERS);
-            extractClassMediators(mediatorFolders, classMediatorArray);
-            otherArtifacts.set("Class Mediators", classMediatorArray);
-
-            ArrayNode ballerinaModulesArray = mapper.createArrayNode();
-            JsonNode moduleFolders = root.path(Constant.SRC).path(MAIN).path(Constant.BALLERINA).path(Constant.FOLDERS);
-            extractBallerinaModules(moduleFolders, ballerinaModulesArray);
-            otherArtifacts.set("Ballerina Modules", ballerinaModulesArray);
-
-            otherArtifacts.set("Endpoints", artifacts.path(Constant.ENDPOINTS));
-            otherArtifacts.set("Proxy Services", artifacts.path(Constant.PROXYSERVICES));
-            otherArtifacts.set("Message Stores", artifacts.path(Constant.MESSAGE_STORES));
-            otherArtifacts.set("Message Processors", artifacts.path(Constant.MESSAGE_PROCESSORS));
-            otherArtifacts.set("Local Entries", artifacts.path(Constant.LOCALENTRIES));
-            otherArtifacts.set("Templates", artifacts.path(Constant.TEMPLATES));
-
-            JsonNode registryFolders = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.RESOURCES)
-                    .path(Constant.REGISTRY).path(Constant.GOV).path(Constant.FOLDERS);
-            JsonNode newResources = resources.path(Constant.NEW_RESOURCES);
-            JsonNode newResourcesFolders = newResources.path(Constant.FOLDERS);
-            newArtifacts.set("Resources", newResources);
-
-            ArrayNode dataMapperConfigs = getDataMapperConfigs(mapper, registryFolders, newResourcesFolders);
-
-            if (dataMapperConfigs.isEmpty()) {
-                otherArtifacts.set("Data Mappers", mapper.createArrayNode());
-            } else {
-                otherArtifacts.set("Data Mappers", dataMapperConfigs);
-            }
-
-            ((ObjectNode) root.path(Constant.SRC).path(MAIN).path(WSO2MI)).set(Constant.ARTIFACTS, newArtifacts);
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonNodeAsString = objectMapper.writeValueAsString(root);
-            directoryMap.setDirectoryMap(JsonParser.parseString(jsonNodeAsString));
-            return directoryMap;
-
-        } catch (JsonProcessingException e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while building the project explorer directory tree.", e);
+        // The directory tree is built for this request only, hence it is restructured in place
+        JsonElement projectExplorer = ProjectExplorerBuilder.build(directoryMap.getDirectoryMap());
+        if (projectExplorer == null) {
             return null;
         }
-    }
-
-    /**
-     * Recursively removes .gitkeep files from the JSON node tree structure.
-     * This method traverses both object and array nodes, identifying and removing
-     * any nodes that represent .gitkeep files.
-     *
-     * @param node the JSON node to process
-     */
-    private static void removeGitkeepFiles(JsonNode node) {
-
-        if (node == null || node.isMissingNode()) {
-            return;
-        }
-        if (node.isObject()) {
-            ObjectNode obj = (ObjectNode) node;
-            List<String> fieldsToRemove = new ArrayList<>();
-
-            obj.fieldNames().forEachRemaining(field -> {
-                JsonNode child = obj.get(field);
-                if (child.isObject() && child.has(Constant.NAME) &&
-                        Constant.GITKEEP.equals(child.get(Constant.NAME).asText())) {
-                    fieldsToRemove.add(field);
-                } else {
-                    removeGitkeepFiles(child);
-                }
-            });
-            fieldsToRemove.forEach(obj::remove);
-        } else if (node.isArray()) {
-            ArrayNode arrayNode = (ArrayNode) node;
-            List<Integer> itemsToRemove = new ArrayList<>();
-            for (int index = 0; index < arrayNode.size(); index++) {
-                JsonNode child = arrayNode.get(index);
-                if (child.isObject() && child.has(Constant.NAME) &&
-                        Constant.GITKEEP.equals(child.get(Constant.NAME).asText())) {
-                    itemsToRemove.add(index);
-                } else {
-                    removeGitkeepFiles(child);
-                }
-            }
-            for (int index = itemsToRemove.size() - 1; index >= 0; index--) {
-                arrayNode.remove(itemsToRemove.get(index));
-            }
-        }
-    }
-
-    private static ArrayNode getDataMapperConfigs(ObjectMapper mapper, JsonNode registryFolders, JsonNode newResourcesFolders) {
-
-        ArrayNode dataMappersNode = mapper.createArrayNode();
-        for (JsonNode resourceFolder : newResourcesFolders) {
-            if (Constant.DATA_MAPPER.equals(resourceFolder.path(Constant.NAME).asText())) {
-                dataMappersNode.addAll((ArrayNode) resourceFolder.path(Constant.FOLDERS));
-                break;
-            }
-        }
-        for (JsonNode registryFolder : registryFolders) {
-            if (Constant.DATA_MAPPER.equals(registryFolder.path(Constant.NAME).asText())) {
-                dataMappersNode.addAll((ArrayNode) registryFolder.path(Constant.FOLDERS));
-                break;
-            }
-        }
-        return dataMappersNode;
+        directoryMap.setDirectoryMap(projectExplorer);
+        return directoryMap;
     }
 
     public static List<String> getProjectIdentifiers(WorkspaceFolder projectFolder, List<String> filePaths) {
 
         List<String> result = new ArrayList<>();
         DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder);
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(directoryMap.getDirectoryMap().getAsJsonObject().toString());
-            JsonNode artifacts = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.ARTIFACTS);
-            artifacts.fields().forEachRemaining(entry -> {
-                String artifactType = entry.getKey();
-                JsonNode artifactEntries = entry.getValue();
-                if (artifactEntries.isArray()) {
-                    for (JsonNode artifactEntryNode: artifactEntries) {
-                        String path = artifactEntryNode.path(Constant.PATH).asText();
-                        if (filePaths.contains(path)) {
-                            result.add(artifactType + File.separator +
-                                    path.substring(path.lastIndexOf(File.separator) + 1).split("\\.")[0]);
-                        }
-                    }
-                }
-            });
-            return result;
-        } catch (Exception ex) {
+        if (directoryMap.getDirectoryMap() == null) {
+            return Collections.emptyList();
+        }
+        JsonElement artifacts = getMember(getMember(getMember(getMember(directoryMap.getDirectoryMap(),
+                Constant.SRC), MAIN), WSO2MI), Constant.ARTIFACTS);
+        if (!artifacts.isJsonObject()) {
             return Collections.emptyList();
         }
+        for (Map.Entry<String, JsonElement> entry : artifacts.getAsJsonObject().entrySet()) {
+            String artifactType = entry.getKey();
+            for (JsonElement artifactEntry : getItems(entry.getValue())) {
+                String path = getText(getMember(artifactEntry, Constant.PATH));
+                if (filePaths.contains(path)) {
+                    result.add(artifactType + File.separator +
+                            path.substring(path.lastIndexOf(File.separator) + 1).split("\\.")[0]);
+                }
+            }
+        }
+        return result;
     }
 
-    private static void updateMainSequence() {
+    private void updateMainSequence() {
 
         mainSequence = null;
         Path pomPath = Path.of(projectPath, "pom.xml");
@@ -299,9 +270,8 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree) {
+    private void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree) {
 
-        artifactResourcePaths = new ArrayList<>();
         analyzeArtifacts(directoryTree);
         analyzeResources(directoryTree);
         analyzeJavaProjects(directoryTree);
@@ -309,9 +279,8 @@ public class DirectoryTreeBuilder {
         analyzeTestsFolder(directoryTree);
     }
 
-    private static void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
+    private void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
 
-        artifactResourcePaths = new ArrayList<>();
         File folder = new File(projectPath);
         if (folder != null && folder.exists() && !folder.isHidden()) {
             String folderName = folder.getName();
@@ -322,7 +291,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
+    private void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
 
         String artifactsPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
                 + File.separator + WSO2MI + File.separator + "artifacts";
@@ -350,7 +319,7 @@ public class DirectoryTreeBuilder {
         return name1;
     }
 
-    private static void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
+    private void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
 
         try {
             File[] listOfFiles = folder.listFiles();
@@ -383,7 +352,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryResources(directoryTree);
         analyzeConnectorResources(directoryTree);
@@ -391,7 +360,7 @@ public class DirectoryTreeBuilder {
         analyzeNewResources(directoryTree);
     }
 
-    private static void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES;
@@ -406,13 +375,13 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryByType(directoryTree, Constant.GOV);
         analyzeRegistryByType(directoryTree, Constant.CONF);
     }
 
-    private static void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
+    private void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES +
@@ -432,7 +401,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
 
         String connectorPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
                 + File.separator + WSO2MI + File.separator + RESOURCES + File.separator + "connectors";
@@ -450,7 +419,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
 
         String metadataPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                 File.separator + WSO2MI + File.separator + RESOURCES +
@@ -469,7 +438,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
 
         String javaPath =
                 projectPath + File.separator + Constant.SRC + File.separator + MAIN +
@@ -485,7 +454,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
 
         String ballerinaPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                         File.separator + Constant.BALLERINA;
@@ -498,7 +467,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
+    private void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
 
         TestFolder testFolder = new TestFolder();
         String testsPath = projectPath + File.separator + Constant.SRC + File.separator + "test";
@@ -507,7 +476,7 @@ public class DirectoryTreeBuilder {
         directoryTree.setTests(testFolder);
     }
 
-    private static void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
+    private void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
 
         File subFolder = new File(testPath + File.separator + testName);
         if (subFolder != null && subFolder.exists() && !subFolder.isHidden()) {
@@ -518,7 +487,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
+    private void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
 
         File[] listOfFiles = folderNode.listFiles();
         for (File file : listOfFiles) {
@@ -550,16 +519,13 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
+    private void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
 
         if (path.endsWith(".xml")) {
-            try {
-                File file = new File(path);
-                DOMDocument domDocument = Utils.getDOMDocument(file);
-                DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
-
-                if (rootElement != null) {
-                    String type = rootElement.getNodeName();
+            File file = new File(path);
+            String type = REGISTRY_ARTIFACT_TYPES.get(file, null, () -> getRegistryArtifactType(file));
+            if (type != null) {
+                try {
                     String name = file.getName();
                     type = getType(type);
                     Node regNode = createRegistryNode(name, type, path);
@@ -567,16 +533,28 @@ public class DirectoryTreeBuilder {
                     Method method = directoryTree.getClass().getMethod
                             (methodName, Node.class);
                     method.invoke(directoryTree, regNode);
+                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                    LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
                 }
-            } catch (IOException e) {
-                LOGGER.log(Level.WARNING, "Error while reading file content", e);
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
             }
         }
     }
 
-    private static Node createRegistryNode(String name, String type, String path) {
+    private static String getRegistryArtifactType(File file) {
+
+        try {
+            DOMDocument domDocument = Utils.getDOMDocument(file);
+            DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
+            if (rootElement != null) {
+                return rootElement.getNodeName();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while reading file content", e);
+        }
+        return null;
+    }
+
+    private Node createRegistryNode(String name, String type, String path) {
 
         StringBuilder key = new StringBuilder();
         if (path.contains(Constant.GOV)) {
@@ -593,12 +571,21 @@ public class DirectoryTreeBuilder {
         return registry;
     }
 
-    private static Node createEsbComponent(String type, String name, String path) {
+    private Node createEsbComponent(String type, String name, String path) {
+
+        // The main sequence flag is the only detail of a node which does not come from the artifact itself
+        String context = Constant.SEQUENCE.equalsIgnoreCase(type) ? mainSequence : null;
+        return ARTIFACT_NODES.get(new File(path), context, () -> readEsbComponent(type, name, path));
+    }
+
+    private Node readEsbComponent(String type, String name, String path) {
 
         String artifactName;
         String nodeType = Utils.addUnderscoreBetweenWords(type).toUpperCase();
+        DOMDocument domDocument;
         try {
-            artifactName = getArtifactName(type, path);
+            domDocument = Utils.getDOMDocument(new File(path));
+            artifactName = getArtifactName(type, domDocument);
         } catch (IOException e) {
             //Could not read artifact name. Ignoring the file as it is invalid.
             Node invalidNode = new Node(nodeType, name, path);
@@ -607,63 +594,57 @@ public class DirectoryTreeBuilder {
         }
         if (artifactName == null) artifactName = name;
         Node component = new Node(nodeType, artifactName, path);
-        setSubType(component, type, path);
+        setSubType(component, type, domDocument);
         if (Constant.API.equalsIgnoreCase(type) || Constant.SEQUENCE.equalsIgnoreCase(type) ||
                 Constant.PROXY_SERVICE.equalsIgnoreCase(type) || Constant.INBOUND_ENDPOINT.equalsIgnoreCase(type)) {
-            AdvancedNode advancedNode = createAdvancedEsbComponent(component, type, path);
+            AdvancedNode advancedNode = createAdvancedEsbComponent(component, type, domDocument);
             return advancedNode;
         } else if (Constant.LOCAL_ENTRY.equalsIgnoreCase(type)) {
-            Node localEntry = createLocalEntry(component, path);
+            Node localEntry = createLocalEntry(component, path, domDocument);
             return localEntry;
         }
 
         return component;
     }
 
-    private static void setSubType(Node component, String type, String path) {
+    private static void setSubType(Node component, String type, DOMDocument domDocument) {
 
-        File file = new File(path);
-        try {
-            DOMDocument domDocument = Utils.getDOMDocument(file);
-            STNode stNode = SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
-            switch (type) {
-                case "Endpoint":
-                    NamedEndpoint endpoint = (NamedEndpoint) stNode;
-                    String endpointType = endpoint.getType().name();
-                    component.setSubType(endpointType);
-                    break;
-                case "Template":
-                    Template template = (Template) stNode;
-                    String templateType = template.getType().name();
-                    component.setSubType(templateType);
-                    break;
-                case "MessageProcessor":
-                    MessageProcessor messageProcessor = (MessageProcessor) stNode;
-                    String mpType = messageProcessor.getType().name();
-                    component.setSubType(mpType);
-                    break;
-                case "MessageStore":
-                    MessageStore messageStore = (MessageStore) stNode;
-                    String messageStoreType = messageStore.getType().name();
-                    component.setSubType(messageStoreType);
-                    break;
-                case "InboundEndpoint":
-                    InboundEndpoint inboundEndpoint = (InboundEndpoint) stNode;
-                    String ibType = inboundEndpoint.getType();
-                    component.setSubType(ibType);
-                    break;
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Error while reading artifact", e);
+        STNode stNode = SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
+        switch (type) {
+            case "Endpoint":
+                NamedEndpoint endpoint = (NamedEndpoint) stNode;
+                String endpointType = endpoint.getType().name();
+                component.setSubType(endpointType);
+                break;
+            case "Template":
+                Template template = (Template) stNode;
+                String templateType = template.getType().name();
+                component.setSubType(templateType);
+                break;
+            case "MessageProcessor":
+                MessageProcessor messageProcessor = (MessageProcessor) stNode;
+                String mpType = messageProcessor.getType().name();
+                component.setSubType(mpType);
+                break;
+            case "MessageStore":
+                MessageStore messageStore = (MessageStore) stNode;
+                String messageStoreType = messageStore.getType().name();
+                component.setSubType(messageStoreType);
+                break;
+            case "InboundEndpoint":
+                InboundEndpoint inboundEndpoint = (InboundEndpoint) stNode;
+                String ibType = inboundEndpoint.getType();
+                component.setSubType(ibType);
+                break;
         }
     }
 
-    private static AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
+    private AdvancedNode createAdvancedEsbComponent(Node component, String type, DOMDocument domDocument) {
 
         AdvancedNode advancedNode;
         switch (type.toLowerCase()) {
             case Constant.API:
-                String context = getApiContext(path);
+                String context = getApiContext(domDocument);
                 advancedNode = new APINode(component);
                 ((APINode) advancedNode).setContext(context);
                 break;
@@ -678,45 +659,29 @@ public class DirectoryTreeBuilder {
             default:
                 advancedNode = new AdvancedNode(component);
         }
-        File file = new File(path);
-        if (file.isFile() && !file.isHidden()) {
-            DOMDocument domDocument = null;
-            try {
-                domDocument = Utils.getDOMDocument(file);
-            } catch (IOException e) {
-                LOGGER.log(Level.WARNING, "Error while reading file content", e);
-            }
+        if (Constant.API.equalsIgnoreCase(type)) {
             DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
-            if (Constant.API.equalsIgnoreCase(type)) {
-                addResources(rootElement, advancedNode);
-            }
+            addResources(rootElement, advancedNode);
         }
         return advancedNode;
     }
 
-    private static Node createLocalEntry(Node component, String path) {
-
-        File file = new File(path);
-        try {
-            DOMDocument domDocument = Utils.getDOMDocument(file);
-            if (domDocument != null) {
-                DOMElement rootElement = domDocument.getDocumentElement();
-                String key = rootElement.getAttribute(Constant.KEY);
-                DOMElement childElement = Utils.getFirstElement(rootElement);
-                if (childElement != null) {
-                    String entryTag = childElement.getNodeName();
-                    Pattern pattern = Pattern.compile("(.*)\\.init");
-                    Matcher matcher = pattern.matcher(entryTag);
-                    if (matcher.find()) {
-                        String connectorName = matcher.group(1);
-                        String connectionType = getConnectionType(childElement);
-                        ConnectionNode connectionNode = new ConnectionNode(key, path, connectorName, connectionType);
-                        return connectionNode;
-                    }
+    private static Node createLocalEntry(Node component, String path, DOMDocument domDocument) {
+
+        DOMElement rootElement = domDocument.getDocumentElement();
+        if (rootElement != null) {
+            String key = rootElement.getAttribute(Constant.KEY);
+            DOMElement childElement = Utils.getFirstElement(rootElement);
+            if (childElement != null) {
+                String entryTag = childElement.getNodeName();
+                Matcher matcher = CONNECTION_INIT_PATTERN.matcher(entryTag);
+                if (matcher.find()) {
+                    String connectorName = matcher.group(1);
+                    String connectionType = getConnectionType(childElement);
+                    ConnectionNode connectionNode = new ConnectionNode(key, path, connectorName, connectionType);
+                    return connectionNode;
                 }
             }
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Error while reading file content", e);
         }
         return component;
     }
@@ -736,27 +701,17 @@ public class DirectoryTreeBuilder {
         return null;
     }
 
-    private static String getApiContext(String path) {
+    private static String getApiContext(DOMDocument domDocument) {
 
-        File file = new File(path);
-        DOMDocument domDocument = null;
-        try {
-            domDocument = Utils.getDOMDocument(file);
-            DOMNode node = Utils.getChildNodeByName(domDocument, Constant.API);
-            if (node != null) {
-                String context = node.getAttribute(Constant.CONTEXT);
-                return context;
-            }
-        } catch (IOException e) {
-            //ignore
+        DOMNode node = Utils.getChildNodeByName(domDocument, Constant.API);
+        if (node != null) {
+            String context = node.getAttribute(Constant.CONTEXT);
+            return context;
         }
         return null;
     }
 
-    private static String getArtifactName(String type, String path) throws IOException {
-
-        File file = new File(path);
-        DOMDocument domDocument = Utils.getDOMDocument(file);
+    private static String getArtifactName(String type, DOMDocument domDocument) throws IOException {
 
         String tag = getArtifactTag(type);
 
@@ -822,27 +777,66 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void extractClassMediators(JsonNode mediatorFolders, ArrayNode classMediatorArray) {
-        for (JsonNode classMediatorFolder : mediatorFolders) {
-            if (classMediatorFolder.has(Constant.FILES)) {
-                classMediatorArray.addAll((ArrayNode) classMediatorFolder.path(Constant.FILES));
-            }
+    /**
+     * The parts of the directory tree of an integration project, which are rebuilt on their own once the files in
+     * their folders change.
+     */
+    enum TreePart {
 
-            if (classMediatorFolder.has(Constant.FOLDERS)) {
-                extractClassMediators(classMediatorFolder.path(Constant.FOLDERS), classMediatorArray);
-            }
+        WSO2MI(new String[]{Constant.SRC, MAIN, DirectoryTreeBuilder.WSO2MI}, Constant.SRC, MAIN,
+                DirectoryTreeBuilder.WSO2MI),
+        JAVA(new String[]{Constant.SRC, MAIN, DirectoryTreeBuilder.JAVA}, Constant.SRC, MAIN,
+                DirectoryTreeBuilder.JAVA),
+        BALLERINA(new String[]{Constant.SRC, MAIN, Constant.BALLERINA}, Constant.SRC, MAIN, Constant.BALLERINA),
+        TESTS(new String[]{Constant.SRC, "test"}, Constant.SRC, "tests");
+
+        // The folder of the part relative to the project and the member names of the part in the tree
+        private final String[] folder;
+        private final String[] members;
+
+        TreePart(String[] folder, String... members) {
+
+            this.folder = folder;
+            this.members = members;
         }
-    }
 
-    private static void extractBallerinaModules(JsonNode moduleFolders, ArrayNode ballerinaModuleArray) {
-        for (JsonNode ballerinaModuleFolder : moduleFolders) {
-            if (ballerinaModuleFolder.has(Constant.FILES)) {
-                ballerinaModuleArray.addAll((ArrayNode) ballerinaModuleFolder.path(Constant.FILES));
+        Path getFolder(Path projectPath) {
+
+            return projectPath.resolve(String.join(File.separator, folder));
+        }
+
+        String getSection() {
+
+            return String.join("/", members);
+        }
+
+        JsonElement get(JsonElement tree) {
+
+            JsonElement element = tree;
+            for (String member : members) {
+                element = getMember(element, member);
             }
+            return element;
+        }
 
-            if (ballerinaModuleFolder.has(Constant.FOLDERS)) {
-                extractBallerinaModules(ballerinaModuleFolder.path(Constant.FOLDERS), ballerinaModuleArray);
+        /**
+         * Replace the part in the given tree, which has the same structure as a tree built for the whole project.
+         *
+         * @param tree the tree
+         * @param part the new part
+         * @return whether the part was replaced
+         */
+        boolean set(JsonElement tree, JsonElement part) {
+
+            JsonElement element = tree;
+            for (int i = 0; i < members.length - 1; i++) {
+                element = getMember(element, members[i]);
+            }
+            if (!element.isJsonObject()) {
+                return false;
             }
+            element.getAsJsonObject().add(members[members.length - 1], part);
+            return true;
         }
     }
 }
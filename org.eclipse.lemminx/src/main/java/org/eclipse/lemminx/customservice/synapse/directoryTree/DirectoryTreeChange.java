@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonElement;
+
+/**
+ * A change of a single node of a directory tree, which is sent to the client so that it can update its tree in place.
+ * A node is identified by its section, i.e. the member names from the root of the tree to the list holding it, and by
+ * its path. Nodes nested in a folder node also have the path of the folder as their parent path.
+ */
+public class DirectoryTreeChange {
+
+    public enum Type {
+        ADDED, REMOVED, CHANGED, RENAMED
+    }
+
+    private final Type type;
+    private final String section;
+    private final String parentPath;
+    private final String path;
+    private final String oldPath;
+    private final Integer index;
+    private final JsonElement node;
+
+    public DirectoryTreeChange(Type type, String section, String parentPath, String path, String oldPath,
+                               Integer index, JsonElement node) {
+
+        this.type = type;
+        this.section = section;
+        this.parentPath = parentPath;
+        this.path = path;
+        this.oldPath = oldPath;
+        this.index = index;
+        this.node = node;
+    }
+
+    public Type getType() {
+
+        return type;
+    }
+
+    public String getSection() {
+
+        return section;
+    }
+
+    public String getParentPath() {
+
+        return parentPath;
+    }
+
+    public String getPath() {
+
+        return path;
+    }
+
+    /**
+     * @return the path of the node before it was renamed, which is set for renamed nodes only
+     */
+    public String getOldPath() {
+
+        return oldPath;
+    }
+
+    /**
+     * @return the position of the node in its list, which is not set for removed nodes
+     */
+    public Integer getIndex() {
+
+        return index;
+    }
+
+    /**
+     * @return the node with its children, which is not set for removed nodes
+     */
+    public JsonElement getNode() {
+
+        return node;
+    }
+}
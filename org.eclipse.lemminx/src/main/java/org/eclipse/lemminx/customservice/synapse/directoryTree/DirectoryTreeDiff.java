@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the node changes between two versions of a directory tree in its JSON form. Any object with a path is a
+ * node. The children of folder nodes are nodes of their own, while the other members of a node, e.g. the resources of
+ * an API, are compared as a part of the node.
+ */
+final class DirectoryTreeDiff {
+
+    private static final String PATH = "path";
+    private static final String NAME = "name";
+    private static final String FILES = "files";
+    private static final String FOLDERS = "folders";
+    private static final String SEPARATOR = "/";
+
+    private DirectoryTreeDiff() {
+
+    }
+
+    /**
+     * Get the changes which turn the old tree into the new tree. The removed nodes are listed first, followed by the
+     * renamed, changed and added nodes in the order of the new tree. A node which is removed and added in the same
+     * list with the same content apart from its name and path is reported as renamed. The children of an added,
+     * removed or renamed folder are not listed, as they are a part of the change of the folder.
+     *
+     * @param oldTree the old tree
+     * @param newTree the new tree
+     * @param section the section of the trees, i.e. the member names from the root to the given trees, or an empty
+     *                string for whole trees
+     * @return the changes of the nodes
+     */
+    static List<DirectoryTreeChange> diff(JsonElement oldTree, JsonElement newTree, String section) {
+
+        Map<String, TreeNode> oldNodes = new LinkedHashMap<>();
+        Map<String, TreeNode> newNodes = new LinkedHashMap<>();
+        collectNodes(oldTree, section, null, null, oldNodes);
+        collectNodes(newTree, section, null, null, newNodes);
+
+        Set<String> removedKeys = new HashSet<>();
+        List<TreeNode> removed = new ArrayList<>();
+        for (Map.Entry<String, TreeNode> entry : oldNodes.entrySet()) {
+            if (!newNodes.containsKey(entry.getKey())) {
+                removedKeys.add(entry.getKey());
+                if (!removedKeys.contains(entry.getValue().getParentKey())) {
+                    removed.add(entry.getValue());
+                }
+            }
+        }
+        Set<String> addedKeys = new HashSet<>();
+        List<TreeNode> added = new ArrayList<>();
+        List<DirectoryTreeChange> changed = new ArrayList<>();
+        for (Map.Entry<String, TreeNode> entry : newNodes.entrySet()) {
+            TreeNode node = entry.getValue();
+            TreeNode oldNode = oldNodes.get(entry.getKey());
+            if (oldNode == null) {
+                addedKeys.add(entry.getKey());
+                if (!addedKeys.contains(node.getParentKey())) {
+                    added.add(node);
+                }
+            } else if (!oldNode.value.equals(node.value)) {
+                changed.add(node.toChange(DirectoryTreeChange.Type.CHANGED, null));
+            }
+        }
+
+        List<DirectoryTreeChange> renamed = new ArrayList<>();
+        Iterator<TreeNode> addedNodes = added.iterator();
+        while (addedNodes.hasNext()) {
+            TreeNode node = addedNodes.next();
+            TreeNode oldNode = findRenamedNode(removed, node);
+            if (oldNode != null) {
+                removed.remove(oldNode);
+                addedNodes.remove();
+                renamed.add(node.toChange(DirectoryTreeChange.Type.RENAMED, oldNode.path));
+            }
+        }
+
+        List<DirectoryTreeChange> changes = new ArrayList<>();
+        for (TreeNode node : removed) {
+            changes.add(new DirectoryTreeChange(DirectoryTreeChange.Type.REMOVED, node.section, node.parentPath,
+                    node.path, null, null, null));
+        }
+        changes.addAll(renamed);
+        changes.addAll(changed);
+        for (TreeNode node : added) {
+            changes.add(node.toChange(DirectoryTreeChange.Type.ADDED, null));
+        }
+        return changes;
+    }
+
+    private static TreeNode findRenamedNode(List<TreeNode> removed, TreeNode node) {
+
+        for (TreeNode oldNode : removed) {
+            if (oldNode.section.equals(node.section) && Objects.equals(oldNode.parentPath, node.parentPath) &&
+                    withoutIdentity(oldNode.value).equals(withoutIdentity(node.value))) {
+                return oldNode;
+            }
+        }
+        return null;
+    }
+
+    private static void collectNodes(JsonElement element, String section, String parentPath, Integer index,
+                                     Map<String, TreeNode> nodes) {
+
+        if (element == null) {
+            return;
+        }
+        if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            String path = getPath(object);
+            if (path != null) {
+                TreeNode node = new TreeNode(section, parentPath, path, index, object);
+                nodes.put(node.getKey(), node);
+                collectNodes(object.get(FILES), getSection(section, FILES), path, null, nodes);
+                collectNodes(object.get(FOLDERS), getSection(section, FOLDERS), path, null, nodes);
+            } else {
+                for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                    collectNodes(member.getValue(), getSection(section, member.getKey()), parentPath, null, nodes);
+                }
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) {
+                collectNodes(array.get(i), section, parentPath, i, nodes);
+            }
+        }
+    }
+
+    private static String getSection(String section, String member) {
+
+        return section.isEmpty() ? member : section + SEPARATOR + member;
+    }
+
+    private static String getPath(JsonObject object) {
+
+        JsonElement path = object.get(PATH);
+        if (path != null && path.isJsonPrimitive()) {
+            return path.getAsString();
+        }
+        return null;
+    }
+
+    private static JsonObject withoutIdentity(JsonObject value) {
+
+        JsonObject copy = value.deepCopy();
+        copy.remove(PATH);
+        copy.remove(NAME);
+        return copy;
+    }
+
+    private static final class TreeNode {
+
+        private final String section;
+        private final String parentPath;
+        private final String path;
+        private final Integer index;
+        private final JsonObject node;
+        // The node without its children, which is compared to find the changed nodes
+        private final JsonObject value;
+
+        TreeNode(String section, String parentPath, String path, Integer index, JsonObject node) {
+
+            this.section = section;
+            this.parentPath = parentPath;
+            this.path = path;
+            this.index = index;
+            this.node = node;
+            this.value = new JsonObject();
+            for (Map.Entry<String, JsonElement> member : node.entrySet()) {
+                if (!FILES.equals(member.getKey()) && !FOLDERS.equals(member.getKey())) {
+                    value.add(member.getKey(), member.getValue());
+                }
+            }
+        }
+
+        String getKey() {
+
+            return section + '\n' + path;
+        }
+
+        String getParentKey() {
+
+            if (parentPath == null) {
+                return null;
+            }
+            return section.substring(0, section.lastIndexOf(SEPARATOR)) + '\n' + parentPath;
+        }
+
+        DirectoryTreeChange toChange(DirectoryTreeChange.Type type, String oldPath) {
+
+            return new DirectoryTreeChange(type, section, parentPath, path, oldPath, index, node.deepCopy());
+        }
+    }
+}
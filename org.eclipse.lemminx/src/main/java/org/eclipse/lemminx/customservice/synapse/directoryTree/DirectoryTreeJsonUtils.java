@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+/**
+ * Null safe accessors for the JSON form of the directory trees.
+ */
+final class DirectoryTreeJsonUtils {
+
+    private DirectoryTreeJsonUtils() {
+
+    }
+
+    static JsonElement getMember(JsonElement element, String name) {
+
+        if (element != null && element.isJsonObject()) {
+            JsonElement member = element.getAsJsonObject().get(name);
+            if (member != null) {
+                return member;
+            }
+        }
+        return JsonNull.INSTANCE;
+    }
+
+    static JsonArray getItems(JsonElement element) {
+
+        return element.isJsonArray() ? element.getAsJsonArray() : new JsonArray();
+    }
+
+    static String getText(JsonElement element) {
+
+        return element.isJsonPrimitive() ? element.getAsString() : "";
+    }
+}
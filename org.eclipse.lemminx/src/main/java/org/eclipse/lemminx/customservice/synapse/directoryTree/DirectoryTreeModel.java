@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonElement;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.utils.DirectoryTreeUtils;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.WorkspaceFolder;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The directory tree of a project kept by the server. The tree is built once and then updated with the changed files
+ * of the project, where only the parts of the tree holding the changed files are rebuilt. The node changes of each
+ * update are returned, so that they can be sent to the client instead of the whole tree. The project explorer model
+ * is derived from the kept tree, hence it does not walk the project folder again. The tree depends on the events of
+ * the project folders watched by the server, see XMLCapabilityManager#registerWatchedFiles.
+ */
+public class DirectoryTreeModel {
+
+    private static final Logger LOGGER = Logger.getLogger(DirectoryTreeModel.class.getName());
+    private static final String POM_FILE = "pom.xml";
+
+    private final WorkspaceFolder projectFolder;
+    private final Path projectPath;
+    private JsonElement directoryMap;
+    // The project explorer model last given to the client, which is null until it is requested
+    private JsonElement projectExplorer;
+    private boolean isIntegrationProject;
+    private boolean isBuilt;
+
+    public DirectoryTreeModel(WorkspaceFolder projectFolder) {
+
+        this.projectFolder = projectFolder;
+        String path = DirectoryTreeBuilder.getProjectPath(projectFolder);
+        this.projectPath = path != null ? Path.of(path).normalize() : null;
+    }
+
+    /**
+     * @return the uri of the project folder
+     */
+    public String getProjectUri() {
+
+        return projectFolder.getUri();
+    }
+
+    /**
+     * Get the directory tree of the project, which is built on the first call.
+     *
+     * @return a copy of the directory tree
+     */
+    public synchronized DirectoryMapResponse getDirectoryTree() {
+
+        if (!isBuilt) {
+            build();
+        }
+        return new DirectoryMapResponse(directoryMap != null ? directoryMap.deepCopy() : null);
+    }
+
+    /**
+     * Get the project explorer model of the project, which is built from the directory tree of the project.
+     *
+     * @return a copy of the project explorer model, or null if the project is not an integration project
+     */
+    public synchronized DirectoryMapResponse getProjectExplorerModel() {
+
+        if (!isBuilt) {
+            build();
+        }
+        projectExplorer = buildProjectExplorer();
+        return projectExplorer != null ? new DirectoryMapResponse(projectExplorer.deepCopy()) : null;
+    }
+
+    /**
+     * Update the project explorer model with the current directory tree, e.g. once the tree has been updated with the
+     * changed files. The model is not updated before it has been requested once.
+     *
+     * @return the changes of the nodes of the project explorer model
+     */
+    public synchronized List<DirectoryTreeChange> updateProjectExplorer() {
+
+        if (projectExplorer == null) {
+            return Collections.emptyList();
+        }
+        JsonElement oldProjectExplorer = projectExplorer;
+        projectExplorer = buildProjectExplorer();
+        return DirectoryTreeDiff.diff(oldProjectExplorer, projectExplorer, "");
+    }
+
+    /**
+     * Update the directory tree with the given changed files. Files outside the project and files which are not
+     * shown in the tree are ignored. The tree is not updated before it has been requested once.
+     *
+     * @param fileUris the uris of the created, changed and deleted files
+     * @return the changes of the nodes of the tree
+     */
+    public synchronized List<DirectoryTreeChange> update(List<String> fileUris) {
+
+        if (!isBuilt || projectPath == null) {
+            return Collections.emptyList();
+        }
+        Set<DirectoryTreeBuilder.TreePart> changedParts = EnumSet.noneOf(DirectoryTreeBuilder.TreePart.class);
+        boolean isRebuildRequired = false;
+        for (String fileUri : fileUris) {
+            Path file = getPath(fileUri);
+            if (file == null || !file.startsWith(projectPath)) {
+                continue;
+            }
+            if (!isIntegrationProject || file.equals(projectPath.resolve(POM_FILE))) {
+                isRebuildRequired = true;
+                break;
+            }
+            DirectoryTreeBuilder.TreePart part = getPart(file);
+            if (part != null) {
+                changedParts.add(part);
+            } else if (isAncestorOfPart(file)) {
+                // A folder holding whole parts of the tree, e.g. src, was changed
+                isRebuildRequired = true;
+                break;
+            }
+        }
+        if (isRebuildRequired) {
+            return rebuild();
+        }
+        List<DirectoryTreeChange> changes = new ArrayList<>();
+        for (DirectoryTreeBuilder.TreePart part : changedParts) {
+            JsonElement newPart = DirectoryTreeBuilder.buildTreePart(projectPath.toString(), part);
+            JsonElement oldPart = part.get(directoryMap);
+            if (!part.set(directoryMap, newPart)) {
+                return rebuild();
+            }
+            changes.addAll(DirectoryTreeDiff.diff(oldPart, newPart, part.getSection()));
+        }
+        return changes;
+    }
+
+    private void build() {
+
+        directoryMap = DirectoryTreeBuilder.buildDirectoryTree(projectFolder).getDirectoryMap();
+        isIntegrationProject = projectPath != null && !DirectoryTreeUtils.isLegacyProject(projectFolder) &&
+                Constant.INTEGRATION_PROJECT.equalsIgnoreCase(DirectoryTreeUtils.getProjectType(
+                        projectPath.toString())) && directoryMap != null && directoryMap.isJsonObject();
+        isBuilt = true;
+    }
+
+    private List<DirectoryTreeChange> rebuild() {
+
+        JsonElement oldTree = directoryMap;
+        build();
+        return DirectoryTreeDiff.diff(oldTree, directoryMap, "");
+    }
+
+    private JsonElement buildProjectExplorer() {
+
+        if (directoryMap == null) {
+            LOGGER.log(Level.SEVERE, "Error occurred while building directory tree.");
+            return null;
+        }
+        return ProjectExplorerBuilder.build(directoryMap.deepCopy());
+    }
+
+    private DirectoryTreeBuilder.TreePart getPart(Path file) {
+
+        for (DirectoryTreeBuilder.TreePart part : DirectoryTreeBuilder.TreePart.values()) {
+            if (file.startsWith(part.getFolder(projectPath))) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAncestorOfPart(Path file) {
+
+        for (DirectoryTreeBuilder.TreePart part : DirectoryTreeBuilder.TreePart.values()) {
+            if (part.getFolder(projectPath).startsWith(file)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path getPath(String fileUri) {
+
+        try {
+            return Path.of(Utils.getAbsolutePath(fileUri)).normalize();
+        } catch (InvalidPathException e) {
+            LOGGER.log(Level.FINE, "Invalid path for the changed file: " + fileUri, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getItems;
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getMember;
+import static org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeJsonUtils.getText;
+
+/**
+ * Builds the project explorer model from the JSON form of the directory tree of an integration project, where the
+ * artifacts are grouped into the sections shown in the project explorer.
+ */
+public final class ProjectExplorerBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectExplorerBuilder.class.getName());
+    private static final String MAIN = "main";
+    private static final String WSO2MI = "wso2mi";
+    private static final String JAVA = "java";
+
+    private ProjectExplorerBuilder() {
+
+    }
+
+    /**
+     * Build the project explorer model from the given directory tree. The directory tree is restructured in place,
+     * hence a copy has to be given if the tree is used elsewhere.
+     *
+     * @param root the directory tree
+     * @return the project explorer model, or null if the tree is not the tree of an integration project
+     */
+    public static JsonElement build(JsonElement root) {
+
+        removeGitkeepFiles(root);
+        JsonElement main = getMember(getMember(root, Constant.SRC), MAIN);
+        JsonElement wso2mi = getMember(main, WSO2MI);
+        if (!wso2mi.isJsonObject()) {
+            LOGGER.log(Level.SEVERE, "Error occurred while building the project explorer directory tree.");
+            return null;
+        }
+        JsonElement artifacts = getMember(wso2mi, Constant.ARTIFACTS);
+        JsonElement resources = getMember(wso2mi, Constant.RESOURCES);
+        JsonObject newArtifacts = new JsonObject();
+
+        newArtifacts.add("APIs", getMember(artifacts, Constant.APIS));
+        newArtifacts.add("Event Integrations", getMember(artifacts, Constant.INBOUNDENDPOINTS));
+        newArtifacts.add("Automations", getMember(artifacts, Constant.TASKS));
+        newArtifacts.add("Data Services", getMember(artifacts, Constant.DATA_SERVICES));
+
+        JsonObject otherArtifacts = new JsonObject();
+        newArtifacts.add("Other Artifacts", otherArtifacts);
+        otherArtifacts.add("Sequences", getMember(artifacts, Constant.SEQUENCES));
+        otherArtifacts.add("Connections", getMember(artifacts, Constant.CONNECTIONS));
+        otherArtifacts.add("Data Sources", getMember(artifacts, Constant.DATA_SOURCES));
+
+        JsonArray classMediatorArray = new JsonArray();
+        JsonElement mediatorFolders = getMember(getMember(main, JAVA), Constant.FOLDERS);
+        collectFolderFiles(mediatorFolders, classMediatorArray);
+        otherArtifacts.add("Class Mediators", classMediatorArray);
+
+        JsonArray ballerinaModulesArray = new JsonArray();
+        JsonElement moduleFolders = getMember(getMember(main, Constant.BALLERINA), Constant.FOLDERS);
+        collectFolderFiles(moduleFolders, ballerinaModulesArray);
+        otherArtifacts.add("Ballerina Modules", ballerinaModulesArray);
+
+        otherArtifacts.add("Endpoints", getMember(artifacts, Constant.ENDPOINTS));
+        otherArtifacts.add("Proxy Services", getMember(artifacts, Constant.PROXYSERVICES));
+        otherArtifacts.add("Message Stores", getMember(artifacts, Constant.MESSAGE_STORES));
+        otherArtifacts.add("Message Processors", getMember(artifacts, Constant.MESSAGE_PROCESSORS));
+        otherArtifacts.add("Local Entries", getMember(artifacts, Constant.LOCALENTRIES));
+        otherArtifacts.add("Templates", getMember(artifacts, Constant.TEMPLATES));
+
+        JsonElement registryFolders = getMember(getMember(getMember(resources, Constant.REGISTRY), Constant.GOV),
+                Constant.FOLDERS);
+        JsonElement newResources = getMember(resources, Constant.NEW_RESOURCES);
+        JsonElement newResourcesFolders = getMember(newResources, Constant.FOLDERS);
+        newArtifacts.add("Resources", newResources);
+        otherArtifacts.add("Data Mappers", getDataMapperConfigs(registryFolders, newResourcesFolders));
+
+        wso2mi.getAsJsonObject().add(Constant.ARTIFACTS, newArtifacts);
+        return root;
+    }
+
+    /**
+     * Recursively removes .gitkeep files from the JSON element tree structure.
+     * This method traverses both object and array elements, identifying and removing
+     * any elements that represent .gitkeep files.
+     *
+     * @param element the JSON element to process
+     */
+    private static void removeGitkeepFiles(JsonElement element) {
+
+        if (element.isJsonObject()) {
+            Iterator<Map.Entry<String, JsonElement>> members = element.getAsJsonObject().entrySet().iterator();
+            while (members.hasNext()) {
+                JsonElement child = members.next().getValue();
+                if (isGitkeepFile(child)) {
+                    members.remove();
+                } else {
+                    removeGitkeepFiles(child);
+                }
+            }
+        } else if (element.isJsonArray()) {
+            Iterator<JsonElement> items = element.getAsJsonArray().iterator();
+            while (items.hasNext()) {
+                JsonElement child = items.next();
+                if (isGitkeepFile(child)) {
+                    items.remove();
+                } else {
+                    removeGitkeepFiles(child);
+                }
+            }
+        }
+    }
+
+    private static boolean isGitkeepFile(JsonElement element) {
+
+        return element.isJsonObject() && Constant.GITKEEP.equals(getText(getMember(element, Constant.NAME)));
+    }
+
+    private static JsonArray getDataMapperConfigs(JsonElement registryFolders, JsonElement newResourcesFolders) {
+
+        JsonArray dataMappers = new JsonArray();
+        addDataMapperFolders(newResourcesFolders, dataMappers);
+        addDataMapperFolders(registryFolders, dataMappers);
+        return dataMappers;
+    }
+
+    private static void addDataMapperFolders(JsonElement resourceFolders, JsonArray dataMappers) {
+
+        for (JsonElement resourceFolder : getItems(resourceFolders)) {
+            if (Constant.DATA_MAPPER.equals(getText(getMember(resourceFolder, Constant.NAME)))) {
+                dataMappers.addAll(getItems(getMember(resourceFolder, Constant.FOLDERS)));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Collects the files of the given folders and of their sub folders, e.g. the class mediators of the java folders.
+     *
+     * @param folders the folders to traverse
+     * @param files   the array to add the files to
+     */
+    private static void collectFolderFiles(JsonElement folders, JsonArray files) {
+
+        for (JsonElement folder : getItems(folders)) {
+            files.addAll(getItems(getMember(folder, Constant.FILES)));
+            collectFolderFiles(getMember(folder, Constant.FOLDERS), files);
+        }
+    }
+}
@@ -16,14 +16,15 @@ package org.eclipse.lemminx.customservice.synapse.dynamic.db;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
 
 public class DatabaseService {
     private static final Logger LOGGER = Logger.getLogger(DatabaseService.class.getName());
@@ -39,47 +40,40 @@ public class DatabaseService {
 
     /**
      * Retrieves the columns of a specified table from the database and returns them as a list of DynamicField objects.
-     * @param connectionUrl
-     * @param username
-     * @param password
+     * @param connection
      * @param table
      * @param fieldName
      * @param markNull
      * @return List<DynamicField> containing the columns of the table.
      */
-    public List<DynamicField> getTableColumns(String connectionUrl, String username, String password, String table,
-            String fieldName, boolean markNull) {
+    public List<DynamicField> getTableColumns(Connection connection, String table, String fieldName,
+            boolean markNull) {
         List<DynamicField> fields = new ArrayList<>();
 
-        try (Connection conn = DriverManager.getConnection(connectionUrl, username, password)) {
-            DatabaseMetaData metaData = conn.getMetaData();
+        try {
+            List<Column> columns = DBConnectionPool.getMetadata(connection, "tableColumns", table,
+                    pooledConnection -> readTableColumns(pooledConnection, table));
+            for (Column column : columns) {
+                DynamicField field = new DynamicField();
+                DynamicFieldValue value = new DynamicFieldValue();
 
-            try (ResultSet columns = metaData.getColumns(null, null, table, null)) {
-                while (columns.next()) {
-                    DynamicField field = new DynamicField();
-                    DynamicFieldValue value = new DynamicFieldValue();
+                String inputType = mapSqlTypeToInputType(column.dataType);
+                String xmlSafeColumnName = toXmlSafeName(column.name);
 
-                    String columnName = columns.getString(COLUMN_NAME_COLUMN);
-                    String dataType = columns.getString(TYPE_NAME_COLUMN);
-                    String inputType = mapSqlTypeToInputType(dataType);
-                    String xmlSafeColumnName = toXmlSafeName(columnName);
+                field.setType(FIELD_TYPE_ATTRIBUTE);
+                value.setName(DYN_PARAM_PREFIX + fieldName + "_" + column.dataType + "_" + xmlSafeColumnName);
+                value.setDisplayName(column.name);
+                value.setInputType(inputType);
 
-                    field.setType(FIELD_TYPE_ATTRIBUTE);
-                    value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeColumnName);
-                    value.setDisplayName(columnName);
-                    value.setInputType(inputType);
+                // Determine if the column is required
+                value.setRequired(markNull && column.required ? BOOLEAN_TRUE : BOOLEAN_FALSE);
 
-                    // Determine if the column is required
-                    boolean isRequiredBasedOnDb = columns.getString(IS_NULLABLE_COLUMN).equals(NULLABLE_NO);
-                    value.setRequired(markNull && isRequiredBasedOnDb ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+                value.setHelpTip("Column type: " + column.dataType);
+                value.setPlaceholder("Enter " + column.name);
+                value.setDefaultValue(StringUtils.EMPTY);
 
-                    value.setHelpTip("Column type: " + dataType);
-                    value.setPlaceholder("Enter " + columnName);
-                    value.setDefaultValue(StringUtils.EMPTY);
-
-                    field.setValue(value);
-                    fields.add(field);
-                }
+                field.setValue(value);
+                fields.add(field);
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error getting table columns for table: " + table, e);
@@ -91,50 +85,37 @@ public class DatabaseService {
     /**
      * Retrieves the parameters of a specified stored procedure from the database and returns them as a list of
      * DynamicField objects.
-     * @param connectionUrl
-     * @param username
-     * @param password
+     * @param connection
      * @param procedureName
      * @param fieldName
      * @return List<DynamicField> containing the parameters of the stored procedure.
      */
-    public List<DynamicField> getStoredProcedureParameters(String connectionUrl, String username, String password,
-            String procedureName, String fieldName) {
+    public List<DynamicField> getStoredProcedureParameters(Connection connection, String procedureName,
+            String fieldName) {
         List<DynamicField> fields = new ArrayList<>();
 
-        try (Connection conn = DriverManager.getConnection(connectionUrl, username, password)) {
-            DatabaseMetaData metaData = conn.getMetaData();
-
-            try (ResultSet parameters = metaData.getProcedureColumns(null, null, procedureName, null)) {
-                while (parameters.next()) {
-                    // Skip return value parameter if present (often the first one without a name)
-                    String parameterName = parameters.getString(COLUMN_NAME_COLUMN);
-                    if (StringUtils.isEmpty(parameterName)) {
-                        continue;
-                    }
-
-                    DynamicField field = new DynamicField();
-                    DynamicFieldValue value = new DynamicFieldValue();
-
-                    String dataType = parameters.getString(TYPE_NAME_COLUMN);
-                    String inputType = mapSqlTypeToInputType(dataType);
-                    String xmlSafeParameterName = toXmlSafeName(parameterName);
-
-                    field.setType(FIELD_TYPE_ATTRIBUTE);
-                    value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeParameterName);
-                    value.setDisplayName(parameterName);
-                    value.setInputType(inputType);
-
-                    value.setRequired(
-                            parameters.getInt("COLUMN_TYPE") == DatabaseMetaData.procedureColumnIn ? BOOLEAN_TRUE
-                                    : BOOLEAN_FALSE);
-                    value.setHelpTip("Parameter type: " + dataType);
-                    value.setPlaceholder("Enter " + parameterName);
-                    value.setDefaultValue(StringUtils.EMPTY);
-
-                    field.setValue(value);
-                    fields.add(field);
-                }
+        try {
+            List<Column> parameters = DBConnectionPool.getMetadata(connection, "procedureColumns", procedureName,
+                    pooledConnection -> readStoredProcedureParameters(pooledConnection, procedureName));
+            for (Column parameter : parameters) {
+                DynamicField field = new DynamicField();
+                DynamicFieldValue value = new DynamicFieldValue();
+
+                String inputType = mapSqlTypeToInputType(parameter.dataType);
+                String xmlSafeParameterName = toXmlSafeName(parameter.name);
+
+                field.setType(FIELD_TYPE_ATTRIBUTE);
+                value.setName(DYN_PARAM_PREFIX + fieldName + "_" + parameter.dataType + "_" + xmlSafeParameterName);
+                value.setDisplayName(parameter.name);
+                value.setInputType(inputType);
+
+                value.setRequired(parameter.required ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+                value.setHelpTip("Parameter type: " + parameter.dataType);
+                value.setPlaceholder("Enter " + parameter.name);
+                value.setDefaultValue(StringUtils.EMPTY);
+
+                field.setValue(value);
+                fields.add(field);
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error getting stored procedure parameters for procedure: " + procedureName, e);
@@ -143,6 +124,36 @@ public class DatabaseService {
         return fields;
     }
 
+    private static List<Column> readTableColumns(Connection connection, String table) throws SQLException {
+        List<Column> columns = new ArrayList<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getColumns(null, null, table, null)) {
+            while (rs.next()) {
+                columns.add(new Column(rs.getString(COLUMN_NAME_COLUMN), rs.getString(TYPE_NAME_COLUMN),
+                        NULLABLE_NO.equals(rs.getString(IS_NULLABLE_COLUMN))));
+            }
+        }
+        return Collections.unmodifiableList(columns);
+    }
+
+    private static List<Column> readStoredProcedureParameters(Connection connection, String procedureName)
+            throws SQLException {
+        List<Column> parameters = new ArrayList<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getProcedureColumns(null, null, procedureName, null)) {
+            while (rs.next()) {
+                // Skip return value parameter if present (often the first one without a name)
+                String parameterName = rs.getString(COLUMN_NAME_COLUMN);
+                if (StringUtils.isEmpty(parameterName)) {
+                    continue;
+                }
+                parameters.add(new Column(parameterName, rs.getString(TYPE_NAME_COLUMN),
+                        rs.getInt("COLUMN_TYPE") == DatabaseMetaData.procedureColumnIn));
+            }
+        }
+        return Collections.unmodifiableList(parameters);
+    }
+
     /**
      * Converts a database identifier (column/parameter name) to a safe
      * string suitable for XML tag names.
@@ -174,4 +185,19 @@ public class DatabaseService {
                 return "stringOrExpression";
         }
     }
+
+    /**
+     * A column of a table or a parameter of a stored procedure, as read from the database metadata.
+     */
+    private static final class Column {
+        private final String name;
+        private final String dataType;
+        private final boolean required;
+
+        Column(String name, String dataType, boolean required) {
+            this.name = name;
+            this.dataType = dataType;
+            this.required = required;
+        }
+    }
 }
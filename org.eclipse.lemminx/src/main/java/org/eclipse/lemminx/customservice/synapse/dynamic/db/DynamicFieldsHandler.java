@@ -16,10 +16,10 @@ package org.eclipse.lemminx.customservice.synapse.dynamic.db;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +28,7 @@ import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.dataService.QueryGenRequestParams;
-import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTester;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
 
 public class DynamicFieldsHandler {
     private final DatabaseService databaseService;
@@ -82,8 +82,7 @@ public class DynamicFieldsHandler {
                 return response;
             }
 
-            try {
-                Connection connection = DBConnectionTester.getConnection(url, username, password, className);
+            try (Connection connection = DBConnectionPool.getConnection(url, username, password, className)) {
 
                 if (connection == null) {
                     log.log(Level.SEVERE, "Failed to establish database connection.");
@@ -100,13 +99,13 @@ public class DynamicFieldsHandler {
                         case OP_INSERT:
                         case OP_EXECUTE_QUERY:
                             boolean markNull = !(OP_SELECT.equals(operationName) || OP_DELETE.equals(operationName));
-                            dynamicData = databaseService.getTableColumns(url, username, password, selectedValue,
-                                    fieldName, markNull);
+                            dynamicData = databaseService.getTableColumns(connection, selectedValue, fieldName,
+                                    markNull);
                             break;
                         case OP_CALL:
                         case OP_STORED_PROCEDURE:
-                            dynamicData = databaseService.getStoredProcedureParameters(url, username, password,
-                                    selectedValue, fieldName);
+                            dynamicData = databaseService.getStoredProcedureParameters(connection, selectedValue,
+                                    fieldName);
                             break;
                         default:
                             log.log(Level.INFO, "Operation not supported for dynamic fields: " + operationName);
@@ -149,14 +148,14 @@ public class DynamicFieldsHandler {
         String password = requestParams.getPassword();
 
         if (url != null && username != null && password != null) {
-            try (Connection conn = DriverManager.getConnection(url, username, password)) {
-                DatabaseMetaData metaData = conn.getMetaData();
-                try (ResultSet rs = metaData.getProcedures(null, null, null)) {
-                    while (rs.next()) {
-                        String procedureName = rs.getString("PROCEDURE_NAME");
-                        procedures.add(procedureName);
-                    }
+            try (Connection conn = DBConnectionPool.getConnection(url, username, password,
+                    requestParams.getClassName())) {
+                if (conn == null) {
+                    log.log(Level.SEVERE, "Failed to establish connection for retrieving stored procedures.");
+                    return procedures;
                 }
+                procedures.addAll(DBConnectionPool.getMetadata(conn, "procedures", StringUtils.EMPTY,
+                        DynamicFieldsHandler::readStoredProcedures));
             } catch (SQLException e) {
                 log.log(Level.SEVERE, "Error retrieving stored procedures", e);
             } catch (Exception e) {
@@ -168,6 +167,18 @@ public class DynamicFieldsHandler {
         return procedures;
     }
 
+    private static List<String> readStoredProcedures(Connection connection) throws SQLException {
+        List<String> procedures = new ArrayList<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getProcedures(null, null, null)) {
+            while (rs.next()) {
+                String procedureName = rs.getString("PROCEDURE_NAME");
+                procedures.add(procedureName);
+            }
+        }
+        return Collections.unmodifiableList(procedures);
+    }
+
     /**
      * Retrieves the value of a specific parameter from the request.
      * 
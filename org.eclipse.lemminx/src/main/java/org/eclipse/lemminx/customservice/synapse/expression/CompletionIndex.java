@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Sorted index of completion candidates which supports prefix, camel case and fuzzy matching of the filter text.
+ * <p>
+ * Candidates are kept sorted by their lower case label so that prefix matches are found with a binary search. Camel
+ * case and fuzzy matches must start with the first character of the filter text, hence only the range of candidates
+ * sharing that first character is scanned for them.
+ *
+ * @param <T> type of the indexed items
+ */
+public class CompletionIndex<T> {
+
+    /**
+     * Match ranks, in the order the matches are returned.
+     */
+    public static final int EXACT_PREFIX = 0;
+    public static final int PREFIX = 1;
+    public static final int CAMEL_CASE = 2;
+    public static final int FUZZY = 3;
+    public static final int NO_MATCH = -1;
+
+    private final List<T> items;
+    private final Entry<T>[] entries;
+
+    @SuppressWarnings("unchecked")
+    public CompletionIndex(Collection<T> items, Function<T, String> labelProvider) {
+
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.entries = new Entry[this.items.size()];
+        int i = 0;
+        for (T item : this.items) {
+            entries[i++] = new Entry<>(labelProvider.apply(item), item);
+        }
+        Arrays.sort(entries, Comparator.comparing(entry -> entry.lowerCaseLabel));
+    }
+
+    /**
+     * Find the items matching the given filter text, ordered by the match rank.
+     *
+     * @param filter the filter text
+     * @return the matching items
+     */
+    public List<T> find(String filter) {
+
+        if (filter == null || filter.isEmpty()) {
+            return items;
+        }
+        String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+        int start = lowerBound(lowerCaseFilter.substring(0, 1));
+        int end = lowerBound(lowerCaseFilter.substring(0, 1) + Character.MAX_VALUE);
+        List<List<T>> ranked = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (int i = start; i < end; i++) {
+            int rank = rank(entries[i].label, entries[i].lowerCaseLabel, filter, lowerCaseFilter);
+            if (rank != NO_MATCH) {
+                ranked.get(rank).add(entries[i].item);
+            }
+        }
+        List<T> result = new ArrayList<>();
+        ranked.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Filter the given labels with the filter text, ordered by the match rank and keeping the order of the labels
+     * within a rank.
+     * <p>
+     * This is a linear scan meant for labels collected per request, e.g. payload keys. Constant candidate lists
+     * should be kept in an index instead.
+     *
+     * @param labels the labels to filter
+     * @param filter the filter text
+     * @return the matching labels
+     */
+    public static List<String> filter(List<String> labels, String filter) {
+
+        if (filter == null || filter.isEmpty()) {
+            return labels;
+        }
+        String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+        List<List<String>> ranked =
+                List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (String label : labels) {
+            String lowerCaseLabel = label.toLowerCase(Locale.ROOT);
+            if (lowerCaseLabel.isEmpty() || lowerCaseLabel.charAt(0) != lowerCaseFilter.charAt(0)) {
+                continue;
+            }
+            int rank = rank(label, lowerCaseLabel, filter, lowerCaseFilter);
+            if (rank != NO_MATCH) {
+                ranked.get(rank).add(label);
+            }
+        }
+        List<String> result = new ArrayList<>();
+        ranked.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Rank the match of the filter text against the given label.
+     *
+     * @param label  the candidate label
+     * @param filter the filter text
+     * @return the match rank or {@link #NO_MATCH}
+     */
+    public static int rank(String label, String filter) {
+
+        if (filter == null || filter.isEmpty()) {
+            return EXACT_PREFIX;
+        }
+        String lowerCaseLabel = label.toLowerCase(Locale.ROOT);
+        String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+        if (lowerCaseLabel.isEmpty() || lowerCaseLabel.charAt(0) != lowerCaseFilter.charAt(0)) {
+            return NO_MATCH;
+        }
+        return rank(label, lowerCaseLabel, filter, lowerCaseFilter);
+    }
+
+    private static int rank(String label, String lowerCaseLabel, String filter, String lowerCaseFilter) {
+
+        if (label.startsWith(filter)) {
+            return EXACT_PREFIX;
+        }
+        if (lowerCaseLabel.startsWith(lowerCaseFilter)) {
+            return PREFIX;
+        }
+        if (matchesCamelCase(label, 0, filter, 0)) {
+            return CAMEL_CASE;
+        }
+        if (isSubsequence(lowerCaseLabel, lowerCaseFilter)) {
+            return FUZZY;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Checks whether the filter matches the word starts of the label, e.g. "fDT" or "fdt" matches
+     * "formatDateTime" and "b64e" matches "base64encode".
+     */
+    private static boolean matchesCamelCase(String label, int labelIndex, String filter, int filterIndex) {
+
+        if (filterIndex == filter.length()) {
+            return true;
+        }
+        if (labelIndex == label.length()) {
+            return false;
+        }
+        char filterChar = Character.toLowerCase(filter.charAt(filterIndex));
+        // Continue within the current word
+        if (Character.toLowerCase(label.charAt(labelIndex)) == filterChar &&
+                matchesCamelCase(label, labelIndex + 1, filter, filterIndex + 1)) {
+            return true;
+        }
+        // Or jump to the start of a following word
+        for (int i = labelIndex + 1; i < label.length(); i++) {
+            if (isWordStart(label, i) && Character.toLowerCase(label.charAt(i)) == filterChar &&
+                    matchesCamelCase(label, i + 1, filter, filterIndex + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(String label, int index) {
+
+        char current = label.charAt(index);
+        char previous = label.charAt(index - 1);
+        return Character.isUpperCase(current) && !Character.isUpperCase(previous) ||
+                Character.isDigit(current) && !Character.isDigit(previous) ||
+                !Character.isLetterOrDigit(previous) && Character.isLetterOrDigit(current);
+    }
+
+    private static boolean isSubsequence(String label, String filter) {
+
+        int filterIndex = 0;
+        for (int i = 0; i < label.length() && filterIndex < filter.length(); i++) {
+            if (label.charAt(i) == filter.charAt(filterIndex)) {
+                filterIndex++;
+            }
+        }
+        return filterIndex == filter.length();
+    }
+
+    private int lowerBound(String key) {
+
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].lowerCaseLabel.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static class Entry<T> {
+
+        private final String label;
+        private final String lowerCaseLabel;
+        private final T item;
+
+        Entry(String label, T item) {
+
+            this.label = label;
+            this.lowerCaseLabel = label.toLowerCase(Locale.ROOT);
+            this.item = item;
+        }
+    }
+}
@@ -64,6 +64,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -74,6 +75,11 @@ public class ExpressionCompletionUtils {
     private static final String FUNCTIONS_JSON_PATH = "org/eclipse/lemminx/expression/functions.json";
     private static final Map<String, Functions> FUNCTIONS = new HashMap<>();
     private static final List<List<String>> OPERATOR_COMPLETIONS = new ArrayList<>();
+    private static final CompletionIndex<CompletionItem> ROOT_LEVEL_COMPLETIONS;
+    private static final CompletionIndex<String> ATTRIBUTE_SECOND_LEVEL_COMPLETIONS =
+            new CompletionIndex<>(ExpressionConstants.ATTRIBUTES_SECOND_LEVEL, Function.identity());
+    private static final CompletionIndex<String> PARAMS_SECOND_LEVEL_COMPLETIONS =
+            new CompletionIndex<>(ExpressionConstants.PARAMS_SECOND_LEVEL, Function.identity());
 
     static {
         try {
@@ -81,6 +87,10 @@ public class ExpressionCompletionUtils {
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to load function completions", e);
         }
+        List<CompletionItem> rootLevelItems = new ArrayList<>();
+        getRootLevelObjectCompletions(rootLevelItems);
+        getFunctionCompletions(rootLevelItems);
+        ROOT_LEVEL_COMPLETIONS = new CompletionIndex<>(rootLevelItems, CompletionItem::getLabel);
 
         OPERATOR_COMPLETIONS.add(List.of("+", "Addition"));
         OPERATOR_COMPLETIONS.add(List.of("-", "Subtraction"));
@@ -158,13 +168,8 @@ public class ExpressionCompletionUtils {
      */
     public static void addRootLevelCompletions(ICompletionResponse response, String filterText) {
 
-        List<CompletionItem> completionItems = new ArrayList<>();
-        getRootLevelObjectCompletions(completionItems);
-        getFunctionCompletions(completionItems);
-        for (CompletionItem item : completionItems) {
-            if (item.getLabel().startsWith(filterText)) {
-                response.addCompletionItem(item);
-            }
+        for (CompletionItem item : ROOT_LEVEL_COMPLETIONS.find(filterText)) {
+            response.addCompletionItem(item);
         }
     }
 
@@ -361,12 +366,10 @@ public class ExpressionCompletionUtils {
     public static void addAttributeSecondLevelCompletions(ICompletionRequest request, ICompletionResponse response,
                                                           String filterText) {
 
-        ExpressionConstants.ATTRIBUTES_SECOND_LEVEL.forEach(value -> {
-            if (value.startsWith(filterText)) {
-                addCompletionItem(request, response, value, value, "Attribute", CompletionItemKind.Keyword,
-                        0, Boolean.FALSE);
-            }
-        });
+        for (String value : ATTRIBUTE_SECOND_LEVEL_COMPLETIONS.find(filterText)) {
+            addCompletionItem(request, response, value, value, "Attribute", CompletionItemKind.Keyword,
+                    CompletionIndex.rank(value, filterText), Boolean.FALSE);
+        }
     }
 
     /**
@@ -379,12 +382,10 @@ public class ExpressionCompletionUtils {
     public static void addParamsSecondLevelCompletions(ICompletionRequest request, ICompletionResponse response,
                                                        String filterText) {
 
-        ExpressionConstants.PARAMS_SECOND_LEVEL.forEach(value -> {
-            if (value.startsWith(filterText)) {
-                addCompletionItem(request, response, value, value, "Params", CompletionItemKind.Keyword,
-                        0, Boolean.FALSE);
-            }
-        });
+        for (String value : PARAMS_SECOND_LEVEL_COMPLETIONS.find(filterText)) {
+            addCompletionItem(request, response, value, value, "Params", CompletionItemKind.Keyword,
+                    CompletionIndex.rank(value, filterText), Boolean.FALSE);
+        }
     }
 
     /**
@@ -429,7 +430,7 @@ public class ExpressionCompletionUtils {
     public static Position getMediatorPosition(String documentUri, Position position)
             throws BadLocationException, IOException {
 
-        return getMediatorPosition(Utils.getDOMDocument(new File(documentUri)), position);
+        return getMediatorPosition(MediatorContextCache.getInstance().getDocument(documentUri), position);
     }
 
     /**
@@ -14,7 +14,6 @@
 
 package org.eclipse.lemminx.customservice.synapse.expression;
 
-import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.commons.BadLocationException;
@@ -33,6 +32,7 @@ import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Properties
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionRequest;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionResponse;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -71,7 +71,7 @@ public class ExpressionCompletionsProvider {
             try {
                 DOMDocument document = null;
                 if (param.getDocumentUri() != null) {
-                    document = Utils.getDOMDocument(new File(param.getDocumentUri()));
+                    document = MediatorContextCache.getInstance().getDocument(param.getDocumentUri());
                 }
                 String expressionInput = param.getExpression() != null ? param.getExpression() : StringUtils.EMPTY;
                 String expression = EXPRESSION_PREFIX + expressionInput;
@@ -123,18 +123,60 @@ public class ExpressionCompletionsProvider {
             return null;
         }
         String projectPath = getProjectPath(request.getXMLDocument().getDocumentURI());
-        ServerLessTryoutHandler serverLessTryoutHandler = new ServerLessTryoutHandler(projectPath);
-
         String documentUri = Utils.getAbsolutePath(request.getXMLDocument().getDocumentURI());
-        String payload = ExpressionCompletionUtils.getInputPayload(projectPath, documentUri, request.getPosition());
+        Position position = request.getPosition();
+        Position mediatorPosition = getMediatorPosition(request.getXMLDocument(), position, isNewMediator);
+        MediatorTryoutInfo info = MediatorContextCache.getInstance().getTryoutInfo(projectPath, documentUri,
+                mediatorPosition, isNewMediator,
+                () -> computeMediatorProperties(projectPath, documentUri, position, isNewMediator));
+        List<Property> configs = ExpressionCompletionUtils.getConfigs(projectPath);
+        info.setInputConfigs(configs);
+        info.setOutputConfigs(configs);
+        return info;
+    }
+
+    /**
+     * Get the position of the mediator which has the requested position, so that the cached mediator context is
+     * reused while the cursor moves within the mediator.
+     *
+     * @param document      the document
+     * @param position      the requested position, e.g. the cursor position
+     * @param isNewMediator whether the position is an insertion point for a new mediator
+     * @return the position of the mediator, or the requested position for a new mediator
+     */
+    private static Position getMediatorPosition(DOMDocument document, Position position, boolean isNewMediator) {
+
+        if (isNewMediator) {
+            // The context of a new mediator depends on all the mediators preceding the insertion point
+            return position;
+        }
+        try {
+            Position mediatorPosition = ExpressionCompletionUtils.getMediatorPosition(document, position);
+            if (mediatorPosition == position) {
+                // The requested position is within a mediator, hence use the start of the mediator
+                DOMNode mediatorNode = document.findNodeAt(document.offsetAt(position));
+                return document.positionAt(mediatorNode.getStart());
+            }
+            return mediatorPosition != null ? mediatorPosition : position;
+        } catch (BadLocationException e) {
+            LOGGER.log(Level.FINE, "Error while getting the mediator position", e);
+            return position;
+        }
+    }
+
+    private static MediatorTryoutInfo computeMediatorProperties(String projectPath, String documentUri,
+                                                                Position position, boolean isNewMediator) {
+
+        ServerLessTryoutHandler serverLessTryoutHandler = new ServerLessTryoutHandler(projectPath);
+        String payload = ExpressionCompletionUtils.getInputPayload(projectPath, documentUri, position);
 
         // Add a dummy mediator if the current mediator is a new mediator
-        int line = request.getPosition().getLine();
-        int column = request.getPosition().getCharacter();
+        int line = position.getLine();
+        int column = position.getCharacter();
         Edit[] editArray = null;
         if (isNewMediator) {
-            Position position = new Position(line, column);
-            Edit edit = new Edit("<log />", new Range(position, position));
+            Position editPosition = new Position(line, column);
+            Edit edit = new Edit("<log />", new Range(editPosition, editPosition));
             editArray = new Edit[1];
             editArray[0] = edit;
             column++;
@@ -143,11 +185,7 @@ public class ExpressionCompletionsProvider {
         // Create a mediator tryout request and get the mediator properties
         MediatorTryoutRequest propertyRequest =
                 new MediatorTryoutRequest(documentUri, line, column, payload, editArray);
-        MediatorTryoutInfo info = serverLessTryoutHandler.handle(propertyRequest);
-        List<Property> configs = ExpressionCompletionUtils.getConfigs(projectPath);
-        info.setInputConfigs(configs);
-        info.setOutputConfigs(configs);
-        return info;
+        return serverLessTryoutHandler.handle(propertyRequest);
     }
 
     private static String getProjectPath(String documentURI) {
@@ -318,7 +356,7 @@ public class ExpressionCompletionsProvider {
         List<Property> properties = mediatorInfo.getVariables();
         List<String> itemValues = findItemValues(expressionSegments.subList(1, expressionSegments.size()), properties,
                 context.isNeedNext());
-        addCompletionItems(request, response, itemValues);
+        addCompletionItems(request, response, itemValues, context);
     }
 
     private static void handleAttributeCompletions(
@@ -337,7 +375,7 @@ public class ExpressionCompletionsProvider {
             List<Property> properties = getAttributeProperties(mediatorInfoProperties, expressionSegments.get(1));
             expressionSegments = expressionSegments.subList(2, expressionSegments.size());
             List<String> itemValues = findItemValues(expressionSegments, properties, context.isNeedNext());
-            addCompletionItems(request, response, itemValues);
+            addCompletionItems(request, response, itemValues, context);
         } else {
             ExpressionCompletionUtils.addAttributeSecondLevelCompletions(request, response, StringUtils.EMPTY);
         }
@@ -365,7 +403,7 @@ public class ExpressionCompletionsProvider {
         List<Property> properties = mediatorInfo.getHeaders();
         List<String> itemValues = findItemValues(expressionSegments.subList(1, expressionSegments.size()), properties,
                 context.isNeedNext());
-        addCompletionItems(request, response, itemValues);
+        addCompletionItems(request, response, itemValues, context);
     }
 
     private static void handleParamsCompletions(ICompletionRequest request, ICompletionResponse response,
@@ -380,7 +418,7 @@ public class ExpressionCompletionsProvider {
             List<Property> params = getParams(mediatorInfoParams, expressionSegments.get(1));
             List<String> itemValues = findItemValues(expressionSegments.subList(2, expressionSegments.size()), params,
                     context.isNeedNext());
-            addCompletionItems(request, response, itemValues);
+            addCompletionItems(request, response, itemValues, context);
         }
     }
 
@@ -405,17 +443,17 @@ public class ExpressionCompletionsProvider {
             ExpressionCompletionContext context) {
 
         JsonPrimitive payload = mediatorInfo.getPayload();
-        if (payload != null && Utils.isJSONObject(payload.getAsString())) {
-            JsonObject payloadJsonObject = Utils.getJsonObject(payload.getAsString());
+        if (payload != null) {
+            PayloadPathIndex payloadIndex = PayloadPathIndex.of(payload.getAsString());
             if (context.getSegment().size() == 1) {
                 if (context.isNeedNext()) {
-                    List<String> items = new ArrayList<>(payloadJsonObject.keySet());
-                    addCompletionItems(request, response, items);
+                    List<String> items = new ArrayList<>(payloadIndex.getKeys(Collections.emptyList()));
+                    addCompletionItems(request, response, items, context);
                 }
                 return;
             }
-            List<String> itemValues = traverseJsonObject(context.getSegment(), payloadJsonObject, context.isNeedNext());
-            addCompletionItems(request, response, itemValues);
+            List<String> itemValues = traverseJsonObject(context.getSegment(), payloadIndex, context.isNeedNext());
+            addCompletionItems(request, response, itemValues, context);
         }
     }
 
@@ -426,18 +464,21 @@ public class ExpressionCompletionsProvider {
         List<Property> properties = info.getConfigs();
         List<String> itemValues = findItemValues(expressionSegments.subList(1, expressionSegments.size()), properties,
                 context.isNeedNext());
-        addCompletionItems(request, response, itemValues);
+        addCompletionItems(request, response, itemValues, context);
     }
 
     private static void addCompletionItems(
             ICompletionRequest request,
             ICompletionResponse response,
-            List<String> itemValues) {
+            List<String> itemValues,
+            ExpressionCompletionContext context) {
 
+        String filterText = getFilterText(context);
         if (itemValues != null) {
             for (String item : itemValues) {
+                // Rank the matches of the filter text through the sort text of the items
                 ExpressionCompletionUtils.addCompletionItem(request, response, item, ExpressionConstants.OBJECT,
-                        CompletionItemKind.Value, 0, Boolean.FALSE);
+                        CompletionItemKind.Value, Math.max(CompletionIndex.rank(item, filterText), 0), Boolean.FALSE);
             }
         }
     }
@@ -475,20 +516,19 @@ public class ExpressionCompletionsProvider {
 
     private static List<String> traverseJsonObject(List<String> expressionSegments, String value, boolean needNext) {
 
-        if (!StringUtils.isEmpty(value) && Utils.isJSONObject(value)) {
-            JsonObject jsonObject = Utils.getJsonObject(value);
-            return traverseJsonObject(expressionSegments, jsonObject, needNext);
+        if (!StringUtils.isEmpty(value)) {
+            return traverseJsonObject(expressionSegments, PayloadPathIndex.of(value), needNext);
         }
         return Collections.emptyList();
     }
 
-    private static List<String> traverseJsonObject(List<String> expressionSegments, JsonObject jsonObject,
+    private static List<String> traverseJsonObject(List<String> expressionSegments, PayloadPathIndex payloadIndex,
                                                    boolean needNext) {
 
-        if (expressionSegments.isEmpty() || jsonObject == null) {
+        if (expressionSegments.isEmpty() || payloadIndex.isEmpty()) {
             return Collections.emptyList();
         }
-        JsonObject currentObject = jsonObject;
+        List<String> path = new ArrayList<>();
         String filterText = StringUtils.EMPTY;
 
         for (int i = 1; i < expressionSegments.size(); i++) {
@@ -496,29 +536,26 @@ public class ExpressionCompletionsProvider {
             if (segment.isEmpty() || (i == expressionSegments.size() - 1 && !needNext)) {
                 filterText = segment;
             } else {
-                if (currentObject.has(segment) && currentObject.get(segment).isJsonObject()) {
-                    currentObject = currentObject.getAsJsonObject(segment);
-                } else {
+                path.add(segment);
+                if (payloadIndex.getType(path) != PayloadPathIndex.NodeType.OBJECT) {
                     return Collections.emptyList();
                 }
             }
         }
-        return currentObject.isJsonObject() ?
-                filterCompletionItems(new ArrayList<>(currentObject.keySet()), filterText) : Collections.emptyList();
+        return filterCompletionItems(payloadIndex.getKeys(path), filterText);
     }
 
-    private static List<String> filterCompletionItems(List<String> items, String filter) {
+    private static String getFilterText(ExpressionCompletionContext context) {
 
-        if (filter.isEmpty()) {
-            return items;
-        } else {
-            List<String> filteredItems = new ArrayList<>();
-            for (String item : items) {
-                if (item.startsWith(filter)) {
-                    filteredItems.add(item);
-                }
-            }
-            return filteredItems;
+        List<String> segments = context.getSegment();
+        if (context.isNeedNext() || segments.isEmpty()) {
+            return StringUtils.EMPTY;
         }
+        return segments.get(segments.size() - 1);
+    }
+
+    private static List<String> filterCompletionItems(List<String> items, String filter) {
+
+        return CompletionIndex.filter(items, filter);
     }
 }
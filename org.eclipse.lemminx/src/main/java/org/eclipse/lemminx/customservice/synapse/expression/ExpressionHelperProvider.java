@@ -14,8 +14,6 @@
 
 package org.eclipse.lemminx.customservice.synapse.expression;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.commons.BadLocationException;
@@ -81,16 +79,16 @@ public class ExpressionHelperProvider {
         }
         try {
             boolean isNewMediator = isNewMediator(param);
-            String payload =
-                    ExpressionCompletionUtils.getInputPayload(projectPath, param.getDocumentUri(), param.getPosition());
             if (param.getPosition() == null) {
                 return getBasicHelperData();
             }
-            MediatorTryoutRequest request =
-                    new MediatorTryoutRequest(param.getDocumentUri(), param.getPosition().getLine(),
-                            param.getPosition().getCharacter(), payload, null);
-            MediatorTryoutInfo tryoutInfo = getMediatorTryoutInfo(request, isNewMediator);
-            MediatorInfo propsData = isNewMediator ? tryoutInfo.getInput() : tryoutInfo.getInput();
+            MediatorTryoutInfo tryoutInfo = MediatorContextCache.getInstance().getTryoutInfo(projectPath,
+                    param.getDocumentUri(), param.getPosition(), isNewMediator,
+                    () -> computeMediatorTryoutInfo(param, isNewMediator));
+            List<Property> configurables = ExpressionCompletionUtils.getConfigs(projectPath);
+            tryoutInfo.setInputConfigs(configurables);
+            tryoutInfo.setOutputConfigs(configurables);
+            MediatorInfo propsData = tryoutInfo.getInput();
             return createHelperData(propsData, ExpressionCompletionUtils.getFunctions());
         } catch (BadLocationException | IOException e) {
             return getBasicHelperData();
@@ -141,7 +139,13 @@ public class ExpressionHelperProvider {
         return helperData;
     }
 
-    private MediatorTryoutInfo getMediatorTryoutInfo(MediatorTryoutRequest request, boolean isNewMediator) {
+    private MediatorTryoutInfo computeMediatorTryoutInfo(ExpressionParam param, boolean isNewMediator) {
+
+        String payload =
+                ExpressionCompletionUtils.getInputPayload(projectPath, param.getDocumentUri(), param.getPosition());
+        MediatorTryoutRequest request =
+                new MediatorTryoutRequest(param.getDocumentUri(), param.getPosition().getLine(),
+                        param.getPosition().getCharacter(), payload, null);
 
         //If it is a new mediator, add a dummy log mediator to get the tryout info
         if (isNewMediator) {
@@ -152,11 +156,7 @@ public class ExpressionHelperProvider {
             request = new MediatorTryoutRequest(request.getFile(), request.getLine(), request.getColumn() + 1,
                     request.getInputPayload(), editArray);
         }
-        MediatorTryoutInfo info = tryoutHandler.handle(request);
-        List<Property> configurables = ExpressionCompletionUtils.getConfigs(projectPath);
-        info.setInputConfigs(configurables);
-        info.setOutputConfigs(configurables);
-        return info;
+        return tryoutHandler.handle(request);
     }
 
     private HelperPanelData createHelperData(MediatorInfo propsData, Map<String, Functions> functions) {
@@ -212,10 +212,13 @@ public class ExpressionHelperProvider {
 
         List<CompletionItem> dataList = new ArrayList<>();
         if (payload != null) {
-            JsonElement element = Utils.getJsonElement(payload.getAsString());
-            if (element != null) {
+            String value = payload.getAsString();
+            PayloadPathIndex payloadIndex = PayloadPathIndex.of(value);
+            // An empty payload is still listed, but not an invalid one
+            if (!payloadIndex.isEmpty() || StringUtils.isBlank(value)) {
                 CompletionItem item = new HelperPanelItem(ExpressionConstants.PAYLOAD, ExpressionConstants.PAYLOAD);
-                ((HelperPanelItem) item).addChildren(addJsonChildren(element, ExpressionConstants.PAYLOAD));
+                ((HelperPanelItem) item).addChildren(
+                        addPayloadChildren(payloadIndex, new ArrayList<>(), ExpressionConstants.PAYLOAD));
                 dataList.add(item);
             }
         }
@@ -232,34 +235,34 @@ public class ExpressionHelperProvider {
             if (variable.getProperties() != null && !variable.getProperties().isEmpty()) {
                 item.addChildren(createDataList(variable.getProperties(), expression));
             } else if (value != null) {
-                item.addChildren(addJsonChildren(Utils.getJsonElement(value), expression));
+                item.addChildren(addPayloadChildren(PayloadPathIndex.of(value), new ArrayList<>(), expression));
             }
             dataList.add(item);
         }
         return dataList;
     }
 
-    private List<CompletionItem> addJsonChildren(JsonElement jsonObject, String expressionPrefix) {
+    private List<CompletionItem> addPayloadChildren(PayloadPathIndex payloadIndex, List<String> path,
+                                                    String expressionPrefix) {
 
         List<CompletionItem> dataList = new ArrayList<>();
-        if (jsonObject != null) {
-            if (jsonObject.isJsonObject()) {
-                for (Map.Entry<String, JsonElement> entry : jsonObject.getAsJsonObject().entrySet()) {
-                    String expressionSuffix = getExpressionSuffix(entry.getKey());
-                    String expression = expressionPrefix + expressionSuffix;
-                    HelperPanelItem item = new HelperPanelItem(entry.getKey(), expression);
-                    JsonElement value = entry.getValue();
-                    item.addChildren(addJsonChildren(value, expression));
-                    dataList.add(item);
-                }
-            } else if (jsonObject.isJsonArray()) {
-                JsonArray jsonArray = jsonObject.getAsJsonArray();
-                expressionPrefix = expressionPrefix + ExpressionConstants.ARRAY_COMPLETION_INSERT_TEXT;
-                HelperPanelItem item =
-                        new HelperPanelItem(ExpressionConstants.ARRAY_COMPLETION_LABEL, expressionPrefix);
-                item.addChildren(addJsonChildren(jsonArray.get(0), expressionPrefix));
+        PayloadPathIndex.NodeType type = payloadIndex.getType(path);
+        if (type == PayloadPathIndex.NodeType.OBJECT) {
+            for (String key : payloadIndex.getKeys(path)) {
+                String expression = expressionPrefix + getExpressionSuffix(key);
+                HelperPanelItem item = new HelperPanelItem(key, expression);
+                path.add(key);
+                item.addChildren(addPayloadChildren(payloadIndex, path, expression));
+                path.remove(path.size() - 1);
                 dataList.add(item);
             }
+        } else if (type == PayloadPathIndex.NodeType.ARRAY) {
+            expressionPrefix = expressionPrefix + ExpressionConstants.ARRAY_COMPLETION_INSERT_TEXT;
+            HelperPanelItem item = new HelperPanelItem(ExpressionConstants.ARRAY_COMPLETION_LABEL, expressionPrefix);
+            path.add("0");
+            item.addChildren(addPayloadChildren(payloadIndex, path, expressionPrefix));
+            path.remove(path.size() - 1);
+            dataList.add(item);
         }
         return dataList;
     }
@@ -14,39 +14,113 @@
 
 package org.eclipse.lemminx.customservice.synapse.expression;
 
-import org.antlr.v4.runtime.CharStream;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionError;
 import org.eclipse.lemminx.util.synapse_expression.ExpressionLexer;
 import org.eclipse.lemminx.util.synapse_expression.ExpressionParser;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ExpressionValidator {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 10000;
+
+    // Validation results are shared across documents as the result only depends on the expression text.
+    private static final Cache<String, List<ExpressionError>> RESULTS =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).build();
+    private static final ThreadLocal<ExpressionRecognizer> RECOGNIZER =
+            ThreadLocal.withInitial(ExpressionRecognizer::new);
+
+    private ExpressionValidator() {
+
+    }
+
+    /**
+     * Validate the syntax of the given synapse expression.
+     *
+     * @param expression the expression without the enclosing ${}
+     * @return the syntax errors of the expression
+     */
     public static List<ExpressionError> validate(String expression) {
 
-        List<ExpressionError> errors = new ArrayList<>();
-        CharStream input = CharStreams.fromString(expression);
-        ExpressionLexer lexer = new ExpressionLexer(input);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ExpressionParser parser = new ExpressionParser(tokens);
-        parser.setErrorHandler(new DefaultErrorStrategy());
-        parser.removeErrorListeners();
-        SyntaxErrorListener errorListener = new SyntaxErrorListener();
-        parser.addErrorListener(errorListener);
+        List<ExpressionError> errors = RESULTS.getIfPresent(expression);
+        if (errors == null) {
+            errors = RECOGNIZER.get().parse(expression);
+            RESULTS.put(expression, errors);
+        }
+        return errors;
+    }
+
+    /**
+     * Clear the cached validation results.
+     */
+    public static void clearCache() {
+
+        RESULTS.invalidateAll();
+    }
+
+    /**
+     * Holds a lexer and a parser which are reused for the expressions validated in the same thread.
+     */
+    private static class ExpressionRecognizer {
+
+        private final ExpressionLexer lexer;
+        private final CommonTokenStream tokens;
+        private final ExpressionParser parser;
+
+        ExpressionRecognizer() {
+
+            lexer = new ExpressionLexer(CharStreams.fromString(""));
+            tokens = new CommonTokenStream(lexer);
+            parser = new ExpressionParser(tokens);
+            parser.removeErrorListeners();
+        }
+
+        List<ExpressionError> parse(String expression) {
 
-        parser.expression();
+            lexer.setInputStream(CharStreams.fromString(expression));
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
 
-        if (errorListener.hasErrors()) {
+            // Most expressions are valid, hence try the faster SLL prediction first and bail out on the first error.
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.removeErrorListeners();
+            try {
+                parser.expression();
+                return Collections.emptyList();
+            } catch (ParseCancellationException e) {
+                // Fall back to full LL prediction to report the syntax errors.
+            }
+
+            tokens.seek(0);
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            SyntaxErrorListener errorListener = new SyntaxErrorListener();
+            parser.addErrorListener(errorListener);
+            parser.expression();
+
+            if (!errorListener.hasErrors()) {
+                return Collections.emptyList();
+            }
+            List<ExpressionError> errors = new ArrayList<>();
             for (ExpressionError err : errorListener.getErrors()) {
+                // Detach the errors from the recognizer state so that they can be cached.
+                Object offendingSymbol = err.getOffendingSymbol() != null ? err.getOffendingSymbol().toString() : null;
                 errors.add(new ExpressionError(expression, err.getLine(), err.getCharPositionInLine(),
-                        err.getMessage(), err.getOffendingSymbol(), err.getException()));
+                        err.getMessage(), offendingSymbol, null));
             }
+            return Collections.unmodifiableList(errors);
         }
-        return errors;
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lsp4j.Position;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the mediator context (properties, variables, headers, params and payload) computed by the serverless tryout
+ * for expression completions and the expression helper panel.
+ * <p>
+ * Only the input context of a mediator is meant to be served from this cache. An entry is keyed by the content of the
+ * document preceding the requested position, so it stays valid while the user edits the mediator's own expressions or
+ * anything that follows it, and is recomputed as soon as a preceding mediator changes.
+ */
+public class MediatorContextCache {
+
+    private static final Logger LOGGER = Logger.getLogger(MediatorContextCache.class.getName());
+    private static final int MAX_DOCUMENTS = 50;
+    private static final int MAX_CONTEXTS = 200;
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 10;
+    private static MediatorContextCache instance;
+
+    private final Cache<String, CachedDocument> documents;
+    private final Cache<ContextKey, MediatorTryoutInfo> contexts;
+
+    private MediatorContextCache() {
+
+        this.documents = CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+        this.contexts = CacheBuilder.newBuilder().maximumSize(MAX_CONTEXTS)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+    }
+
+    public static synchronized MediatorContextCache getInstance() {
+
+        if (instance == null) {
+            instance = new MediatorContextCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the DOM document of the given file, reusing the previously parsed document if the file has not been
+     * modified since.
+     *
+     * @param documentPath path or uri of the document
+     * @return the DOM document
+     * @throws IOException if an error occurs while reading the file
+     */
+    public DOMDocument getDocument(String documentPath) throws IOException {
+
+        if (documentPath == null) {
+            return null;
+        }
+        File file = new File(Utils.getAbsolutePath(documentPath));
+        long lastModified = file.lastModified();
+        long length = file.length();
+        String key = file.getAbsolutePath();
+        CachedDocument cached = documents.getIfPresent(key);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            return cached.document;
+        }
+        DOMDocument document = Utils.getDOMDocument(file);
+        documents.put(key, new CachedDocument(lastModified, length, document));
+        return document;
+    }
+
+    /**
+     * Get the tryout info of the mediator at the given position. The loader is invoked only when there is no cached
+     * context for the mediators preceding the position, hence only the input of the returned info is up to date.
+     *
+     * @param projectPath   project path
+     * @param documentPath  path of the document which has the mediator
+     * @param position      position of the mediator
+     * @param isNewMediator whether the position is an insertion point for a new mediator
+     * @param loader        computes the tryout info on a cache miss
+     * @return a deep copy of the tryout info, which can be modified without affecting the cached info
+     */
+    public MediatorTryoutInfo getTryoutInfo(String projectPath, String documentPath, Position position,
+                                            boolean isNewMediator, Supplier<MediatorTryoutInfo> loader) {
+
+        ContextKey key = createKey(projectPath, documentPath, position, isNewMediator);
+        if (key == null) {
+            return loader.get();
+        }
+        MediatorTryoutInfo cached = contexts.getIfPresent(key);
+        if (cached == null) {
+            cached = loader.get();
+            if (cached == null || cached.getError() != null) {
+                return cached;
+            }
+            contexts.put(key, cached);
+        }
+        // The callers add the configurables to the returned info, which must not change the cached info
+        return cached.deepCopy();
+    }
+
+    /**
+     * Remove all the cached entries.
+     */
+    public void clear() {
+
+        documents.invalidateAll();
+        contexts.invalidateAll();
+    }
+
+    private ContextKey createKey(String projectPath, String documentPath, Position position, boolean isNewMediator) {
+
+        try {
+            DOMDocument document = getDocument(documentPath);
+            if (document == null || position == null) {
+                return null;
+            }
+            String text = document.getText();
+            int offset = document.offsetAt(position);
+            HashCode prefixHash = Hashing.murmur3_128().hashString(text.subSequence(0, offset), StandardCharsets.UTF_8);
+            String key = new File(Utils.getAbsolutePath(documentPath)).getAbsolutePath();
+            return new ContextKey(key, prefixHash, isNewMediator, getPayloadStamp(projectPath, key));
+        } catch (IOException | BadLocationException | IndexOutOfBoundsException e) {
+            LOGGER.log(Level.FINE, "Unable to create the mediator context cache key", e);
+            return null;
+        }
+    }
+
+    private long getPayloadStamp(String projectPath, String documentPath) {
+
+        if (projectPath == null) {
+            return 0;
+        }
+        String name = Utils.getFileName(new File(documentPath));
+        return Path.of(projectPath, ".tryout", name + ".json").toFile().lastModified();
+    }
+
+    private static class CachedDocument {
+
+        private final long lastModified;
+        private final long length;
+        private final DOMDocument document;
+
+        CachedDocument(long lastModified, long length, DOMDocument document) {
+
+            this.lastModified = lastModified;
+            this.length = length;
+            this.document = document;
+        }
+    }
+
+    private static class ContextKey {
+
+        private final String documentPath;
+        private final HashCode prefixHash;
+        private final boolean isNewMediator;
+        private final long payloadStamp;
+
+        ContextKey(String documentPath, HashCode prefixHash, boolean isNewMediator, long payloadStamp) {
+
+            this.documentPath = documentPath;
+            this.prefixHash = prefixHash;
+            this.isNewMediator = isNewMediator;
+            this.payloadStamp = payloadStamp;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContextKey)) {
+                return false;
+            }
+            ContextKey that = (ContextKey) o;
+            return isNewMediator == that.isNewMediator && payloadStamp == that.payloadStamp &&
+                    documentPath.equals(that.documentPath) && prefixHash.equals(that.prefixHash);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(documentPath, prefixHash, isNewMediator, payloadStamp);
+        }
+    }
+}
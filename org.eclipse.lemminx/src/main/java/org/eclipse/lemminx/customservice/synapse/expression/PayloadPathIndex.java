@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the paths of a JSON payload, used to list the keys available at a path of a payload expression.
+ * <p>
+ * The payload is read once with a streaming reader and only its structure is kept, i.e. the child keys and the type
+ * of each node keyed by the JSON pointer of the node. As with the expression completions, only the first element of
+ * an array is indexed. Indexes are cached by the identity of the payload string, hence a payload of a cached mediator
+ * context is indexed only once per tryout.
+ */
+public class PayloadPathIndex {
+
+    public enum NodeType {
+        OBJECT,
+        ARRAY,
+        VALUE
+    }
+
+    private static final PayloadPathIndex EMPTY = new PayloadPathIndex(Collections.emptyMap());
+    private static final String ROOT = "";
+    private static final String FIRST_ELEMENT = "0";
+    private static final int MAX_CACHED_PAYLOADS = 100;
+
+    private static final Cache<String, PayloadPathIndex> INDEXES =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_PAYLOADS).build();
+
+    private final Map<String, Node> nodes;
+
+    private PayloadPathIndex(Map<String, Node> nodes) {
+
+        this.nodes = nodes;
+    }
+
+    /**
+     * Get the path index of the given payload.
+     *
+     * @param payload the JSON payload
+     * @return the path index, or an empty index if the payload is not a valid JSON
+     */
+    public static PayloadPathIndex of(String payload) {
+
+        if (payload == null || payload.isBlank()) {
+            return EMPTY;
+        }
+        PayloadPathIndex index = INDEXES.getIfPresent(payload);
+        if (index == null) {
+            index = build(payload);
+            INDEXES.put(payload, index);
+        }
+        return index;
+    }
+
+    /**
+     * Get the type of the node at the given path.
+     *
+     * @param path the keys from the root to the node. Use "0" to refer to the first element of an array.
+     * @return the node type, or null if there is no such node
+     */
+    public NodeType getType(List<String> path) {
+
+        Node node = nodes.get(toPointer(path));
+        return node != null ? node.type : null;
+    }
+
+    /**
+     * Get the keys of the object at the given path.
+     *
+     * @param path the keys from the root to the object. Use "0" to refer to the first element of an array.
+     * @return the keys in the order of the payload, or an empty list if the node is not an object
+     */
+    public List<String> getKeys(List<String> path) {
+
+        Node node = nodes.get(toPointer(path));
+        if (node == null || node.type != NodeType.OBJECT) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(node.keys);
+    }
+
+    public boolean isEmpty() {
+
+        return nodes.isEmpty();
+    }
+
+    private static PayloadPathIndex build(String payload) {
+
+        Map<String, Node> nodes = new HashMap<>();
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            reader.setLenient(true);
+            index(reader, ROOT, nodes);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                return EMPTY;
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            return EMPTY;
+        }
+        return new PayloadPathIndex(nodes);
+    }
+
+    private static void index(JsonReader reader, String pointer, Map<String, Node> nodes) throws IOException {
+
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Node object = new Node(NodeType.OBJECT);
+                nodes.put(pointer, object);
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String key = reader.nextName();
+                    // Same as Gson, a duplicate key keeps its first position
+                    if (object.keySet.add(key)) {
+                        object.keys.add(key);
+                    }
+                    index(reader, pointer + "/" + escape(key), nodes);
+                }
+                reader.endObject();
+                break;
+            case BEGIN_ARRAY:
+                nodes.put(pointer, new Node(NodeType.ARRAY));
+                reader.beginArray();
+                if (reader.hasNext()) {
+                    index(reader, pointer + "/" + FIRST_ELEMENT, nodes);
+                }
+                while (reader.hasNext()) {
+                    reader.skipValue();
+                }
+                reader.endArray();
+                break;
+            default:
+                nodes.put(pointer, new Node(NodeType.VALUE));
+                reader.skipValue();
+        }
+    }
+
+    private static String toPointer(List<String> path) {
+
+        StringBuilder pointer = new StringBuilder();
+        for (String key : path) {
+            pointer.append('/').append(escape(key));
+        }
+        return pointer.toString();
+    }
+
+    private static String escape(String key) {
+
+        if (key.indexOf('~') < 0 && key.indexOf('/') < 0) {
+            return key;
+        }
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static class Node {
+
+        private final NodeType type;
+        private final List<String> keys;
+        // Companion of the key list for the duplicate check, as wide objects have thousands of keys
+        private final Set<String> keySet;
+
+        Node(NodeType type) {
+
+            this.type = type;
+            this.keys = type == NodeType.OBJECT ? new ArrayList<>() : Collections.emptyList();
+            this.keySet = type == NodeType.OBJECT ? new HashSet<>() : Collections.emptySet();
+        }
+    }
+}
@@ -21,12 +21,13 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jackson.JsonLoader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.lemminx.customservice.synapse.parser.Node;
-import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.inbound.InboundEndpoint;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
@@ -41,36 +42,35 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser.getPomDetails;
-
 public class InboundConnectorHolder {
 
     private static final Logger LOGGER = Logger.getLogger(InboundConnectorHolder.class.getName());
+    private static final int MAX_CACHED_INBOUND_ENDPOINTS = 100;
     private String projectId;
     private String projectPath;
     private String tempFolderPath;
-    // <Connector name, Connector ID> map
-    private HashMap<String, String> connectorIdMap;
-    // <Connector ID, UI schema path> map
-    private HashMap<String, String> inboundConnectors;
-    private Map<String, JsonObject> localInboundConnectors;
+    private InboundConnectorRegistry inboundConnectors;
+    private String localInboundConnectorsFolder;
+    // <Connector ID, UI schema> map of the inbound connectors shipped with the runtime, loaded on demand
+    private final Map<String, Optional<JsonObject>> localInboundConnectors = new ConcurrentHashMap<>();
+    // <Inbound endpoint file path, Inbound endpoint> cache, validated by the file version
+    private final Cache<String, InboundEndpointVersion> inboundEndpoints =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_INBOUND_ENDPOINTS).build();
     private JsonObject inboundConnectorListJson;
     private String projectRuntimeVersion;
-    private String localInboundEndpointsListForCopilot;
-
-    public InboundConnectorHolder() {
+    private volatile String localInboundEndpointsListForCopilot;
 
-        this.inboundConnectors = new HashMap<>();
-        this.connectorIdMap = new HashMap<>();
-    }
 
     public void init(String projectPath, String projectRuntimeVersion) {
 
@@ -82,11 +82,9 @@ public class InboundConnectorHolder {
         this.projectId = Utils.getHash(projectPath);
         // Maintain the original runtime version of the project as the 4.5.0 version has new inbound-connectors
         // TODO: https://github.com/wso2/mi-vscode/issues/1331
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
-        Node node = pomDetailsResponse.getPrimaryDetails().getRuntimeVersion();
-        if (node != null && Constant.MI_450_VERSION.equals(node.getValue())) {
-            this.projectRuntimeVersion = node.getValue();
+        String pomRuntimeVersion = PomModelService.getPomModel(projectPath).getRuntimeVersion();
+        if (Constant.MI_450_VERSION.equals(pomRuntimeVersion)) {
+            this.projectRuntimeVersion = pomRuntimeVersion;
         } else {
             this.projectRuntimeVersion = projectRuntimeVersion;
         }
@@ -94,26 +92,14 @@ public class InboundConnectorHolder {
                 Constant.INBOUND_CONNECTORS + File.separator + new File(projectPath).getName() + "_" + projectId;
         String referenceRuntime = Constant.MI_450_VERSION.equals(this.projectRuntimeVersion) ? Constant.MI_440_VERSION
                                     : this.projectRuntimeVersion;
-        this.localInboundConnectors = Utils.getUISchemaMap("org/eclipse/lemminx/inbound-endpoints/"
-                + referenceRuntime.replace(".", StringUtils.EMPTY));
+        this.localInboundConnectorsFolder = "/org/eclipse/lemminx/inbound-endpoints/"
+                + referenceRuntime.replace(".", StringUtils.EMPTY) + "/";
+        this.localInboundConnectors.clear();
+        this.inboundEndpoints.invalidateAll();
+        this.localInboundEndpointsListForCopilot = null;
+        this.inboundConnectors = new InboundConnectorRegistry(tempFolderPath);
+        this.inboundConnectors.load();
         getCustomInboundConnectors();
-        loadInboundConnectors();
-        this.localInboundEndpointsListForCopilot = generateInboundConnectorArray();
-    }
-
-    private void loadInboundConnectors() {
-
-        File folder = new File(tempFolderPath);
-        if (folder.exists() && folder.isDirectory()) {
-            File[] files = folder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    if (!file.isHidden()) {
-                        loadInboundConnector(file);
-                    }
-                }
-            }
-        }
     }
 
     public void getCustomInboundConnectors() {
@@ -127,24 +113,27 @@ public class InboundConnectorHolder {
         this.inboundConnectorListJson = JsonParser.parseReader(reader).getAsJsonObject();
         List<File> inboundConnectorZips = getInboundConnectorZips(extractFolder);
         for (File zip : inboundConnectorZips) {
+            // An unchanged zip is listed from the registry without extracting it again
+            InboundConnectorRegistry.ImportedConnector importedConnector = inboundConnectors.getImportedConnector(zip);
+            if (importedConnector != null) {
+                addCustomInboundConnector(importedConnector);
+                continue;
+            }
             String zipName = zip.getName().replace(Constant.DOT + "zip", StringUtils.EMPTY);
             File extractToFolder = new File(extractFolder.getAbsolutePath() + File.separator + zipName);
             try {
                 Utils.extractZip(zip, extractToFolder);
                 String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
                         .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                saveInboundConnector(Utils.getJsonObject(schema).get(Constant.NAME).getAsString(), schema);
-                JsonObject newConnector = new JsonObject();
                 JsonObject connectorSchema = Utils.getJsonObject(schema);
-                newConnector.addProperty(Constant.NAME, connectorSchema.get(Constant.TITLE) != null ?
-                        connectorSchema.get(Constant.TITLE).getAsString() : StringUtils.EMPTY);
-                newConnector.addProperty(Constant.ID, connectorSchema.get(Constant.ID) != null ?
-                        connectorSchema.get(Constant.ID).getAsString() : StringUtils.EMPTY);
-                newConnector.addProperty(Constant.DESCRIPTION, connectorSchema.get(Constant.DESCRIPTION) != null ?
-                        connectorSchema.get(Constant.DESCRIPTION).getAsString() : StringUtils.EMPTY);
-                newConnector.addProperty(Constant.TYPE, Constant.INBOUND_DASH_ENDPOINT);
-                JsonArray connectorArray = this.inboundConnectorListJson.getAsJsonArray(Constant.INBOUND_CONNECTOR_DATA);
-                connectorArray.add(newConnector);
+                String connectorName = connectorSchema.get(Constant.NAME).getAsString();
+                importedConnector = new InboundConnectorRegistry.ImportedConnector(connectorName,
+                        getAsString(connectorSchema, Constant.TITLE), getAsString(connectorSchema, Constant.ID),
+                        getAsString(connectorSchema, Constant.DESCRIPTION));
+                if (saveInboundConnector(connectorName, schema)) {
+                    inboundConnectors.addImportedConnector(zip, importedConnector);
+                }
+                addCustomInboundConnector(importedConnector);
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Failed to import custom inbound-connector:" + zipName, e);
             }
@@ -158,6 +147,22 @@ public class InboundConnectorHolder {
         }
     }
 
+    private void addCustomInboundConnector(InboundConnectorRegistry.ImportedConnector importedConnector) {
+
+        JsonObject newConnector = new JsonObject();
+        newConnector.addProperty(Constant.NAME, importedConnector.getTitle());
+        newConnector.addProperty(Constant.ID, importedConnector.getId());
+        newConnector.addProperty(Constant.DESCRIPTION, importedConnector.getDescription());
+        newConnector.addProperty(Constant.TYPE, Constant.INBOUND_DASH_ENDPOINT);
+        JsonArray connectorArray = this.inboundConnectorListJson.getAsJsonArray(Constant.INBOUND_CONNECTOR_DATA);
+        connectorArray.add(newConnector);
+    }
+
+    private static String getAsString(JsonObject jsonObject, String key) {
+
+        return jsonObject.get(key) != null ? jsonObject.get(key).getAsString() : StringUtils.EMPTY;
+    }
+
     private List<File> getInboundConnectorZips(File extractFolder) {
 
         List<File> inboundConnectorZips = new ArrayList<>();
@@ -174,64 +179,56 @@ public class InboundConnectorHolder {
         return inboundConnectorZips;
     }
 
-    private void loadInboundConnector(File file) {
+    public Boolean saveInboundConnector(String connectorName, String uiSchema) {
 
-        try {
-            String connectorName = file.getName().replace(".json", "");
-            String uiSchema = Utils.readFile(file);
-            JsonObject inboundConnector = Utils.getJsonObject(uiSchema);
-            if (inboundConnector == null || !inboundConnector.has(Constant.ID)) {
-                return;
-            }
-            String id = inboundConnector.get(Constant.ID).getAsString();
-            connectorIdMap.put(connectorName, id);
-            inboundConnectors.put(id, file.getAbsolutePath());
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while loading inbound connector schema from file", e);
-        }
+        return inboundConnectors != null && inboundConnectors.save(connectorName, uiSchema);
     }
 
-    public Boolean saveInboundConnector(String connectorName, String uiSchema) {
+    public InboundConnectorResponse getInboundConnectorSchema(File inboundEPFile) {
 
-        // Save inbound connector
-        JsonObject inboundConnector = Utils.getJsonObject(uiSchema);
-        if (inboundConnector == null || !inboundConnector.has(Constant.ID)) {
-            return false;
-        }
-        String id = inboundConnector.get(Constant.ID).getAsString();
-        Path filePath = Path.of(tempFolderPath, connectorName + ".json");
-        if (saveToFile(filePath.toFile(), uiSchema)) {
-            connectorIdMap.put(connectorName, id);
-            inboundConnectors.put(id, filePath.toString());
-            return true;
+        InboundEndpoint ib = getInboundEndpoint(inboundEPFile);
+        if (ib != null) {
+            String id = getIdFromInboundEP(ib);
+            if (id != null) {
+                InboundConnectorResponse response = getInboundConnectorSchemaFromId(id);
+                if (response.getUiSchema() != null) {
+                    JsonObject schemaWithValues =
+                            UISchemaMapper.mapInputToUISchemaForInboundEndpoint(ib, response.getUiSchema());
+                    response.setUiSchema(schemaWithValues);
+                }
+                return response;
+            }
         }
-        return false;
+        return new InboundConnectorResponse();
     }
 
-    public InboundConnectorResponse getInboundConnectorSchema(File inboundEPFile) {
-
+    /**
+     * Get the inbound endpoint of the given file. The endpoint is parsed once per version (last modified time and
+     * size) of the file.
+     */
+    private InboundEndpoint getInboundEndpoint(File inboundEPFile) {
+
+        String path = inboundEPFile.getAbsolutePath();
+        long lastModified = inboundEPFile.lastModified();
+        long size = inboundEPFile.length();
+        InboundEndpointVersion cached = inboundEndpoints.getIfPresent(path);
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached.inboundEndpoint;
+        }
         try {
             DOMDocument inboundEPElement = Utils.getDOMDocument(inboundEPFile);
             if (inboundEPElement != null) {
                 InboundEndpoint ib =
                         (InboundEndpoint) SyntaxTreeGenerator.buildTree(inboundEPElement.getDocumentElement());
                 if (ib != null) {
-                    String id = getIdFromInboundEP(ib);
-                    if (id != null) {
-                        InboundConnectorResponse response = getInboundConnectorSchemaFromId(id);
-                        if (response.getUiSchema() != null) {
-                            JsonObject schemaWithValues =
-                                    UISchemaMapper.mapInputToUISchemaForInboundEndpoint(ib, response.getUiSchema());
-                            response.setUiSchema(schemaWithValues);
-                        }
-                        return response;
-                    }
+                    inboundEndpoints.put(path, new InboundEndpointVersion(lastModified, size, ib));
                 }
+                return ib;
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error occurred while reading inbound endpoint file", e);
         }
-        return new InboundConnectorResponse();
+        return null;
     }
 
     private String getIdFromInboundEP(InboundEndpoint ib) {
@@ -250,6 +247,13 @@ public class InboundConnectorHolder {
 
     public String getLocalInboundEndpointsListForCopilot() {
 
+        if (localInboundEndpointsListForCopilot == null && inboundConnectorListJson != null) {
+            synchronized (this) {
+                if (localInboundEndpointsListForCopilot == null) {
+                    localInboundEndpointsListForCopilot = generateInboundConnectorArray();
+                }
+            }
+        }
         return localInboundEndpointsListForCopilot;
     }
 
@@ -257,33 +261,48 @@ public class InboundConnectorHolder {
 
         InboundConnectorResponse inboundConnector = new InboundConnectorResponse();
         inboundConnector.connectorName = connectorName;
-        String connectorId = connectorIdMap.get(connectorName);
+        String connectorId = inboundConnectors != null ? inboundConnectors.getConnectorId(connectorName) : null;
         return getInboundConnectorSchemaFromId(connectorId);
     }
 
     public InboundConnectorResponse getInboundConnectorSchemaFromId(String connectorId) {
 
         InboundConnectorResponse inboundConnector = new InboundConnectorResponse();
-
-        if (localInboundConnectors.containsKey(connectorId)) {
-            inboundConnector.uiSchema = localInboundConnectors.get(connectorId);
+        if (connectorId == null) {
             return inboundConnector;
         }
-
-        String uiSchemaPath = inboundConnectors.get(connectorId);
-        if (uiSchemaPath == null) {
+        // Schemas are copied as the values of an inbound endpoint are mapped into the returned schema
+        JsonObject localSchema = getLocalInboundConnectorSchema(connectorId);
+        if (localSchema != null) {
+            inboundConnector.uiSchema = localSchema.deepCopy();
             return inboundConnector;
         }
-        try {
-            String uiSchema = Utils.readFile(new File(uiSchemaPath));
-            JsonObject inboundConnectorJson = Utils.getJsonObject(uiSchema);
-            inboundConnector.uiSchema = inboundConnectorJson;
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while reading inbound connector schema from file", e);
+        if (inboundConnectors != null) {
+            inboundConnector.uiSchema = inboundConnectors.getSchema(connectorId);
         }
         return inboundConnector;
     }
 
+    private JsonObject getLocalInboundConnectorSchema(String connectorId) {
+
+        if (localInboundConnectorsFolder == null) {
+            return null;
+        }
+        return localInboundConnectors.computeIfAbsent(connectorId, id -> {
+            InputStream inputStream = InboundConnectorHolder.class.getResourceAsStream(localInboundConnectorsFolder
+                    + id.replace(":", "_") + Constant.JSON_FILE_EXT);
+            if (inputStream == null) {
+                return Optional.empty();
+            }
+            try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                return Optional.ofNullable(JsonParser.parseReader(reader).getAsJsonObject());
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load UI schema of inbound connector: " + id, e);
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
     public boolean saveToFile(File file, String text) {
 
         try {
@@ -409,4 +428,18 @@ public class InboundConnectorHolder {
         }
         return localInboundConnectorList;
     }
+
+    private static class InboundEndpointVersion {
+
+        private final long lastModified;
+        private final long size;
+        private final InboundEndpoint inboundEndpoint;
+
+        InboundEndpointVersion(long lastModified, long size, InboundEndpoint inboundEndpoint) {
+
+            this.lastModified = lastModified;
+            this.size = size;
+            this.inboundEndpoint = inboundEndpoint;
+        }
+    }
 }
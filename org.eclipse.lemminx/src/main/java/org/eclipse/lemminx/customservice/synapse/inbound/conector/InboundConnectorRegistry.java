@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.inbound.conector;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of the inbound connector UI schemas saved in the inbound connector folder of a project, keyed by the
+ * connector id.
+ * <p>
+ * The connector id and the digest (last modified time and size) of each saved UI schema are kept in an index file of
+ * the folder, hence an unchanged UI schema is not read again to find its id. The UI schemas are only loaded when they
+ * are requested and are read again if the file has changed since. The index also records the inbound connector zips
+ * imported to the project so that an unchanged zip is not extracted again.
+ */
+class InboundConnectorRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(InboundConnectorRegistry.class.getName());
+    private static final Gson GSON = new Gson();
+    private static final String INDEX_FILE = ".inbound-connectors.json";
+    // Change when the index no longer matches what is read from the UI schemas
+    private static final int INDEX_VERSION = 1;
+
+    private final File folder;
+    // <Connector ID, Entry> map
+    private final Map<String, Entry> entries = new HashMap<>();
+    // <Connector name, Connector ID> map
+    private final Map<String, String> connectorIds = new HashMap<>();
+    private Index index = new Index();
+
+    InboundConnectorRegistry(String folderPath) {
+
+        this.folder = new File(folderPath);
+    }
+
+    /**
+     * Load the saved UI schemas of the folder. Only the UI schemas which are not in the index or have changed since
+     * they were indexed are read.
+     */
+    synchronized void load() {
+
+        entries.clear();
+        connectorIds.clear();
+        Index previous = readIndex();
+        index = new Index();
+        index.imports.putAll(previous.imports);
+        boolean isModified = false;
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isHidden() || !file.isFile() || INDEX_FILE.equals(file.getName())) {
+                    continue;
+                }
+                String digest = getDigest(file);
+                SchemaRecord record = previous.schemas.get(file.getName());
+                if (record == null || !digest.equals(record.digest)) {
+                    record = readSchemaRecord(file, digest);
+                    isModified = true;
+                }
+                if (record != null) {
+                    index.schemas.put(file.getName(), record);
+                    register(file, record.id, null);
+                }
+            }
+        }
+        if (isModified || index.schemas.size() != previous.schemas.size()) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * Save the UI schema of an inbound connector to the folder.
+     *
+     * @param connectorName the connector name
+     * @param uiSchema      the UI schema
+     * @return true if the UI schema is saved
+     */
+    synchronized boolean save(String connectorName, String uiSchema) {
+
+        JsonObject schema = Utils.getJsonObject(uiSchema);
+        if (schema == null || !schema.has(Constant.ID)) {
+            return false;
+        }
+        String id = schema.get(Constant.ID).getAsString();
+        File file = new File(folder, connectorName + Constant.JSON_FILE_EXT);
+        try {
+            Utils.writeToFile(file.getAbsolutePath(), uiSchema);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while saving inbound connector schema to file", e);
+            return false;
+        }
+        SchemaRecord record = new SchemaRecord();
+        record.digest = getDigest(file);
+        record.id = id;
+        index.schemas.put(file.getName(), record);
+        register(file, id, schema);
+        writeIndex();
+        return true;
+    }
+
+    synchronized String getConnectorId(String connectorName) {
+
+        return connectorIds.get(connectorName);
+    }
+
+    /**
+     * Get the UI schema of the given inbound connector.
+     *
+     * @param connectorId the connector id
+     * @return a copy of the UI schema, or null if there is no such connector
+     */
+    synchronized JsonObject getSchema(String connectorId) {
+
+        Entry entry = connectorId != null ? entries.get(connectorId) : null;
+        if (entry == null) {
+            return null;
+        }
+        String digest = getDigest(entry.file);
+        if (entry.schema == null || !digest.equals(entry.digest)) {
+            try {
+                entry.schema = Utils.getJsonObject(Utils.readFile(entry.file));
+                entry.digest = digest;
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error occurred while reading inbound connector schema from file", e);
+                return null;
+            }
+        }
+        return entry.schema != null ? entry.schema.deepCopy() : null;
+    }
+
+    /**
+     * Get the imported inbound connector of the given zip, if the zip has not changed since it was imported and its
+     * UI schema is still saved.
+     *
+     * @param zip the inbound connector zip
+     * @return the imported connector, or null if the zip has to be imported again
+     */
+    synchronized ImportedConnector getImportedConnector(File zip) {
+
+        ImportedConnector connector = index.imports.get(zip.getName());
+        if (connector == null || !getDigest(zip).equals(connector.digest) ||
+                !connectorIds.containsKey(connector.connectorName)) {
+            return null;
+        }
+        return connector;
+    }
+
+    synchronized void addImportedConnector(File zip, ImportedConnector connector) {
+
+        connector.digest = getDigest(zip);
+        index.imports.put(zip.getName(), connector);
+        writeIndex();
+    }
+
+    private void register(File file, String id, JsonObject schema) {
+
+        String connectorName = file.getName().substring(0, file.getName().length() -
+                Constant.JSON_FILE_EXT.length());
+        Entry entry = new Entry(file);
+        if (schema != null) {
+            entry.schema = schema;
+            entry.digest = getDigest(file);
+        }
+        connectorIds.put(connectorName, id);
+        entries.put(id, entry);
+    }
+
+    private SchemaRecord readSchemaRecord(File file, String digest) {
+
+        if (!file.getName().endsWith(Constant.JSON_FILE_EXT)) {
+            return null;
+        }
+        try {
+            JsonObject schema = Utils.getJsonObject(Utils.readFile(file));
+            if (schema == null || !schema.has(Constant.ID)) {
+                return null;
+            }
+            SchemaRecord record = new SchemaRecord();
+            record.digest = digest;
+            record.id = schema.get(Constant.ID).getAsString();
+            return record;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while loading inbound connector schema from file", e);
+        }
+        return null;
+    }
+
+    private Index readIndex() {
+
+        File indexFile = new File(folder, INDEX_FILE);
+        if (indexFile.exists()) {
+            try {
+                Index saved = GSON.fromJson(Utils.readFile(indexFile), Index.class);
+                if (saved != null && saved.version == INDEX_VERSION && saved.schemas != null &&
+                        saved.imports != null) {
+                    return saved;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Error while reading the inbound connector index: " + indexFile, e);
+            }
+        }
+        return new Index();
+    }
+
+    private void writeIndex() {
+
+        if (!folder.exists() && !folder.mkdirs()) {
+            return;
+        }
+        try {
+            Utils.writeToFile(new File(folder, INDEX_FILE).getAbsolutePath(), GSON.toJson(index));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while writing the inbound connector index of: " + folder, e);
+        }
+    }
+
+    private static String getDigest(File file) {
+
+        return file.lastModified() + ":" + file.length();
+    }
+
+    private static class Entry {
+
+        private final File file;
+        private String digest;
+        private JsonObject schema;
+
+        Entry(File file) {
+
+            this.file = file;
+        }
+    }
+
+    private static class Index {
+
+        private int version = INDEX_VERSION;
+        // <File name, Schema record> map
+        private Map<String, SchemaRecord> schemas = new HashMap<>();
+        // <Zip name, Imported connector> map
+        private Map<String, ImportedConnector> imports = new HashMap<>();
+    }
+
+    private static class SchemaRecord {
+
+        private String digest;
+        private String id;
+    }
+
+    /**
+     * Details of an inbound connector imported from a zip, used to list the connector without extracting the zip.
+     */
+    static class ImportedConnector {
+
+        private String digest;
+        private final String connectorName;
+        private final String title;
+        private final String id;
+        private final String description;
+
+        ImportedConnector(String connectorName, String title, String id, String description) {
+
+            this.connectorName = connectorName;
+            this.title = title;
+            this.id = id;
+            this.description = description;
+        }
+
+        String getTitle() {
+
+            return title;
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        String getDescription() {
+
+            return description;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
+import org.eclipse.lemminx.customservice.synapse.MediatorVisitorDispatcher;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
@@ -38,8 +39,6 @@ import org.eclipse.lsp4j.Position;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -150,22 +149,7 @@ public class Utils {
 
     public static void visitMediator(Mediator node, AbstractMediatorVisitor visitor) {
 
-        String tag = node.getTag();
-        tag = org.eclipse.lemminx.customservice.synapse.utils.Utils.sanitizeTag(tag);
-
-        String visitFn;
-        visitFn = "visit" + tag.substring(0, 1).toUpperCase() + tag.substring(1);
-        try {
-            Method method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, node.getClass());
-            method.setAccessible(true);
-            method.invoke(visitor, node);
-        } catch (NoSuchMethodException e) {
-            LOGGER.log(Level.SEVERE, "No visit method found for mediator: " + tag, e);
-        } catch (InvocationTargetException e) {
-            LOGGER.log(Level.SEVERE, "Error while invoking visit method for mediator: " + tag, e);
-        } catch (IllegalAccessException e) {
-            LOGGER.log(Level.SEVERE, "Error while accessing visit method for mediator: " + tag, e);
-        }
+        MediatorVisitorDispatcher.visit(node, visitor);
     }
 
     public static boolean checkNodeInRange(STNode node, Position position) {
@@ -220,11 +220,11 @@ public class MediatorInfo {
 
         MediatorInfo mediatorInfo = new MediatorInfo();
         mediatorInfo.setPayload(payload.deepCopy());
-        mediatorInfo.setVariables(new ArrayList<>(variables));
+        mediatorInfo.setVariables(Property.deepCopy(variables));
         mediatorInfo.setProperties(properties.deepCopy());
-        mediatorInfo.setHeaders(new ArrayList<>(headers));
+        mediatorInfo.setHeaders(Property.deepCopy(headers));
         mediatorInfo.setParams(params.deepCopy());
-        mediatorInfo.setConfigs(new ArrayList<>(configs));
+        mediatorInfo.setConfigs(Property.deepCopy(configs));
         return mediatorInfo;
     }
 
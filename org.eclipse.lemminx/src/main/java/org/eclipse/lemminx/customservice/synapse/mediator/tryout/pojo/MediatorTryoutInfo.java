@@ -82,6 +82,19 @@ public class MediatorTryoutInfo {
         return null;
     }
 
+    /**
+     * Copy this tryout info, including the input and the output, so that the copy can be modified without affecting
+     * this tryout info.
+     *
+     * @return the copy
+     */
+    public MediatorTryoutInfo deepCopy() {
+
+        MediatorTryoutInfo copy = new MediatorTryoutInfo(id, getInput(), getOutput());
+        copy.setError(error);
+        return copy;
+    }
+
     public void setError(String error) {
 
         this.error = error;
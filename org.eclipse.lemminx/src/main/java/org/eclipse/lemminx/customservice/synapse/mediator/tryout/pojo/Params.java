@@ -113,9 +113,9 @@ public class Params {
     public Params deepCopy() {
 
         Params params = new Params();
-        params.addQueryParams(new ArrayList<>(queryParams));
-        params.addPathParams(new ArrayList<>(pathParams));
-        params.addFunctionParams(new ArrayList<>(functionParams));
+        params.addQueryParams(Property.deepCopy(queryParams));
+        params.addPathParams(Property.deepCopy(pathParams));
+        params.addFunctionParams(Property.deepCopy(functionParams));
         return params;
     }
 
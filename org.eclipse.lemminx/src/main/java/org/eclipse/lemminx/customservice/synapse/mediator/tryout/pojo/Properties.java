@@ -134,11 +134,11 @@ public class Properties {
     public Properties deepCopy() {
 
         Properties properties = new Properties();
-        properties.addSynapseProperties(new ArrayList<>(synapse));
-        properties.addAxis2Properties(new ArrayList<>(axis2));
-        properties.addAxis2ClientProperties(new ArrayList<>(axis2Client));
-        properties.addAxis2TransportProperties(new ArrayList<>(axis2Transport));
-        properties.addAxis2OperationProperties(new ArrayList<>(axis2Operation));
+        properties.addSynapseProperties(Property.deepCopy(synapse));
+        properties.addAxis2Properties(Property.deepCopy(axis2));
+        properties.addAxis2ClientProperties(Property.deepCopy(axis2Client));
+        properties.addAxis2TransportProperties(Property.deepCopy(axis2Transport));
+        properties.addAxis2OperationProperties(Property.deepCopy(axis2Operation));
         return properties;
     }
 
@@ -99,11 +99,27 @@ public class Property {
 
         Property property = new Property(key, value, description);
         if (properties != null) {
-            property.setProperties(new ArrayList<>(properties));
+            property.setProperties(deepCopy(properties));
         }
         return property;
     }
 
+    /**
+     * Copy the given properties along with their nested properties, so that the copies can be modified without
+     * affecting the originals.
+     *
+     * @param properties the properties to copy
+     * @return the copied properties
+     */
+    public static List<Property> deepCopy(List<Property> properties) {
+
+        List<Property> copies = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            copies.add(property != null ? property.deepCopy() : null);
+        }
+        return copies;
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -15,6 +15,8 @@
 package org.eclipse.lemminx.customservice.synapse.mediatorService;
 
 import com.github.mustachejava.Mustache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -25,6 +27,7 @@ import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.OperationParameter;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.mediators.MediatorFactoryFinder;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
@@ -46,8 +49,11 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -65,16 +71,24 @@ import static org.eclipse.lemminx.customservice.synapse.utils.UISchemaMapper.map
 public class MediatorHandler {
 
     private static final Logger LOGGER = Logger.getLogger(MediatorHandler.class.getName());
+    private static final int MAX_CACHED_UI_SCHEMAS = 100;
     private JsonObject mediatorList;
     private JsonObject agentToolList;
     private Map<String, JsonObject> uiSchemaMap;
     private Map<String, Mustache> templateMap;
+    private Map<String, MediatorProcessor> mediatorProcessors;
     private ConnectorHolder connectorHolder;
     private boolean isInitialized;
     private Gson gson;
     private String miServerVersion;
     private AIConnectorHandler aiConnectorHandler;
     private String projectUri;
+    // UI schemas with values keyed by the document state and the position, as a mediator form is reopened often
+    private final Cache<String, JsonObject> uiSchemasWithValues =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_UI_SCHEMAS).build();
+    // UI schemas of connector operations keyed by the schema file and its modification time
+    private final Cache<String, JsonObject> connectorUISchemas =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_UI_SCHEMAS).build();
 
     public void init(String projectUri, String projectServerVersion, ConnectorHolder connectorHolder) {
 
@@ -100,9 +114,42 @@ public class MediatorHandler {
                 + projectServerVersion.replace(".", "") + "/templates");
         this.uiSchemaMap = Utils.getUISchemaMap("org/eclipse/lemminx/mediators/"
                 + projectServerVersion.replace(".", "") + "/ui-schemas");
+        this.mediatorProcessors = createMediatorProcessors(mediatorList);
+        invalidateUISchemas();
         this.isInitialized = true;
     }
 
+    /**
+     * Resolves the processing class, methods and template of each mediator once, so that generating the synapse
+     * configuration and the UI schema of a mediator neither scans the mediator list nor uses reflection.
+     */
+    private Map<String, MediatorProcessor> createMediatorProcessors(JsonObject mediatorList) {
+
+        Map<String, MediatorProcessor> processors = new HashMap<>();
+        if (mediatorList == null) {
+            return processors;
+        }
+        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
+            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
+                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
+                continue;
+            }
+            for (JsonElement mediatorElement : getMediatorsArrayForCategory(entry.getValue())) {
+                JsonObject mediatorObject = mediatorElement.getAsJsonObject();
+                String tag = mediatorObject.get(Constant.TAG).getAsString();
+                if (!mediatorObject.has(Constant.PROCESSING_CLASS) || processors.containsKey(tag)) {
+                    continue;
+                }
+                try {
+                    processors.put(tag, new MediatorProcessor(mediatorObject, templateMap.get(tag)));
+                } catch (ReflectiveOperationException e) {
+                    LOGGER.log(Level.SEVERE, String.format("Failed to load the processor of mediator: %s", tag), e);
+                }
+            }
+        }
+        return processors;
+    }
+
     public JsonObject getSupportedMediators(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
@@ -133,29 +180,110 @@ public class MediatorHandler {
                                                        Map<String, Object> data, List<String> dirtyFields) {
 
         try {
-            boolean isUpdate = !range.getEnd().equals(range.getStart());
-            STNode node = null;
-            if (StringUtils.isNotEmpty(documentUri) && Files.exists(Path.of(documentUri))) {
-                node = getMediatorNodeAtPosition(Utils.getDOMDocument(new File(documentUri)), range.getStart(),
-                        isUpdate);
+            return generateSynapseConfig(getDocument(documentUri), documentUri, range, mediator, data, dirtyFields);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while generating Synapse configuration.", e);
+        }
+        return null;
+    }
+
+    /**
+     * Generates the Synapse configuration of several mediators of the same document. The document is parsed once and
+     * the edits of all the mediators are merged into a single response.
+     *
+     * @param documentUri the document path
+     * @param configs     the mediators to generate, where all the ranges refer to the current document. A mediator
+     *                    with the document path of another document is skipped.
+     * @return the merged edits, where an edit overlapping an edit of a previous mediator is dropped
+     */
+    public SynapseConfigResponse generateSynapseConfigs(String documentUri, List<SynapseConfigRequest> configs) {
+
+        SynapseConfigResponse response = new SynapseConfigResponse();
+        DOMDocument document;
+        try {
+            document = getDocument(documentUri);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while generating Synapse configuration.", e);
+            return null;
+        }
+        for (SynapseConfigRequest config : configs) {
+            // The ranges of an item of another document cannot be applied to this document
+            if (!isSameDocument(documentUri, config.documentUri)) {
+                LOGGER.log(Level.WARNING, String.format("Skipped mediator %s as its document %s is not the " +
+                        "document of the request.", config.mediatorType, config.documentUri));
+                continue;
             }
-            if (isRequestedForAgentTool(documentUri, range.getStart())) {
-                return aiConnectorHandler.generateAgentToolConfig(documentUri, range, mediator, data, dirtyFields,
-                        isUpdate);
-            } else if (isAIConnector(node, mediator)) {
-                return aiConnectorHandler.generateAIConnectorConfig(node, mediator, data, range);
-            } else if (isConnector(node, mediator)) {
-                return generateConnectorSynapseConfig(node, mediator, data, range);
-            } else {
-                return generateMediatorSynapseConfig(node, mediator, data, dirtyFields, range);
+            try {
+                SynapseConfigResponse configResponse = generateSynapseConfig(document, documentUri, config.range,
+                        config.mediatorType, config.values, config.dirtyFields);
+                if (configResponse != null) {
+                    addNonOverlappingEdits(response, configResponse.getTextEdits(), config.mediatorType);
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, String.format("Error occurred while generating Synapse configuration " +
+                        "for mediator: %s", config.mediatorType), e);
             }
+        }
+        // The edits are serialized from the field of the response, hence sorted here
+        response.sort();
+        return response;
+    }
 
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while generating Synapse configuration.", e);
+    private DOMDocument getDocument(String documentUri) throws IOException {
+
+        if (StringUtils.isNotEmpty(documentUri) && Files.exists(Path.of(documentUri))) {
+            return Utils.getDOMDocument(new File(documentUri));
         }
         return null;
     }
 
+    /**
+     * Generates the Synapse configuration of a mediator of the given parsed document.
+     */
+    protected SynapseConfigResponse generateSynapseConfig(DOMDocument document, String documentUri, Range range,
+                                                          String mediator, Map<String, Object> data,
+                                                          List<String> dirtyFields) throws Exception {
+
+        boolean isUpdate = !range.getEnd().equals(range.getStart());
+        STNode node = null;
+        if (document != null) {
+            node = getMediatorNodeAtPosition(document, range.getStart(), isUpdate);
+        }
+        boolean isAgentTool = document != null ? isRequestedForAgentTool(document, range.getStart()) :
+                isRequestedForAgentTool(documentUri, range.getStart());
+        if (isAgentTool) {
+            return aiConnectorHandler.generateAgentToolConfig(documentUri, range, mediator, data, dirtyFields,
+                    isUpdate);
+        } else if (isAIConnector(node, mediator)) {
+            return aiConnectorHandler.generateAIConnectorConfig(node, mediator, data, range);
+        } else if (isConnector(node, mediator)) {
+            return generateConnectorSynapseConfig(node, mediator, data, range);
+        } else {
+            return generateMediatorSynapseConfig(node, mediator, data, dirtyFields, range);
+        }
+    }
+
+    private void addNonOverlappingEdits(SynapseConfigResponse response, List<TextEdit> edits, String mediator) {
+
+        for (TextEdit edit : edits) {
+            if (!response.addTextEditIfNotOverlapping(edit)) {
+                LOGGER.log(Level.WARNING, String.format("Skipped an edit of mediator %s as it overlaps an edit " +
+                        "of a previous mediator.", mediator));
+            }
+        }
+    }
+
+    private boolean isSameDocument(String documentUri, String configDocumentUri) {
+
+        if (StringUtils.isEmpty(configDocumentUri)) {
+            return true;
+        }
+        if (StringUtils.isEmpty(documentUri)) {
+            return false;
+        }
+        return Path.of(documentUri).normalize().equals(Path.of(configDocumentUri).normalize());
+    }
+
     private boolean isAIConnector(STNode node, String mediator) {
 
         return node instanceof AIConnector || (StringUtils.isNotEmpty(mediator) && mediator.startsWith("ai."));
@@ -324,71 +452,46 @@ public class MediatorHandler {
     }
 
     private SynapseConfigResponse generateMediatorSynapseConfig(STNode node, String mediator, Map<String, Object> data,
-                                                                List<String> dirtyFields,
-                                                                Range range)
-            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-            IllegalAccessException {
+                                                                List<String> dirtyFields, Range range) {
 
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
+        MediatorProcessor processor = mediatorProcessors.get(mediator);
+        if (processor == null) {
+            return null;
+        }
+        if (mediator.equals(Constant.DATA_MAPPER) && data.get(Constant.NAME).toString().contains("gov:datamapper")) {
+            String name = (String) data.get(Constant.NAME);
+            String dmName = name.substring(name.lastIndexOf("/") + 1);
+            String dmcPath = Path.of(projectUri, Constant.SRC, Constant.MAIN, Constant.WSO2MI,
+                    Constant.RESOURCES, Constant.REGISTRY, Constant.GOV,
+                    Constant.DATA_MAPPER, dmName + ".dmc").toString();
+            if (Files.exists(Path.of(dmcPath))) {
+                data.put(Constant.NAME, data.get(Constant.NAME) + ".dmc");
             }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediatorObject = mediatorElement.getAsJsonObject();
-                if (mediator.equals(mediatorObject.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediatorObject.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediatorObject.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediatorObject.get(Constant.STORE_METHOD).getAsString();
-                    if(mediator.equals(Constant.DATA_MAPPER) && data.get(Constant.NAME).toString().contains("gov:datamapper")){
-                        String name = (String) data.get(Constant.NAME);
-                        String dmName = name.substring(name.lastIndexOf("/") + 1);
-                        String dmcPath = Path.of(projectUri, Constant.SRC, Constant.MAIN, Constant.WSO2MI,
-                                Constant.RESOURCES, Constant.REGISTRY, Constant.GOV,
-                                Constant.DATA_MAPPER, dmName + ".dmc").toString();
-                        if(Files.exists(Path.of(dmcPath))){
-                            data.put(Constant.NAME, data.get(Constant.NAME) + ".dmc");
-                        }
-                    }
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Map.class, Class.forName(mediatorClass),
-                                    List.class);
-                    if (!Class.forName(mediatorClass).isInstance(node)) {
-                        node = null;
-                    }
-                    @SuppressWarnings("unchecked")
-                    Either<Map<String, Object>, Map<Range, Map<String, Object>>>
-                            processedData =
-                            (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) processorMethod.invoke(
-                                    processorInstance, data, node, dirtyFields);
-                    if (processedData.isLeft()) {
-                        StringWriter writer = new StringWriter();
-                        String edit =
-                                templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
-                        TextEdit textEdit = new TextEdit(range, edit);
-                        return new SynapseConfigResponse(textEdit);
-                    } else {
-                        Map<Range, Map<String, Object>> editsData = processedData.getRight();
-                        SynapseConfigResponse edits = new SynapseConfigResponse();
-                        for (Map.Entry<Range, Map<String, Object>> entry1 : editsData.entrySet()) {
-                            StringWriter writer = new StringWriter();
-                            String edit =
-                                    templateMap.get(mediator).execute(writer, entry1.getValue()).toString().trim();
-                            if (isBlankEdit(entry1.getKey(), edit)) {
-                                continue;
-                            }
-                            TextEdit textEdit = new TextEdit(entry1.getKey(), edit);
-                            edits.addTextEdit(textEdit);
-                        }
-                        return edits;
-                    }
+        }
+        if (!processor.mediatorClass.isInstance(node)) {
+            node = null;
+        }
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processedData =
+                processor.processData(data, node, dirtyFields);
+        if (processedData.isLeft()) {
+            StringWriter writer = new StringWriter();
+            String edit = processor.template.execute(writer, processedData.getLeft()).toString().trim();
+            TextEdit textEdit = new TextEdit(range, edit);
+            return new SynapseConfigResponse(textEdit);
+        } else {
+            Map<Range, Map<String, Object>> editsData = processedData.getRight();
+            SynapseConfigResponse edits = new SynapseConfigResponse();
+            for (Map.Entry<Range, Map<String, Object>> entry : editsData.entrySet()) {
+                StringWriter writer = new StringWriter();
+                String edit = processor.template.execute(writer, entry.getValue()).toString().trim();
+                if (isBlankEdit(entry.getKey(), edit)) {
+                    continue;
                 }
+                TextEdit textEdit = new TextEdit(entry.getKey(), edit);
+                edits.addTextEdit(textEdit);
             }
+            return edits;
         }
-        return null;
     }
 
     private boolean isBlankEdit(Range range, String edit) {
@@ -418,18 +521,35 @@ public class MediatorHandler {
     public JsonObject getUISchemaWithValues(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
+            String cacheKey = getUISchemaCacheKey(documentIdentifier.getUri(), position);
+            JsonObject uiSchema = uiSchemasWithValues.getIfPresent(cacheKey);
+            if (uiSchema != null) {
+                return uiSchema.deepCopy();
+            }
             DOMDocument document = Utils.getDOMDocumentFromPath(documentIdentifier.getUri());
-            if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
+            if (isRequestedForAgentTool(document, position)) {
+                // Not cached as the tool schema also depends on the referred templates
                 return aiConnectorHandler.getToolSchemaWithValues(document, position);
             }
             STNode node = getMediatorNodeAtPosition(document, position, Boolean.TRUE);
-            return getUISchemaForSTNode(node);
+            uiSchema = getUISchemaForSTNode(node);
+            if (uiSchema != null) {
+                uiSchemasWithValues.put(cacheKey, uiSchema.deepCopy());
+            }
+            return uiSchema;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error occurred while updating UI schema with existing values.", e);
         }
         return null;
     }
 
+    private String getUISchemaCacheKey(String documentUri, Position position) {
+
+        File documentFile = new File(Utils.getAbsolutePath(documentUri));
+        return String.format("%s:%d:%d:%d:%d", documentFile.getAbsolutePath(), documentFile.lastModified(),
+                documentFile.length(), position.getLine(), position.getCharacter());
+    }
+
     protected JsonObject getUISchemaForSTNode(STNode node) throws Exception {
 
         if (node != null) {
@@ -448,33 +568,15 @@ public class MediatorHandler {
         return UISchemaMapper.mapInputToUISchemaForConnector(connector, uiSchema);
     }
 
-    private JsonObject getUISchemaWithValuesForMediator(STNode node)
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, ClassNotFoundException,
-            InstantiationException {
+    private JsonObject getUISchemaWithValuesForMediator(STNode node) {
 
         String mediatorName = node.getTag();
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
-            }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediator = mediatorElement.getAsJsonObject();
-                if (mediatorName.equals(mediator.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediator.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediator.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediator.get(Constant.RETRIEVE_METHOD).getAsString();
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Class.forName(mediatorClass));
-                    Object data = processorMethod.invoke(processorInstance, node);
-                    JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
-                    return UISchemaMapper.mapInputToUISchema(dataJson,
-                            findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
-                }
-            }
+        MediatorProcessor processor = mediatorProcessors.get(mediatorName);
+        if (processor != null) {
+            Object data = processor.getData(node);
+            JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
+            return UISchemaMapper.mapInputToUISchema(dataJson,
+                    findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
         }
         return uiSchemaMap.get(mediatorName);
     }
@@ -597,12 +699,22 @@ public class MediatorHandler {
             if (StringUtils.isEmpty(documentPath) || Files.notExists(Path.of(documentPath))) {
                 return false;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(documentPath));
+            return isRequestedForAgentTool(Utils.getDOMDocument(new File(documentPath)), position);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while checking if the tool schema is requested.", e);
+        }
+        return false;
+    }
+
+    private boolean isRequestedForAgentTool(DOMDocument document, Position position) {
+
+        if (document == null || position == null) {
+            return false;
+        }
+        try {
             int offset = document.offsetAt(position);
             DOMNode currentNode = document.findNodeAt(offset);
-            if (isInsideAiAgent(currentNode)) {
-                return true;
-            }
+            return isInsideAiAgent(currentNode);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error occurred while checking if the tool schema is requested.", e);
         }
@@ -637,7 +749,7 @@ public class MediatorHandler {
             if (operation != null) {
                 String uiSchemaPath = operation.getUiSchemaPath();
                 try {
-                    JsonObject uiSchemaObject = Utils.getJsonObject(Utils.readFile(new File(uiSchemaPath)));
+                    JsonObject uiSchemaObject = getConnectorOperationUISchema(uiSchemaPath);
                     boolean isTryoutSupported = Utils.compareVersions(miServerVersion, Constant.MI_430_VERSION) > 0;
                     uiSchemaObject.addProperty(Constant.CAN_TRY_OUT, isTryoutSupported);
                     JsonObject resultObject = new JsonObject();
@@ -654,6 +766,22 @@ public class MediatorHandler {
         return null;
     }
 
+    private JsonObject getConnectorOperationUISchema(String uiSchemaPath) throws IOException {
+
+        File uiSchemaFile = new File(uiSchemaPath);
+        String cacheKey = uiSchemaPath + ":" + uiSchemaFile.lastModified();
+        JsonObject uiSchema = connectorUISchemas.getIfPresent(cacheKey);
+        if (uiSchema == null) {
+            uiSchema = Utils.getJsonObject(Utils.readFile(uiSchemaFile));
+            if (uiSchema == null) {
+                return null;
+            }
+            connectorUISchemas.put(cacheKey, uiSchema);
+        }
+        // The cached schema is shared, hence the values are mapped to a copy
+        return uiSchema.deepCopy();
+    }
+
     public boolean isInitialized() {
 
         return isInitialized;
@@ -664,9 +792,21 @@ public class MediatorHandler {
         try {
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.mediatorProcessors = createMediatorProcessors(mediatorList);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to reload mediators.", e);
         }
+        invalidateUISchemas();
+    }
+
+    /**
+     * Drops the cached UI schemas. The cache key only covers the state of the document, hence this is called when the
+     * other inputs of a UI schema change, i.e. the mediators, the connectors or the resources of the project.
+     */
+    public void invalidateUISchemas() {
+
+        uiSchemasWithValues.invalidateAll();
+        connectorUISchemas.invalidateAll();
     }
 
     /**
@@ -679,4 +819,67 @@ public class MediatorHandler {
 
         return templateMap.get(key);
     }
+
+    /**
+     * The processing class, methods and template of a mediator, resolved from the mediator list.
+     */
+    private static class MediatorProcessor {
+
+        private static final MethodType STORE_METHOD_TYPE =
+                MethodType.methodType(Either.class, Map.class, Object.class, List.class);
+        private static final MethodType RETRIEVE_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final Class<?> mediatorClass;
+        private final MethodHandle storeMethod;
+        private final MethodHandle retrieveMethod;
+        private final Mustache template;
+
+        MediatorProcessor(JsonObject mediator, Mustache template) throws ReflectiveOperationException {
+
+            this.mediatorClass = Class.forName(mediator.get(Constant.MEDIATOR_CLASS).getAsString());
+            Class<?> processingClass = Class.forName(mediator.get(Constant.PROCESSING_CLASS).getAsString());
+            Object processorInstance = processingClass.getDeclaredConstructor().newInstance();
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.storeMethod = getMethodHandle(lookup, processorInstance, processingClass.getMethod(
+                    mediator.get(Constant.STORE_METHOD).getAsString(), Map.class, mediatorClass, List.class))
+                    .asType(STORE_METHOD_TYPE);
+            this.retrieveMethod = getMethodHandle(lookup, processorInstance, processingClass.getMethod(
+                    mediator.get(Constant.RETRIEVE_METHOD).getAsString(), mediatorClass))
+                    .asType(RETRIEVE_METHOD_TYPE);
+            this.template = template;
+        }
+
+        private static MethodHandle getMethodHandle(MethodHandles.Lookup lookup, Object processorInstance,
+                                                    Method method) throws IllegalAccessException {
+
+            MethodHandle methodHandle = lookup.unreflect(method);
+            return Modifier.isStatic(method.getModifiers()) ? methodHandle : methodHandle.bindTo(processorInstance);
+        }
+
+        @SuppressWarnings("unchecked")
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processData(Map<String, Object> data,
+                                                                                STNode node,
+                                                                                List<String> dirtyFields) {
+
+            try {
+                return (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) storeMethod.invokeExact(data,
+                        (Object) node, dirtyFields);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Object getData(STNode node) {
+
+            try {
+                return (Object) retrieveMethod.invokeExact((Object) node);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
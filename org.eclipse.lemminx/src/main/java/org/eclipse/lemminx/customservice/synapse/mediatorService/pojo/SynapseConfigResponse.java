@@ -14,6 +14,8 @@
 
 package org.eclipse.lemminx.customservice.synapse.mediatorService.pojo;
 
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.util.ArrayList;
@@ -45,6 +47,34 @@ public class SynapseConfigResponse {
         textEdits.add(edit);
     }
 
+    /**
+     * Add the given edit unless it overlaps an added edit. Insertions at the same position, or at the boundary of the
+     * range of another edit, do not overlap.
+     *
+     * @param edit the edit to add
+     * @return whether the edit was added
+     */
+    public boolean addTextEditIfNotOverlapping(TextEdit edit) {
+
+        for (TextEdit addedEdit : textEdits) {
+            if (isOverlapping(addedEdit.getRange(), edit.getRange())) {
+                return false;
+            }
+        }
+        textEdits.add(edit);
+        return true;
+    }
+
+    private static boolean isOverlapping(Range range1, Range range2) {
+
+        return !XMLPositionUtility.isBeforeOrEqual(range2.getEnd(), range1.getStart()) &&
+                !XMLPositionUtility.isBeforeOrEqual(range1.getEnd(), range2.getStart());
+    }
+
+    /**
+     * Sort the edits by their start position in descending order. The sort is stable, hence edits starting at the same
+     * position keep the order they were added in.
+     */
     public void sort() {
 
         textEdits.sort((o1, o2) -> {
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import com.google.common.io.BaseEncoding;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downloads artifacts from a Maven repository into the {@link ArtifactStore} shared by all the projects.
+ * <p>
+ * At most a fixed number of artifacts are downloaded at a time, and an artifact which is requested again while it is
+ * being downloaded, e.g. by another project, is downloaded only once. An interrupted download is resumed from the
+ * partially downloaded file with an HTTP range request, and the downloaded content is verified against the SHA-1
+ * checksum published in the repository before it is stored.
+ * </p>
+ * <p>
+ * A released artifact never changes once stored. A SNAPSHOT artifact is redeployed under the same path, hence a
+ * stored SNAPSHOT is only reused while its checksum matches the one published in the repository.
+ * </p>
+ */
+public class ArtifactDownloadManager {
+
+    private static final Logger LOGGER = Logger.getLogger(ArtifactDownloadManager.class.getName());
+    private static final String DEFAULT_REPOSITORY_URL = "https://maven.wso2.org/nexus/content/groups/public/";
+    private static final String ARTIFACTS = "artifacts";
+    private static final String CHECKSUM_EXTENSION = ".sha1";
+    private static final String SNAPSHOT = "-SNAPSHOT";
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CONNECT_TIMEOUT = 20_000;
+    private static final int READ_TIMEOUT = 40_000;
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("^\\s*([0-9a-fA-F]{40})\\b");
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("^bytes (\\d+)-");
+
+    private final String repositoryUrl;
+    private final ArtifactStore store;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a download manager.
+     *
+     * @param repositoryUrl  the base URL of the Maven repository
+     * @param storeDirectory the directory of the artifact store
+     * @param parallelism    the maximum number of artifacts downloaded at a time
+     */
+    public ArtifactDownloadManager(String repositoryUrl, Path storeDirectory, int parallelism) {
+
+        this.repositoryUrl = repositoryUrl.endsWith("/") ? repositoryUrl : repositoryUrl + "/";
+        this.store = new ArtifactStore(storeDirectory);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "artifact-download-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the download manager of the WSO2 Maven repository, which stores the artifacts under the WSO2 MI
+     * directory of the user home.
+     *
+     * @return the default download manager
+     */
+    public static ArtifactDownloadManager getInstance() {
+
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Download the given artifact into the store, unless it is already stored.
+     *
+     * @param groupId    the group ID of the artifact
+     * @param artifactId the artifact ID of the artifact
+     * @param version    the version of the artifact
+     * @param type       the file type of the artifact, e.g. zip, car or jar
+     * @return the future which completes with the stored content of the artifact
+     */
+    public CompletableFuture<Path> downloadAsync(String groupId, String artifactId, String version, String type) {
+
+        String artifactPath = String.format("%s/%s/%s/%s-%s.%s", groupId.replace(".", "/"), artifactId, version,
+                artifactId, version, type);
+        boolean snapshot = version.endsWith(SNAPSHOT);
+        if (!snapshot) {
+            Path storedArtifact = store.getArtifact(artifactPath);
+            if (storedArtifact != null) {
+                return CompletableFuture.completedFuture(storedArtifact);
+            }
+        }
+        CompletableFuture<Path> download = downloads.computeIfAbsent(artifactPath,
+                key -> CompletableFuture.supplyAsync(() -> download(key, snapshot), executor));
+        download.whenComplete((artifact, error) -> downloads.remove(artifactPath, download));
+        return download;
+    }
+
+    /**
+     * Download the given artifact into the store, unless it is already stored, and wait for the download.
+     *
+     * @param groupId    the group ID of the artifact
+     * @param artifactId the artifact ID of the artifact
+     * @param version    the version of the artifact
+     * @param type       the file type of the artifact, e.g. zip, car or jar
+     * @return the stored content of the artifact
+     * @throws IOException if the artifact cannot be downloaded
+     */
+    public Path download(String groupId, String artifactId, String version, String type) throws IOException {
+
+        return getResult(downloadAsync(groupId, artifactId, version, type));
+    }
+
+    /**
+     * Wait for the given download.
+     *
+     * @param download the download returned by {@link #downloadAsync}
+     * @return the stored content of the artifact
+     * @throws IOException if the artifact cannot be downloaded
+     */
+    public static Path getResult(CompletableFuture<Path> download) throws IOException {
+
+        try {
+            return download.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private Path download(String artifactPath, boolean snapshot) {
+
+        // Another process sharing the store may be downloading the same artifact, and may have stored it meanwhile
+        try (Closeable lock = store.lockDownload(artifactPath)) {
+            Path storedArtifact = store.getArtifact(artifactPath);
+            if (storedArtifact != null && !snapshot) {
+                return storedArtifact;
+            }
+            String url = repositoryUrl + artifactPath;
+            String expectedChecksum = getChecksum(url + CHECKSUM_EXTENSION);
+            Path partialFile = store.getPartialFile(artifactPath);
+            if (snapshot) {
+                if (storedArtifact != null && expectedChecksum != null &&
+                        expectedChecksum.equals(store.getChecksum(artifactPath))) {
+                    return storedArtifact;
+                }
+                // The partial file may belong to an earlier deployment of the snapshot
+                Files.deleteIfExists(partialFile);
+            }
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    transfer(url, partialFile);
+                    break;
+                } catch (FileNotFoundException e) {
+                    throw e;
+                } catch (IOException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    LOGGER.log(Level.WARNING, "Download of " + url + " was interrupted, resuming: " + e.getMessage());
+                }
+            }
+            String checksum = getChecksum(partialFile);
+            if (expectedChecksum != null && !expectedChecksum.equals(checksum)) {
+                // The partial file is not resumed again, as its content is invalid
+                Files.deleteIfExists(partialFile);
+                throw new IOException("Checksum of " + url + " does not match, expected " + expectedChecksum +
+                        " but was " + checksum);
+            }
+            LOGGER.log(Level.INFO, "Artifact downloaded: " + url);
+            return store.addArtifact(artifactPath, partialFile, checksum);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while downloading artifact: " + artifactPath + ". Error: " +
+                    e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Download the given URL to the given file, continuing from the end of the file if it already exists.
+     */
+    private static void transfer(String url, Path file) throws IOException {
+
+        long offset = Files.exists(file) ? Files.size(file) : 0;
+        HttpURLConnection connection = openConnection(url);
+        try {
+            if (offset > 0) {
+                connection.setRequestProperty("Range", "bytes=" + offset + "-");
+            }
+            int responseCode = connection.getResponseCode();
+            boolean append;
+            if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+                append = true;
+                if (getContentRangeStart(connection) != offset) {
+                    Files.deleteIfExists(file);
+                    throw new IOException("Unexpected content range: " + connection.getHeaderField("Content-Range"));
+                }
+            } else if (responseCode == HttpURLConnection.HTTP_OK) {
+                append = false;
+            } else if (responseCode == 416 && offset > 0) {
+                // Range not satisfiable, i.e. the file has been downloaded completely. Its checksum is verified next.
+                return;
+            } else if (responseCode == HttpURLConnection.HTTP_NOT_FOUND) {
+                throw new FileNotFoundException("Artifact not found: " + url);
+            } else {
+                throw new IOException("Unexpected response code " + responseCode + " for " + url);
+            }
+            try (InputStream in = connection.getInputStream();
+                 OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                         append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long totalBytesRead = 0;
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, bytesRead);
+                    totalBytesRead += bytesRead;
+                }
+                long contentLength = connection.getContentLengthLong();
+                if (contentLength >= 0 && totalBytesRead != contentLength) {
+                    throw new IOException("Connection closed after " + totalBytesRead + " of " + contentLength +
+                            " bytes");
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static long getContentRangeStart(HttpURLConnection connection) {
+
+        String contentRange = connection.getHeaderField("Content-Range");
+        Matcher matcher = CONTENT_RANGE_PATTERN.matcher(contentRange != null ? contentRange : "");
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Get the checksum published in the repository for an artifact.
+     *
+     * @return the checksum, or null if the repository does not publish a checksum for the artifact
+     */
+    private static String getChecksum(String checksumUrl) throws IOException {
+
+        HttpURLConnection connection = openConnection(checksumUrl);
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                LOGGER.log(Level.WARNING, "No checksum found for artifact, it will not be verified: " + checksumUrl);
+                return null;
+            }
+            try (InputStream in = connection.getInputStream()) {
+                Matcher matcher = CHECKSUM_PATTERN.matcher(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                return matcher.find() ? matcher.group(1).toLowerCase() : null;
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String getChecksum(Path file) throws IOException {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, bytesRead);
+            }
+        }
+        return BaseEncoding.base16().lowerCase().encode(digest.digest());
+    }
+
+    private static HttpURLConnection openConnection(String url) throws IOException {
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+        return connection;
+    }
+
+    private static class InstanceHolder {
+
+        private static final ArtifactDownloadManager INSTANCE = new ArtifactDownloadManager(DEFAULT_REPOSITORY_URL,
+                Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, ARTIFACTS), DEFAULT_PARALLELISM);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import com.google.common.util.concurrent.Striped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Content addressed store of the artifacts downloaded from a Maven repository, shared by all the projects. The content
+ * of an artifact is stored once under its SHA-1 checksum, and an index maps the repository path of each artifact to
+ * the checksum of its content. The store also keeps the partially downloaded artifacts, so that an interrupted
+ * download can be resumed.
+ * <p>
+ * The store is shared by the language servers of all the open workspaces, hence an artifact is downloaded while
+ * holding the lock of its lock file, see {@link #lockDownload(String)}.
+ * </p>
+ * <pre>
+ * store
+ *  ├── blobs/&lt;first two characters of the checksum&gt;/&lt;checksum&gt;
+ *  ├── index/&lt;repository path&gt;.sha1
+ *  └── partial/&lt;repository path&gt;.part, &lt;repository path&gt;.lock
+ * </pre>
+ */
+public class ArtifactStore {
+
+    private static final Logger LOGGER = Logger.getLogger(ArtifactStore.class.getName());
+    private static final String BLOBS = "blobs";
+    private static final String INDEX = "index";
+    private static final String PARTIAL = "partial";
+    private static final String INDEX_EXTENSION = ".sha1";
+    private static final String PARTIAL_EXTENSION = ".part";
+    private static final String LOCK_EXTENSION = ".lock";
+    // A file lock is held by the JVM, hence the threads of this JVM are serialized before locking the file
+    private static final Striped<Lock> DOWNLOAD_LOCKS = Striped.lock(64);
+
+    private final Path root;
+
+    public ArtifactStore(Path root) {
+
+        this.root = root;
+    }
+
+    /**
+     * Get the stored content of the given artifact.
+     *
+     * @param artifactPath the repository path of the artifact, e.g. org/wso2/foo/1.0.0/foo-1.0.0.zip
+     * @return the stored content of the artifact, or null if the artifact has not been stored
+     */
+    public Path getArtifact(String artifactPath) {
+
+        String checksum = getChecksum(artifactPath);
+        if (checksum == null) {
+            return null;
+        }
+        Path blob = getBlob(checksum);
+        return Files.isRegularFile(blob) ? blob : null;
+    }
+
+    /**
+     * Get the checksum of the stored content of the given artifact.
+     *
+     * @param artifactPath the repository path of the artifact
+     * @return the checksum, or null if the artifact has not been stored
+     */
+    String getChecksum(String artifactPath) {
+
+        Path indexFile = root.resolve(INDEX).resolve(artifactPath + INDEX_EXTENSION);
+        try {
+            String checksum = Files.readString(indexFile, StandardCharsets.UTF_8).trim();
+            getBlob(checksum);
+            return checksum;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Could not read the artifact store index: " + indexFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Lock the download of the given artifact against the other threads and processes sharing the store, which
+     * would otherwise write to the same partial file. The lock file is kept, as a process may be waiting on it.
+     *
+     * @param artifactPath the repository path of the artifact
+     * @return the lock, which is released when closed
+     * @throws IOException if the lock file cannot be locked
+     */
+    Closeable lockDownload(String artifactPath) throws IOException {
+
+        Path lockFile = root.resolve(PARTIAL).resolve(artifactPath + LOCK_EXTENSION);
+        Files.createDirectories(lockFile.getParent());
+        Lock lock = DOWNLOAD_LOCKS.get(lockFile);
+        lock.lock();
+        try {
+            FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                channel.lock();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return () -> {
+                try {
+                    // Closing the channel releases the file lock
+                    channel.close();
+                } finally {
+                    lock.unlock();
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the file the given artifact is downloaded to until its download is complete. The file is kept if the
+     * download fails, so that the next download of the artifact can continue from where it stopped.
+     *
+     * @param artifactPath the repository path of the artifact
+     * @return the partial file of the artifact, which may not exist
+     * @throws IOException if the partial file directory cannot be created
+     */
+    Path getPartialFile(String artifactPath) throws IOException {
+
+        Path partialFile = root.resolve(PARTIAL).resolve(artifactPath + PARTIAL_EXTENSION);
+        Files.createDirectories(partialFile.getParent());
+        return partialFile;
+    }
+
+    /**
+     * Add the downloaded content of an artifact to the store. The file is moved into the store, unless the same
+     * content is already stored for another artifact or project, in which case the file is deleted.
+     *
+     * @param artifactPath the repository path of the artifact
+     * @param file         the downloaded content of the artifact
+     * @param checksum     the SHA-1 checksum of the content
+     * @return the stored content of the artifact
+     * @throws IOException if the artifact cannot be stored
+     */
+    Path addArtifact(String artifactPath, Path file, String checksum) throws IOException {
+
+        Path blob = getBlob(checksum);
+        if (Files.isRegularFile(blob)) {
+            Files.delete(file);
+        } else {
+            Files.createDirectories(blob.getParent());
+            Files.move(file, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Path indexFile = root.resolve(INDEX).resolve(artifactPath + INDEX_EXTENSION);
+        Files.createDirectories(indexFile.getParent());
+        // Written to a temporary file first, so that a concurrent reader never sees a partially written index
+        Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+        Files.writeString(tempFile, checksum, StandardCharsets.UTF_8);
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return blob;
+    }
+
+    /**
+     * Place the stored content of an artifact at the given target, e.g. the download directory of a project. The
+     * target is a hard link to the stored content where the file system supports it, and a copy otherwise.
+     *
+     * @param artifact the stored content of the artifact
+     * @param target   the target file
+     * @throws IOException if the target cannot be created
+     */
+    public static void copyTo(Path artifact, Path target) throws IOException {
+
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, artifact);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(artifact, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path getBlob(String checksum) {
+
+        if (!checksum.matches("[0-9a-f]{40}")) {
+            throw new IllegalArgumentException("Invalid artifact checksum: " + checksum);
+        }
+        return root.resolve(BLOBS).resolve(checksum.substring(0, 2)).resolve(checksum);
+    }
+}
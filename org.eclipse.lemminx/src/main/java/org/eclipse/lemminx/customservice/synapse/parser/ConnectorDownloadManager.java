@@ -30,8 +30,10 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -63,11 +65,13 @@ public class ConnectorDownloadManager {
 
         deleteRemovedConnectors(downloadDirectory, dependencies, projectPath);
         List<String> failedDependencies = new ArrayList<>();
+        boolean useLocalMaven = Utils.useLocalMaven(projectPath);
+        // The connectors which are not available locally are downloaded in parallel into the shared artifact store
+        Map<DependencyDetails, CompletableFuture<Path>> downloads = new LinkedHashMap<>();
 
         for (DependencyDetails dependency : dependencies) {
             try {
-                File connector = Path.of(downloadDirectory.getAbsolutePath(),
-                        dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
+                File connector = getConnectorFile(downloadDirectory, dependency);
                 File existingArtifact = null;
                 if (connector.exists() && connector.isFile()) {
                     LOGGER.log(Level.INFO, "Dependency already downloaded: " + connector.getName());
@@ -75,20 +79,45 @@ public class ConnectorDownloadManager {
                         dependency.getArtifact(), dependency.getVersion(), dependency.getType())) != null ) {
                     LOGGER.log(Level.INFO, "Copying dependency from local repository: " + connector.getName());
                     copyFile(existingArtifact.getPath(), downloadDirectory.getPath());
-                } else {
+                } else if (useLocalMaven) {
                     LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
                     Utils.downloadConnector(dependency.getGroupId(), dependency.getArtifact(),
                             dependency.getVersion(), downloadDirectory, Constant.ZIP_EXTENSION_NO_DOT, projectPath);
+                } else {
+                    LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
+                    downloads.put(dependency, ArtifactDownloadManager.getInstance().downloadAsync(
+                            dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                            Constant.ZIP_EXTENSION_NO_DOT));
                 }
             } catch (Exception e) {
-                String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
-                LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
-                failedDependencies.add(failedDependency);
+                handleFailedDependency(dependency, e, failedDependencies);
+            }
+        }
+        for (Map.Entry<DependencyDetails, CompletableFuture<Path>> download : downloads.entrySet()) {
+            try {
+                Path artifact = ArtifactDownloadManager.getResult(download.getValue());
+                ArtifactStore.copyTo(artifact, getConnectorFile(downloadDirectory, download.getKey()).toPath());
+            } catch (IOException e) {
+                handleFailedDependency(download.getKey(), e, failedDependencies);
             }
         }
         return failedDependencies;
     }
 
+    private static File getConnectorFile(File downloadDirectory, DependencyDetails dependency) {
+
+        return Path.of(downloadDirectory.getAbsolutePath(),
+                dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
+    }
+
+    private static void handleFailedDependency(DependencyDetails dependency, Exception e,
+                                               List<String> failedDependencies) {
+
+        String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
+        LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
+        failedDependencies.add(failedDependency);
+    }
+
     private static void deleteRemovedConnectors(File downloadDirectory, List<DependencyDetails> dependencies,
                                                 String projectPath) {
 
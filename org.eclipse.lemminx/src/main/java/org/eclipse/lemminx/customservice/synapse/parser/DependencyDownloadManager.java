@@ -14,6 +14,8 @@
 
 package org.eclipse.lemminx.customservice.synapse.parser;
 
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
@@ -24,8 +26,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser.getPomDetails;
-
 /**
  * Manages the downloading of project dependencies defined in a Maven pom.xml file.
  * Handles both connector and integration project dependencies, logging failures if any occur.
@@ -44,17 +44,12 @@ public class DependencyDownloadManager {
 
         StringBuilder errorMessage = new StringBuilder();
         boolean hasErrors = false;
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
-        List<DependencyDetails> connectorDependencies =
-                pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
-        List<DependencyDetails> integrationProjectDependencies =
-                pomDetailsResponse.getDependenciesDetails().getIntegrationProjectDependencies();
+        PomModel pomModel = PomModelService.getPomModel(projectPath);
+        List<DependencyDetails> connectorDependencies = pomModel.getConnectorDependencies();
+        List<DependencyDetails> integrationProjectDependencies = pomModel.getIntegrationProjectDependencies();
         List<String> failedConnectorDependencies =
                 ConnectorDownloadManager.downloadDependencies(projectPath, connectorDependencies);
-        Node isVersionedDeployment = pomDetailsResponse.getBuildDetails().getVersionedDeployment();
-        boolean isVersionedDeploymentEnabled = isVersionedDeployment != null ?
-                Boolean.parseBoolean(isVersionedDeployment.getValue()) : false;
+        boolean isVersionedDeploymentEnabled = pomModel.isVersionedDeployment();
         DependencyDownloadResult failedIntegrationProjectDependencies =
                 IntegrationProjectDownloadManager.downloadDependencies(projectPath, integrationProjectDependencies,
                         isVersionedDeploymentEnabled);
@@ -107,12 +102,9 @@ public class DependencyDownloadManager {
     }
 
     public static DependencyStatusResponse getDependencyStatusList(String projectPath) {
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
-        List<DependencyDetails> dependencies = new ArrayList<>(
-                pomDetailsResponse.getDependenciesDetails().getConnectorDependencies()
-        );
-        dependencies.addAll(pomDetailsResponse.getDependenciesDetails().getIntegrationProjectDependencies());
+        PomModel pomModel = PomModelService.getPomModel(projectPath);
+        List<DependencyDetails> dependencies = new ArrayList<>(pomModel.getConnectorDependencies());
+        dependencies.addAll(pomModel.getIntegrationProjectDependencies());
         List<DependencyDetails> downloadedDependencies = new ArrayList<>();
         List<DependencyDetails> pendingDependencies = new ArrayList<>();
         String projectId = new File(projectPath).getName() + "_" + Utils.getHash(projectPath);
@@ -92,6 +92,7 @@ public class IntegrationProjectDownloadManager {
         List<String> versioningMismatchDependencies = new ArrayList<>();
         Set<String> fetchedDependencies = new HashSet<>();
 
+        prefetchDependencies(dependencies, downloadDirectory);
         for (DependencyDetails dependency : dependencies) {
             try {
                 fetchDependencyRecursively(dependency, downloadDirectory, fetchedDependencies, isVersionedDeploymentEnabled);
@@ -159,17 +160,38 @@ public class IntegrationProjectDownloadManager {
         }
 
         // Recursively fetch transitive dependencies
+        prefetchDependencies(transitiveDependencies, downloadDirectory);
         for (DependencyDetails transitiveDependency : transitiveDependencies) {
             fetchDependencyRecursively(transitiveDependency, downloadDirectory, fetchedDependencies, isVersionedDeploymentEnabled);
         }
     }
 
     /**
-     * Fetches the specified dependency file (.car) from the download directory or local repository.
+     * Starts downloading the given dependencies which are available neither in the download directory nor in the
+     * local repository, so that they are downloaded in parallel while the dependencies are fetched one by one.
+     *
+     * @param dependencies      the dependencies to prefetch
+     * @param downloadDirectory the directory to store the downloaded .car files
+     */
+    private static void prefetchDependencies(List<DependencyDetails> dependencies, File downloadDirectory) {
+
+        for (DependencyDetails dependency : dependencies) {
+            if (!getDependencyFile(dependency, downloadDirectory).isFile() && getDependencyFromLocalRepo(
+                    dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                    dependency.getType()) == null) {
+                ArtifactDownloadManager.getInstance().downloadAsync(dependency.getGroupId(),
+                        dependency.getArtifact(), dependency.getVersion(), dependency.getType());
+            }
+        }
+    }
+
+    /**
+     * Fetches the specified dependency file (.car) from the download directory, the local repository or the remote
+     * repository.
      * <p>
      * If the dependency file already exists in the download directory, it is returned.
      * Otherwise, attempts to copy it from the local repository. If not found locally,
-     * the method is prepared to handle remote downloads
+     * it is downloaded from the remote repository through the shared artifact store.
      * </p>
      *
      * @param dependency        the dependency details to fetch
@@ -178,9 +200,7 @@ public class IntegrationProjectDownloadManager {
      */
     private static File fetchDependencyFile(DependencyDetails dependency, File downloadDirectory) {
 
-        File dependencyFile = new File(downloadDirectory,
-                dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion() + DOT +
-                        dependency.getType());
+        File dependencyFile = getDependencyFile(dependency, downloadDirectory);
         if (dependencyFile.exists() && dependencyFile.isFile()) {
             LOGGER.log(Level.INFO, "Dependency already downloaded: " + dependencyFile.getName());
         } else {
@@ -199,12 +219,29 @@ public class IntegrationProjectDownloadManager {
                             "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
                 }
             } else {
-                // TODO: Download the dependency from the remote repository if not found in the local repository
+                LOGGER.log(Level.INFO, "Downloading dependency: " + dependencyFile.getName());
+                try {
+                    Path artifact = ArtifactDownloadManager.getInstance().download(dependency.getGroupId(),
+                            dependency.getArtifact(), dependency.getVersion(), dependency.getType());
+                    ArtifactStore.copyTo(artifact, dependencyFile.toPath());
+                } catch (IOException e) {
+                    String failedDependency =
+                            dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion();
+                    LOGGER.log(Level.WARNING,
+                            "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
+                }
             }
         }
         return dependencyFile;
     }
 
+    private static File getDependencyFile(DependencyDetails dependency, File downloadDirectory) {
+
+        return new File(downloadDirectory,
+                dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion() + DOT +
+                        dependency.getType());
+    }
+
     /**
      * Parses the `descriptor.xml` file inside the given .car file to extract dependency information.
      * <p>
@@ -26,6 +26,9 @@ import org.xml.sax.Attributes;
 import org.xml.sax.Locator;
 import org.xml.sax.helpers.DefaultHandler;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class PluginHandler extends DefaultHandler {
     private Locator locator;
     private final StringBuilder contentBuffer = new StringBuilder();
@@ -39,6 +42,9 @@ public class PluginHandler extends DefaultHandler {
     private String version;
     private boolean hasPropertiesUnitTestDetails;
     private String projectRuntimeVersion;
+    private int depth;
+    // Properties declared directly under the project, excluding the properties of the profiles
+    private final Map<String, String> projectProperties = new LinkedHashMap<>();
 
     private final OverviewPageDetailsResponse pomDetailsResponse;
 
@@ -54,6 +60,7 @@ public class PluginHandler extends DefaultHandler {
 
     @Override
     public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        depth++;
         contentBuffer.setLength(0);
         valueStartLine = locator.getLineNumber();
         valueStartColumn = locator.getColumnNumber();
@@ -98,12 +105,25 @@ public class PluginHandler extends DefaultHandler {
                 isPluginRepository = false;
             }
         } else if (isProperties) {
+            if (depth == 3 && !Constants.PROPERTIES.equals(qName)) {
+                projectProperties.put(qName, value);
+            }
             processProperties(qName, value, valueStartLine, valueStartColumn, valueEndLine,
                     valueEndColumn - closingTagLength);
         } else {
             processPrimaryDetails(qName, value, valueStartLine, valueStartColumn, valueEndLine,
                     valueEndColumn - closingTagLength);
         }
+        depth--;
+    }
+
+    /**
+     * Returns the properties declared directly under the project element, in their declaration order.
+     *
+     * @return the project properties
+     */
+    public Map<String, String> getProjectProperties() {
+        return projectProperties;
     }
 
     private void processPlugins(String qName, String value, int valueStartLine, int valueStartColumn,
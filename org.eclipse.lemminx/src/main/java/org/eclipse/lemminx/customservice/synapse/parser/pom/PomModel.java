@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser.pom;
+
+import org.eclipse.lemminx.customservice.synapse.parser.AdvanceDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.Constants;
+import org.eclipse.lemminx.customservice.synapse.parser.DependenciesDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.DependencyDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.Node;
+import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the details of a project's pom.xml which are read by the language server, such as the project
+ * coordinates, the project properties, the dependencies and the build plugin details. A model is shared across threads
+ * through {@link PomModelService}, hence the dependency details it holds must not be modified.
+ */
+public final class PomModel {
+
+    static final PomModel EMPTY = new PomModel(null, new OverviewPageDetailsResponse(), Collections.emptyMap());
+
+    private final String digest;
+    private final String projectGroupId;
+    private final String projectArtifactId;
+    private final String projectVersion;
+    private final String carPluginVersion;
+    private final boolean versionedDeployment;
+    private final Map<String, String> properties;
+    private final List<DependencyDetails> connectorDependencies;
+    private final List<DependencyDetails> integrationProjectDependencies;
+    private final List<DependencyDetails> otherDependencies;
+
+    PomModel(String digest, OverviewPageDetailsResponse pomDetails, Map<String, String> properties) {
+
+        this.digest = digest;
+        AdvanceDetails advanceDetails = pomDetails.getBuildDetails().getAdvanceDetails();
+        this.projectGroupId = getValue(advanceDetails.getProjectGroupId());
+        this.projectArtifactId = getValue(advanceDetails.getProjectArtifactId());
+        this.projectVersion = getValue(pomDetails.getPrimaryDetails().getProjectVersion());
+        this.carPluginVersion = getValue(advanceDetails.getPluginDetails().getProjectBuildPluginVersion());
+        this.versionedDeployment = Boolean.parseBoolean(getValue(pomDetails.getBuildDetails().getVersionedDeployment()));
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+        DependenciesDetails dependencies = pomDetails.getDependenciesDetails();
+        this.connectorDependencies = List.copyOf(dependencies.getConnectorDependencies());
+        this.integrationProjectDependencies = List.copyOf(dependencies.getIntegrationProjectDependencies());
+        this.otherDependencies = List.copyOf(dependencies.getOtherDependencies());
+    }
+
+    private static String getValue(Node node) {
+
+        return node != null ? node.getValue() : null;
+    }
+
+    String getDigest() {
+
+        return digest;
+    }
+
+    public String getProjectGroupId() {
+
+        return projectGroupId;
+    }
+
+    public String getProjectArtifactId() {
+
+        return projectArtifactId;
+    }
+
+    public String getProjectVersion() {
+
+        return projectVersion;
+    }
+
+    /**
+     * Returns the runtime version of the project, declared by the project.runtime.version property.
+     *
+     * @return the runtime version, or null if the property is not declared
+     */
+    public String getRuntimeVersion() {
+
+        return properties.get(Constants.PROJECT_RUNTIME_VERSION);
+    }
+
+    /**
+     * Returns the version of the CAR plugin used to build the project.
+     *
+     * @return the CAR plugin version, or null if the plugin is not configured
+     */
+    public String getCarPluginVersion() {
+
+        return carPluginVersion;
+    }
+
+    public boolean isVersionedDeployment() {
+
+        return versionedDeployment;
+    }
+
+    /**
+     * Returns the properties declared directly under the project, excluding the properties of the profiles.
+     *
+     * @return the project properties by name
+     */
+    public Map<String, String> getProperties() {
+
+        return properties;
+    }
+
+    public List<DependencyDetails> getConnectorDependencies() {
+
+        return connectorDependencies;
+    }
+
+    public List<DependencyDetails> getIntegrationProjectDependencies() {
+
+        return integrationProjectDependencies;
+    }
+
+    public List<DependencyDetails> getOtherDependencies() {
+
+        return otherDependencies;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser.pom;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.eclipse.lemminx.customservice.synapse.parser.Constants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the {@link PomModel} of a project. The model of each project is cached together with the hash of the
+ * pom.xml content it was parsed from, so that the pom.xml is parsed again only when its content has changed, e.g.
+ * once the edits of an update property or dependency request have been applied.
+ */
+public final class PomModelService {
+
+    private static final Logger LOGGER = Logger.getLogger(PomModelService.class.getName());
+    private static final int MAX_CACHED_PROJECTS = 64;
+    private static final Cache<Path, PomModel> POM_MODELS =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PROJECTS).build();
+
+    private PomModelService() {
+
+    }
+
+    /**
+     * Get the pom model of the given project.
+     *
+     * @param projectPath the project path
+     * @return the pom model, which is empty if the pom.xml cannot be read
+     */
+    public static PomModel getPomModel(String projectPath) {
+
+        Path pomPath = Path.of(projectPath, Constants.POM_FILE).toAbsolutePath().normalize();
+        byte[] content;
+        try {
+            content = Files.readAllBytes(pomPath);
+        } catch (NoSuchFileException e) {
+            LOGGER.log(Level.SEVERE, "POM file does not exist: " + pomPath);
+            POM_MODELS.invalidate(pomPath);
+            return PomModel.EMPTY;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error accessing the POM file: " + e.getMessage());
+            return PomModel.EMPTY;
+        }
+        String digest = Hashing.sha256().hashBytes(content).toString();
+        PomModel pomModel = POM_MODELS.asMap().compute(pomPath, (path, cachedModel) -> {
+            if (cachedModel != null && digest.equals(cachedModel.getDigest())) {
+                return cachedModel;
+            }
+            return PomParser.createPomModel(digest, content);
+        });
+        return pomModel != null ? pomModel : PomModel.EMPTY;
+    }
+}
@@ -64,15 +64,27 @@ import java.util.logging.Logger;
 public class PomParser {
 
     private static final Logger LOGGER = Logger.getLogger(PomParser.class.getName());
-    private static OverviewPageDetailsResponse pomDetailsResponse;
     private static DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     private static TransformerFactory transformerFactory = TransformerFactory.newInstance();
-    private static boolean hasDependencies = false;
-    private static boolean hasProperties = false;
 
     public static void getPomDetails(String projectUri, OverviewPageDetailsResponse detailsResponse) {
-        pomDetailsResponse = detailsResponse;
-        extractPomContent(projectUri);
+        extractPomContent(projectUri, detailsResponse);
+    }
+
+    static PomModel createPomModel(String digest, byte[] pomContent) {
+        try {
+            OverviewPageDetailsResponse pomDetails = new OverviewPageDetailsResponse();
+            PluginHandler handler = new PluginHandler(pomDetails);
+            SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(pomContent), handler);
+            return new PomModel(digest, pomDetails, handler.getProjectProperties());
+        } catch (ParserConfigurationException e) {
+            LOGGER.log(Level.SEVERE, "Error configuring the parser for the POM file: " + e.getMessage());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error accessing the POM file: " + e.getMessage());
+        } catch (SAXException e) {
+            LOGGER.log(Level.SEVERE, "Error parsing the POM file: " + e.getMessage());
+        }
+        return null;
     }
 
     public static UpdateResponse updateProperty(String projectUri, UpdatePropertyRequest request) {
@@ -85,7 +97,7 @@ public class PomParser {
             assert pomContent != null;
             Element propertiesElement = null;
             Range initialRange = getPropertiesRange(pomContent);
-            if (!hasProperties) {
+            if (initialRange == null) {
                 propertiesElement = document.createElement(Constants.PROPERTIES);
             }
             for (PropertyDetails property : request.properties) {
@@ -124,8 +136,9 @@ public class PomParser {
             StringBuilder elementInString = new StringBuilder();
             pomContent = readPom(projectUri);
             assert pomContent != null;
-            Position initialRange = getDependenciesStartPosition(pomContent);
-            if (!hasDependencies) {
+            DependenciesStart dependenciesStart = getDependenciesStartPosition(pomContent);
+            Position initialRange = dependenciesStart.position;
+            if (!dependenciesStart.hasDependencies) {
                 dependenciesElement = document.createElement(Constants.DEPENDENCIES);
             }
             for (DependencyDetails dependency : request.dependencies) {
@@ -365,7 +378,6 @@ public class PomParser {
 
                     if (Constants.PROPERTIES.equals(localName) && elementStack.size() == 2 &&
                             Constant.PROJECT.equals(elementStack.peekLast())) {
-                        hasProperties = true;
                         startLine = reader.getLocation().getLineNumber();
                         startChar = reader.getLocation().getColumnNumber() + localName.length() + 2; // After <properties>
                     }
@@ -407,7 +419,7 @@ public class PomParser {
         }
     }
 
-    private static Position getDependenciesStartPosition(List<String> pomContent) {
+    private static DependenciesStart getDependenciesStartPosition(List<String> pomContent) {
         try {
             XMLStreamReader reader = getXMLReader(pomContent);
             int depth = 0;
@@ -425,18 +437,16 @@ public class PomParser {
                         depth++;
                         if (localName.equals(Constants.DEPENDENCIES) && depth == 2) {
                             Location location = reader.getLocation();
-                            hasDependencies = true;
                             int startLine = location.getLineNumber();
                             int startColumn = location.getColumnNumber();
                             int endColumn = startColumn + localName.length() + 2;
-                            return new Position(startLine, endColumn);
+                            return new DependenciesStart(new Position(startLine, endColumn), true);
                         }
                     }
                 } else if (eventType == XMLStreamConstants.END_ELEMENT) {
                     String localName = reader.getLocalName();
                     if (localName.equals(Constants.PROPERTIES) && depth == 2) {
                         Location location = reader.getLocation();
-                        hasDependencies = false;
                         int startLine = location.getLineNumber();
                         int startColumn = location.getColumnNumber();
                         int endColumn = startColumn + localName.length() + 4;
@@ -445,10 +455,26 @@ public class PomParser {
                     depth--;
                 }
             }
-            return propertiesEndPosition != null ? propertiesEndPosition : new Position(0, 0);
+            return new DependenciesStart(propertiesEndPosition != null ? propertiesEndPosition : new Position(0, 0),
+                    false);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error reading the POM file: " + e.getMessage());
-            return null;
+            return new DependenciesStart(null, false);
+        }
+    }
+
+    /**
+     * Position to add new dependencies at, which is inside the dependencies element if the project has one.
+     */
+    private static final class DependenciesStart {
+
+        private final Position position;
+        private final boolean hasDependencies;
+
+        DependenciesStart(Position position, boolean hasDependencies) {
+
+            this.position = position;
+            this.hasDependencies = hasDependencies;
         }
     }
 
@@ -487,7 +513,7 @@ public class PomParser {
         return dependency;
     }
 
-    private static void extractPomContent(String projectUri) {
+    private static void extractPomContent(String projectUri, OverviewPageDetailsResponse pomDetailsResponse) {
         try {
             File pomFile = new File(projectUri + File.separator + Constants.POM_FILE);
             if (!isPomFileExist(pomFile)) {
@@ -15,9 +15,8 @@
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.ArtifactType;
-import org.eclipse.lemminx.customservice.synapse.parser.Node;
-import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
-import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RequestedResource;
@@ -45,6 +44,7 @@ import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static java.nio.file.Files.exists;
 import static java.nio.file.Files.isDirectory;
@@ -127,38 +127,40 @@ public abstract class AbstractResourceFinder {
 
         try (var dependentProjects = list(extractedDir)) {
             // Iterate over each dependent project directory
-            OverviewPageDetailsResponse parentProjectDetails = new OverviewPageDetailsResponse();
-            PomParser.getPomDetails(projectPath, parentProjectDetails);
-            for (Path dependentProject : dependentProjects.toArray(Path[]::new)) {
-                if (isDirectory(dependentProject)) {
-                    String projectNameDep = dependentProject.getFileName().toString();
-                    OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-                    PomParser.getPomDetails(dependentProject.toString(), pomDetailsResponse);
-                    // For each resource type, find resources from the dependent project
-                    Map<String, ResourceResponse> dependentProjectAllResources = findAllResources(dependentProject.toString());
-                    for (String type : dependentProjectAllResources.keySet()) {
-                        ResourceResponse resources = dependentProjectAllResources.get(type);
-                        Node isVersionedDeployment = parentProjectDetails.getBuildDetails().getVersionedDeployment();
-                        if (isVersionedDeployment != null && Boolean.parseBoolean(isVersionedDeployment.getValue())
-                                && resources != null) {
-                            // Append project details(group ID and artifact ID) to synapse artifacts
-                            if (resources.getResources() != null) {
-                                resources.getResources().forEach(resource -> {
-                                    resource.setName(getFullyQualifiedName(pomDetailsResponse, resource));
-                                });
-                            }
-                            // Append project details(group ID and artifact ID) to registry artifacts
-                            if (resources.getRegistryResources() != null) {
-                                resources.getRegistryResources().forEach(resource -> {
-                                    ((RegistryResource) resource)
-                                            .setRegistryKey(getFullyQualifiedNameForRegistryArtifact(pomDetailsResponse, (RegistryResource) resource));
-                                });
-                            }
+            boolean isVersionedDeployment = PomModelService.getPomModel(projectPath).isVersionedDeployment();
+            List<Path> dependentProjectDirs = dependentProjects.filter(path -> isDirectory(path)).collect(Collectors.toList());
+            DependentResourceCache resourceCache = new DependentResourceCache(projectDependencyDir);
+            // Dependent projects are scanned in parallel, while their resources are merged in the listing order
+            List<Map<String, ResourceResponse>> dependentProjectResources = dependentProjectDirs.parallelStream()
+                    .map(dependentProject -> resourceCache.getResources(dependentProject, this::findAllResources))
+                    .collect(Collectors.toList());
+            resourceCache.retainAll(dependentProjectDirs);
+            for (int i = 0; i < dependentProjectDirs.size(); i++) {
+                Path dependentProject = dependentProjectDirs.get(i);
+                String projectNameDep = dependentProject.getFileName().toString();
+                PomModel pomModel = PomModelService.getPomModel(dependentProject.toString());
+                // For each resource type, find resources from the dependent project
+                Map<String, ResourceResponse> dependentProjectAllResources = dependentProjectResources.get(i);
+                for (String type : dependentProjectAllResources.keySet()) {
+                    ResourceResponse resources = dependentProjectAllResources.get(type);
+                    if (isVersionedDeployment && resources != null) {
+                        // Append project details(group ID and artifact ID) to synapse artifacts
+                        if (resources.getResources() != null) {
+                            resources.getResources().forEach(resource -> {
+                                resource.setName(getFullyQualifiedName(pomModel, resource));
+                            });
+                        }
+                        // Append project details(group ID and artifact ID) to registry artifacts
+                        if (resources.getRegistryResources() != null) {
+                            resources.getRegistryResources().forEach(resource -> {
+                                ((RegistryResource) resource)
+                                        .setRegistryKey(getFullyQualifiedNameForRegistryArtifact(pomModel, (RegistryResource) resource));
+                            });
                         }
-                        dependentResourcesMap.computeIfAbsent(type, k -> new ResourceResponse());
-                        mergeResourceResponses(dependentResourcesMap.get(type), resources);
-                        addArtifactNamesToProjects(resources, projectNameDep, artifactNameToProjects);
                     }
+                    dependentResourcesMap.computeIfAbsent(type, k -> new ResourceResponse());
+                    mergeResourceResponses(dependentResourcesMap.get(type), resources);
+                    addArtifactNamesToProjects(resources, projectNameDep, artifactNameToProjects);
                 }
             }
         } catch (IOException e) {
@@ -185,7 +187,7 @@ public abstract class AbstractResourceFinder {
         return dependentResourcesMap;
     }
 
-    private String getFullyQualifiedName(OverviewPageDetailsResponse pomDetailsResponse, Resource resource) {
+    private String getFullyQualifiedName(PomModel pomModel, Resource resource) {
 
         // For DataServices and proxy services, the name remains unchanged as by default MI server won't expose versioned services
         if (ArtifactType.DATA_SERVICE.name().equals(resource.getType()) || ArtifactType.PROXY_SERVICE.name().equals(resource.getType())) {
@@ -193,12 +195,10 @@ public abstract class AbstractResourceFinder {
         }
         // For other artifact types, the name format will be updated as follows
         // groupID__artifactID__ArtifactName
-        return pomDetailsResponse.getBuildDetails().getAdvanceDetails().getProjectGroupId().getValue()
-                    + "__" + pomDetailsResponse.getBuildDetails().getAdvanceDetails().getProjectArtifactId().getValue()
-                    + "__" + resource.getName();
+        return pomModel.getProjectGroupId() + "__" + pomModel.getProjectArtifactId() + "__" + resource.getName();
     }
 
-    private String getFullyQualifiedNameForRegistryArtifact(OverviewPageDetailsResponse pomDetailsResponse, RegistryResource resource) {
+    private String getFullyQualifiedNameForRegistryArtifact(PomModel pomModel, RegistryResource resource) {
 
         // For registry resource artifact types, the name format will be updated as follows
         // resources:path/groupID__artifactID__ArtifactName
@@ -206,8 +206,7 @@ public abstract class AbstractResourceFinder {
         String dirPath = resource.getRegistryKey().substring(0, lastSlash + 1);
         String resourceName = resource.getRegistryKey().substring(lastSlash + 1);
 
-        String fullyQualifiedName = pomDetailsResponse.getBuildDetails().getAdvanceDetails().getProjectGroupId().getValue()
-                + "__" + pomDetailsResponse.getBuildDetails().getAdvanceDetails().getProjectArtifactId().getValue()
+        String fullyQualifiedName = pomModel.getProjectGroupId() + "__" + pomModel.getProjectArtifactId()
                 + "__" + resourceName;
 
         return dirPath + fullyQualifiedName;
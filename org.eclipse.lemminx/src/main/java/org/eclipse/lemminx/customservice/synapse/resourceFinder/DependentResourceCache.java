@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.resourceFinder;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.reflect.TypeToken;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the resources of the dependent integration projects of a project. The resources of a dependent
+ * project are stored together with a fingerprint of its extracted files, i.e. their paths, sizes and last modified
+ * times, so that a dependent project is scanned again only if it has been newly extracted or changed.
+ */
+final class DependentResourceCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DependentResourceCache.class.getName());
+    private static final String CACHE_DIR = "ResourceCache";
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    // Changes whenever the format of the cached resources changes, which invalidates the existing cache files
+    private static final String CACHE_VERSION = "1";
+    private static final Type RESOURCES_TYPE = new TypeToken<Map<String, ResourceResponse>>() {
+    }.getType();
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Resource.class, new ResourceTypeAdapter())
+            .create();
+
+    private final Path cacheDir;
+
+    DependentResourceCache(Path projectDependencyDir) {
+
+        this.cacheDir = projectDependencyDir.resolve(CACHE_DIR);
+    }
+
+    /**
+     * Get the resources of the given dependent project, scanning the project only if it has changed since its
+     * resources were cached. The returned resources are not shared, hence they can be modified by the caller.
+     *
+     * @param dependentProject the extracted dependent project
+     * @param scanner          the function which finds all the resources of a project path
+     * @return the resources of the dependent project by resource type
+     */
+    Map<String, ResourceResponse> getResources(Path dependentProject,
+                                               Function<String, Map<String, ResourceResponse>> scanner) {
+
+        Path cacheFile = getCacheFile(dependentProject);
+        String fingerprint;
+        try {
+            fingerprint = getFingerprint(dependentProject);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read the dependent project: " + dependentProject, e);
+            return scanner.apply(dependentProject.toString());
+        }
+        Map<String, ResourceResponse> resources = readCacheFile(cacheFile, fingerprint);
+        if (resources != null) {
+            return resources;
+        }
+        resources = scanner.apply(dependentProject.toString());
+        writeCacheFile(cacheFile, fingerprint, resources);
+        return resources;
+    }
+
+    /**
+     * Delete the cache files of the dependent projects which are no longer extracted.
+     *
+     * @param dependentProjects the extracted dependent projects
+     */
+    void retainAll(Collection<Path> dependentProjects) {
+
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        List<Path> cacheFiles = dependentProjects.stream().map(this::getCacheFile).collect(Collectors.toList());
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.filter(file -> !cacheFiles.contains(file)).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not clean up the dependent resource cache: " + cacheDir, e);
+        }
+    }
+
+    private Path getCacheFile(Path dependentProject) {
+
+        return cacheDir.resolve(dependentProject.getFileName().toString() + CACHE_FILE_EXTENSION);
+    }
+
+    private static String getFingerprint(Path dependentProject) throws IOException {
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(CACHE_VERSION, StandardCharsets.UTF_8);
+        try (Stream<Path> files = Files.walk(dependentProject)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    hasher.putString(dependentProject.relativize(file).toString(), StandardCharsets.UTF_8)
+                            .putLong(attributes.size())
+                            .putLong(attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static Map<String, ResourceResponse> readCacheFile(Path cacheFile, String fingerprint) {
+
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            CacheEntry entry = GSON.fromJson(Files.readString(cacheFile, StandardCharsets.UTF_8), CacheEntry.class);
+            if (entry != null && fingerprint.equals(entry.fingerprint) && entry.resources != null) {
+                return GSON.fromJson(entry.resources, RESOURCES_TYPE);
+            }
+        } catch (IOException | JsonParseException e) {
+            LOGGER.log(Level.WARNING, "Could not read the dependent resource cache file: " + cacheFile, e);
+        }
+        return null;
+    }
+
+    private static void writeCacheFile(Path cacheFile, String fingerprint, Map<String, ResourceResponse> resources) {
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            CacheEntry entry = new CacheEntry(fingerprint, GSON.toJsonTree(resources, RESOURCES_TYPE));
+            // Written to a temporary file first, so that a concurrent reader never sees a partially written file
+            Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), null);
+            Files.writeString(tempFile, GSON.toJson(entry), StandardCharsets.UTF_8);
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not write the dependent resource cache file: " + cacheFile, e);
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final String fingerprint;
+        private final JsonElement resources;
+
+        CacheEntry(String fingerprint, JsonElement resources) {
+
+            this.fingerprint = fingerprint;
+            this.resources = resources;
+        }
+    }
+
+    /**
+     * Keeps the concrete type of each resource, which is not known from the declared {@link Resource} type.
+     */
+    private static class ResourceTypeAdapter implements JsonSerializer<Resource>, JsonDeserializer<Resource> {
+
+        private static final String KIND = "@kind";
+        private static final String REGISTRY_KIND = "registry";
+        private static final String ARTIFACT_KIND = "artifact";
+
+        @Override
+        public JsonElement serialize(Resource resource, Type type, JsonSerializationContext context) {
+
+            JsonObject jsonObject = context.serialize(resource, resource.getClass()).getAsJsonObject();
+            jsonObject.addProperty(KIND, resource instanceof RegistryResource ? REGISTRY_KIND : ARTIFACT_KIND);
+            return jsonObject;
+        }
+
+        @Override
+        public Resource deserialize(JsonElement jsonElement, Type type, JsonDeserializationContext context)
+                throws JsonParseException {
+
+            JsonElement kind = jsonElement.getAsJsonObject().get(KIND);
+            if (kind != null && REGISTRY_KIND.equals(kind.getAsString())) {
+                return context.deserialize(jsonElement, RegistryResource.class);
+            }
+            return context.deserialize(jsonElement, ArtifactResource.class);
+        }
+    }
+}
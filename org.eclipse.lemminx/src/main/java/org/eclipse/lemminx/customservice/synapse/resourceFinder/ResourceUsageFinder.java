@@ -17,19 +17,15 @@ package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectionFinder;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
-import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectionParameter;
-import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connections;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lsp4j.WorkspaceFolder;
-import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ResourceUsageFinder {
 
@@ -52,21 +48,9 @@ public class ResourceUsageFinder {
             }
         }
 
-        Either<Connections, Map<String, Connections>> connectionsResult =
-                ConnectionFinder.findConnections(projectUri, null, connectorHolder, isLegacyProject);
-        if (connectionsResult.isRight()) {
-            Map<String, Connections> connectionsMap = connectionsResult.getRight();
-            for (Map.Entry<String, Connections> entry : connectionsMap.entrySet()) {
-                Connections connections = entry.getValue();
-                for (Connection connection : connections.getConnections()) {
-                    List<ConnectionParameter> parameters = connection.getParameters();
-                    for (ConnectionParameter parameter : parameters) {
-                        if (parameter.getValue() != null && parameter.getValue().equals(derivedKey)) {
-                            resourceUsagesList.add(connection.getPath());
-                        }
-                    }
-                }
-            }
+        for (Connection connection : ConnectionFinder.findConnectionsByParameterValue(projectUri, derivedKey,
+                connectorHolder, isLegacyProject)) {
+            resourceUsagesList.add(connection.getPath());
         }
 
         return resourceUsagesList;
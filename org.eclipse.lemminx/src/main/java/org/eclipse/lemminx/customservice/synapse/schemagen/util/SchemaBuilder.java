@@ -16,6 +16,7 @@ package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -70,19 +71,29 @@ public class SchemaBuilder {
 	}
 
 	public String createSchema(String jsonString, FileType type) {
-		JsonParser jsonParser = new JsonParser();
+		return createSchema(JsonParser.parseString(jsonString), type);
+	}
+
+	/**
+	 * Creates the schema of an already parsed JSON element, so that callers
+	 * which read the sample from a stream or convert it from another format do
+	 * not need to serialize it to a string first.
+	 * 
+	 * @param jsonElement
+	 * @param type
+	 * @return
+	 */
+	public String createSchema(JsonElement jsonElement, FileType type) {
 		JsonObject firstObject = null;
 		String title = ROOT_TITLE;
 		JsonObject jsonObject = null;
 		JsonArray jsonArray = null;
 
-		root = new JsonSchema();
-		root.setDolarSchema(HTTP_JSON_SCHEMA_ORG_DRAFT_04_SCHEMA);
-		root.setId(HTTP_WSO2JSONSCHEMA_ORG);
+		initRoot();
 
-		if (jsonParser.parse(jsonString) instanceof JsonObject) {
+		if (jsonElement instanceof JsonObject) {
 			// TODO handle parsing exception
-			jsonObject = (JsonObject) jsonParser.parse(jsonString); 
+			jsonObject = (JsonObject) jsonElement;
 			Set<Entry<String, JsonElement>> entrySet = jsonObject.entrySet();
 			if(type.toString().toLowerCase().equals(XML)){
 				//If type is xml, then check if it has a root element
@@ -110,11 +121,35 @@ public class SchemaBuilder {
 			createSchemaForObject(firstObject, root);
 
 		} else {
-			jsonArray = (JsonArray) jsonParser.parse(jsonString);
+			jsonArray = (JsonArray) jsonElement;
 			root.setType(ARRAY);
 			createSchemaForArrayRoot(jsonArray, root);
 		}
+		return completeSchema(title);
+	}
 
+	/**
+	 * Creates the schema of a root array whose elements are read one at a time,
+	 * e.g. the rows of a CSV file, so that only the element being processed is
+	 * kept in memory.
+	 * 
+	 * @param elements
+	 * @return
+	 */
+	public String createSchemaForArrayElements(Iterator<? extends JsonElement> elements) {
+		initRoot();
+		root.setType(ARRAY);
+		createSchemaForArrayRoot(elements, root);
+		return completeSchema(ROOT_TITLE);
+	}
+
+	private void initRoot() {
+		root = new JsonSchema();
+		root.setDolarSchema(HTTP_JSON_SCHEMA_ORG_DRAFT_04_SCHEMA);
+		root.setId(HTTP_WSO2JSONSCHEMA_ORG);
+	}
+
+	private String completeSchema(String title) {
 		Pattern identifierPattern = Pattern.compile("(_.+:type)");
 		title = findAndModifyElements(identifierPattern, title, title);
 		root.setTitle(title);
@@ -294,10 +329,15 @@ public class SchemaBuilder {
 	 * @param parent
 	 */
 	public void createSchemaForArrayRoot(JsonArray jsonArray, JsonSchema parent) {
+		createSchemaForArrayRoot(jsonArray.iterator(), parent);
+	}
+
+	private void createSchemaForArrayRoot(Iterator<? extends JsonElement> elements, JsonSchema parent) {
 
 		String id = ROOT_TITLE;
 		JsonObject newJObj = new JsonObject();
-		for (JsonElement childElement : jsonArray) {
+		while (elements.hasNext()) {
+			JsonElement childElement = elements.next();
 			TypeEnum propertyValueType = RealTypeOf(childElement);
 			if (propertyValueType == TypeEnum.OBJECT) {
 				if (isAPrimitiveWithAttributes(childElement.getAsJsonObject())) {
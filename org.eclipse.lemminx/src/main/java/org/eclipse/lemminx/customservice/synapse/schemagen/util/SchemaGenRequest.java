@@ -20,4 +20,6 @@ public class SchemaGenRequest {
         public String delimiter;
         public String type;
         public String title;
+        // The number of records of a large sample used to create the schema, where 0 uses the whole sample
+        public int sampleSize;
 }
@@ -16,19 +16,31 @@ package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 //TODO add a default case and remove the unreachable null return
 public class SchemaGeneratorFactory {
 	
-	@SuppressWarnings("incomplete-switch")
 	public ISchemaGenerator getSchemaGenerator(FileType fileType) {
+		return getSchemaGenerator(fileType, 0);
+	}
+
+	/**
+	 * Returns the schema generator of the file type, which creates the schema
+	 * of a JSON, CSV or XML file from the given number of records.
+	 * 
+	 * @param fileType
+	 * @param sampleSize the number of records used, where 0 uses all of them
+	 * @return
+	 */
+	@SuppressWarnings("incomplete-switch")
+	public ISchemaGenerator getSchemaGenerator(FileType fileType, int sampleSize) {
 		switch(fileType) {
 		case JSONSCHEMA:
 			return new AbstractSchemaGenerator();
 		case XSD:
 			return new SchemaGeneratorForXSD();
 		case XML:
-			return new SchemaGeneratorForXML();
+			return new SchemaGeneratorForXML(sampleSize);
 		case JSON:
-			return new SchemaGeneratorForJSON();
+			return new SchemaGeneratorForJSON(sampleSize);
 		case CSV:
-			return new SchemaGeneratorForCSV();
+			return new SchemaGeneratorForCSV(sampleSize);
 		
 	}
 		return null;
@@ -14,50 +14,118 @@
 
 package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.io.FileUtils;
-
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.collect.Iterators;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 public class SchemaGeneratorForCSV extends AbstractSchemaGenerator implements ISchemaGenerator {
 
+	// The number of rows used to create the schema, where 0 uses all of them
+	private final int sampleSize;
+
+	public SchemaGeneratorForCSV() {
+		this(0);
+	}
+
+	public SchemaGeneratorForCSV(int sampleSize) {
+		this.sampleSize = Math.max(sampleSize, 0);
+	}
+
 	@Override
 	public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
-		String entireFileText = FileUtils.readFileToString(new File(filePath));
-		return getSchemaContent(entireFileText, type, delimiter);
+		try (Reader reader = Files.newBufferedReader(Paths.get(filePath), Charset.defaultCharset())) {
+			return createSchema(reader, delimiter);
+		}
 	}
 
 	@Override
 	public String getSchemaContent(String fileText, FileType type, String delimiter) throws IOException {
-		List<Map<String, String>> data = readObjectsFromCsv(fileText, delimiter);
-		String value = writeAsJson(data);
-		SchemaBuilderWithNamepaces sb = new SchemaBuilderWithNamepaces();
-		String jsonSchema = sb.createSchema(value, type);
-		return jsonSchema;
+		return createSchema(new StringReader(fileText), delimiter);
 	}
 
 	/**
-	 * Read objects from CSV
+	 * Creates the schema while reading the CSV rows, so that the rows are not
+	 * collected and converted to a JSON string before the schema is built. The
+	 * rows after the sample size are not read.
 	 * 
-	 * @param content
+	 * @param reader
+	 * @param delimiter
 	 * @return
 	 * @throws IOException
 	 */
-	public List<Map<String, String>> readObjectsFromCsv(String content, String delimiter) throws IOException {
+	private String createSchema(Reader reader, String delimiter) throws IOException {
+		MappingIterator<Map<String, String>> rows = getCsvReader(delimiter).readValues(reader);
+		Iterator<JsonElement> elements = new Iterator<JsonElement>() {
+
+			@Override
+			public boolean hasNext() {
+				try {
+					return rows.hasNextValue();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public JsonElement next() {
+				try {
+					return toJsonObject(rows.nextValue());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+		try {
+			SchemaBuilderWithNamepaces sb = new SchemaBuilderWithNamepaces();
+			return sb.createSchemaForArrayElements(sampleSize > 0 ? Iterators.limit(elements, sampleSize) : elements);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private JsonObject toJsonObject(Map<String, String> row) {
+		JsonObject object = new JsonObject();
+		for (Map.Entry<String, String> entry : row.entrySet()) {
+			object.addProperty(entry.getKey(), entry.getValue());
+		}
+		return object;
+	}
+
+	private ObjectReader getCsvReader(String delimiter) {
 		CsvMapper mapper = new CsvMapper();
 		char delimiterChar =',';
 		if (!delimiter.isEmpty()) {
 			delimiterChar = delimiter.charAt(0);
 		}
 		CsvSchema schema = CsvSchema.emptySchema().withHeader().withColumnSeparator(delimiterChar);
-		MappingIterator<Map<String, String>> it = mapper.readerFor(Map.class).with(schema).readValues(content);
+		return mapper.readerFor(Map.class).with(schema);
+	}
+
+	/**
+	 * Read objects from CSV
+	 * 
+	 * @param content
+	 * @return
+	 * @throws IOException
+	 */
+	public List<Map<String, String>> readObjectsFromCsv(String content, String delimiter) throws IOException {
+		MappingIterator<Map<String, String>> it = getCsvReader(delimiter).readValues(content);
 		return it.readAll();
 	}
 
@@ -14,17 +14,43 @@
 
 package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
-import java.io.File;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
-import org.apache.commons.io.FileUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 public class SchemaGeneratorForJSON extends AbstractSchemaGenerator implements ISchemaGenerator {
 
+	// The number of elements of each array used to create the schema, where 0 uses all of them
+	protected final int sampleSize;
+
+	public SchemaGeneratorForJSON() {
+		this(0);
+	}
+
+	public SchemaGeneratorForJSON(int sampleSize) {
+		this.sampleSize = Math.max(sampleSize, 0);
+	}
+
 	@Override
 	public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
-		String entireFileText = FileUtils.readFileToString(new File(filePath));
-		return  getSchemaContent(entireFileText, type, null);
+		try (Reader reader = Files.newBufferedReader(Paths.get(filePath), Charset.defaultCharset())) {
+			return createSchema(reader, type);
+		}
 	}
 
 	@Override
@@ -34,4 +60,102 @@ public class SchemaGeneratorForJSON extends AbstractSchemaGenerator implements I
 		return  jsonSchema;
 	}
 
+	/**
+	 * Creates the schema while reading the sample. When a sample size is given,
+	 * only the first elements of each array are read into memory and the rest
+	 * are skipped. Otherwise the elements of a root array are parsed one at a
+	 * time, so that only the element being processed is kept in memory.
+	 * 
+	 * @param reader
+	 * @param type
+	 * @return
+	 * @throws IOException
+	 */
+	private String createSchema(Reader reader, FileType type) throws IOException {
+		JsonReader jsonReader = new JsonReader(reader);
+		// Same as JsonParser.parseReader, which accepts the samples created by the earlier versions
+		jsonReader.setLenient(true);
+		SchemaBuilderWithNamepaces sb = new SchemaBuilderWithNamepaces();
+		JsonToken token;
+		try {
+			token = jsonReader.peek();
+		} catch (EOFException e) {
+			// An empty sample, which is rejected by the schema builder
+			return sb.createSchema(JsonNull.INSTANCE, type);
+		}
+		if (sampleSize > 0) {
+			JsonElement jsonElement = readSample(jsonReader);
+			checkFullyConsumed(jsonReader);
+			return sb.createSchema(jsonElement, type);
+		} else if (token != JsonToken.BEGIN_ARRAY) {
+			JsonElement jsonElement = JsonParser.parseReader(jsonReader);
+			checkFullyConsumed(jsonReader);
+			return sb.createSchema(jsonElement, type);
+		}
+		jsonReader.beginArray();
+		try {
+			String schema = sb.createSchemaForArrayElements(readArrayElements(jsonReader));
+			jsonReader.endArray();
+			checkFullyConsumed(jsonReader);
+			return schema;
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private JsonElement readSample(JsonReader jsonReader) throws IOException {
+		switch (jsonReader.peek()) {
+		case BEGIN_ARRAY:
+			JsonArray array = new JsonArray();
+			jsonReader.beginArray();
+			while (jsonReader.hasNext()) {
+				if (array.size() < sampleSize) {
+					array.add(readSample(jsonReader));
+				} else {
+					jsonReader.skipValue();
+				}
+			}
+			jsonReader.endArray();
+			return array;
+		case BEGIN_OBJECT:
+			JsonObject object = new JsonObject();
+			jsonReader.beginObject();
+			while (jsonReader.hasNext()) {
+				object.add(jsonReader.nextName(), readSample(jsonReader));
+			}
+			jsonReader.endObject();
+			return object;
+		default:
+			return JsonParser.parseReader(jsonReader);
+		}
+	}
+
+	private Iterator<JsonElement> readArrayElements(JsonReader jsonReader) {
+		return new Iterator<JsonElement>() {
+
+			@Override
+			public boolean hasNext() {
+				try {
+					return jsonReader.hasNext();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public JsonElement next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return JsonParser.parseReader(jsonReader);
+			}
+		};
+	}
+
+	private void checkFullyConsumed(JsonReader jsonReader) throws IOException {
+		if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+			throw new JsonSyntaxException("Did not consume the entire document.");
+		}
+	}
+
 }
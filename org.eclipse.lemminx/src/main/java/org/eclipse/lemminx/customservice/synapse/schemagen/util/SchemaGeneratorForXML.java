@@ -16,14 +16,25 @@ package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
 
 import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMAttribute;
@@ -34,10 +45,17 @@ import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.OMText;
 import org.apache.axiom.om.util.AXIOMUtil;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.lemminx.customservice.synapse.schemagen.json.JSONArray;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.JSONException;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.JSONObject;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.XML;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
 
 public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISchemaGenerator {
 	private static final String TEMP_AVRO_GEN_LOCATION = "tempXSDGenLocation";
@@ -49,6 +67,16 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 	protected static final String DOLLLAR_AT_PREFIX = "$@";
 	protected static final String XSI_NAMESPACE_URI = "http://www.w3.org/2001/XMLSchema-instance";
 	protected static final String XSI_TYPE = "type";
+	// Repeated elements are mapped to arrays, hence at least two of them are kept in a sample
+	private static final int MIN_SAMPLED_OCCURRENCES = 2;
+
+	public SchemaGeneratorForXML() {
+		super();
+	}
+
+	public SchemaGeneratorForXML(int sampleSize) {
+		super(sampleSize);
+	}
 
 	@Override
 	public String getSchemaContent(String content, FileType type, String delimiter) throws IOException {
@@ -60,7 +88,43 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 			throw new IOException(e.getMessage());
 		}
 
-		return super.getSchemaContent(xmlJSONObj.toString(), type, null);
+		// Build the schema from the converted object directly rather than serializing and parsing it again
+		SchemaBuilderWithNamepaces sb = new SchemaBuilderWithNamepaces();
+		return sb.createSchema(toJsonElement(xmlJSONObj), type);
+	}
+
+	/**
+	 * Converts the JSON object created from the XML to a Gson element, keeping
+	 * the key order and the value types of the JSON text of the object.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	private JsonElement toJsonElement(Object value) {
+		if (value instanceof JSONObject) {
+			JSONObject jsonObject = (JSONObject) value;
+			JsonObject object = new JsonObject();
+			Iterator<String> keys = jsonObject.keys();
+			while (keys.hasNext()) {
+				String key = keys.next();
+				object.add(key, toJsonElement(jsonObject.opt(key)));
+			}
+			return object;
+		} else if (value instanceof JSONArray) {
+			JSONArray jsonArray = (JSONArray) value;
+			JsonArray array = new JsonArray();
+			for (int i = 0; i < jsonArray.length(); i++) {
+				array.add(toJsonElement(jsonArray.opt(i)));
+			}
+			return array;
+		} else if (value == null || JSONObject.NULL.equals(value)) {
+			return JsonNull.INSTANCE;
+		} else if (value instanceof Number) {
+			return new JsonPrimitive((Number) value);
+		} else if (value instanceof Boolean) {
+			return new JsonPrimitive((Boolean) value);
+		}
+		return new JsonPrimitive(value.toString());
 	}
 
 	/*
@@ -87,11 +151,63 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 
 	@Override
 	public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
-		String entireFileText = FileUtils.readFileToString(new File(filePath));
+		String entireFileText = sampleSize > 0 ? readSample(filePath) : FileUtils.readFileToString(new File(filePath));
 		entireFileText = replaceAttributesWithElements(entireFileText);
 		return getSchemaContent(entireFileText, type, null);
 	}
 
+	/**
+	 * Reads the XML sample with StAX, keeping only the first occurrences of
+	 * the repeated child elements of each element, so that a large sample is
+	 * not loaded into memory as a whole before the schema is created.
+	 * 
+	 * @param filePath
+	 * @return
+	 * @throws IOException
+	 */
+	protected String readSample(String filePath) throws IOException {
+		int maxOccurrences = Math.max(sampleSize, MIN_SAMPLED_OCCURRENCES);
+		XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+		inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		StringWriter sample = new StringWriter();
+		try (InputStream inputStream = Files.newInputStream(Paths.get(filePath))) {
+			XMLEventReader reader = inputFactory.createXMLEventReader(inputStream);
+			XMLEventWriter writer = XMLOutputFactory.newInstance().createXMLEventWriter(sample);
+			// The occurrences of the child elements of each open element
+			Deque<Map<QName, Integer>> occurrences = new ArrayDeque<>();
+			int skippedDepth = 0;
+			while (reader.hasNext()) {
+				XMLEvent event = reader.nextEvent();
+				if (skippedDepth > 0) {
+					if (event.isStartElement()) {
+						skippedDepth++;
+					} else if (event.isEndElement()) {
+						skippedDepth--;
+					}
+					continue;
+				}
+				if (event.isStartElement()) {
+					if (!occurrences.isEmpty()
+							&& occurrences.peek().merge(event.asStartElement().getName(), 1, Integer::sum)
+									> maxOccurrences) {
+						skippedDepth = 1;
+						continue;
+					}
+					occurrences.push(new HashMap<>());
+				} else if (event.isEndElement()) {
+					occurrences.pop();
+				}
+				writer.add(event);
+			}
+			writer.close();
+			reader.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		return sample.toString();
+	}
+
 	protected String replaceAttributesWithElements(String entireFileText) throws IOException {
 		try {
 			OMElement element = AXIOMUtil.stringToOM(entireFileText);
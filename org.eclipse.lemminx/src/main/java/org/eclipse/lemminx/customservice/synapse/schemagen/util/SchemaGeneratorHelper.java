@@ -33,8 +33,23 @@ public class SchemaGeneratorHelper {
 	 */
 	public String getSchemaContent(FileType option, String filePath, String delimiter) {
 
+		return getSchemaContent(option, filePath, delimiter, 0);
+	}
+
+	/**
+	 * This method returns the schema generated from the first records of the
+	 * file, so that the whole of a large file is not read.
+	 * 
+	 * @param option
+	 * @param filePath
+	 * @param delimiter
+	 * @param sampleSize the number of records used, where 0 uses all of them
+	 * @return
+	 */
+	public String getSchemaContent(FileType option, String filePath, String delimiter, int sampleSize) {
+
 		SchemaGeneratorFactory schemaGenFactory = new SchemaGeneratorFactory();
-		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
+		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option, sampleSize);
 
 		try {
 			return schemaGenerator.getSchemaResourcePath(filePath, option, delimiter);
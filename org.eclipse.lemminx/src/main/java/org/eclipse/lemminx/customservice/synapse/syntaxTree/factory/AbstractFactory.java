@@ -15,7 +15,9 @@
 package org.eclipse.lemminx.customservice.synapse.syntaxTree.factory;
 
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNodeStrings;
 import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
 
 public abstract class AbstractFactory {
 
@@ -25,6 +27,18 @@ public abstract class AbstractFactory {
 
     public abstract void populateAttributes(STNode node, DOMElement element);
 
+    /**
+     * Get the value of an attribute, sharing the instances of the values which repeat across the nodes of a tree.
+     *
+     * @param node the node
+     * @param name the attribute name
+     * @return the attribute value, or null if there is no such attribute
+     */
+    protected String getAttribute(DOMNode node, String name) {
+
+        return STNodeStrings.intern(node.getAttribute(name));
+    }
+
     public String getMiVersion() {
 
         return miVersion;
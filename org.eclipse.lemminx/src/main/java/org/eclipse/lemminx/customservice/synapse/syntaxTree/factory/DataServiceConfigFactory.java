@@ -109,11 +109,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Config config = new Config();
         config.elementNode((DOMElement) element);
-        String id = element.getAttribute(Constant.ID);
+        String id = getAttribute(element, Constant.ID);
         if (id != null) {
             config.setId(id);
         }
-        String enableOData = element.getAttribute(Constant.ENABLE_ODATA);
+        String enableOData = getAttribute(element, Constant.ENABLE_ODATA);
         if (enableOData != null) {
             config.setEnableOData(Boolean.parseBoolean(enableOData));
         }
@@ -136,27 +136,27 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Query query = new Query();
         query.elementNode((DOMElement) element);
-        String id = element.getAttribute(Constant.ID);
+        String id = getAttribute(element, Constant.ID);
         if (id != null) {
             query.setId(id);
         }
-        String useConfig = element.getAttribute(Constant.USE_CONFIG);
+        String useConfig = getAttribute(element, Constant.USE_CONFIG);
         if (useConfig != null) {
             query.setUseConfig(useConfig);
         }
-        String returnGeneratedKeys = element.getAttribute(Constant.RETURN_GENERATED_KEYS);
+        String returnGeneratedKeys = getAttribute(element, Constant.RETURN_GENERATED_KEYS);
         if (returnGeneratedKeys != null) {
             query.setReturnGeneratedKeys(Boolean.parseBoolean(returnGeneratedKeys));
         }
-        String inputEventTrigger = element.getAttribute(Constant.INPUT_EVENT_TRIGGER);
+        String inputEventTrigger = getAttribute(element, Constant.INPUT_EVENT_TRIGGER);
         if (inputEventTrigger != null) {
             query.setInputEventTrigger(inputEventTrigger);
         }
-        String keyColumns = element.getAttribute(Constant.KEY_COLUMNS);
+        String keyColumns = getAttribute(element, Constant.KEY_COLUMNS);
         if (keyColumns != null) {
             query.setKeyColumns(keyColumns);
         }
-        String returnUpdatedRowCount = element.getAttribute(Constant.RETURN_UPDATED_ROW_COUNT);
+        String returnUpdatedRowCount = getAttribute(element, Constant.RETURN_UPDATED_ROW_COUNT);
         if (returnUpdatedRowCount != null) {
             query.setReturnUpdatedRowCount(returnUpdatedRowCount);
         }
@@ -195,7 +195,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Sql sql = new Sql();
         sql.elementNode((DOMElement) element);
-        String dialect = element.getAttribute(Constant.DIALECT);
+        String dialect = getAttribute(element, Constant.DIALECT);
         if (dialect != null) {
             sql.setDialect(dialect);
         }
@@ -211,7 +211,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Expression expression = new Expression();
         expression.elementNode((DOMElement) element);
-        String dialect = element.getAttribute(Constant.DIALECT);
+        String dialect = getAttribute(element, Constant.DIALECT);
         if (dialect != null) {
             expression.setDialect(dialect);
         }
@@ -259,7 +259,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Property property = new Property();
         property.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             property.setName(name);
         }
@@ -311,7 +311,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         PropertyConfigurationEntry entry = new PropertyConfigurationEntry();
         entry.elementNode((DOMElement) element);
-        String request = element.getAttribute(Constant.REQUEST);
+        String request = getAttribute(element, Constant.REQUEST);
         if (request != null) {
             entry.setRequest(request);
         }
@@ -337,7 +337,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         PropertyProperty propertyProperty = new PropertyProperty();
         propertyProperty.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             propertyProperty.setName(name);
         }
@@ -354,40 +354,40 @@ public class DataServiceConfigFactory extends AbstractFactory {
         Result result = new Result();
         result.elementNode((DOMElement) node);
 
-        String elementName = node.getAttribute(Constant.ELEMENT);
+        String elementName = getAttribute(node, Constant.ELEMENT);
         if (elementName != null) {
             result.setElement(elementName);
         }
-        String rowName = node.getAttribute(Constant.ROW_NAME);
+        String rowName = getAttribute(node, Constant.ROW_NAME);
         if (rowName != null) {
             result.setRowName(rowName);
         }
-        String defaultNamespace = node.getAttribute(Constant.DEFAULT_NAMESPACE);
+        String defaultNamespace = getAttribute(node, Constant.DEFAULT_NAMESPACE);
         if (defaultNamespace != null) {
             result.setDefaultNamespace(defaultNamespace);
         }
 
-        String useColumnNumbers = node.getAttribute(Constant.USE_COLUMN_NUMBERS);
+        String useColumnNumbers = getAttribute(node, Constant.USE_COLUMN_NUMBERS);
         if (useColumnNumbers != null) {
             result.setUseColumnNumbers(Boolean.parseBoolean(useColumnNumbers));
         }
 
-        String escapeNonPrintableChar = node.getAttribute(Constant.ESCAPE_NON_PRINTABLE_CHAR);
+        String escapeNonPrintableChar = getAttribute(node, Constant.ESCAPE_NON_PRINTABLE_CHAR);
         if (escapeNonPrintableChar != null) {
             result.setEscapeNonPrintableChar(Boolean.parseBoolean(escapeNonPrintableChar));
         }
 
-        String xsltPath = node.getAttribute(Constant.XSLT_PATH);
+        String xsltPath = getAttribute(node, Constant.XSLT_PATH);
         if (xsltPath != null) {
             result.setXsltPath(xsltPath);
         }
 
-        String rdfBaseURI = node.getAttribute(Constant.RDF_BASE_URI);
+        String rdfBaseURI = getAttribute(node, Constant.RDF_BASE_URI);
         if (rdfBaseURI != null) {
             result.setRdfBaseURI(rdfBaseURI);
         }
 
-        String outputType = node.getAttribute(Constant.OUTPUT_TYPE);
+        String outputType = getAttribute(node, Constant.OUTPUT_TYPE);
         if (outputType != null) {
             result.setOutputType(outputType);
         }
@@ -472,43 +472,43 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
     private void populateElementAttributes(Element element, DOMNode node) {
 
-        String name = node.getAttribute(Constant.NAME);
+        String name = getAttribute(node, Constant.NAME);
         if (name != null) {
             element.setName(name);
         }
-        String column = node.getAttribute(Constant.COLUMN);
+        String column = getAttribute(node, Constant.COLUMN);
         if (column != null) {
             element.setColumn(column);
         }
-        String requiredRoles = node.getAttribute(Constant.REQUIRED_ROLES);
+        String requiredRoles = getAttribute(node, Constant.REQUIRED_ROLES);
         if (requiredRoles != null) {
             element.setRequiredRoles(requiredRoles);
         }
-        String export = node.getAttribute(Constant.EXPORT);
+        String export = getAttribute(node, Constant.EXPORT);
         if (export != null) {
             element.setExport(export);
         }
-        String exportType = node.getAttribute(Constant.EXPORT_TYPE);
+        String exportType = getAttribute(node, Constant.EXPORT_TYPE);
         if (exportType != null) {
             element.setExportType(exportType);
         }
-        String xsdType = node.getAttribute(Constant.XSD_TYPE);
+        String xsdType = getAttribute(node, Constant.XSD_TYPE);
         if (xsdType != null) {
             element.setXsdType(xsdType);
         }
-        String namespace = node.getAttribute(Constant.NAMESPACE);
+        String namespace = getAttribute(node, Constant.NAMESPACE);
         if (namespace != null) {
             element.setNamespace(namespace);
         }
-        String optional = node.getAttribute(Constant.OPTIONAL);
+        String optional = getAttribute(node, Constant.OPTIONAL);
         if (optional != null) {
             element.setOptional(Boolean.parseBoolean(optional));
         }
-        String arrayName = node.getAttribute(Constant.ARRAY_NAME);
+        String arrayName = getAttribute(node, Constant.ARRAY_NAME);
         if (arrayName != null) {
             element.setArrayName(arrayName);
         }
-        String queryParam = node.getAttribute(Constant.QUERY_PARAM);
+        String queryParam = getAttribute(node, Constant.QUERY_PARAM);
         if (queryParam != null) {
             element.setQueryParam(queryParam);
         }
@@ -524,43 +524,43 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
     private void populateAttributeAttributes(Attribute attribute, DOMNode node) {
 
-        String name = node.getAttribute(Constant.NAME);
+        String name = getAttribute(node, Constant.NAME);
         if (name != null) {
             attribute.setName(name);
         }
-        String column = node.getAttribute(Constant.COLUMN);
+        String column = getAttribute(node, Constant.COLUMN);
         if (column != null) {
             attribute.setColumn(column);
         }
-        String requiredRoles = node.getAttribute(Constant.REQUIRED_ROLES);
+        String requiredRoles = getAttribute(node, Constant.REQUIRED_ROLES);
         if (requiredRoles != null) {
             attribute.setRequiredRoles(requiredRoles);
         }
-        String export = node.getAttribute(Constant.EXPORT);
+        String export = getAttribute(node, Constant.EXPORT);
         if (export != null) {
             attribute.setExport(export);
         }
-        String exportType = node.getAttribute(Constant.EXPORT_TYPE);
+        String exportType = getAttribute(node, Constant.EXPORT_TYPE);
         if (exportType != null) {
             attribute.setExportType(exportType);
         }
-        String xsdType = node.getAttribute(Constant.XSD_TYPE);
+        String xsdType = getAttribute(node, Constant.XSD_TYPE);
         if (xsdType != null) {
             attribute.setXsdType(xsdType);
         }
-        String namespace = node.getAttribute(Constant.NAMESPACE);
+        String namespace = getAttribute(node, Constant.NAMESPACE);
         if (namespace != null) {
             attribute.setNamespace(namespace);
         }
-        String optional = node.getAttribute(Constant.OPTIONAL);
+        String optional = getAttribute(node, Constant.OPTIONAL);
         if (optional != null) {
             attribute.setOptional(Boolean.parseBoolean(optional));
         }
-        String arrayName = node.getAttribute(Constant.ARRAY_NAME);
+        String arrayName = getAttribute(node, Constant.ARRAY_NAME);
         if (arrayName != null) {
             attribute.setArrayName(arrayName);
         }
-        String queryParam = node.getAttribute(Constant.QUERY_PARAM);
+        String queryParam = getAttribute(node, Constant.QUERY_PARAM);
         if (queryParam != null) {
             attribute.setQueryParam(queryParam);
         }
@@ -570,27 +570,27 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Param param = new Param();
         param.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             param.setName(name);
         }
-        String sqlType = element.getAttribute(Constant.SQL_TYPE);
+        String sqlType = getAttribute(element, Constant.SQL_TYPE);
         if (sqlType != null) {
             param.setSqlType(sqlType);
         }
-        String paramType = element.getAttribute(Constant.PARAM_TYPE);
+        String paramType = getAttribute(element, Constant.PARAM_TYPE);
         if (paramType != null) {
             param.setParamType(paramType);
         }
-        String type = element.getAttribute(Constant.TYPE);
+        String type = getAttribute(element, Constant.TYPE);
         if (type != null) {
             param.setType(type);
         }
-        String ordinal = element.getAttribute(Constant.ORDINAL);
+        String ordinal = getAttribute(element, Constant.ORDINAL);
         if (ordinal != null) {
             param.setOrdinal(Utils.parseInt(ordinal));
         }
-        String defaultValue = element.getAttribute(Constant.DEFAULT_VALUE);
+        String defaultValue = getAttribute(element, Constant.DEFAULT_VALUE);
         if (defaultValue != null) {
             param.setDefaultValue(defaultValue);
         }
@@ -627,7 +627,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         ParamValidateCustom validateCustom = new ParamValidateCustom();
         validateCustom.elementNode((DOMElement) element);
-        String className = element.getAttribute(Constant.CLASS);
+        String className = getAttribute(element, Constant.CLASS);
         if (className != null) {
             validateCustom.setClazz(className);
         }
@@ -638,11 +638,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         ParamValidateLength validateLength = new ParamValidateLength();
         validateLength.elementNode((DOMElement) element);
-        String minimum = element.getAttribute(Constant.MINIMUM);
+        String minimum = getAttribute(element, Constant.MINIMUM);
         if (minimum != null) {
             validateLength.setMinimum(Utils.parseInt(minimum));
         }
-        String maximum = element.getAttribute(Constant.MAXIMUM);
+        String maximum = getAttribute(element, Constant.MAXIMUM);
         if (maximum != null) {
             validateLength.setMaximum(Utils.parseInt(maximum));
         }
@@ -653,7 +653,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         ParamValidatePattern validatePattern = new ParamValidatePattern();
         validatePattern.elementNode((DOMElement) element);
-        String pattern = element.getAttribute(Constant.PATTERN);
+        String pattern = getAttribute(element, Constant.PATTERN);
         if (pattern != null) {
             validatePattern.setPattern(pattern);
         }
@@ -664,11 +664,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         ParamValidateLongRange validateLongRange = new ParamValidateLongRange();
         validateLongRange.elementNode((DOMElement) element);
-        String minimum = element.getAttribute(Constant.MINIMUM);
+        String minimum = getAttribute(element, Constant.MINIMUM);
         if (minimum != null) {
             validateLongRange.setMinimum(Utils.parseInt(minimum));
         }
-        String maximum = element.getAttribute(Constant.MAXIMUM);
+        String maximum = getAttribute(element, Constant.MAXIMUM);
         if (maximum != null) {
             validateLongRange.setMaximum(Utils.parseInt(maximum));
         }
@@ -679,11 +679,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         ParamValidateDoubleRange validateDoubleRange = new ParamValidateDoubleRange();
         validateDoubleRange.elementNode((DOMElement) element);
-        String minimum = element.getAttribute(Constant.MINIMUM);
+        String minimum = getAttribute(element, Constant.MINIMUM);
         if (minimum != null) {
             validateDoubleRange.setMinimum(Utils.parseInt(minimum));
         }
-        String maximum = element.getAttribute(Constant.MAXIMUM);
+        String maximum = getAttribute(element, Constant.MAXIMUM);
         if (maximum != null) {
             validateDoubleRange.setMaximum(Utils.parseInt(maximum));
         }
@@ -694,15 +694,15 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Operation operation = new Operation();
         operation.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             operation.setName(name);
         }
-        String disableStreaming = element.getAttribute(Constant.DISABLE_STREAMING);
+        String disableStreaming = getAttribute(element, Constant.DISABLE_STREAMING);
         if (disableStreaming != null) {
             operation.setDisableStreaming(Boolean.parseBoolean(disableStreaming));
         }
-        String returnRequestStatus = element.getAttribute(Constant.RETURN_REQUEST_STATUS);
+        String returnRequestStatus = getAttribute(element, Constant.RETURN_REQUEST_STATUS);
         if (returnRequestStatus != null) {
             operation.setReturnRequestStatus(Boolean.parseBoolean(returnRequestStatus));
         }
@@ -727,19 +727,19 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         Resource resource = new Resource();
         resource.elementNode((DOMElement) element);
-        String path = element.getAttribute(Constant.PATH);
+        String path = getAttribute(element, Constant.PATH);
         if (path != null) {
             resource.setPath(path);
         }
-        String method = element.getAttribute(Constant.METHOD);
+        String method = getAttribute(element, Constant.METHOD);
         if (method != null) {
             resource.setMethod(method);
         }
-        String disableStreaming = element.getAttribute(Constant.DISABLE_STREAMING);
+        String disableStreaming = getAttribute(element, Constant.DISABLE_STREAMING);
         if (disableStreaming != null) {
             resource.setDisableStreaming(Boolean.parseBoolean(disableStreaming));
         }
-        String returnRequestStatus = element.getAttribute(Constant.RETURN_REQUEST_STATUS);
+        String returnRequestStatus = getAttribute(element, Constant.RETURN_REQUEST_STATUS);
         if (returnRequestStatus != null) {
             resource.setReturnRequestStatus(Boolean.parseBoolean(returnRequestStatus));
         }
@@ -764,11 +764,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         CallQuery callQuery = new CallQuery();
         callQuery.elementNode((DOMElement) element);
-        String href = element.getAttribute(Constant.HREF);
+        String href = getAttribute(element, Constant.HREF);
         if (href != null) {
             callQuery.setHref(href);
         }
-        String requiredRoles = element.getAttribute(Constant.REQUIRED_ROLES);
+        String requiredRoles = getAttribute(element, Constant.REQUIRED_ROLES);
         if (requiredRoles != null) {
             callQuery.setRequiredRoles(requiredRoles);
         }
@@ -791,19 +791,19 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         CallQueryWithParam withParam = new CallQueryWithParam();
         withParam.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             withParam.setName(name);
         }
-        String query_param = element.getAttribute(Constant.QUERY_PARAM);
+        String query_param = getAttribute(element, Constant.QUERY_PARAM);
         if (query_param != null) {
             withParam.setQueryParam(query_param);
         }
-        String column = element.getAttribute(Constant.COLUMN);
+        String column = getAttribute(element, Constant.COLUMN);
         if (column != null) {
             withParam.setColumn(column);
         }
-        String param = element.getAttribute(Constant.PARAM);
+        String param = getAttribute(element, Constant.PARAM);
         if (param != null) {
             withParam.setParam(param);
         }
@@ -814,7 +814,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         DataPolicy policy = new DataPolicy();
         policy.elementNode((DOMElement) element);
-        String key = element.getAttribute(Constant.KEY);
+        String key = getAttribute(element, Constant.KEY);
         if (key != null) {
             policy.setKey(key);
         }
@@ -825,11 +825,11 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         EventTrigger eventTrigger = new EventTrigger();
         eventTrigger.elementNode((DOMElement) element);
-        String id = element.getAttribute(Constant.ID);
+        String id = getAttribute(element, Constant.ID);
         if (id != null) {
             eventTrigger.setId(id);
         }
-        String language = element.getAttribute(Constant.LANGUAGE);
+        String language = getAttribute(element, Constant.LANGUAGE);
         if (language != null) {
             eventTrigger.setLanguage(language);
         }
@@ -873,7 +873,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         AuthorizationProvider authorizationProvider = new AuthorizationProvider();
         authorizationProvider.elementNode((DOMElement) element);
-        String clazz = element.getAttribute(Constant.CLASS);
+        String clazz = getAttribute(element, Constant.CLASS);
         if (clazz != null) {
             authorizationProvider.setClazz(clazz);
         }
@@ -896,7 +896,7 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         AuthorizationProviderProperty property = new AuthorizationProviderProperty();
         property.elementNode((DOMElement) element);
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             property.setName(name);
         }
@@ -911,51 +911,51 @@ public class DataServiceConfigFactory extends AbstractFactory {
     @Override
     public void populateAttributes(STNode node, DOMElement element) {
 
-        String baseURI = element.getAttribute(Constant.BASE_URI);
+        String baseURI = getAttribute(element, Constant.BASE_URI);
         if (baseURI != null) {
             ((Data) node).setBaseURI(baseURI);
         }
-        String name = element.getAttribute(Constant.NAME);
+        String name = getAttribute(element, Constant.NAME);
         if (name != null) {
             ((Data) node).setName(name);
         }
-        String enableBatchRequests = element.getAttribute(Constant.ENABLE_BATCH_REQUESTS);
+        String enableBatchRequests = getAttribute(element, Constant.ENABLE_BATCH_REQUESTS);
         if (enableBatchRequests != null) {
             ((Data) node).setEnableBatchRequests(Boolean.parseBoolean(enableBatchRequests));
         }
-        String enableBoxcarring = element.getAttribute(Constant.ENABLE_BOXCARRING);
+        String enableBoxcarring = getAttribute(element, Constant.ENABLE_BOXCARRING);
         if (enableBoxcarring != null) {
             ((Data) node).setEnableBoxcarring(Boolean.parseBoolean(enableBoxcarring));
         }
-        String disableLegacyBoxcarringMode = element.getAttribute(Constant.DISABLE_LEGACY_BOXCARRING_MODE);
+        String disableLegacyBoxcarringMode = getAttribute(element, Constant.DISABLE_LEGACY_BOXCARRING_MODE);
         if (disableLegacyBoxcarringMode != null) {
             ((Data) node).setDisableLegacyBoxcarringMode(Boolean.parseBoolean(disableLegacyBoxcarringMode));
         }
-        String disableStreaming = element.getAttribute(Constant.DISABLE_STREAMING);
+        String disableStreaming = getAttribute(element, Constant.DISABLE_STREAMING);
         if (disableStreaming != null) {
             ((Data) node).setDisableStreaming(Boolean.parseBoolean(disableStreaming));
         }
-        String txManagerJNDIName = element.getAttribute(Constant.TX_MANAGER_JNDI_NAME);
+        String txManagerJNDIName = getAttribute(element, Constant.TX_MANAGER_JNDI_NAME);
         if (txManagerJNDIName != null) {
             ((Data) node).setTxManagerJNDIName(txManagerJNDIName);
         }
-        String serviceNamespace = element.getAttribute(Constant.SERVICE_NAMESPACE);
+        String serviceNamespace = getAttribute(element, Constant.SERVICE_NAMESPACE);
         if (serviceNamespace != null) {
             ((Data) node).setServiceNamespace(serviceNamespace);
         }
-        String serviceGroup = element.getAttribute(Constant.SERVICE_GROUP);
+        String serviceGroup = getAttribute(element, Constant.SERVICE_GROUP);
         if (serviceGroup != null) {
             ((Data) node).setServiceGroup(serviceGroup);
         }
-        String publishSwagger = element.getAttribute(Constant.PUBLISH_SWAGGER);
+        String publishSwagger = getAttribute(element, Constant.PUBLISH_SWAGGER);
         if (publishSwagger != null) {
             ((Data) node).setPublishSwagger(publishSwagger);
         }
-        String transports = element.getAttribute(Constant.TRANSPORTS);
+        String transports = getAttribute(element, Constant.TRANSPORTS);
         if (transports != null) {
             ((Data) node).setTransports(transports);
         }
-        String serviceStatus = element.getAttribute(Constant.SERVICE_STATUS);
+        String serviceStatus = getAttribute(element, Constant.SERVICE_STATUS);
         if (serviceStatus != null) {
             ((Data) node).setServiceStatus(serviceStatus);
         }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * Packs ranges into an int array as the line and character pairs of their start and end positions, so that a syntax
+ * tree node does not hold a {@link Range} and two {@link Position} objects per range. A packed range is resolved to a
+ * new {@link Range} when it is requested.
+ */
+final class PackedRanges {
+
+    static final int RANGE_SIZE = 4;
+    private static final int ABSENT = -1;
+
+    private PackedRanges() {
+
+    }
+
+    static int[] create(int rangeCount) {
+
+        int[] ranges = new int[rangeCount * RANGE_SIZE];
+        for (int i = 0; i < rangeCount; i++) {
+            ranges[i * RANGE_SIZE] = ABSENT;
+        }
+        return ranges;
+    }
+
+    static void pack(int[] ranges, int index, Range range) {
+
+        int offset = index * RANGE_SIZE;
+        if (range == null || range.getStart() == null || range.getEnd() == null) {
+            ranges[offset] = ABSENT;
+            return;
+        }
+        ranges[offset] = range.getStart().getLine();
+        ranges[offset + 1] = range.getStart().getCharacter();
+        ranges[offset + 2] = range.getEnd().getLine();
+        ranges[offset + 3] = range.getEnd().getCharacter();
+    }
+
+    static Range unpack(int[] ranges, int index) {
+
+        int offset = index * RANGE_SIZE;
+        if (ranges[offset] == ABSENT) {
+            return null;
+        }
+        return new Range(new Position(ranges[offset], ranges[offset + 1]),
+                new Position(ranges[offset + 2], ranges[offset + 3]));
+    }
+}
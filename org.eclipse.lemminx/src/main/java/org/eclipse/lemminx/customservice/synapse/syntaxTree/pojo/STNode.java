@@ -44,14 +44,16 @@ public class STNode {
     public void elementNode(DOMElement node) {
 
         this.selfClosed = node.isSelfClosed();
-        this.tag = node.getTagName();
+        this.tag = STNodeStrings.intern(node.getTagName());
         this.range = findRange(node);
         DOMNode firstChild = node.getFirstChild();
         if (firstChild != null && firstChild.isText()) {
             this.hasTextNode = firstChild.isText();
-            this.textNode = Utils.unescapeXml(firstChild.getTextContent());
+            String text = Utils.unescapeXml(firstChild.getTextContent());
+            // The text of a node with child elements is the whitespace before the first of them
+            this.textNode = text != null && text.isBlank() ? STNodeStrings.intern(text) : text;
         }
-        namespaces = new HashMap<>();
+        namespaces.clear();
         populateNamespaces(node);
     }
 
@@ -232,7 +234,8 @@ public class STNode {
         if (attributes != null) {
             for (DOMAttr attribute : attributes) {
                 if (attribute.getName().startsWith("xmlns")) {
-                    namespaces.put(attribute.getName(), attribute.getValue());
+                    namespaces.put(STNodeStrings.intern(attribute.getName()),
+                            STNodeStrings.intern(attribute.getValue()));
                 }
             }
         }
@@ -261,7 +264,7 @@ public class STNode {
 
     public void addNamespace(String prefix, String uri) {
 
-        namespaces.put(prefix, uri);
+        namespaces.put(STNodeStrings.intern(prefix), STNodeStrings.intern(uri));
     }
 
     public TagRanges getRange() {
@@ -291,7 +294,7 @@ public class STNode {
 
     public void setTag(String tag) {
 
-        this.tag = tag;
+        this.tag = STNodeStrings.intern(tag);
     }
 
     public HashMap<String, String> getNamespaces() {
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Shared instances of the strings which repeat across syntax tree nodes, such as tag names, namespace declarations
+ * and the whitespace between tags. The DOM returns a new string for each of them per node, hence the nodes of cached
+ * syntax trees would otherwise hold many copies of the same strings.
+ */
+public final class STNodeStrings {
+
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private STNodeStrings() {
+
+    }
+
+    /**
+     * Get the shared instance of the given string.
+     *
+     * @param value the string
+     * @return the shared instance, or null if the string is null
+     */
+    public static String intern(String value) {
+
+        return value != null ? INTERNER.intern(value) : null;
+    }
+}
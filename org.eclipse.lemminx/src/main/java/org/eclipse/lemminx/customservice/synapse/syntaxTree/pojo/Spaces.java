@@ -14,34 +14,157 @@
 
 package org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Leading and trailing spaces of the start and end tags of a syntax tree node. The space texts are interned and their
+ * ranges are packed with {@link PackedRanges}, while the spaces are serialized in the same form as two
+ * {@link TagSpaces} fields.
+ */
+@JsonAdapter(Spaces.JsonAdapterFactory.class)
 public class Spaces {
 
-    TagSpaces startingTagSpace;
-    TagSpaces endingTagSpace;
+    private static final int STARTING_TAG = 0;
+    private static final int ENDING_TAG = 1;
+    private static final String STARTING_TAG_SPACE = "startingTagSpace";
+    private static final String ENDING_TAG_SPACE = "endingTagSpace";
+
+    // Leading and trailing spaces of the starting tag followed by the ones of the ending tag
+    private final String[] spaces = new String[4];
+    private final int[] ranges = PackedRanges.create(4);
+    // Flags of the present tag spaces followed by the present spaces, as either of them can be null
+    private int presentFlags;
 
     public Spaces(TagSpaces startingTagSpace, TagSpaces endingTagSpace) {
 
-        this.startingTagSpace = startingTagSpace;
-        this.endingTagSpace = endingTagSpace;
+        setStartingTagSpace(startingTagSpace);
+        setEndingTagSpace(endingTagSpace);
     }
 
     public TagSpaces getStartingTagSpace() {
 
-        return startingTagSpace;
+        return getTagSpaces(STARTING_TAG);
     }
 
     public void setStartingTagSpace(TagSpaces startingTagSpace) {
 
-        this.startingTagSpace = startingTagSpace;
+        setTagSpaces(STARTING_TAG, startingTagSpace);
     }
 
     public TagSpaces getEndingTagSpace() {
 
-        return endingTagSpace;
+        return getTagSpaces(ENDING_TAG);
     }
 
     public void setEndingTagSpace(TagSpaces endingTagSpace) {
 
-        this.endingTagSpace = endingTagSpace;
+        setTagSpaces(ENDING_TAG, endingTagSpace);
+    }
+
+    private TagSpaces getTagSpaces(int tag) {
+
+        if (!isPresent(tag)) {
+            return null;
+        }
+        return new TagSpaces(getSpace(tag * 2), getSpace(tag * 2 + 1));
+    }
+
+    private void setTagSpaces(int tag, TagSpaces tagSpaces) {
+
+        setPresent(tag, tagSpaces != null);
+        setSpace(tag * 2, tagSpaces != null ? tagSpaces.getLeadingSpace() : null);
+        setSpace(tag * 2 + 1, tagSpaces != null ? tagSpaces.getTrailingSpace() : null);
+    }
+
+    private Space getSpace(int index) {
+
+        if (!isPresent(2 + index)) {
+            return null;
+        }
+        return new Space(spaces[index], PackedRanges.unpack(ranges, index));
+    }
+
+    private void setSpace(int index, Space space) {
+
+        setPresent(2 + index, space != null);
+        spaces[index] = space != null ? STNodeStrings.intern(space.getSpace()) : null;
+        PackedRanges.pack(ranges, index, space != null ? space.getRange() : null);
+    }
+
+    private boolean isPresent(int flag) {
+
+        return (presentFlags & (1 << flag)) != 0;
+    }
+
+    private void setPresent(int flag, boolean present) {
+
+        if (present) {
+            presentFlags |= 1 << flag;
+        } else {
+            presentFlags &= ~(1 << flag);
+        }
+    }
+
+    static class JsonAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+
+            if (type.getRawType() != Spaces.class) {
+                return null;
+            }
+            TypeAdapter<TagSpaces> tagSpacesAdapter = gson.getAdapter(TagSpaces.class);
+            return (TypeAdapter<T>) new TypeAdapter<Spaces>() {
+
+                @Override
+                public void write(JsonWriter out, Spaces spaces) throws IOException {
+
+                    if (spaces == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    out.beginObject();
+                    out.name(STARTING_TAG_SPACE);
+                    tagSpacesAdapter.write(out, spaces.getStartingTagSpace());
+                    out.name(ENDING_TAG_SPACE);
+                    tagSpacesAdapter.write(out, spaces.getEndingTagSpace());
+                    out.endObject();
+                }
+
+                @Override
+                public Spaces read(JsonReader in) throws IOException {
+
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        return null;
+                    }
+                    TagSpaces startingTagSpace = null;
+                    TagSpaces endingTagSpace = null;
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String name = in.nextName();
+                        if (STARTING_TAG_SPACE.equals(name)) {
+                            startingTagSpace = tagSpacesAdapter.read(in);
+                        } else if (ENDING_TAG_SPACE.equals(name)) {
+                            endingTagSpace = tagSpacesAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return new Spaces(startingTagSpace, endingTagSpace);
+                }
+            };
+        }
     }
 }
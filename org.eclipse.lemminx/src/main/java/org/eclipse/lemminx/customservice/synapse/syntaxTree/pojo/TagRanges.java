@@ -14,36 +14,109 @@
 
 package org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.eclipse.lsp4j.Range;
 
+import java.io.IOException;
+
+/**
+ * Ranges of the start and end tags of a syntax tree node. The ranges are packed with {@link PackedRanges} and are
+ * serialized in the same form as two {@link Range} fields.
+ */
+@JsonAdapter(TagRanges.JsonAdapterFactory.class)
 public class TagRanges {
 
-    Range startTagRange;
-    Range endTagRange;
+    private static final int START_TAG = 0;
+    private static final int END_TAG = 1;
+    private static final String START_TAG_RANGE = "startTagRange";
+    private static final String END_TAG_RANGE = "endTagRange";
+
+    private final int[] ranges = PackedRanges.create(2);
 
     public TagRanges(Range startTagRange, Range endTagRange) {
 
-        this.startTagRange = startTagRange;
-        this.endTagRange = endTagRange;
+        setStartTagRange(startTagRange);
+        setEndTagRange(endTagRange);
     }
 
     public Range getStartTagRange() {
 
-        return startTagRange;
+        return PackedRanges.unpack(ranges, START_TAG);
     }
 
     public void setStartTagRange(Range startTagRange) {
 
-        this.startTagRange = startTagRange;
+        PackedRanges.pack(ranges, START_TAG, startTagRange);
     }
 
     public Range getEndTagRange() {
 
-        return endTagRange;
+        return PackedRanges.unpack(ranges, END_TAG);
     }
 
     public void setEndTagRange(Range endTagRange) {
 
-        this.endTagRange = endTagRange;
+        PackedRanges.pack(ranges, END_TAG, endTagRange);
+    }
+
+    static class JsonAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+
+            if (type.getRawType() != TagRanges.class) {
+                return null;
+            }
+            TypeAdapter<Range> rangeAdapter = gson.getAdapter(Range.class);
+            return (TypeAdapter<T>) new TypeAdapter<TagRanges>() {
+
+                @Override
+                public void write(JsonWriter out, TagRanges tagRanges) throws IOException {
+
+                    if (tagRanges == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    out.beginObject();
+                    out.name(START_TAG_RANGE);
+                    rangeAdapter.write(out, tagRanges.getStartTagRange());
+                    out.name(END_TAG_RANGE);
+                    rangeAdapter.write(out, tagRanges.getEndTagRange());
+                    out.endObject();
+                }
+
+                @Override
+                public TagRanges read(JsonReader in) throws IOException {
+
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        return null;
+                    }
+                    Range startTagRange = null;
+                    Range endTagRange = null;
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String name = in.nextName();
+                        if (START_TAG_RANGE.equals(name)) {
+                            startTagRange = rangeAdapter.read(in);
+                        } else if (END_TAG_RANGE.equals(name)) {
+                            endTagRange = rangeAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return new TagRanges(startTagRange, endTagRange);
+                }
+            };
+        }
     }
 }
@@ -514,6 +514,7 @@ public class Constant {
     public static final String CATALOGS = "catalogs";
     public static final String SETTINGS = "settings";
     public static final String JAR = "jar";
+    public static final String SCHEMAS = "schemas";
     public static final String TAG = "tag";
     public static final String TITLE = "title";
     public static final String OPERATION_NAME = "operationName";
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+/**
+ * Immutable description of the shape of a project, i.e. whether it uses the legacy project layout, the type of the
+ * project and the MI runtime version it targets. Descriptors are provided by {@link ProjectDescriptorService}.
+ */
+public final class ProjectDescriptor {
+
+    private final boolean projectDescriptionPresent;
+    private final boolean legacyProject;
+    private final String projectType;
+    private final String serverVersion;
+
+    ProjectDescriptor(boolean projectDescriptionPresent, boolean legacyProject, String projectType,
+                      String serverVersion) {
+
+        this.projectDescriptionPresent = projectDescriptionPresent;
+        this.legacyProject = legacyProject;
+        this.projectType = projectType;
+        this.serverVersion = serverVersion;
+    }
+
+    /**
+     * Returns whether the project has a .project file.
+     *
+     * @return true if the .project file exists
+     */
+    public boolean isProjectDescriptionPresent() {
+
+        return projectDescriptionPresent;
+    }
+
+    /**
+     * Returns whether the project is a legacy integration project, i.e. its .project file declares the root project
+     * nature.
+     *
+     * @return true if the project is a legacy project
+     */
+    public boolean isLegacyProject() {
+
+        return legacyProject;
+    }
+
+    /**
+     * Returns the project type, declared by the projectType property of the pom.xml.
+     *
+     * @return the project type, or null if the property is not declared
+     */
+    public String getProjectType() {
+
+        return projectType;
+    }
+
+    /**
+     * Returns the supported MI runtime version of the project, falling back to the default MI version if the project
+     * does not declare a supported runtime version.
+     *
+     * @return the server version
+     */
+    public String getServerVersion() {
+
+        return serverVersion;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the {@link ProjectDescriptor} of a project. The descriptor is computed once per project folder and kept
+ * until the .project or pom.xml file of the project changes, so that requests which only need to know the kind of the
+ * project do not read the project files.
+ */
+public final class ProjectDescriptorService {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectDescriptorService.class.getName());
+    private static final Map<Path, ProjectDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    private ProjectDescriptorService() {
+
+    }
+
+    /**
+     * Get the descriptor of the given project.
+     *
+     * @param projectPath the project path
+     * @return the project descriptor
+     */
+    public static ProjectDescriptor getDescriptor(String projectPath) {
+
+        return DESCRIPTORS.computeIfAbsent(getKey(projectPath), ProjectDescriptorService::createDescriptor);
+    }
+
+    /**
+     * Discard the descriptor of the project which owns the given file if the file is a .project or pom.xml file, so
+     * that the descriptor is computed again on the next request.
+     *
+     * @param fileUri the uri or path of the changed file
+     */
+    public static void projectFileChanged(String fileUri) {
+
+        Path file;
+        try {
+            file = Path.of(Utils.getAbsolutePath(fileUri));
+        } catch (InvalidPathException e) {
+            LOGGER.log(Level.FINE, "Invalid path for the changed file: " + fileUri, e);
+            return;
+        }
+        Path fileName = file.getFileName();
+        Path projectFolder = file.getParent();
+        if (fileName == null || projectFolder == null) {
+            return;
+        }
+        if (Constant.DOT_PROJECT.equals(fileName.toString()) || Constant.POM.equals(fileName.toString())) {
+            DESCRIPTORS.remove(getKey(projectFolder.toString()));
+        }
+    }
+
+    private static Path getKey(String projectPath) {
+
+        return Path.of(projectPath).toAbsolutePath().normalize();
+    }
+
+    private static ProjectDescriptor createDescriptor(Path projectFolder) {
+
+        String projectPath = projectFolder.toString();
+        boolean projectDescriptionPresent = projectFolder.resolve(Constant.DOT_PROJECT).toFile().exists();
+        boolean legacyProject = projectDescriptionPresent && Utils.isLegacyProject(projectPath);
+        PomModel pomModel = PomModelService.getPomModel(projectPath);
+        String projectType = null;
+        for (Map.Entry<String, String> property : pomModel.getProperties().entrySet()) {
+            if (Constant.PROJECT_TYPE.equalsIgnoreCase(property.getKey())) {
+                projectType = property.getValue();
+                break;
+            }
+        }
+        String serverVersion = Utils.getServerVersion(pomModel, Constant.DEFAULT_MI_VERSION);
+        return new ProjectDescriptor(projectDescriptionPresent, legacyProject, projectType, serverVersion);
+    }
+}
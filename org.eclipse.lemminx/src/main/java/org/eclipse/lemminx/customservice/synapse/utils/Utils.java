@@ -17,6 +17,8 @@ package org.eclipse.lemminx.customservice.synapse.utils;
 import com.github.fge.jackson.JsonLoader;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -36,8 +38,10 @@ import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.legacyBuilder.utils.ProjectType;
-import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
-import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.parser.ArtifactDownloadManager;
+import org.eclipse.lemminx.customservice.synapse.parser.ArtifactStore;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
 import org.eclipse.lemminx.dom.DOMAttr;
@@ -49,12 +53,10 @@ import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lsp4j.InitializeParams;
 import org.w3c.dom.Node;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
@@ -64,7 +66,6 @@ import java.io.OutputStream;
 import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
-import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -97,8 +98,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.ImageType;
@@ -117,6 +116,8 @@ public class Utils {
     private static final Logger logger = Logger.getLogger(Utils.class.getName());
     private static FileSystem fileSystem;
     private static final MustacheFactory mustacheFactory = new SynapseMustacheFactory();
+    private static final String SCHEMA_SET_FILE = ".schemaset";
+    private static final Pattern SERVER_VERSION_PATTERN = Pattern.compile("^\\d+\\.\\d+\\.\\d+$");
 
     /**
      * Get the inline string of the given node
@@ -373,50 +374,7 @@ public class Utils {
     public static void extractZip(File zip, File extractTo) throws IOException {
 
         waitForDownload(zip);
-        byte[] buffer = new byte[1024];
-        ZipInputStream zis = new ZipInputStream(new FileInputStream(zip));
-        ZipEntry zipEntry = zis.getNextEntry();
-        String zipName = zip.getName().replace(Constant.ZIP_EXTENSION, StringUtils.EMPTY);
-        boolean removeUpperFolder = false;
-        while (zipEntry != null) {
-            String entryName = zipEntry.getName();
-            if (removeUpperFolder) {
-                if (entryName.startsWith(zipName + "/")) {
-                    entryName = entryName.substring(zipName.length() + 1);
-                    if (entryName.isEmpty()) {
-                        zipEntry = zis.getNextEntry();
-                        continue;
-                    }
-                }
-            } else if (entryName.equals(zipName + "/") && zipEntry.isDirectory()) {
-                removeUpperFolder = true;
-                zipEntry = zis.getNextEntry();
-                continue;
-            }
-            File newFile = newFile(extractTo, entryName);
-            if (zipEntry.isDirectory()) {
-                if (!newFile.isDirectory() && !newFile.mkdirs()) {
-                    throw new IOException("Failed to create directory " + newFile);
-                }
-            } else {
-                File parent = newFile.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException("Failed to create directory " + parent);
-                }
-
-                FileOutputStream fos = new FileOutputStream(newFile);
-                int len;
-                while ((len = zis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, len);
-                }
-                fos.close();
-            }
-            zipEntry = zis.getNextEntry();
-        }
-
-        zis.closeEntry();
-        zis.close();
-
+        ZipExtractor.extract(zip.toPath(), extractTo.toPath());
     }
 
     private static void waitForDownload(File file) {
@@ -935,25 +893,28 @@ public class Utils {
     }
 
     public static String getServerVersion(String projectPath, String defaultVersion) {
+
+        return getServerVersion(PomModelService.getPomModel(projectPath), defaultVersion);
+    }
+
+    /**
+     * Returns the supported MI server version for the runtime version declared in the given pom model.
+     *
+     * @param pomModel       the pom model of the project
+     * @param defaultVersion the version to use if the project does not declare a valid runtime version
+     * @return the supported server version
+     */
+    public static String getServerVersion(PomModel pomModel, String defaultVersion) {
         try {
-            Path pomPath = Path.of(projectPath, "pom.xml");
-            File pomFile = pomPath.toFile();
-            DOMDocument document = getDOMDocument(pomFile);
-
-            DOMNode propertiesList = getChildNodeByName(document.getDocumentElement(), "properties");
-            if (propertiesList != null) {
-                DOMNode runtimeVersionList = getChildNodeByName(propertiesList, "project.runtime.version");
-                if (runtimeVersionList != null) {
-                    String version = getInlineString(runtimeVersionList.getFirstChild());
-                    Pattern pattern = Pattern.compile("^\\d+\\.\\d+\\.\\d+$");
-                    Matcher matcher = pattern.matcher(version);
-                    if (matcher.matches()) {
-                        if (Integer.parseInt(version.replace(".", "")) <
-                                Integer.parseInt(Constant.MI_430_VERSION.replace(".", ""))) {
-                            return Constant.MI_430_VERSION;
-                        }
-                        return Constant.MI_SUPPORTED_VERSION_MAP.get(version);
+            String version = pomModel.getRuntimeVersion();
+            if (version != null) {
+                Matcher matcher = SERVER_VERSION_PATTERN.matcher(version);
+                if (matcher.matches()) {
+                    if (Integer.parseInt(version.replace(".", "")) <
+                            Integer.parseInt(Constant.MI_430_VERSION.replace(".", ""))) {
+                        return Constant.MI_430_VERSION;
                     }
+                    return Constant.MI_SUPPORTED_VERSION_MAP.get(version);
                 }
             }
         } catch (Exception e) {
@@ -990,22 +951,111 @@ public class Utils {
         }
     }
 
+    /**
+     * Extract the Synapse schemas of the project's MI version. The schemas are extracted once per schema set and
+     * project into the .wso2-mi folder, so that the extraction is skipped on later sessions unless the bundled schemas
+     * have changed.
+     *
+     * @param projectUri the project path
+     * @return the path of the extracted schemas
+     */
     public static Path copyXSDFiles(String projectUri) throws IOException, URISyntaxException {
 
-        String version = getServerVersion(projectUri, Constant.DEFAULT_MI_VERSION);
+        String version = ProjectDescriptorService.getDescriptor(projectUri).getServerVersion();
         String versionFolder = version.replace(".", "");
         String schemasPath = "org/eclipse/lemminx/schemas/" + versionFolder;
-        File tempFolder = Files.createTempDirectory("synapse").toFile();
-        tempFolder.deleteOnExit();
-        extractJarFolder(schemasPath, tempFolder.toPath());
-        return tempFolder.toPath();
+        // The connector schema is generated per project, hence the schemas are not shared across projects
+        String projectKey = Hashing.sha256().hashString(String.valueOf(projectUri), StandardCharsets.UTF_8)
+                .toString().substring(0, 16);
+        Path projectSchemaFolder = Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI,
+                Constant.SCHEMAS, versionFolder, projectKey);
+        return extractSchemas(Utils.class.getClassLoader(), schemasPath, projectSchemaFolder);
+    }
+
+    /**
+     * Extract the schemas of the given resource folder into a folder of the target folder named after the hash of
+     * the schema set. The extraction is skipped if the schema set has already been extracted, and the folders of the
+     * other schema sets, e.g. of an earlier version of the language server, are deleted.
+     *
+     * @param classLoader    the class loader of the schemas
+     * @param resourceFolder the resource folder of the schemas
+     * @param targetFolder   the folder to extract the schema sets to
+     * @return the path of the extracted schemas
+     */
+    public static Path extractSchemas(ClassLoader classLoader, String resourceFolder, Path targetFolder)
+            throws IOException, URISyntaxException {
+
+        String schemaSetHash = getSchemaSetHash(classLoader, resourceFolder);
+        if (schemaSetHash == null) {
+            extractJarFolder(classLoader, resourceFolder, targetFolder);
+            return targetFolder;
+        }
+        Path schemaFolder = targetFolder.resolve(schemaSetHash.substring(0, 16));
+        Path schemaSetFile = schemaFolder.resolve(SCHEMA_SET_FILE);
+        if (!Files.exists(schemaSetFile) ||
+                !schemaSetHash.equals(Files.readString(schemaSetFile, StandardCharsets.UTF_8))) {
+            extractJarFolder(classLoader, resourceFolder, schemaFolder);
+            // Written last, so that an interrupted extraction is done again
+            Files.writeString(schemaSetFile, schemaSetHash, StandardCharsets.UTF_8);
+        }
+        deleteStaleSchemaSets(targetFolder, schemaFolder);
+        return schemaFolder;
+    }
+
+    private static void deleteStaleSchemaSets(Path targetFolder, Path schemaFolder) {
+
+        try (Stream<Path> children = Files.list(targetFolder)) {
+            for (Path child : children.filter(child -> !child.equals(schemaFolder)).collect(Collectors.toList())) {
+                if (Files.isDirectory(child)) {
+                    deleteDirectory(child);
+                } else {
+                    Files.delete(child);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not delete the stale schemas in " + targetFolder, e);
+        }
+    }
+
+    /**
+     * Get a hash of the bundled schemas of the given resource folder, computed from the names, sizes and CRCs of the
+     * jar entries without reading their content.
+     *
+     * @param classLoader    the class loader of the schemas
+     * @param resourceFolder the resource folder
+     * @return the hash, or null if the resources are not packed in a jar
+     */
+    private static String getSchemaSetHash(ClassLoader classLoader, String resourceFolder)
+            throws IOException, URISyntaxException {
+
+        URL resourceURL = classLoader.getResource(resourceFolder);
+        if (resourceURL == null || !resourceURL.getProtocol().equals(Constant.JAR)) {
+            return null;
+        }
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (JarFile jarFile = new JarFile(Paths.get(extractJarPath(resourceURL)).toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(resourceFolder) && !entry.isDirectory()) {
+                    hasher.putString(entry.getName(), StandardCharsets.UTF_8).putLong(entry.getSize())
+                            .putLong(entry.getCrc());
+                }
+            }
+        }
+        return hasher.hash().toString();
     }
 
     public static void extractJarFolder(String resourceFolder, Path targetDirectory)
             throws IOException, URISyntaxException {
 
+        extractJarFolder(Utils.class.getClassLoader(), resourceFolder, targetDirectory);
+    }
+
+    private static void extractJarFolder(ClassLoader classLoader, String resourceFolder, Path targetDirectory)
+            throws IOException, URISyntaxException {
+
         Files.createDirectories(targetDirectory);
-        ClassLoader classLoader = Utils.class.getClassLoader();
         URL resourceURL = classLoader.getResource(resourceFolder);
 
         if (resourceURL == null) {
@@ -1359,10 +1409,10 @@ public class Utils {
      */
     public static boolean isOlderCARPlugin(String projectPath) {
 
-        OverviewPageDetailsResponse overviewPageDetailsResponse = new OverviewPageDetailsResponse();
-        PomParser.getPomDetails(projectPath, overviewPageDetailsResponse);
-        String currentVersion = overviewPageDetailsResponse.getBuildDetails().getAdvanceDetails().getPluginDetails()
-                .getProjectBuildPluginVersion().getValue();
+        String currentVersion = PomModelService.getPomModel(projectPath).getCarPluginVersion();
+        if (currentVersion == null) {
+            return false;
+        }
         if (currentVersion.contains("-SNAPSHOT")) {
             currentVersion = currentVersion.replace("-SNAPSHOT", "");
         }
@@ -1452,33 +1502,9 @@ public class Utils {
 
         // Default to zip if fileType is not specified
         String effectiveFileType = StringUtils.isEmpty(fileType) ? Constant.ZIP_EXTENSION_NO_DOT : fileType;
-        String urlString = String.format("https://maven.wso2.org/nexus/content/groups/public/%s/%s/%s/%s-%s.%s",
-                groupId.replace(".", "/"), artifactId, version, artifactId, version, effectiveFileType);
         File targetFile = new File(targetDirectory, String.format("%s-%s.%s", artifactId, version, effectiveFileType));
-        HttpURLConnection connection = null;
-        try {
-            URL url = new URL(urlString);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setConnectTimeout(20_000);
-            connection.setReadTimeout(40_000);
-
-            try (BufferedInputStream in = new BufferedInputStream(connection.getInputStream());
-                 FileOutputStream fileOutputStream = new FileOutputStream(targetFile)) {
-                byte[] dataBuffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = in.read(dataBuffer, 0, 1024)) != -1) {
-                    fileOutputStream.write(dataBuffer, 0, bytesRead);
-                }
-            }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error occurred while downloading dependency: " + artifactId + "-" + version + "."
-                    + effectiveFileType + " from " + urlString + ". Error: " + e.getMessage());
-            throw e;
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
-        }
+        Path artifact = ArtifactDownloadManager.getInstance().download(groupId, artifactId, version, effectiveFileType);
+        ArtifactStore.copyTo(artifact, targetFile.toPath());
     }
 
     /**
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts zip archives such as connectors and CAR files. The entries are read through the central directory of the
+ * archive, so that the files are extracted in parallel, and a file which has already been extracted with the same
+ * content, i.e. the same size and CRC, is not written again.
+ */
+final class ZipExtractor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Archives with fewer files are extracted sequentially, as the parallel extraction does not pay off for them
+    private static final int PARALLEL_THRESHOLD = 8;
+
+    private ZipExtractor() {
+
+    }
+
+    /**
+     * Extract the given archive. If the entries of the archive are inside a folder named after the archive, the
+     * folder is not created, i.e. its content is extracted directly into the target folder.
+     *
+     * @param zip       the archive to extract
+     * @param extractTo the folder to extract the archive into
+     * @throws IOException if the archive cannot be read, an entry cannot be written, or an entry is outside of the
+     *                     target folder
+     */
+    static void extract(Path zip, Path extractTo) throws IOException {
+
+        Path root = extractTo.toFile().getCanonicalFile().toPath();
+        String zipName = zip.getFileName().toString().replace(Constant.ZIP_EXTENSION, "");
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            List<ZipEntry> fileEntries = new ArrayList<>();
+            List<Path> targets = new ArrayList<>();
+            Set<Path> directories = new LinkedHashSet<>();
+            boolean removeUpperFolder = false;
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (removeUpperFolder) {
+                    if (entryName.startsWith(zipName + "/")) {
+                        entryName = entryName.substring(zipName.length() + 1);
+                        if (entryName.isEmpty()) {
+                            continue;
+                        }
+                    }
+                } else if (entryName.equals(zipName + "/") && entry.isDirectory()) {
+                    removeUpperFolder = true;
+                    continue;
+                }
+                Path target = root.resolve(entryName).normalize();
+                if (!target.startsWith(root) || target.equals(root)) {
+                    throw new IOException("Entry is outside of the target dir: " + entryName);
+                }
+                if (entry.isDirectory()) {
+                    directories.add(target);
+                } else {
+                    directories.add(target.getParent());
+                    fileEntries.add(entry);
+                    targets.add(target);
+                }
+            }
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+            if (fileEntries.size() < PARALLEL_THRESHOLD) {
+                for (int i = 0; i < fileEntries.size(); i++) {
+                    extractEntry(zipFile, fileEntries.get(i), targets.get(i));
+                }
+                return;
+            }
+            try {
+                IntStream.range(0, fileEntries.size()).parallel().forEach(i -> {
+                    try {
+                        extractEntry(zipFile, fileEntries.get(i), targets.get(i));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static void extractEntry(ZipFile zipFile, ZipEntry entry, Path target) throws IOException {
+
+        if (isUnchanged(entry, target)) {
+            return;
+        }
+        byte[] buffer = new byte[getBufferSize(entry.getSize())];
+        try (InputStream in = zipFile.getInputStream(entry);
+             OutputStream out = Files.newOutputStream(target)) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                out.write(buffer, 0, bytesRead);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the target file has the content of the entry, comparing the size first and the CRC only if the
+     * size matches.
+     */
+    private static boolean isUnchanged(ZipEntry entry, Path target) throws IOException {
+
+        if (entry.getSize() < 0 || entry.getCrc() < 0 || !Files.isRegularFile(target) ||
+                Files.size(target) != entry.getSize()) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[getBufferSize(entry.getSize())];
+        try (InputStream in = Files.newInputStream(target)) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, bytesRead);
+            }
+        }
+        return crc.getValue() == entry.getCrc();
+    }
+
+    private static int getBufferSize(long entrySize) {
+
+        // Small entries, which are most of the entries of a connector, do not need a large buffer
+        return entrySize >= 0 && entrySize < BUFFER_SIZE ? (int) Math.max(entrySize, 1) : BUFFER_SIZE;
+    }
+}
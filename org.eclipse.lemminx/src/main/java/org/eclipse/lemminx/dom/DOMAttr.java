@@ -30,15 +30,21 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 
 	private String name;
 
-	private final AttrName nodeAttrName;
+	// Offsets of the name and the value in the document text, their DOM ranges are
+	// created on demand to keep the attribute compact
+	private final int nameStart;
+
+	private final int nameEnd;
 
 	private int delimiter;
 
-	private AttrValue nodeAttrValue;
+	private int valueStart;
+
+	private int valueEnd;
 
 	private String quotelessValue;// Value without quotes
 
-	private String originalValue;// Exact value from document
+	private String originalValue;// Exact value, only kept when it is not read from the document
 
 	private final DOMNode ownerElement;
 
@@ -107,7 +113,10 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 		super(NULL_VALUE, NULL_VALUE);
 		this.name = name;
 		this.delimiter = NULL_VALUE;
-		this.nodeAttrName = start != -1 ? new AttrName(start, end) : null;
+		this.nameStart = start;
+		this.nameEnd = end;
+		this.valueStart = NULL_VALUE;
+		this.valueEnd = NULL_VALUE;
 		this.ownerElement = ownerElement;
 	}
 
@@ -138,8 +147,8 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	 */
 	@Override
 	public String getName() {
-		if (name == null && nodeAttrName != null) {
-			name = nodeAttrName.getContent();
+		if (name == null && nameStart != NULL_VALUE) {
+			name = getOwnerDocument().getText().substring(nameStart, nameEnd);
 		}
 		return name;
 	}
@@ -179,7 +188,17 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	 */
 	@Override
 	public String getValue() {
-		getOriginalValue();
+		if (quotelessValue == null && hasValueContent()) {
+			// Reads the value without quotes from the document, without keeping the
+			// original value
+			String text = getOwnerDocument().getText();
+			char quote = valueEnd - valueStart >= 2 ? text.charAt(valueStart) : 0;
+			if ((quote == '\"' || quote == '\'') && text.charAt(valueEnd - 1) == quote) {
+				quotelessValue = text.substring(valueStart + 1, valueEnd - 1);
+			} else {
+				quotelessValue = text.substring(valueStart, valueEnd);
+			}
+		}
 		return quotelessValue;
 	}
 
@@ -224,7 +243,7 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	}
 
 	public DOMRange getNodeAttrName() {
-		return nodeAttrName;
+		return nameStart != NULL_VALUE ? new AttrName(nameStart, nameEnd) : null;
 	}
 
 	public void setDelimiter(int delimiter) {
@@ -243,9 +262,8 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	 * @return attribute value with quotations if it had them.
 	 */
 	public String getOriginalValue() {
-		if (originalValue == null && nodeAttrValue != null) {
-			originalValue = nodeAttrValue.getContent();
-			this.quotelessValue = StringUtils.convertToQuotelessValue(originalValue);
+		if (originalValue == null && hasValueContent()) {
+			return getOwnerDocument().getText().substring(valueStart, valueEnd);
 		}
 		return originalValue;
 	}
@@ -253,15 +271,25 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	public void setValue(String value, int start, int end) {
 		this.originalValue = value;
 		this.quotelessValue = StringUtils.convertToQuotelessValue(value);
-		this.nodeAttrValue = start != -1 ? new AttrValue(start, end) : null;
+		this.valueStart = start;
+		this.valueEnd = start != -1 ? end : NULL_VALUE;
 	}
 
 	public DOMRange getNodeAttrValue() {
-		return nodeAttrValue;
+		return valueStart != NULL_VALUE ? new AttrValue(valueStart, valueEnd) : null;
+	}
+
+	/**
+	 * Returns true if the value can be read from the document and false otherwise.
+	 * 
+	 * @return true if the value can be read from the document and false otherwise.
+	 */
+	private boolean hasValueContent() {
+		return valueStart != NULL_VALUE && delimiter < valueStart;
 	}
 
 	public boolean valueContainsOffset(int offset) {
-		return nodeAttrValue != null && offset >= nodeAttrValue.getStart() && offset < nodeAttrValue.getEnd();
+		return valueStart != NULL_VALUE && offset >= valueStart && offset < valueEnd;
 	}
 
 	/*
@@ -397,21 +425,21 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 
 	@Override
 	public int getStart() {
-		return nodeAttrName.getStart();
+		return nameStart;
 	}
 
 	@Override
 	public int getEnd() {
-		if (nodeAttrValue != null) {
+		if (valueStart != NULL_VALUE) {
 			// <foo attr="value"| >
-			return nodeAttrValue.getEnd();
+			return valueEnd;
 		}
 		if (hasDelimiter()) {
 			// <foo attr=| >
 			return delimiter + 1;
 		}
 		// <foo attr| >
-		return nodeAttrName.getEnd();
+		return nameEnd;
 	}
 
 	@Override
@@ -482,6 +482,18 @@ public abstract class DOMNode implements Node, DOMRange {
 		getChildren().add(child);
 	}
 
+	/**
+	 * Trims the child and attribute lists of the node to their size.
+	 */
+	void trimToSize() {
+		if (children != null) {
+			children.trimToSize();
+		}
+		if (attributeNodes != null) {
+			attributeNodes.trimToSize();
+		}
+	}
+
 	/**
 	 * Returns node child at the given index.
 	 * 
@@ -17,6 +17,10 @@
  */
 package org.eclipse.lemminx.dom;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,6 +43,11 @@ public class DOMParser {
 
 	private static final DOMParser INSTANCE = new DOMParser();
 
+	/**
+	 * Length from which a document is parsed in compact mode.
+	 */
+	public static final int COMPACT_DOCUMENT_LENGTH = 1024 * 1024;
+
 	public static DOMParser getInstance() {
 		return INSTANCE;
 	}
@@ -67,6 +76,25 @@ public class DOMParser {
 
 	public DOMDocument parse(TextDocument document, URIResolverExtensionManager resolverExtensionManager,
 			boolean ignoreWhitespaceContent, CancelChecker monitor) {
+		return parse(document, resolverExtensionManager, ignoreWhitespaceContent, monitor,
+				document.getText().length() >= COMPACT_DOCUMENT_LENGTH);
+	}
+
+	/**
+	 * Parses the given document.
+	 * 
+	 * @param document                 the text document.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @param ignoreWhitespaceContent  true to ignore the whitespace content.
+	 * @param monitor                  the cancel checker.
+	 * @param compact                  true to share the tag and attribute names
+	 *                                 between the nodes and to trim the child and
+	 *                                 attribute lists to their size, which reduces
+	 *                                 the memory used by the DOM of large documents.
+	 * @return the DOM document.
+	 */
+	public DOMDocument parse(TextDocument document, URIResolverExtensionManager resolverExtensionManager,
+			boolean ignoreWhitespaceContent, CancelChecker monitor, boolean compact) {
 		boolean isDTD = DOMUtils.isDTD(document.getUri());
 		boolean inDTDInternalSubset = false;
 		String text = document.getText();
@@ -84,6 +112,8 @@ public class DOMParser {
 		}
 		DOMNode lastClosed = curr;
 		DOMAttr attr = null;
+		// Shared instances of the tag and attribute names in compact mode
+		Map<String, String> names = compact ? new HashMap<>() : null;
 		int endTagOpenOffset = -1;
 		DOMNode tempWhitespaceContent = null;
 		boolean isInitialDeclaration = true; // A declaration can have multiple internal declarations
@@ -153,7 +183,7 @@ public class DOMParser {
 
 				case StartTag: {
 					DOMElement element = (DOMElement) curr;
-					element.tag = scanner.getTokenText();
+					element.tag = getName(names, scanner.getTokenText());
 					curr.end = scanner.getTokenEnd();
 					break;
 				}
@@ -217,7 +247,7 @@ public class DOMParser {
 						DOMElement element = xmlDocument.createElement(scanner.getTokenOffset() - 2,
 								scanner.getTokenEnd());
 						element.endTagOpenOffset = endTagOpenOffset;
-						element.tag = closeTag;
+						element.tag = getName(names, closeTag);
 						current.addChild(element);
 						curr = element;
 					}
@@ -249,8 +279,8 @@ public class DOMParser {
 					break;
 
 				case AttributeName: {
-					attr = new DOMAttr(null, scanner.getTokenOffset(),
-							scanner.getTokenEnd(), curr);
+					String attrName = compact ? getName(names, scanner.getTokenText()) : null;
+					attr = new DOMAttr(attrName, scanner.getTokenOffset(), scanner.getTokenEnd(), curr);
 					curr.setAttributeNode(attr);
 					curr.end = scanner.getTokenEnd();
 					break;
@@ -691,9 +721,32 @@ public class DOMParser {
 			curr.end = text.length();
 			curr = curr.parent;
 		}
+		if (compact) {
+			trimToSize(xmlDocument);
+		}
 		return xmlDocument;
 	}
 
+	private static String getName(Map<String, String> names, String name) {
+		if (names == null || name == null) {
+			return name;
+		}
+		String sharedName = names.putIfAbsent(name, name);
+		return sharedName != null ? sharedName : name;
+	}
+
+	private static void trimToSize(DOMDocument document) {
+		Deque<DOMNode> nodes = new ArrayDeque<>();
+		nodes.push(document);
+		while (!nodes.isEmpty()) {
+			DOMNode node = nodes.pop();
+			node.trimToSize();
+			for (DOMNode child : node.getChildren()) {
+				nodes.push(child);
+			}
+		}
+	}
+
 	private static boolean isEmptyElement(String tag) {
 		return false;
 	}
@@ -207,6 +207,14 @@ public class XMLCapabilityManager {
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.dtd")));
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rng")));
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rnc")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/.project")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/pom.xml")));
+		// Folders of the project directory trees kept by the server, see DirectoryTreeModel
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/src")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/src/{main,test}")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/src/main/{wso2mi,java,ballerina}")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/src/main/{wso2mi,java,ballerina}/**")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/src/test/**")));
 		DidChangeWatchedFilesRegistrationOptions options = new DidChangeWatchedFilesRegistrationOptions(watchers);
 		registerCapability(WORKSPACE_WATCHED_FILES_ID, WORKSPACE_WATCHED_FILES, options);
 	}
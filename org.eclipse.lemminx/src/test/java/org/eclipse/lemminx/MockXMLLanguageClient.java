@@ -18,6 +18,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.lemminx.customservice.ActionableNotification;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeNotification;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.MessageActionItem;
 import org.eclipse.lsp4j.MessageParams;
@@ -125,4 +126,14 @@ public class MockXMLLanguageClient implements SynapseLanguageClientAPI {
 	public void tryoutLog(String message) {
 
 	}
+
+	@Override
+	public void directoryTreeChanged(DirectoryTreeNotification message) {
+
+	}
+
+	@Override
+	public void projectExplorerChanged(DirectoryTreeNotification message) {
+
+	}
 }
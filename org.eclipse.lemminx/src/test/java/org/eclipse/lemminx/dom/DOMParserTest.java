@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
+import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocumentType.DocumentTypeKind;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -882,6 +883,28 @@ public class DOMParserTest {
 		compareTrees(doctype, document.getChild(0));
 	}
 
+	@Test
+	public void testCompactParse() {
+		String xml = "<root a=\"1\" b='two'><child a=\"1\" c=/><child a=\"\"/></root>";
+		TextDocument document = new TextDocument(xml, "uri");
+		DOMDocument expected = DOMParser.getInstance().parse(document, null, true, null, false);
+		DOMDocument actual = DOMParser.getInstance().parse(document, null, true, null, true);
+		compareTrees(expected.getDocumentElement(), actual.getDocumentElement());
+
+		DOMElement root = actual.getDocumentElement();
+		assertEquals("two", root.getAttribute("b"));
+		assertEquals("'two'", root.getAttributeNode("b").getOriginalValue());
+		assertEquals(14, root.getAttributeNode("b").getNodeAttrValue().getStart());
+		assertEquals(19, root.getAttributeNode("b").getNodeAttrValue().getEnd());
+		DOMElement firstChild = (DOMElement) root.getChild(0);
+		DOMElement secondChild = (DOMElement) root.getChild(1);
+		// element and attribute names are shared in compact mode
+		assertTrue(firstChild.getTagName() == secondChild.getTagName());
+		assertTrue(firstChild.getAttributeNode("a").getName() == secondChild.getAttributeNode("a").getName());
+		assertEquals("", secondChild.getAttribute("a"));
+		assertEquals(null, firstChild.getAttributeNode("c").getOriginalValue());
+	}
+
 	// --------------------------------------------------------------------------------
 	// Tools
 
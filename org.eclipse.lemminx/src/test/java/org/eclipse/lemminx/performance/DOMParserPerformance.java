@@ -11,32 +11,82 @@
 *******************************************************************************/
 package org.eclipse.lemminx.performance;
 
-import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
-
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.dom.DOMParser;
 
 /**
  * This utility class is used to check the memory usage of {@link DOMParser},
- * loading the large content.xml file.
+ * parsing a large generated document with and without the compact mode.
  * 
  * @author Angelo ZERR
  *
  */
 public class DOMParserPerformance {
 
+	private static final int ELEMENTS = 40000;
+
 	public static void main(String[] args) {
-		InputStream in = DOMParserPerformance.class.getResourceAsStream("/xml/content.xml");
-		String text = convertStreamToString(in);
-		TextDocument document = new TextDocument(text, "content.xml");
-		// Continuously parses the large content.xml file with the DOM parser.
+		String text = createLargeDocument();
+		TextDocument document = new TextDocument(text, "large.xml");
+		// Continuously parses the large document with the DOM parser and measures the
+		// heap retained by the DOM once the attribute values have been read.
 		while (true) {
-			long start = System.currentTimeMillis();
-			DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null);
-			System.err.println("Parsed 'content.xml' with DOMParser in " + (System.currentTimeMillis() - start) + " ms.");
+			for (boolean compact : new boolean[] { false, true }) {
+				long before = getUsedMemory();
+				long start = System.currentTimeMillis();
+				DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null, true, null, compact);
+				long time = System.currentTimeMillis() - start;
+				readAttributes(xmlDocument);
+				long retained = getUsedMemory() - before;
+				System.err.println("Parsed " + text.length() / 1024 + " KB document with DOMParser in " + time
+						+ " ms (compact=" + compact + "), retaining " + retained / 1024 + " KB.");
+			}
+		}
+	}
+
+	private static void readAttributes(DOMNode root) {
+		List<DOMNode> nodes = new ArrayList<>();
+		nodes.add(root);
+		while (!nodes.isEmpty()) {
+			DOMNode node = nodes.remove(nodes.size() - 1);
+			if (node.hasAttributes()) {
+				for (DOMAttr attr : node.getAttributeNodes()) {
+					attr.getName();
+					attr.getValue();
+				}
+			}
+			nodes.addAll(node.getChildren());
+		}
+	}
+
+	private static long getUsedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static String createLargeDocument() {
+		StringBuilder text = new StringBuilder("<api name=\"LargeAPI\" context=\"/large\" "
+				+ "xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+		for (int i = 0; i < ELEMENTS; i++) {
+			text.append("\t<resource methods=\"GET\" uri-template=\"/items/").append(i).append("\">\n");
+			text.append("\t\t<inSequence>\n");
+			text.append("\t\t\t<log category=\"INFO\" level=\"simple\" separator=\",\"/>\n");
+			text.append("\t\t\t<property name=\"item\" scope=\"default\" type=\"STRING\" value=\"")
+					.append(i).append("\"/>\n");
+			text.append("\t\t\t<respond/>\n");
+			text.append("\t\t</inSequence>\n");
+			text.append("\t</resource>\n");
 		}
+		text.append("</api>\n");
+		return text.toString();
 	}
 }
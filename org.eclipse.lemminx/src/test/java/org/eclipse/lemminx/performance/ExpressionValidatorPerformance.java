@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.eclipse.lemminx.customservice.synapse.expression.ExpressionValidator;
+import org.eclipse.lemminx.customservice.synapse.expression.SyntaxErrorListener;
+import org.eclipse.lemminx.util.synapse_expression.ExpressionLexer;
+import org.eclipse.lemminx.util.synapse_expression.ExpressionParser;
+
+/**
+ * This utility class is used to compare the performance of
+ * {@link ExpressionValidator#validate(String)} with a fresh ANTLR lexer/parser
+ * per expression, validating the expressions of expressions.txt.
+ */
+public class ExpressionValidatorPerformance {
+
+	private static final int ITERATIONS = 1000;
+
+	public static void main(String[] args) {
+		InputStream in = ExpressionValidatorPerformance.class
+				.getResourceAsStream("/synapse/expression/expressions.txt");
+		List<String> expressions = convertStreamToString(in).lines().filter(line -> !line.isBlank())
+				.collect(Collectors.toList());
+		// Continuously validates the expression corpus with and without the validation cache.
+		while (true) {
+			long start = System.currentTimeMillis();
+			for (int i = 0; i < ITERATIONS; i++) {
+				for (String expression : expressions) {
+					parse(expression);
+				}
+			}
+			long uncached = System.currentTimeMillis() - start;
+
+			start = System.currentTimeMillis();
+			for (int i = 0; i < ITERATIONS; i++) {
+				// Clear the cache to measure the reused SLL/LL parser only
+				ExpressionValidator.clearCache();
+				for (String expression : expressions) {
+					ExpressionValidator.validate(expression);
+				}
+			}
+			long reused = System.currentTimeMillis() - start;
+
+			start = System.currentTimeMillis();
+			for (int i = 0; i < ITERATIONS; i++) {
+				for (String expression : expressions) {
+					ExpressionValidator.validate(expression);
+				}
+			}
+			long cached = System.currentTimeMillis() - start;
+			System.err.println("Validated " + expressions.size() * ITERATIONS + " expressions in " + uncached
+					+ " ms with a new parser per expression, " + reused + " ms with the reused parser and " + cached
+					+ " ms with the validation cache.");
+		}
+	}
+
+	private static void parse(String expression) {
+		ExpressionLexer lexer = new ExpressionLexer(CharStreams.fromString(expression));
+		ExpressionParser parser = new ExpressionParser(new CommonTokenStream(lexer));
+		parser.removeErrorListeners();
+		parser.addErrorListener(new SyntaxErrorListener());
+		parser.expression();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * This utility class is used to check the performance of
+ * {@link MediatorHandler#generateSynapseConfig(String, Range, String, Map, java.util.List)}
+ * when a mediator is added from the designer.
+ */
+public class MediatorHandlerPerformance {
+
+	private static final int ITERATIONS = 100000;
+
+	public static void main(String[] args) throws Exception {
+		MediatorHandler mediatorHandler = new MediatorHandler();
+		mediatorHandler.init(Files.createTempDirectory("mediator-handler").toString(), "4.4.0",
+				ConnectorHolder.getInstance());
+		Range range = new Range(new Position(0, 0), new Position(0, 0));
+		// Continuously generates the synapse configuration of a variable mediator.
+		while (true) {
+			long start = System.currentTimeMillis();
+			for (int i = 0; i < ITERATIONS; i++) {
+				mediatorHandler.generateSynapseConfig(null, range, "variable", createVariableData(),
+						Collections.emptyList());
+			}
+			System.err.println("Generated " + ITERATIONS + " mediator configurations in "
+					+ (System.currentTimeMillis() - start) + " ms.");
+		}
+	}
+
+	private static Map<String, Object> createVariableData() {
+		Map<String, Object> variableValue = new HashMap<>();
+		variableValue.put("isExpression", false);
+		variableValue.put("value", "hello");
+		Map<String, Object> data = new HashMap<>();
+		data.put("variableName", "greeting");
+		data.put("variableAction", "SET");
+		data.put("variableDataType", "STRING");
+		data.put("variableValue", variableValue);
+		return data;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import java.util.List;
+
+import org.eclipse.lemminx.customservice.synapse.MediatorVisitorDispatcher;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+
+/**
+ * This utility class is used to check the performance of the mediator visits
+ * done with {@link MediatorVisitorDispatcher} for a large sequence.
+ */
+public class MediatorVisitorPerformance {
+
+	private static final int MEDIATORS = 2000;
+	private static final int VISITS = 100;
+
+	public static void main(String[] args) {
+		DOMDocument document = DOMParser.getInstance().parse(createSequence(), "file:///LargeSequence.xml", null);
+		List<Mediator> mediators = ((NamedSequence) SyntaxTreeGenerator.buildTree(document.getDocumentElement()))
+				.getMediatorList();
+		// Continuously visits the mediators of the sequence with the dependency visitor.
+		while (true) {
+			long start = System.nanoTime();
+			for (int i = 0; i < VISITS; i++) {
+				MediatorDependencyVisitor visitor = new MediatorDependencyVisitor("/project", new DependencyLookUp());
+				for (Mediator mediator : mediators) {
+					MediatorVisitorDispatcher.visit(mediator, visitor);
+				}
+			}
+			long time = (System.nanoTime() - start) / VISITS;
+			System.err.println("Visited " + mediators.size() + " mediators in " + time / 1000 + " us.");
+		}
+	}
+
+	private static String createSequence() {
+		StringBuilder text = new StringBuilder("<sequence name=\"LargeSequence\" "
+				+ "xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+		for (int i = 0; i < MEDIATORS / 4; i++) {
+			text.append("    <log category=\"INFO\" level=\"simple\"/>\n");
+			text.append("    <property name=\"item").append(i).append("\" scope=\"default\" type=\"STRING\" "
+					+ "value=\"value\"/>\n");
+			text.append("    <variable name=\"count\" type=\"INTEGER\" value=\"").append(i).append("\"/>\n");
+			text.append("    <drop/>\n");
+		}
+		text.append("</sequence>\n");
+		return text.toString();
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaBuilderWithNamepaces;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForCSV;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForJSON;
+
+/**
+ * This utility class is used to compare the time and the memory of
+ * generating the schema of large JSON and CSV samples with
+ * {@link SchemaGeneratorForJSON} and {@link SchemaGeneratorForCSV} against
+ * reading the whole sample into a string and converting it to JSON text, and
+ * against using only the first records of the sample. The
+ * size of the JSON sample in MB can be given as the first argument (defaults
+ * to 100), the CSV sample is a tenth of it.
+ */
+public class SchemaGeneratorPerformance {
+
+	private static final int SAMPLE_SIZE = 1000;
+
+	public static void main(String[] args) throws IOException {
+		int sizeInMB = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		Path json = createJsonSample(sizeInMB);
+		Path csv = createCsvSample(Math.max(sizeInMB / 10, 1));
+		try {
+			// Continuously generates the schemas with the previous and the current approach.
+			while (true) {
+				measure("JSON read into a string", () -> {
+					String content = FileUtils.readFileToString(json.toFile());
+					new SchemaBuilderWithNamepaces().createSchema(content, FileType.JSON);
+				});
+				measure("JSON streamed from the file", () -> new SchemaGeneratorForJSON()
+						.getSchemaResourcePath(json.toString(), FileType.JSON, ""));
+				measure("JSON sampled from the file", () -> new SchemaGeneratorForJSON(SAMPLE_SIZE)
+						.getSchemaResourcePath(json.toString(), FileType.JSON, ""));
+				measure("CSV rows collected as JSON text", () -> {
+					SchemaGeneratorForCSV generator = new SchemaGeneratorForCSV();
+					List<Map<String, String>> rows = generator
+							.readObjectsFromCsv(FileUtils.readFileToString(csv.toFile()), ",");
+					new SchemaBuilderWithNamepaces().createSchema(generator.writeAsJson(rows), FileType.CSV);
+				});
+				measure("CSV rows streamed from the file",
+						() -> new SchemaGeneratorForCSV().getSchemaResourcePath(csv.toString(), FileType.CSV, ","));
+				measure("CSV rows sampled from the file", () -> new SchemaGeneratorForCSV(SAMPLE_SIZE)
+						.getSchemaResourcePath(csv.toString(), FileType.CSV, ","));
+			}
+		} finally {
+			Files.deleteIfExists(json);
+			Files.deleteIfExists(csv);
+		}
+	}
+
+	private static void measure(String name, Task task) throws IOException {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+		long start = System.currentTimeMillis();
+		task.run();
+		long time = System.currentTimeMillis() - start;
+		long used = (runtime.totalMemory() - runtime.freeMemory() - usedBefore) / (1024 * 1024);
+		System.err.println(name + ": " + time + " ms, ~" + used + " MB allocated and not yet collected");
+	}
+
+	private static Path createJsonSample(int sizeInMB) throws IOException {
+		Path path = File.createTempFile("schemagen", ".json").toPath();
+		long size = sizeInMB * 1024L * 1024L;
+		try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+			writer.write("{\"orders\": [");
+			long written = 0;
+			for (int i = 0; written < size; i++) {
+				String order = (i > 0 ? "," : "") + "{\"id\": " + i + ", \"customer\": {\"name\": \"Customer " + i
+						+ "\", \"active\": true}, \"items\": [{\"sku\": \"A" + i + "\", \"price\": 10.5}]}";
+				writer.write(order);
+				written += order.length();
+			}
+			writer.write("]}");
+		}
+		return path;
+	}
+
+	private static Path createCsvSample(int sizeInMB) throws IOException {
+		Path path = File.createTempFile("schemagen", ".csv").toPath();
+		long size = sizeInMB * 1024L * 1024L;
+		try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+			writer.write("id,name,email,amount\n");
+			long written = 0;
+			for (int i = 0; written < size; i++) {
+				String row = i + ",Customer " + i + ",customer" + i + "@example.com," + (i % 100) + ".5\n";
+				writer.write(row);
+				written += row.length();
+			}
+		}
+		return path;
+	}
+
+	private interface Task {
+
+		void run() throws IOException;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+
+/**
+ * This utility class is used to check the heap retained by the syntax trees
+ * built by {@link SyntaxTreeGenerator#buildTree(org.eclipse.lemminx.dom.DOMElement)}
+ * for a large data service.
+ */
+public class SyntaxTreeMemoryPerformance {
+
+	private static final int QUERIES = 500;
+	private static final int TREES = 20;
+
+	public static void main(String[] args) {
+		String text = createDataService();
+		// Continuously builds and retains the syntax trees of the data service.
+		while (true) {
+			long before = getUsedMemory();
+			long start = System.currentTimeMillis();
+			// Only the syntax trees are retained, as when they are cached
+			List<STNode> trees = new ArrayList<>();
+			for (int i = 0; i < TREES; i++) {
+				DOMDocument document = DOMParser.getInstance().parse(text, "file:///dataService" + i + ".dbs", null);
+				trees.add(SyntaxTreeGenerator.buildTree(document.getDocumentElement()));
+			}
+			long time = System.currentTimeMillis() - start;
+			long retained = getUsedMemory() - before;
+			System.err.println("Built " + trees.size() + " syntax trees in " + time + " ms, retaining "
+					+ retained / trees.size() / 1024 + " KB per tree.");
+		}
+	}
+
+	private static long getUsedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static String createDataService() {
+		StringBuilder text = new StringBuilder();
+		text.append("<data name=\"LargeDataService\" serviceNamespace=\"http://ws.wso2.org/dataservice\" "
+				+ "transports=\"http https\" xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+		text.append("    <config id=\"Datasource\">\n");
+		text.append("        <property name=\"driverClassName\">com.mysql.jdbc.Driver</property>\n");
+		text.append("        <property name=\"url\">jdbc:mysql://localhost:3306/db</property>\n");
+		text.append("    </config>\n");
+		for (int i = 0; i < QUERIES; i++) {
+			text.append("    <query id=\"query").append(i).append("\" useConfig=\"Datasource\">\n");
+			text.append("        <sql>SELECT id, name, price FROM products WHERE category = ?</sql>\n");
+			text.append("        <param name=\"category\" paramType=\"SCALAR\" sqlType=\"STRING\" type=\"IN\"/>\n");
+			text.append("        <result element=\"products\" rowName=\"product\">\n");
+			text.append("            <element column=\"id\" name=\"id\" xsdType=\"integer\"/>\n");
+			text.append("            <element column=\"name\" name=\"name\" xsdType=\"string\"/>\n");
+			text.append("            <element column=\"price\" name=\"price\" xsdType=\"decimal\"/>\n");
+			text.append("        </result>\n");
+			text.append("    </query>\n");
+			text.append("    <operation name=\"operation").append(i).append("\">\n");
+			text.append("        <call-query href=\"query").append(i).append("\">\n");
+			text.append("            <with-param name=\"category\" query-param=\"category\"/>\n");
+			text.append("        </call-query>\n");
+			text.append("    </operation>\n");
+		}
+		text.append("</data>\n");
+		return text.toString();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.performance;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+/**
+ * This utility class is used to compare the time of extracting the bundled
+ * mi-connector-http zip and a large generated CAR with
+ * {@link Utils#extractZip(File, File)} against streaming the entries with a
+ * {@link ZipInputStream} and a 1 KB buffer. The extraction is measured into an
+ * empty folder and into a folder which already has the extracted files.
+ */
+public class ZipExtractionPerformance {
+
+	private static final int CAR_ARTIFACTS = 2000;
+	private static final int ARTIFACT_SIZE = 20 * 1024;
+	private static final int EXTRACTIONS = 10;
+
+	public static void main(String[] args) throws Exception {
+		Path tempDir = Files.createTempDirectory("zip-extraction");
+		Path connectorZip = tempDir.resolve("mi-connector-http-0.1.14.zip");
+		try (InputStream in = ZipExtractionPerformance.class
+				.getResourceAsStream("/org/eclipse/lemminx/connectors/mi-connector-http-0.1.14.zip")) {
+			Files.copy(in, connectorZip);
+		}
+		// A recently modified archive is expected to be still downloading, which delays the extraction
+		Files.setLastModifiedTime(connectorZip, FileTime.fromMillis(0));
+		Path car = createCar(tempDir.resolve("LargeProject_1.0.0.car"));
+		try {
+			// Continuously extracts the archives with the previous and the current approach.
+			while (true) {
+				for (Path zip : new Path[] { connectorZip, car }) {
+					Path extractTo = tempDir.resolve("extracted");
+					measure("Streamed " + zip.getFileName(), () -> {
+						FileUtils.deleteDirectory(extractTo.toFile());
+						extractWithZipInputStream(zip.toFile(), extractTo.toFile());
+					});
+					measure("Extracted " + zip.getFileName(), () -> {
+						FileUtils.deleteDirectory(extractTo.toFile());
+						Utils.extractZip(zip.toFile(), extractTo.toFile());
+					});
+					measure("Extracted unchanged " + zip.getFileName(),
+							() -> Utils.extractZip(zip.toFile(), extractTo.toFile()));
+					FileUtils.deleteDirectory(extractTo.toFile());
+				}
+			}
+		} finally {
+			FileUtils.deleteDirectory(tempDir.toFile());
+		}
+	}
+
+	private static void measure(String name, Task task) throws IOException {
+		long start = System.nanoTime();
+		for (int i = 0; i < EXTRACTIONS; i++) {
+			task.run();
+		}
+		long time = (System.nanoTime() - start) / EXTRACTIONS;
+		System.err.println(name + ": " + time / 1_000_000 + " ms");
+	}
+
+	private static Path createCar(Path car) throws IOException {
+		Random random = new Random(0);
+		byte[] content = new byte[ARTIFACT_SIZE];
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(car))) {
+			out.putNextEntry(new ZipEntry("artifacts.xml"));
+			out.write("<artifacts/>".getBytes());
+			for (int i = 0; i < CAR_ARTIFACTS; i++) {
+				// Text like content, which compresses similar to synapse configurations
+				for (int j = 0; j < content.length; j++) {
+					content[j] = (byte) ('a' + random.nextInt(8));
+				}
+				out.putNextEntry(new ZipEntry("API_" + i + "_1.0.0/API_" + i + "-1.0.0.xml"));
+				out.write(content);
+			}
+		}
+		Files.setLastModifiedTime(car, FileTime.fromMillis(0));
+		return car;
+	}
+
+	/**
+	 * The previous extraction, without the handling of the folder named after the
+	 * archive, which the archives used here do not have.
+	 */
+	private static void extractWithZipInputStream(File zip, File extractTo) throws IOException {
+		byte[] buffer = new byte[1024];
+		try (InputStream in = Files.newInputStream(zip.toPath()); ZipInputStream zis = new ZipInputStream(in)) {
+			ZipEntry zipEntry;
+			while ((zipEntry = zis.getNextEntry()) != null) {
+				File newFile = Utils.newFile(extractTo, zipEntry.getName());
+				if (zipEntry.isDirectory()) {
+					newFile.mkdirs();
+				} else {
+					newFile.getParentFile().mkdirs();
+					try (FileOutputStream fos = new FileOutputStream(newFile)) {
+						int len;
+						while ((len = zis.read(buffer)) > 0) {
+							fos.write(buffer, 0, len);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private interface Task {
+		void run() throws IOException;
+	}
+}
@@ -14,25 +14,32 @@
 
 package org.eclipse.lemminx.synapse.connector;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectionFinder;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorReader;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connections;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.synapse.TestUtils;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.eclipse.lemminx.synapse.TestUtils.getResourceFilePath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class ConnectionFinderTest {
 
@@ -63,4 +70,54 @@ public class ConnectionFinderTest {
         assertNotNull(connections);
         assertEquals(2, connections.getConnections().size());
     }
+
+    @Test
+    public void testConnectionsUpdatedOnLocalEntryChange(@TempDir Path tempDir) throws Exception {
+
+        Path projectPath = tempDir.resolve("test_project");
+        FileUtils.copyDirectory(Path.of(getResourceFilePath("/synapse/connector/test_project")).toFile(),
+                projectPath.toFile());
+        Path localEntries = projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts", "local-entries"));
+
+        assertEquals(2, findHttpConnections(projectPath).size());
+        assertEquals(List.of("HttpsCon.xml", "InvalidConnectionType.xml"),
+                getConnectionFiles(projectPath, "https://test.com/getDetails"));
+        Connection unchangedConnection = getConnection(projectPath, "InvalidConnectionType.xml");
+
+        // Modify a connection
+        Path httpsConnection = localEntries.resolve("HttpsCon.xml");
+        Files.writeString(httpsConnection, Files.readString(httpsConnection)
+                .replace("https://test.com/getDetails", "https://test.com/getOrders"));
+        Files.setLastModifiedTime(httpsConnection, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        assertEquals(List.of("InvalidConnectionType.xml"),
+                getConnectionFiles(projectPath, "https://test.com/getDetails"));
+        assertEquals(List.of("HttpsCon.xml"), getConnectionFiles(projectPath, "https://test.com/getOrders"));
+        // The unchanged local entry is not read again
+        assertSame(unchangedConnection, getConnection(projectPath, "InvalidConnectionType.xml"));
+
+        // Remove a connection
+        Files.delete(httpsConnection);
+        assertEquals(1, findHttpConnections(projectPath).size());
+        assertEquals(List.of(), getConnectionFiles(projectPath, "https://test.com/getOrders"));
+    }
+
+    private List<Connection> findHttpConnections(Path projectPath) {
+
+        return ConnectionFinder.findConnections(projectPath.toString(), "http", connectorHolder, false).getLeft()
+                .getConnections();
+    }
+
+    private Connection getConnection(Path projectPath, String fileName) {
+
+        return findHttpConnections(projectPath).stream()
+                .filter(connection -> Path.of(connection.getPath()).getFileName().toString().equals(fileName))
+                .findFirst().orElse(null);
+    }
+
+    private List<String> getConnectionFiles(Path projectPath, String parameterValue) {
+
+        return ConnectionFinder.findConnectionsByParameterValue(projectPath.toString(), parameterValue,
+                connectorHolder, false).stream().map(connection -> Path.of(connection.getPath()).getFileName()
+                .toString()).sorted().collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.connector;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.SchemaGenerate;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.OperationParameter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SchemaGenerateTest {
+
+    private final ConnectorHolder connectorHolder = ConnectorHolder.getInstance();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+
+        connectorHolder.clearConnectors();
+    }
+
+    @AfterEach
+    public void tearDown() {
+
+        connectorHolder.clearConnectors();
+    }
+
+    @Test
+    public void testSchemaFileIsNotRewrittenWhenUnchanged() throws IOException {
+
+        Path schemaPath = tempDir.resolve("connectors.xsd");
+        connectorHolder.addConnector(createConnector("email", "email.send", "to"));
+        assertTrue(SchemaGenerate.generate(connectorHolder, schemaPath.toString()));
+
+        FileTime modifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(schemaPath, modifiedTime);
+        assertFalse(SchemaGenerate.generate(connectorHolder, schemaPath.toString()));
+        assertEquals(modifiedTime, Files.getLastModifiedTime(schemaPath));
+    }
+
+    @Test
+    public void testSchemaFileIsUpdatedWhenConnectorIsAdded() throws IOException {
+
+        Path schemaPath = tempDir.resolve("connectors.xsd");
+        connectorHolder.addConnector(createConnector("email", "email.send", "to"));
+        SchemaGenerate.generate(connectorHolder, schemaPath.toString());
+
+        connectorHolder.addConnector(createConnector("redis", "redis.get", "key"));
+        assertTrue(SchemaGenerate.generate(connectorHolder, schemaPath.toString()));
+        String schema = Files.readString(schemaPath);
+        assertTrue(schema.contains("<xs:element name=\"email.send\">"));
+        assertTrue(schema.contains("<xs:element name=\"redis.get\">"));
+        assertTrue(schema.contains("<xs:element name=\"key\" type=\"xs:string\" minOccurs=\"0\" maxOccurs=\"1\" />"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testSchemaFileIsRestoredWhenChangedOnDisk() throws IOException {
+
+        Path schemaPath = tempDir.resolve("connectors.xsd");
+        connectorHolder.addConnector(createConnector("email", "email.send", "to"));
+        SchemaGenerate.generate(connectorHolder, schemaPath.toString());
+        String schema = Files.readString(schemaPath);
+
+        Files.writeString(schemaPath, "<xs:schema/>");
+        Files.setLastModifiedTime(schemaPath, FileTime.fromMillis(0));
+        assertTrue(SchemaGenerate.generate(connectorHolder, schemaPath.toString()));
+        assertEquals(schema, Files.readString(schemaPath));
+
+        Files.delete(schemaPath);
+        assertTrue(SchemaGenerate.generate(connectorHolder, schemaPath.toString()));
+        assertEquals(schema, Files.readString(schemaPath));
+    }
+
+    private Connector createConnector(String name, String operationTag, String parameter) {
+
+        Connector connector = new Connector();
+        connector.setName(name);
+        ConnectorAction action = new ConnectorAction();
+        action.setName(operationTag.substring(operationTag.indexOf('.') + 1));
+        action.setTag(operationTag);
+        action.setHidden(Boolean.FALSE);
+        action.addParameter(new OperationParameter(parameter, parameter));
+        connector.addAction(action);
+        return connector;
+    }
+}
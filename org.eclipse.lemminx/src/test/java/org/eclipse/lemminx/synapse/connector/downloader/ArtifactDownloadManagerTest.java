@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.connector.downloader;
+
+import com.google.common.io.BaseEncoding;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.lemminx.customservice.synapse.parser.ArtifactDownloadManager;
+import org.eclipse.lemminx.customservice.synapse.parser.ArtifactStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ArtifactDownloadManager} against a stub Maven repository served over HTTP from this JVM.
+ */
+public class ArtifactDownloadManagerTest {
+
+    private static final String GROUP_ID = "org.wso2.integration.connector";
+    private static final String VERSION = "1.0.0";
+    private static final String ZIP = "zip";
+
+    @TempDir
+    private Path tempDir;
+
+    private StubRepository repository;
+    private ArtifactDownloadManager downloadManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        repository = new StubRepository();
+        downloadManager = new ArtifactDownloadManager(repository.getUrl(), tempDir.resolve("store"), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        repository.stop();
+    }
+
+    @Test
+    void downloadVerifiesAndStoresArtifact() throws Exception {
+
+        byte[] content = repository.addArtifact("mi-connector-http", 100_000);
+
+        Path artifact = downloadManager.download(GROUP_ID, "mi-connector-http", VERSION, ZIP);
+        assertArrayEquals(content, Files.readAllBytes(artifact));
+        assertEquals(getChecksum(content), artifact.getFileName().toString());
+
+        // A stored artifact is not requested from the repository again, also by another manager of the same store
+        ArtifactDownloadManager otherManager = new ArtifactDownloadManager(repository.getUrl(),
+                tempDir.resolve("store"), 2);
+        assertEquals(artifact, otherManager.download(GROUP_ID, "mi-connector-http", VERSION, ZIP));
+        assertEquals(1, repository.getRequestCount("mi-connector-http-1.0.0.zip"));
+
+        Path target = tempDir.resolve("project").resolve("mi-connector-http-1.0.0.zip");
+        ArtifactStore.copyTo(artifact, target);
+        assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    void downloadResumesInterruptedTransfer() throws Exception {
+
+        byte[] content = repository.addArtifact("mi-connector-kafka", 300_000);
+        repository.interruptNextTransfer("mi-connector-kafka-1.0.0.zip", 100_000);
+
+        Path artifact = downloadManager.download(GROUP_ID, "mi-connector-kafka", VERSION, ZIP);
+        assertArrayEquals(content, Files.readAllBytes(artifact));
+        assertEquals(List.of("bytes=100000-"), repository.getRanges());
+    }
+
+    @Test
+    void downloadRejectsChecksumMismatch() throws Exception {
+
+        repository.addArtifact("mi-connector-email", 10_000);
+        repository.corruptChecksum("mi-connector-email-1.0.0.zip");
+
+        assertThrows(IOException.class, () -> downloadManager.download(GROUP_ID, "mi-connector-email", VERSION, ZIP));
+        assertNull(new ArtifactStore(tempDir.resolve("store")).getArtifact(
+                "org/wso2/integration/connector/mi-connector-email/1.0.0/mi-connector-email-1.0.0.zip"));
+        // Only the lock file of the download is kept
+        try (var files = Files.walk(tempDir.resolve("store"))) {
+            assertFalse(files.anyMatch(file -> Files.isRegularFile(file) && !file.toString().endsWith(".lock")));
+        }
+    }
+
+    @Test
+    void downloadFailsForMissingArtifact() {
+
+        assertThrows(FileNotFoundException.class,
+                () -> downloadManager.download(GROUP_ID, "mi-connector-missing", VERSION, ZIP));
+        assertEquals(1, repository.getRequestCount("mi-connector-missing-1.0.0.zip"));
+    }
+
+    @Test
+    void downloadsAreBoundedAndDeduplicated() throws Exception {
+
+        List<byte[]> contents = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            contents.add(repository.addArtifact("mi-connector-" + i, 50_000));
+        }
+        repository.setResponseDelay(50);
+
+        List<CompletableFuture<Path>> downloads = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            downloads.add(downloadManager.downloadAsync(GROUP_ID, "mi-connector-" + i, VERSION, ZIP));
+            // The same artifact requested again while it is being downloaded is downloaded once
+            downloads.add(downloadManager.downloadAsync(GROUP_ID, "mi-connector-" + i, VERSION, ZIP));
+        }
+        for (int i = 0; i < 6; i++) {
+            Path artifact = ArtifactDownloadManager.getResult(downloads.get(i * 2));
+            assertEquals(artifact, ArtifactDownloadManager.getResult(downloads.get(i * 2 + 1)));
+            assertArrayEquals(contents.get(i), Files.readAllBytes(artifact));
+            assertEquals(1, repository.getRequestCount("mi-connector-" + i + "-1.0.0.zip"));
+        }
+        assertTrue(repository.getMaxConcurrentRequests() <= 2,
+                "Concurrent requests: " + repository.getMaxConcurrentRequests());
+    }
+
+    @Test
+    void snapshotIsRevalidatedAgainstRepositoryChecksum() throws Exception {
+
+        String snapshot = "1.0.0-SNAPSHOT";
+        byte[] content = repository.addArtifact("mi-connector-file", snapshot, 20_000, 1);
+        Path artifact = downloadManager.download(GROUP_ID, "mi-connector-file", snapshot, ZIP);
+        assertArrayEquals(content, Files.readAllBytes(artifact));
+
+        // An unchanged snapshot is served from the store
+        assertEquals(artifact, downloadManager.download(GROUP_ID, "mi-connector-file", snapshot, ZIP));
+        assertEquals(1, repository.getRequestCount("mi-connector-file-1.0.0-SNAPSHOT.zip"));
+
+        // A redeployed snapshot is downloaded again
+        byte[] redeployedContent = repository.addArtifact("mi-connector-file", snapshot, 20_000, 2);
+        Path redeployedArtifact = downloadManager.download(GROUP_ID, "mi-connector-file", snapshot, ZIP);
+        assertArrayEquals(redeployedContent, Files.readAllBytes(redeployedArtifact));
+        assertEquals(2, repository.getRequestCount("mi-connector-file-1.0.0-SNAPSHOT.zip"));
+    }
+
+    @Test
+    void concurrentDownloadsOfSharedStoreAreSerialized() throws Exception {
+
+        byte[] content = repository.addArtifact("mi-connector-salesforce", 200_000);
+        repository.setResponseDelay(50);
+        // Managers of the same store, as in the language servers of different workspaces
+        ArtifactDownloadManager otherManager = new ArtifactDownloadManager(repository.getUrl(),
+                tempDir.resolve("store"), 2);
+
+        CompletableFuture<Path> download = downloadManager.downloadAsync(GROUP_ID, "mi-connector-salesforce",
+                VERSION, ZIP);
+        CompletableFuture<Path> otherDownload = otherManager.downloadAsync(GROUP_ID, "mi-connector-salesforce",
+                VERSION, ZIP);
+        Path artifact = ArtifactDownloadManager.getResult(download);
+        assertEquals(artifact, ArtifactDownloadManager.getResult(otherDownload));
+        assertArrayEquals(content, Files.readAllBytes(artifact));
+        // The second download waits for the first one and then uses the stored artifact
+        assertEquals(1, repository.getRequestCount("mi-connector-salesforce-1.0.0.zip"));
+    }
+
+    private static String getChecksum(byte[] content) throws Exception {
+
+        return BaseEncoding.base16().lowerCase().encode(MessageDigest.getInstance("SHA-1").digest(content));
+    }
+
+    /**
+     * Maven repository stub which serves the added artifacts and their checksums, and supports range requests.
+     */
+    private static class StubRepository {
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+        private final Map<String, Integer> interruptions = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+        private final List<String> ranges = new CopyOnWriteArrayList<>();
+        private final AtomicInteger concurrentRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        private volatile long responseDelay;
+
+        StubRepository() throws IOException {
+
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        String getUrl() {
+
+            return "http://localhost:" + server.getAddress().getPort() + "/repository/";
+        }
+
+        byte[] addArtifact(String artifactId, int size) throws Exception {
+
+            return addArtifact(artifactId, VERSION, size, artifactId.hashCode());
+        }
+
+        byte[] addArtifact(String artifactId, String version, int size, long seed) throws Exception {
+
+            byte[] content = new byte[size];
+            new Random(seed).nextBytes(content);
+            String fileName = artifactId + "-" + version + "." + ZIP;
+            files.put(fileName, content);
+            files.put(fileName + ".sha1", (getChecksum(content) + "  " + fileName).getBytes(StandardCharsets.UTF_8));
+            return content;
+        }
+
+        void corruptChecksum(String fileName) {
+
+            files.put(fileName + ".sha1", "0000000000000000000000000000000000000000".getBytes(StandardCharsets.UTF_8));
+        }
+
+        void interruptNextTransfer(String fileName, int length) {
+
+            interruptions.put(fileName, length);
+        }
+
+        void setResponseDelay(long responseDelay) {
+
+            this.responseDelay = responseDelay;
+        }
+
+        int getRequestCount(String fileName) {
+
+            AtomicInteger count = requestCounts.get(fileName);
+            return count != null ? count.get() : 0;
+        }
+
+        List<String> getRanges() {
+
+            return ranges;
+        }
+
+        int getMaxConcurrentRequests() {
+
+            return maxConcurrentRequests.get();
+        }
+
+        void stop() {
+
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                String path = exchange.getRequestURI().getPath();
+                String fileName = path.substring(path.lastIndexOf('/') + 1);
+                if (!fileName.endsWith(".sha1")) {
+                    requestCounts.computeIfAbsent(fileName, key -> new AtomicInteger()).incrementAndGet();
+                }
+                Thread.sleep(responseDelay);
+                byte[] content = files.get(fileName);
+                if (content == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                String range = exchange.getRequestHeaders().getFirst("Range");
+                int offset = 0;
+                if (range != null) {
+                    ranges.add(range);
+                    offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    exchange.getResponseHeaders().add("Content-Range",
+                            "bytes " + offset + "-" + (content.length - 1) + "/" + content.length);
+                    exchange.sendResponseHeaders(206, content.length - offset);
+                } else {
+                    exchange.sendResponseHeaders(200, content.length);
+                }
+                Integer interruption = interruptions.remove(fileName);
+                OutputStream body = exchange.getResponseBody();
+                if (interruption != null) {
+                    // Only a part of the content is sent before the connection is dropped
+                    body.write(content, offset, interruption);
+                    body.flush();
+                    throw new IOException("Transfer interrupted");
+                }
+                body.write(content, offset, content.length - offset);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentRequests.decrementAndGet();
+                exchange.close();
+            }
+        }
+    }
+}
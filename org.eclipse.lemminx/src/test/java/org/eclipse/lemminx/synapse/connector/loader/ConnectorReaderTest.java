@@ -31,6 +31,7 @@ import java.nio.file.Path;
 
 import static org.eclipse.lemminx.synapse.TestUtils.getResourceFilePath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -77,6 +78,60 @@ public class ConnectorReaderTest {
         assertTrue(get.getAllowedConnectionTypes().contains("HTTPS"));
     }
 
+    @Test
+    public void testConnectorReadFromCachedMetadata() throws Exception {
+
+        String connectorPath = tempPath.resolve("mi-connector-http-0.1.8").toString();
+        Connector connector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(connector);
+        Path metadataFile = Path.of(connectorPath, ".connector-metadata.json");
+        assertTrue(Files.exists(metadataFile));
+
+        Connector cachedConnector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(cachedConnector);
+        assertEquals(connector.getName(), cachedConnector.getName());
+        assertEquals(connector.getActions().size(), cachedConnector.getActions().size());
+        assertEquals(connector.getConnectionUiSchema(), cachedConnector.getConnectionUiSchema());
+        assertEquals(connector.getAction("get").getUiSchemaPath(), cachedConnector.getAction("get").getUiSchemaPath());
+        assertOperation(cachedConnector.getAction("get"));
+
+        // Stale metadata is ignored and the connector is read again
+        Files.writeString(metadataFile, "{\"digest\":\"stale\",\"connector\":{\"name\":\"stale\"}}");
+        Connector rereadConnector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(rereadConnector);
+        assertEquals("http", rereadConnector.getName());
+        assertOperation(rereadConnector.getAction("get"));
+    }
+
+    @Test
+    public void testCachedMetadataInvalidatedByInPlaceEdits() throws Exception {
+
+        Path extractFolder = Files.createTempDirectory("connector-reader-edit-test-");
+        TestUtils.extractConnectorZips(extractFolder, "/synapse/connector/zips");
+        String connectorPath = extractFolder.resolve("mi-connector-http-0.1.8").toString();
+        Connector connector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(connector);
+        assertEquals("GET", connector.getAction("get").getDisplayName());
+        assertEquals(2, connector.getConnectionUiSchema().size());
+
+        // Edit a component XML in place, which leaves its folder untouched
+        Path componentFile = Path.of(connectorPath, "functions", "component.xml");
+        Files.writeString(componentFile, Files.readString(componentFile)
+                .replace("<displayName>GET</displayName>", "<displayName>GET request</displayName>"));
+        Connector rereadConnector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(rereadConnector);
+        assertEquals("GET request", rereadConnector.getAction("get").getDisplayName());
+
+        // Edit a ui schema in place
+        Path uiSchemaFile = Path.of(connectorPath, "uischema", "https.json");
+        Files.writeString(uiSchemaFile, Files.readString(uiSchemaFile)
+                .replace("\"connectionName\": \"HTTPS\"", "\"connectionName\": \"SECURE_HTTP\""));
+        rereadConnector = new ConnectorReader().readConnector(connectorPath, StringUtils.EMPTY);
+        assertNotNull(rereadConnector);
+        assertTrue(rereadConnector.getConnectionUiSchema().containsKey("SECURE_HTTP"));
+        assertFalse(rereadConnector.getConnectionUiSchema().containsKey("HTTPS"));
+    }
+
     @Test
     public void testInvalidConnector() {
 
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.dataservice.db;
+
+import org.eclipse.lemminx.customservice.synapse.dataService.QueryGenRequestParams;
+import org.eclipse.lemminx.customservice.synapse.dataService.QueryGenerator;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
+import org.eclipse.lemminx.customservice.synapse.dynamic.db.DynamicFieldsHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the connection pool, the metadata cache and the concurrent table introspection against a stub JDBC driver
+ * registered with the driver manager, which counts the connections opened and the metadata read.
+ */
+public class DBConnectionPoolTest {
+
+    private StubDriver driver;
+    private QueryGenRequestParams requestParams;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+
+        driver = new StubDriver("jdbc:stub:" + UUID.randomUUID());
+        DriverManager.registerDriver(driver);
+        requestParams = new QueryGenRequestParams();
+        requestParams.setUrl(driver.url);
+        requestParams.setUsername("testUser");
+        requestParams.setPassword("testPassword");
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+
+        DriverManager.deregisterDriver(driver);
+    }
+
+    @Test
+    public void testConnectionIsReused() throws SQLException {
+
+        Connection physicalConnection;
+        try (Connection connection = getConnection()) {
+            assertNotNull(connection);
+            physicalConnection = connection.getMetaData().getConnection();
+        }
+        try (Connection connection = getConnection()) {
+            assertSame(physicalConnection, connection.getMetaData().getConnection());
+        }
+        assertEquals(1, driver.connections.get());
+
+        // A connection which is in use is not handed out again
+        try (Connection connection = getConnection(); Connection otherConnection = getConnection()) {
+            assertTrue(connection.getMetaData().getConnection() != otherConnection.getMetaData().getConnection());
+        }
+        assertEquals(2, driver.connections.get());
+    }
+
+    @Test
+    public void testInvalidConnectionIsReplaced() throws SQLException {
+
+        getConnection().close();
+        driver.valid.set(false);
+        getConnection().close();
+        assertEquals(2, driver.connections.get());
+    }
+
+    @Test
+    public void testMetadataIsCached() {
+
+        Map<String, List<Boolean>> tables = QueryGenerator.getTableList(requestParams);
+        assertEquals(Map.of("student", Arrays.asList(false, false)), tables);
+        assertEquals(Map.of("student", Arrays.asList(false, false)), QueryGenerator.getTableList(requestParams));
+        assertEquals(List.of("getStudents"), new DynamicFieldsHandler().getStoredProcedures(requestParams));
+        assertEquals(List.of("getStudents"), new DynamicFieldsHandler().getStoredProcedures(requestParams));
+        assertEquals(1, driver.connections.get());
+        assertEquals(1, driver.metadataReads.get("tables").get());
+        assertEquals(1, driver.metadataReads.get("columns").get());
+        assertEquals(1, driver.metadataReads.get("procedures").get());
+
+        // The returned metadata can be modified without changing the cache
+        tables.clear();
+        assertEquals(1, QueryGenerator.getTableList(requestParams).size());
+    }
+
+    @Test
+    public void testMetadataIsReadAgainAfterRefresh() {
+
+        QueryGenerator.getTableList(requestParams);
+        DBConnectionPool.refresh(driver.url, "testUser", "testPassword", null);
+        QueryGenerator.getTableList(requestParams);
+        assertEquals(2, driver.connections.get());
+        assertEquals(2, driver.metadataReads.get("tables").get());
+
+        // A new connection reuses the cached metadata until it expires or is refreshed
+        driver.valid.set(false);
+        QueryGenerator.getTableList(requestParams);
+        assertEquals(3, driver.connections.get());
+        assertEquals(2, driver.metadataReads.get("tables").get());
+    }
+
+    @Test
+    public void testTablesAreIntrospectedConcurrently() {
+
+        StringBuilder tableData = new StringBuilder("{");
+        for (int i = 0; i < 8; i++) {
+            tableData.append(i > 0 ? "," : "").append("\"table").append(i).append("\":\"GET\"");
+        }
+        requestParams.setTableData(tableData.append("}").toString());
+        requestParams.setDatasourceName("TestDS");
+        requestParams.setParallelism(3);
+        driver.latencyMillis = 50;
+
+        String content = QueryGenerator.generateDSSQueries(requestParams);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(content.contains("select_all_table" + i + "_query"));
+        }
+        // The definitions are generated in the order of the selected tables
+        assertTrue(content.indexOf("select_all_table0_query") < content.indexOf("select_all_table7_query"));
+        assertEquals(8, driver.metadataReads.get("columns").get());
+        assertEquals(3, driver.maxConcurrentReads.get());
+        assertEquals(3, driver.connections.get());
+    }
+
+    @Test
+    public void testUnreachableDatabase() {
+
+        driver.reachable.set(false);
+        assertNull(getConnection());
+        assertTrue(QueryGenerator.getTableList(requestParams).isEmpty());
+    }
+
+    private Connection getConnection() {
+
+        return DBConnectionPool.getConnection(driver.url, "testUser", "testPassword", null);
+    }
+
+    private static final class StubDriver implements Driver {
+
+        private final String url;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final Map<String, AtomicInteger> metadataReads = Map.of("tables", new AtomicInteger(),
+                "columns", new AtomicInteger(), "procedures", new AtomicInteger());
+        private final AtomicBoolean valid = new AtomicBoolean(true);
+        private final AtomicBoolean reachable = new AtomicBoolean(true);
+        private final AtomicInteger concurrentReads = new AtomicInteger();
+        private final AtomicInteger maxConcurrentReads = new AtomicInteger();
+        private volatile long latencyMillis;
+
+        StubDriver(String url) {
+
+            this.url = url;
+        }
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            if (!reachable.get()) {
+                throw new SQLException("Database is not reachable");
+            }
+            connections.incrementAndGet();
+            Connection connection = mock(Connection.class);
+            DatabaseMetaData metadata = mock(DatabaseMetaData.class);
+            when(connection.isValid(anyInt())).thenAnswer(invocation -> valid.get());
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.getMetaData()).thenReturn(metadata);
+            when(metadata.getConnection()).thenReturn(connection);
+            when(metadata.getDatabaseProductName()).thenReturn("MySQL");
+            when(metadata.getTables(any(), any(), any(), any())).thenAnswer(invocation -> {
+                metadataReads.get("tables").incrementAndGet();
+                ResultSet tables = mock(ResultSet.class);
+                when(tables.next()).thenReturn(true, false);
+                when(tables.getString("TABLE_NAME")).thenReturn("student");
+                return tables;
+            });
+            when(metadata.getColumns(any(), any(), any(), any())).thenAnswer(invocation -> {
+                metadataReads.get("columns").incrementAndGet();
+                maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+                Thread.sleep(latencyMillis);
+                concurrentReads.decrementAndGet();
+                ResultSet columns = mock(ResultSet.class);
+                when(columns.next()).thenReturn(true, false);
+                when(columns.getString("COLUMN_NAME")).thenReturn("id");
+                when(columns.getInt("DATA_TYPE")).thenReturn(Types.INTEGER);
+                when(columns.getString("IS_AUTOINCREMENT")).thenReturn("YES");
+                return columns;
+            });
+            when(metadata.getPrimaryKeys(any(), any(), any())).thenAnswer(invocation -> mock(ResultSet.class));
+            when(metadata.getProcedures(any(), any(), any())).thenAnswer(invocation -> {
+                metadataReads.get("procedures").incrementAndGet();
+                ResultSet procedures = mock(ResultSet.class);
+                when(procedures.next()).thenReturn(true, false);
+                when(procedures.getString("PROCEDURE_NAME")).thenReturn("getStudents");
+                return procedures;
+            });
+            return connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+
+            return this.url.equals(url);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+
+            return Logger.getGlobal();
+        }
+    }
+}
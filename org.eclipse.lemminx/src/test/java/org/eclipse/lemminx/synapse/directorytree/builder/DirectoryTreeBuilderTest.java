@@ -40,12 +40,10 @@ import static org.mockito.Mockito.mockStatic;
 
 public class DirectoryTreeBuilderTest {
 
-    private DirectoryTreeBuilder directoryTreeBuilder;
     private static MockedStatic<ConnectorHolder> connectorHolderMock;
 
     @BeforeEach
     void setUp() {
-        directoryTreeBuilder = new DirectoryTreeBuilder();
         connectorHolderMock = mockStatic(ConnectorHolder.class);
     }
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.directorytree.builder;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeChange;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeModel;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectoryTreeModelTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+    private static final String API_PATH = "src/main/wso2mi/artifacts/apis/testApi.xml";
+    private static final String SEQUENCE_PATH = "src/main/wso2mi/artifacts/sequences/newSequence.xml";
+    private static final String APIS_SECTION = "src/main/wso2mi/artifacts/apis";
+    private static final String SEQUENCES_SECTION = "src/main/wso2mi/artifacts/sequences";
+
+    @TempDir
+    private Path tempDir;
+    private Path project;
+    private DirectoryTreeModel model;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        ConnectorHolder.getInstance();
+        project = copyProject(tempDir.resolve("project"));
+        model = new DirectoryTreeModel(new WorkspaceFolder(project.toString()));
+    }
+
+    @Test
+    void updateChangedArtifact() throws Exception {
+
+        model.getDirectoryTree();
+        Path api = project.resolve(API_PATH);
+        Files.writeString(api, Files.readString(api).replace("name=\"testApi\"", "name=\"renamedApi\""));
+
+        List<DirectoryTreeChange> changes = model.update(List.of(api.toUri().toString()));
+        assertEquals(1, changes.size());
+        DirectoryTreeChange change = changes.get(0);
+        assertEquals(DirectoryTreeChange.Type.CHANGED, change.getType());
+        assertEquals(APIS_SECTION, change.getSection());
+        assertEquals(api.toString(), change.getPath());
+        assertEquals(0, change.getIndex());
+        assertEquals("renamedApi", change.getNode().getAsJsonObject().get("name").getAsString());
+        assertUpdatedTree();
+    }
+
+    @Test
+    void updateRenamedArtifact() throws Exception {
+
+        model.getDirectoryTree();
+        Path api = project.resolve(API_PATH);
+        Path renamedApi = api.resolveSibling("otherApi.xml");
+        Files.move(api, renamedApi);
+
+        List<DirectoryTreeChange> changes = model.update(List.of(api.toUri().toString(),
+                renamedApi.toUri().toString()));
+        assertEquals(1, changes.size());
+        DirectoryTreeChange change = changes.get(0);
+        assertEquals(DirectoryTreeChange.Type.RENAMED, change.getType());
+        assertEquals(APIS_SECTION, change.getSection());
+        assertEquals(api.toString(), change.getOldPath());
+        assertEquals(renamedApi.toString(), change.getPath());
+        assertUpdatedTree();
+    }
+
+    @Test
+    void updateAddedAndRemovedArtifact() throws Exception {
+
+        model.getDirectoryTree();
+        Path sequence = project.resolve(SEQUENCE_PATH);
+        Files.writeString(sequence, "<sequence name=\"newSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+
+        List<DirectoryTreeChange> changes = model.update(List.of(sequence.toUri().toString()));
+        assertEquals(1, changes.size());
+        assertEquals(DirectoryTreeChange.Type.ADDED, changes.get(0).getType());
+        assertEquals(SEQUENCES_SECTION, changes.get(0).getSection());
+        assertEquals(sequence.toString(), changes.get(0).getPath());
+        assertUpdatedTree();
+
+        Files.delete(sequence);
+        DirectoryTreeBuilder.fileChanged(sequence.toUri().toString());
+        changes = model.update(List.of(sequence.toUri().toString()));
+        assertEquals(1, changes.size());
+        assertEquals(DirectoryTreeChange.Type.REMOVED, changes.get(0).getType());
+        assertEquals(SEQUENCES_SECTION, changes.get(0).getSection());
+        assertEquals(sequence.toString(), changes.get(0).getPath());
+        assertNull(changes.get(0).getNode());
+        assertUpdatedTree();
+    }
+
+    @Test
+    void updateAddedJavaFolder() throws Exception {
+
+        model.getDirectoryTree();
+        Path mediator = project.resolve("src/main/java/org/sample/SampleMediator.java");
+        Files.createDirectories(mediator.getParent());
+        Files.writeString(mediator, "package org.sample;\n");
+
+        List<DirectoryTreeChange> changes = model.update(List.of(mediator.toUri().toString()));
+        assertEquals(1, changes.size());
+        assertEquals(DirectoryTreeChange.Type.ADDED, changes.get(0).getType());
+        assertEquals("src/main/java", changes.get(0).getSection());
+        assertEquals(project.resolve("src/main/java").toString(), changes.get(0).getPath());
+        assertUpdatedTree();
+    }
+
+    @Test
+    void updateProjectExplorer() throws Exception {
+
+        // The project explorer model is not updated before it is requested
+        assertTrue(model.updateProjectExplorer().isEmpty());
+
+        model.getProjectExplorerModel();
+        Path sequence = project.resolve(SEQUENCE_PATH);
+        Files.writeString(sequence, "<sequence name=\"newSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+        model.update(List.of(sequence.toUri().toString()));
+
+        List<DirectoryTreeChange> changes = model.updateProjectExplorer();
+        assertEquals(1, changes.size());
+        assertEquals(DirectoryTreeChange.Type.ADDED, changes.get(0).getType());
+        assertEquals("src/main/wso2mi/artifacts/Other Artifacts/Sequences", changes.get(0).getSection());
+        assertEquals(sequence.toString(), changes.get(0).getPath());
+        assertEquals(DirectoryTreeBuilder.getProjectExplorerModel(new WorkspaceFolder(project.toString()))
+                .getDirectoryMap(), model.getProjectExplorerModel().getDirectoryMap());
+        assertTrue(model.updateProjectExplorer().isEmpty());
+    }
+
+    @Test
+    void updateIgnoredFiles() throws Exception {
+
+        // The tree is not updated before it is requested
+        Path api = project.resolve(API_PATH);
+        assertTrue(model.update(List.of(api.toUri().toString())).isEmpty());
+
+        model.getDirectoryTree();
+        Path targetFile = project.resolve("target/testApi.xml");
+        Files.createDirectories(targetFile.getParent());
+        Files.copy(api, targetFile);
+        Path otherFile = tempDir.resolve("other/testApi.xml");
+        Files.createDirectories(otherFile.getParent());
+        Files.copy(api, otherFile);
+        assertTrue(model.update(List.of(targetFile.toUri().toString(), otherFile.toUri().toString())).isEmpty());
+        assertTrue(model.update(List.of(api.toUri().toString())).isEmpty());
+    }
+
+    private void assertUpdatedTree() {
+
+        assertEquals(DirectoryTreeBuilder.buildDirectoryTree(new WorkspaceFolder(project.toString())).getDirectoryMap(),
+                model.getDirectoryTree().getDirectoryMap());
+    }
+
+    private static Path copyProject(Path target) throws IOException {
+
+        Path source = new File(DirectoryTreeModelTest.class.getResource(PROJECT_PATH).getPath()).toPath();
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                try {
+                    Files.copy(path, target.resolve(source.relativize(path).toString()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return target;
+    }
+}
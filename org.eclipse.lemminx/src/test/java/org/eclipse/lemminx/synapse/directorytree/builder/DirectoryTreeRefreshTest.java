@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.directorytree.builder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DirectoryTreeRefreshTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+    private static final String API_PATH = "src/main/wso2mi/artifacts/apis/testApi.xml";
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+
+        ConnectorHolder.getInstance();
+    }
+
+    @Test
+    void buildDirectoryTreeAfterArtifactChange() throws Exception {
+
+        Path project = copyProject(tempDir.resolve("project"));
+        assertEquals(List.of("testApi"), getApiNames(project));
+
+        Path api = project.resolve(API_PATH);
+        Files.writeString(api, Files.readString(api).replace("name=\"testApi\"", "name=\"renamedApi\""));
+        assertEquals(List.of("renamedApi"), getApiNames(project));
+
+        Files.copy(api, api.resolveSibling("otherApi.xml"));
+        Files.delete(api);
+        DirectoryTreeBuilder.fileChanged(api.toUri().toString());
+        assertEquals(List.of("renamedApi"), getApiNames(project));
+    }
+
+    @Test
+    void buildDirectoryTreesConcurrently() throws Exception {
+
+        Path firstProject = copyProject(tempDir.resolve("first"));
+        Path secondProject = copyProject(tempDir.resolve("second"));
+        Path api = secondProject.resolve(API_PATH);
+        Files.writeString(api, Files.readString(api).replace("name=\"testApi\"", "name=\"secondApi\""));
+
+        List<CompletableFuture<List<String>>> firstNames = new ArrayList<>();
+        List<CompletableFuture<List<String>>> secondNames = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            firstNames.add(CompletableFuture.supplyAsync(() -> getApiNames(firstProject)));
+            secondNames.add(CompletableFuture.supplyAsync(() -> getApiNames(secondProject)));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(List.of("testApi"), firstNames.get(i).get());
+            assertEquals(List.of("secondApi"), secondNames.get(i).get());
+        }
+    }
+
+    private static List<String> getApiNames(Path project) {
+
+        JsonElement directoryMap = DirectoryTreeBuilder.buildDirectoryTree(new WorkspaceFolder(project.toString()))
+                .getDirectoryMap();
+        JsonArray apis = directoryMap.getAsJsonObject().getAsJsonObject("src").getAsJsonObject("main")
+                .getAsJsonObject("wso2mi").getAsJsonObject("artifacts").getAsJsonArray("apis");
+        List<String> names = new ArrayList<>();
+        apis.forEach(apiNode -> names.add(apiNode.getAsJsonObject().get("name").getAsString()));
+        return names;
+    }
+
+    private static Path copyProject(Path target) throws IOException {
+
+        Path source = new File(DirectoryTreeRefreshTest.class.getResource(PROJECT_PATH).getPath()).toPath();
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                try {
+                    Files.copy(path, target.resolve(source.relativize(path).toString()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return target;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.directorytree.builder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.ProjectExplorerBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the project explorer model built from a directory tree with .gitkeep files, data mappers in both the
+ * resources and the registry folders, class mediators in nested java packages and Ballerina modules.
+ */
+public class ProjectExplorerBuilderTest {
+
+    private static final String RESOURCE_PATH = "/synapse/directorytree.builder/";
+
+    @Test
+    void buildProjectExplorer() throws Exception {
+
+        JsonElement directoryTree = JsonParser.parseString(readResource("project-explorer-tree.json"));
+        String expectedResult = readResource("project-explorer.json");
+
+        assertEquals(expectedResult, ProjectExplorerBuilder.build(directoryTree).toString());
+    }
+
+    @Test
+    void buildProjectExplorerWithoutArtifactsFolder() {
+
+        JsonElement directoryTree = JsonParser.parseString("{\"src\":{\"main\":{\"wso2mi\":null,\"java\":null}}}");
+
+        assertNull(ProjectExplorerBuilder.build(directoryTree));
+    }
+
+    private static String readResource(String name) throws Exception {
+
+        String path = ProjectExplorerBuilderTest.class.getResource(RESOURCE_PATH + name).getPath();
+        return Files.readString(Path.of(new File(path).getAbsolutePath()));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.expression.CompletionIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CompletionIndexTest {
+
+    private static final List<String> FUNCTIONS = List.of("formatDateTime", "floor", "base64encode", "base64decode",
+            "toUpper", "toLower", "trim", "length", "exists", "payload", "params");
+    private static final CompletionIndex<String> INDEX = new CompletionIndex<>(FUNCTIONS, Function.identity());
+
+    @Test
+    public void testPrefixMatch() {
+
+        assertEquals(List.of("toLower", "toUpper"), INDEX.find("to"));
+        assertEquals(List.of("toUpper"), INDEX.find("toU"));
+    }
+
+    @Test
+    public void testCamelCaseMatch() {
+
+        assertEquals(List.of("formatDateTime"), INDEX.find("fDT"));
+        // base64decode is only a fuzzy match of b64e, hence listed after the camel case match
+        assertEquals(List.of("base64encode", "base64decode"), INDEX.find("b64e"));
+    }
+
+    @Test
+    public void testFuzzyMatch() {
+
+        assertEquals(List.of("trim"), INDEX.find("tim"));
+        assertEquals(List.of(), INDEX.find("xyz"));
+    }
+
+    @Test
+    public void testRankOrdering() {
+
+        // Prefix matches come before the camel case and fuzzy matches
+        assertEquals(List.of("params", "payload"), INDEX.find("pa"));
+        assertEquals(List.of("formatDateTime", "floor"), INDEX.find("fo"));
+        assertEquals(CompletionIndex.EXACT_PREFIX, CompletionIndex.rank("toUpper", "toU"));
+        assertEquals(CompletionIndex.PREFIX, CompletionIndex.rank("toUpper", "tou"));
+        assertEquals(CompletionIndex.CAMEL_CASE, CompletionIndex.rank("formatDateTime", "fdt"));
+        assertEquals(CompletionIndex.FUZZY, CompletionIndex.rank("formatDateTime", "fmt"));
+        assertEquals(CompletionIndex.NO_MATCH, CompletionIndex.rank("formatDateTime", "dt"));
+    }
+
+    @Test
+    public void testEmptyFilterReturnsAll() {
+
+        assertEquals(FUNCTIONS, INDEX.find(""));
+        assertEquals(FUNCTIONS, CompletionIndex.filter(FUNCTIONS, ""));
+    }
+
+    @Test
+    public void testLinearFilterKeepsOrderWithinRank() {
+
+        // Labels collected per request are not sorted, only grouped by the match rank
+        assertEquals(List.of("toUpper", "toLower"), CompletionIndex.filter(FUNCTIONS, "to"));
+        assertEquals(List.of("payload", "params"), CompletionIndex.filter(FUNCTIONS, "pa"));
+        assertEquals(List.of("base64encode", "base64decode"), CompletionIndex.filter(FUNCTIONS, "b64e"));
+        assertEquals(List.of(), CompletionIndex.filter(FUNCTIONS, "xyz"));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.expression;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.eclipse.lemminx.customservice.synapse.expression.ExpressionValidator;
+import org.eclipse.lemminx.customservice.synapse.expression.SyntaxErrorListener;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionError;
+import org.eclipse.lemminx.util.synapse_expression.ExpressionLexer;
+import org.eclipse.lemminx.util.synapse_expression.ExpressionParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpressionValidatorTest {
+
+    private static final String EXPRESSIONS_PATH = "/synapse/expression/expressions.txt";
+
+    @BeforeEach
+    public void setUp() {
+
+        ExpressionValidator.clearCache();
+    }
+
+    @Test
+    public void testValidExpression() {
+
+        assertTrue(ExpressionValidator.validate("toUpper(vars.name) + payload.id").isEmpty());
+    }
+
+    @Test
+    public void testInvalidExpression() {
+
+        List<ExpressionError> errors = ExpressionValidator.validate("toUpper(vars.name");
+        assertFalse(errors.isEmpty());
+        assertEquals("toUpper(vars.name", errors.get(0).getExpression());
+        assertTrue(errors.get(0).getFullMessage().contains("Offending symbol: [@"));
+    }
+
+    @Test
+    public void testResultIsCached() {
+
+        List<ExpressionError> errors = ExpressionValidator.validate("vars.count >");
+        assertSame(errors, ExpressionValidator.validate("vars.count >"));
+    }
+
+    @Test
+    public void testSameErrorsAsFullParse() throws IOException {
+
+        for (String expression : readExpressions()) {
+            List<String> expected = parseWithLL(expression);
+            List<String> actual = ExpressionValidator.validate(expression).stream()
+                    .map(ExpressionError::getFullMessage).collect(Collectors.toList());
+            assertEquals(expected, actual, expression);
+        }
+    }
+
+    private List<String> parseWithLL(String expression) {
+
+        ExpressionLexer lexer = new ExpressionLexer(CharStreams.fromString(expression));
+        ExpressionParser parser = new ExpressionParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        SyntaxErrorListener errorListener = new SyntaxErrorListener();
+        parser.addErrorListener(errorListener);
+        parser.expression();
+        return errorListener.getErrors().stream().map(ExpressionError::getFullMessage).collect(Collectors.toList());
+    }
+
+    static List<String> readExpressions() throws IOException {
+
+        try (InputStream in = ExpressionValidatorTest.class.getResourceAsStream(EXPRESSIONS_PATH)) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return content.lines().filter(line -> !line.isBlank()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.expression;
+
+import com.google.gson.JsonPrimitive;
+import org.eclipse.lemminx.customservice.synapse.expression.MediatorContextCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lsp4j.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MediatorContextCacheTest {
+
+    private static final String SEQUENCE = "<sequence name=\"test\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+            "    <variable name=\"a\" type=\"STRING\" value=\"1\"/>\n" +
+            "    <log category=\"INFO\">\n" +
+            "        <message>${vars.a}</message>\n" +
+            "    </log>\n" +
+            "</sequence>";
+    private static final Position LOG_POSITION = new Position(2, 4);
+
+    @TempDir
+    Path tempDir;
+
+    private final MediatorContextCache cache = MediatorContextCache.getInstance();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<MediatorTryoutInfo> loader = () -> {
+        loads.incrementAndGet();
+        MediatorInfo info = new MediatorInfo();
+        info.addVariable(new Property("a", "1"));
+        return new MediatorTryoutInfo(info, info.deepCopy());
+    };
+
+    @BeforeEach
+    public void setUp() {
+
+        cache.clear();
+        loads.set(0);
+    }
+
+    @Test
+    public void testDocumentIsReusedUntilModified() throws Exception {
+
+        Path file = writeSequence(SEQUENCE);
+        DOMDocument first = cache.getDocument(file.toString());
+        assertSame(first, cache.getDocument(file.toString()));
+
+        Files.writeString(file, SEQUENCE.replace("test", "test2"));
+        assertNotSame(first, cache.getDocument(file.toString()));
+    }
+
+    @Test
+    public void testContextReusedWhenMediatorChanges() throws Exception {
+
+        Path file = writeSequence(SEQUENCE);
+        cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        assertEquals(1, loads.get());
+
+        // Editing the expression of the mediator itself keeps the input context
+        Files.writeString(file, SEQUENCE.replace("${vars.a}", "${vars.}"));
+        MediatorTryoutInfo info = cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        assertEquals(1, loads.get());
+        assertEquals("a", info.getInput().getVariables().get(0).getKey());
+    }
+
+    @Test
+    public void testContextInvalidatedWhenPrecedingMediatorChanges() throws Exception {
+
+        Path file = writeSequence(SEQUENCE);
+        cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        assertEquals(1, loads.get());
+
+        Files.writeString(file, SEQUENCE.replace("name=\"a\"", "name=\"abc\""));
+        cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCachedContextIsNotShared() throws Exception {
+
+        Path file = writeSequence(SEQUENCE);
+        MediatorTryoutInfo first = cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        first.setInputConfigs(List.of(new Property("config", "1")));
+        first.addInputSynapseProperties(new Property("property", "1"));
+        first.setInputPayload(new JsonPrimitive("{\"changed\": true}"));
+        MediatorInfo input = first.getInput();
+        input.getVariables().get(0).setValue("2");
+        input.addVariable(new Property("b", "2"));
+
+        MediatorTryoutInfo second = cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader);
+        assertNotSame(first, second);
+        assertEquals(1, loads.get());
+        MediatorInfo cachedInput = second.getInput();
+        assertEquals(1, cachedInput.getVariables().size());
+        assertEquals("1", cachedInput.getVariables().get(0).getValue());
+        assertTrue(cachedInput.getConfigs().isEmpty());
+        assertTrue(cachedInput.getSynapse().isEmpty());
+        assertEquals("", cachedInput.getPayload().getAsString());
+
+        // A property of the returned input is a copy as well
+        second.getInput().getVariables().get(0).setValue("3");
+        second.setInputConfigs(List.of());
+        assertEquals("1", cache.getTryoutInfo(null, file.toString(), LOG_POSITION, false, loader).getInput()
+                .getVariables().get(0).getValue());
+    }
+
+    private Path writeSequence(String content) throws Exception {
+
+        Path file = tempDir.resolve("test.xml");
+        Files.writeString(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.expression.PayloadPathIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PayloadPathIndexTest {
+
+    private static final String PAYLOAD = "{\"id\": 1, \"customer\": {\"name\": \"John\", \"address\": " +
+            "{\"city\": \"Colombo\", \"zip/code\": \"10000\"}}, \"items\": [{\"sku\": \"A1\", \"qty\": 2}, " +
+            "{\"price\": 10}], \"tags\": []}";
+
+    @Test
+    public void testObjectKeys() {
+
+        PayloadPathIndex index = PayloadPathIndex.of(PAYLOAD);
+        assertEquals(List.of("id", "customer", "items", "tags"), index.getKeys(List.of()));
+        assertEquals(List.of("name", "address"), index.getKeys(List.of("customer")));
+        assertEquals(List.of("city", "zip/code"), index.getKeys(List.of("customer", "address")));
+    }
+
+    @Test
+    public void testNodeTypes() {
+
+        PayloadPathIndex index = PayloadPathIndex.of(PAYLOAD);
+        assertEquals(PayloadPathIndex.NodeType.OBJECT, index.getType(List.of()));
+        assertEquals(PayloadPathIndex.NodeType.VALUE, index.getType(List.of("id")));
+        assertEquals(PayloadPathIndex.NodeType.ARRAY, index.getType(List.of("items")));
+        assertEquals(PayloadPathIndex.NodeType.VALUE, index.getType(List.of("customer", "address", "zip/code")));
+        assertNull(index.getType(List.of("missing")));
+        assertTrue(index.getKeys(List.of("id")).isEmpty());
+    }
+
+    @Test
+    public void testOnlyFirstArrayElementIsIndexed() {
+
+        PayloadPathIndex index = PayloadPathIndex.of(PAYLOAD);
+        assertEquals(List.of("sku", "qty"), index.getKeys(List.of("items", "0")));
+        assertNull(index.getType(List.of("items", "1")));
+        assertNull(index.getType(List.of("tags", "0")));
+    }
+
+    @Test
+    public void testInvalidPayload() {
+
+        assertTrue(PayloadPathIndex.of("{\"id\": ").isEmpty());
+        assertTrue(PayloadPathIndex.of("<root><id>1</id></root>").isEmpty());
+        assertTrue(PayloadPathIndex.of("").isEmpty());
+    }
+
+    @Test
+    public void testIndexIsCachedPerPayload() {
+
+        String payload = new String(PAYLOAD);
+        assertSame(PayloadPathIndex.of(payload), PayloadPathIndex.of(payload));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.inbound;
+
+import com.google.gson.JsonObject;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.eclipse.lemminx.synapse.TestUtils.getResourceFilePath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InboundConnectorHolderTest {
+
+    private static final String CUSTOM_CONNECTOR_ID = "org.wso2.carbon.inbound.custom.CustomInboundListener";
+    private static final String CUSTOM_CONNECTOR_SCHEMA = "{\"id\": \"" + CUSTOM_CONNECTOR_ID + "\", " +
+            "\"name\": \"custom\", \"title\": \"Custom\", \"elements\": []}";
+
+    @TempDir
+    private Path tempDir;
+    private Path projectPath;
+    private File inboundConnectorsFolder;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        projectPath = tempDir.resolve("inbound_project");
+        FileUtils.copyDirectory(Path.of(getResourceFilePath("/synapse/connector/test_project")).toFile(),
+                projectPath.toFile());
+        inboundConnectorsFolder = new File(System.getProperty("user.home") + File.separator + ".wso2-mi" +
+                File.separator + Constant.INBOUND_CONNECTORS + File.separator + projectPath.toFile().getName() + "_" +
+                Utils.getHash(projectPath.toString()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+
+        FileUtils.deleteDirectory(inboundConnectorsFolder);
+    }
+
+    @Test
+    public void testLocalInboundConnectorSchemaIsNotModified() throws Exception {
+
+        InboundConnectorHolder inboundConnectorHolder = new InboundConnectorHolder();
+        inboundConnectorHolder.init(projectPath.toString(), "4.4.0");
+        Path inboundEndpoint = tempDir.resolve("HttpListener.xml");
+        Files.writeString(inboundEndpoint, createHttpInboundEndpoint("HttpListener"));
+
+        JsonObject schemaWithValues =
+                inboundConnectorHolder.getInboundConnectorSchema(inboundEndpoint.toFile()).getUiSchema();
+        assertNotNull(schemaWithValues);
+        assertTrue(schemaWithValues.toString().contains("\"currentValue\":\"HttpListener\""));
+        assertFalse(inboundConnectorHolder.getInboundConnectorSchemaFromId("http").getUiSchema().toString()
+                .contains("currentValue"));
+
+        // A modified inbound endpoint is read again
+        Files.writeString(inboundEndpoint, createHttpInboundEndpoint("OrderListener"));
+        Files.setLastModifiedTime(inboundEndpoint, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        schemaWithValues = inboundConnectorHolder.getInboundConnectorSchema(inboundEndpoint.toFile()).getUiSchema();
+        assertTrue(schemaWithValues.toString().contains("\"currentValue\":\"OrderListener\""));
+    }
+
+    @Test
+    public void testSavedInboundConnectorIsReloaded() {
+
+        InboundConnectorHolder inboundConnectorHolder = new InboundConnectorHolder();
+        inboundConnectorHolder.init(projectPath.toString(), "4.4.0");
+        assertTrue(inboundConnectorHolder.saveInboundConnector("custom", CUSTOM_CONNECTOR_SCHEMA));
+        assertEquals(CUSTOM_CONNECTOR_ID, inboundConnectorHolder.getInboundConnectorSchema("custom").getUiSchema()
+                .get(Constant.ID).getAsString());
+
+        // The saved connector is loaded from the registry index on the next initialization
+        InboundConnectorHolder reloadedHolder = new InboundConnectorHolder();
+        reloadedHolder.init(projectPath.toString(), "4.4.0");
+        assertNotNull(reloadedHolder.getInboundConnectorSchemaFromId(CUSTOM_CONNECTOR_ID).getUiSchema());
+        assertNull(reloadedHolder.getInboundConnectorSchemaFromId("unknown").getUiSchema());
+    }
+
+    private static String createHttpInboundEndpoint(String name) {
+
+        return "<inboundEndpoint xmlns=\"http://ws.apache.org/ns/synapse\" name=\"" + name + "\" protocol=\"http\" " +
+                "sequence=\"inboundSequence\" onError=\"faultSequence\" suspend=\"false\">\n" +
+                "    <parameters>\n" +
+                "        <parameter name=\"inbound.http.port\">8085</parameter>\n" +
+                "    </parameters>\n" +
+                "</inboundEndpoint>";
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediatorService;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigBatchRequest;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests the batch generation of synapse configs from the JSON request sent by the client to the JSON response, with
+ * the edit of each mediator stubbed as a replacement of its range with the mediator name.
+ */
+public class GenerateSynapseConfigsTest {
+
+    private static final String API = "<api xmlns=\"http://ws.apache.org/ns/synapse\" name=\"test\" context=\"/test\">\n" +
+            "    <resource methods=\"GET\" uri-template=\"/\">\n" +
+            "        <inSequence>\n" +
+            "            <log/>\n" +
+            "            <respond/>\n" +
+            "        </inSequence>\n" +
+            "    </resource>\n" +
+            "</api>\n";
+    private static final Gson GSON = new Gson();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testBatchRoundTrip() throws Exception {
+
+        Path document = tempDir.resolve("test.xml");
+        Files.writeString(document, API);
+        String request = "{\"documentUri\": " + GSON.toJson(document.toString()) + ", \"configs\": [" +
+                config(null, 3, 12, 3, 18, "variable") + ", " +
+                // Inserted at the same position as the next mediator, hence kept before it
+                config(null, 4, 12, 4, 12, "log") + ", " +
+                config(document.toString(), 4, 12, 4, 22, "payload") + ", " +
+                // Overlaps the replacement of the log mediator
+                config(null, 3, 14, 3, 14, "header") + ", " +
+                // Targets another document
+                config(tempDir.resolve("other.xml").toString(), 5, 8, 5, 8, "call") + "]}";
+        StubMediatorHandler mediatorHandler = new StubMediatorHandler();
+
+        SynapseConfigBatchRequest batchRequest = GSON.fromJson(request, SynapseConfigBatchRequest.class);
+        SynapseConfigResponse response = mediatorHandler.generateSynapseConfigs(batchRequest.documentUri,
+                batchRequest.configs);
+        assertNotNull(response);
+        JsonArray edits = GSON.toJsonTree(response).getAsJsonObject().getAsJsonArray("textEdits");
+
+        assertEquals(3, edits.size());
+        assertEdit(edits.get(0).getAsJsonObject(), 4, 12, 4, 12, "log");
+        assertEdit(edits.get(1).getAsJsonObject(), 4, 12, 4, 22, "payload");
+        assertEdit(edits.get(2).getAsJsonObject(), 3, 12, 3, 18, "variable");
+        // The mediator of another document is not generated, and the document is parsed once
+        assertEquals(List.of("variable", "log", "payload", "header"), mediatorHandler.mediators);
+        assertEquals(1, mediatorHandler.documents.size());
+    }
+
+    private static String config(String documentUri, int startLine, int startCharacter, int endLine,
+                                 int endCharacter, String mediator) {
+
+        return "{" + (documentUri != null ? "\"documentUri\": " + GSON.toJson(documentUri) + ", " : "") +
+                "\"range\": {\"start\": {\"line\": " + startLine + ", \"character\": " + startCharacter + "}, " +
+                "\"end\": {\"line\": " + endLine + ", \"character\": " + endCharacter + "}}, " +
+                "\"mediatorType\": \"" + mediator + "\", \"values\": {}, \"dirtyFields\": []}";
+    }
+
+    private static void assertEdit(JsonObject edit, int startLine, int startCharacter, int endLine, int endCharacter,
+                                   String newText) {
+
+        JsonObject range = edit.getAsJsonObject("range");
+        assertEquals(startLine, range.getAsJsonObject("start").get("line").getAsInt());
+        assertEquals(startCharacter, range.getAsJsonObject("start").get("character").getAsInt());
+        assertEquals(endLine, range.getAsJsonObject("end").get("line").getAsInt());
+        assertEquals(endCharacter, range.getAsJsonObject("end").get("character").getAsInt());
+        assertEquals(newText, edit.get("newText").getAsString());
+    }
+
+    private static class StubMediatorHandler extends MediatorHandler {
+
+        private final List<String> mediators = new ArrayList<>();
+        private final Set<DOMDocument> documents = new HashSet<>();
+
+        @Override
+        protected SynapseConfigResponse generateSynapseConfig(DOMDocument document, String documentUri, Range range,
+                                                              String mediator, Map<String, Object> data,
+                                                              List<String> dirtyFields) {
+
+            mediators.add(mediator);
+            documents.add(document);
+            return new SynapseConfigResponse(new TextEdit(range, mediator));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediatorService;
+
+import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SynapseConfigResponseTest {
+
+    @Test
+    public void testOverlappingEditsDropped() {
+
+        SynapseConfigResponse response = new SynapseConfigResponse();
+        assertTrue(response.addTextEditIfNotOverlapping(edit(2, 4, 5, 0, "replace")));
+        // Starts inside the replaced range
+        assertFalse(response.addTextEditIfNotOverlapping(edit(4, 0, 6, 0, "overlap")));
+        // Covers the replaced range
+        assertFalse(response.addTextEditIfNotOverlapping(edit(1, 0, 7, 0, "cover")));
+        // An insertion inside the replaced range
+        assertFalse(response.addTextEditIfNotOverlapping(edit(3, 0, 3, 0, "insert")));
+        assertEquals(List.of("replace"), getTexts(response));
+    }
+
+    @Test
+    public void testAdjacentEditsKept() {
+
+        SynapseConfigResponse response = new SynapseConfigResponse();
+        assertTrue(response.addTextEditIfNotOverlapping(edit(2, 4, 5, 0, "replace")));
+        // Ends where the replaced range starts
+        assertTrue(response.addTextEditIfNotOverlapping(edit(1, 0, 2, 4, "before")));
+        // Starts where the replaced range ends
+        assertTrue(response.addTextEditIfNotOverlapping(edit(5, 0, 6, 0, "after")));
+        // Insertions at the boundaries of the replaced range
+        assertTrue(response.addTextEditIfNotOverlapping(edit(2, 4, 2, 4, "insert at start")));
+        assertTrue(response.addTextEditIfNotOverlapping(edit(5, 0, 5, 0, "insert at end")));
+        assertEquals(5, response.getTextEdits().size());
+    }
+
+    @Test
+    public void testEditsSortedDescending() {
+
+        SynapseConfigResponse response = new SynapseConfigResponse();
+        response.addTextEdit(edit(1, 0, 1, 0, "first line"));
+        response.addTextEdit(edit(3, 2, 3, 2, "third line"));
+        response.addTextEdit(edit(1, 8, 1, 8, "first line end"));
+        response.addTextEdit(edit(2, 0, 2, 0, "second line"));
+        assertEquals(List.of("third line", "second line", "first line end", "first line"), getTexts(response));
+    }
+
+    @Test
+    public void testEditsAtSamePositionKeepOrder() {
+
+        SynapseConfigResponse response = new SynapseConfigResponse();
+        response.addTextEdit(edit(1, 0, 1, 0, "earlier line"));
+        assertTrue(response.addTextEditIfNotOverlapping(edit(4, 2, 4, 2, "first")));
+        assertTrue(response.addTextEditIfNotOverlapping(edit(4, 2, 4, 2, "second")));
+        assertTrue(response.addTextEditIfNotOverlapping(edit(4, 2, 6, 0, "replace")));
+        assertTrue(response.addTextEditIfNotOverlapping(edit(4, 2, 4, 2, "third")));
+        assertEquals(List.of("first", "second", "replace", "third", "earlier line"), getTexts(response));
+        // Sorting again does not change the order
+        assertEquals(List.of("first", "second", "replace", "third", "earlier line"), getTexts(response));
+    }
+
+    private static TextEdit edit(int startLine, int startCharacter, int endLine, int endCharacter, String text) {
+
+        return new TextEdit(new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter)),
+                text);
+    }
+
+    private static List<String> getTexts(SynapseConfigResponse response) {
+
+        return response.getTextEdits().stream().map(TextEdit::getNewText).collect(Collectors.toList());
+    }
+}
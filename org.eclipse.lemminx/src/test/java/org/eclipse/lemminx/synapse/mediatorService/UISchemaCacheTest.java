@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediatorService;
+
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests the cache of the UI schemas with values, with the UI schema of each mediator stubbed as the mediator name.
+ */
+public class UISchemaCacheTest {
+
+    private static final String SEQUENCE = "<sequence xmlns=\"http://ws.apache.org/ns/synapse\" name=\"test\">\n" +
+            "    <log/>\n" +
+            "</sequence>\n";
+    private static final String SERVER_VERSION = "4.4.0";
+    private static final Position LOG_POSITION = new Position(1, 4);
+
+    @TempDir
+    private Path tempDir;
+    private Path document;
+    private TextDocumentIdentifier documentIdentifier;
+    private StubMediatorHandler mediatorHandler;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        document = tempDir.resolve("test.xml");
+        Files.writeString(document, SEQUENCE);
+        documentIdentifier = new TextDocumentIdentifier(document.toUri().toString());
+        mediatorHandler = new StubMediatorHandler();
+        mediatorHandler.init(tempDir.toString(), SERVER_VERSION, ConnectorHolder.getInstance());
+    }
+
+    @Test
+    public void testCacheHit() {
+
+        JsonObject uiSchema = mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertNotNull(uiSchema);
+        assertEquals("log", uiSchema.get("mediator").getAsString());
+
+        // The cached schema is not changed by the changes made to a returned schema
+        uiSchema.addProperty("changed", true);
+        JsonObject cachedUISchema = mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertEquals("log", cachedUISchema.get("mediator").getAsString());
+        assertFalse(cachedUISchema.has("changed"));
+        assertEquals(1, mediatorHandler.generatedSchemas);
+    }
+
+    @Test
+    public void testInvalidatedByDocumentChange() throws Exception {
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        FileTime lastModified = Files.getLastModifiedTime(document);
+        Files.writeString(document, SEQUENCE.replace("<log/>", "<log level=\"full\"/>"));
+        Files.setLastModifiedTime(document, FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertEquals(2, mediatorHandler.generatedSchemas);
+    }
+
+    @Test
+    public void testInvalidatedByInit() {
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        mediatorHandler.init(tempDir.toString(), SERVER_VERSION, ConnectorHolder.getInstance());
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertEquals(2, mediatorHandler.generatedSchemas);
+    }
+
+    @Test
+    public void testInvalidatedByMediatorReload() {
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        // Called when the connectors of the project are reloaded
+        mediatorHandler.reloadMediatorList(SERVER_VERSION);
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertEquals(2, mediatorHandler.generatedSchemas);
+    }
+
+    @Test
+    public void testInvalidatedByResourceChange() {
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        // Called when a registry resource of the project is changed
+        mediatorHandler.invalidateUISchemas();
+
+        mediatorHandler.getUISchemaWithValues(documentIdentifier, LOG_POSITION);
+        assertEquals(2, mediatorHandler.generatedSchemas);
+    }
+
+    private static class StubMediatorHandler extends MediatorHandler {
+
+        private int generatedSchemas;
+
+        @Override
+        protected JsonObject getUISchemaForSTNode(STNode node) {
+
+            generatedSchemas++;
+            JsonObject uiSchema = new JsonObject();
+            uiSchema.addProperty("mediator", node.getTag());
+            return uiSchema;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.pom.parser;
+
+import org.eclipse.lemminx.customservice.synapse.parser.DependencyDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModel;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomModelService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PomModelServiceTest {
+
+    private static final String PROJECT_PATH = "/synapse/pom.parser/test_pom_parser";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testPomModel() {
+
+        PomModel pomModel = PomModelService.getPomModel(getProjectPath());
+
+        assertEquals("com.microintegrator.projects", pomModel.getProjectGroupId());
+        assertEquals("test_pom_parser", pomModel.getProjectArtifactId());
+        assertEquals("4.4.0", pomModel.getRuntimeVersion());
+        assertEquals("5.2.97", pomModel.getCarPluginVersion());
+        assertFalse(pomModel.isVersionedDeployment());
+        assertEquals("wso2/wso2mi:${project.runtime.version}", pomModel.getProperties().get("dockerfile.base.image"));
+        List<DependencyDetails> connectorDependencies = pomModel.getConnectorDependencies();
+        assertEquals("mi-connector-http", connectorDependencies.get(0).getArtifact());
+        assertEquals("mi-connector-amazonsqs", connectorDependencies.get(1).getArtifact());
+        assertThrows(UnsupportedOperationException.class, () -> connectorDependencies.add(new DependencyDetails()));
+    }
+
+    @Test
+    public void testPomModelIsReloadedOnPomChange() throws Exception {
+
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.copy(Path.of(getProjectPath(), "pom.xml"), pomFile);
+        PomModel pomModel = PomModelService.getPomModel(tempDir.toString());
+        assertSame(pomModel, PomModelService.getPomModel(tempDir.toString()));
+
+        // A change which keeps the size of the pom is detected as well
+        String pom = Files.readString(pomFile);
+        Files.writeString(pomFile, pom.replace("<project.runtime.version>4.4.0</project.runtime.version>",
+                "<project.runtime.version>4.3.0</project.runtime.version>"));
+        PomModel updatedPomModel = PomModelService.getPomModel(tempDir.toString());
+        assertNotSame(pomModel, updatedPomModel);
+        assertEquals("4.3.0", updatedPomModel.getRuntimeVersion());
+        assertEquals("4.4.0", pomModel.getRuntimeVersion());
+
+        Files.delete(pomFile);
+        assertNull(PomModelService.getPomModel(tempDir.toString()).getRuntimeVersion());
+    }
+
+    private static String getProjectPath() {
+
+        return new File(PomModelServiceTest.class.getResource(PROJECT_PATH).getPath()).getAbsolutePath();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.resource.finder;
+
+import com.google.gson.Gson;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependentResourceLoadTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+    private static final String API_PATH = "src/main/wso2mi/artifacts/apis/testApi.xml";
+
+    @TempDir
+    private Path tempDir;
+    private String userHome;
+    private Path projectPath;
+    private Path dependencyDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        userHome = System.getProperty(Constant.USER_HOME);
+        System.setProperty(Constant.USER_HOME, tempDir.toString());
+        projectPath = tempDir.resolve("main_project");
+        Files.createDirectories(projectPath);
+        Files.copy(getTestProject().resolve(Constant.POM), projectPath.resolve(Constant.POM));
+        String projectId = projectPath.getFileName() + Constant.UNDERSCORE + Utils.getHash(projectPath.toString());
+        dependencyDir = tempDir.resolve(Path.of(Constant.WSO2_MI, Constant.INTEGRATION_PROJECT_DEPENDENCIES,
+                projectId));
+        copyProject(dependencyDir.resolve(Path.of(Constant.EXTRACTED, "first_dependency")));
+        copyProject(dependencyDir.resolve(Path.of(Constant.EXTRACTED, "second_dependency")));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        System.setProperty(Constant.USER_HOME, userHome);
+    }
+
+    @Test
+    public void testDependentResourcesAreCached() throws Exception {
+
+        Map<String, ResourceResponse> scannedResources = loadDependentResources();
+        ResourceResponse apiResources = scannedResources.get("api");
+        assertEquals(List.of("testApi", "testApi"), getNames(apiResources.getResources()));
+        Path cacheFile = dependencyDir.resolve(Path.of("ResourceCache", "first_dependency.json"));
+        assertTrue(Files.exists(cacheFile));
+        String cacheContent = Files.readString(cacheFile);
+
+        // The resources are read from the cache, keeping the concrete resource types
+        Map<String, ResourceResponse> cachedResources = loadDependentResources();
+        assertEquals(new Gson().toJson(scannedResources), new Gson().toJson(cachedResources));
+        assertTrue(cachedResources.get("sequence").getRegistryResources().stream()
+                .allMatch(RegistryResource.class::isInstance));
+        assertEquals(cacheContent, Files.readString(cacheFile));
+
+        // A changed dependent project is scanned again
+        Path api = dependencyDir.resolve(Path.of(Constant.EXTRACTED, "first_dependency", API_PATH));
+        Files.writeString(api, Files.readString(api).replace("name=\"testApi\"", "name=\"changedApi\""));
+        Map<String, ResourceResponse> changedResources = loadDependentResources();
+        assertEquals(List.of("changedApi", "testApi"),
+                getNames(changedResources.get("api").getResources()).stream().sorted().collect(Collectors.toList()));
+        assertNotEquals(cacheContent, Files.readString(cacheFile));
+
+        // The cache of a removed dependent project is deleted
+        deleteRecursively(dependencyDir.resolve(Path.of(Constant.EXTRACTED, "first_dependency")));
+        loadDependentResources();
+        assertFalse(Files.exists(cacheFile));
+    }
+
+    private Map<String, ResourceResponse> loadDependentResources() {
+
+        AbstractResourceFinder resourceFinder = ResourceFinderFactory.getResourceFinder(false);
+        resourceFinder.loadDependentResources(projectPath.toString());
+        return resourceFinder.getDependentResourcesMap();
+    }
+
+    private static List<String> getNames(List<Resource> resources) {
+
+        return resources.stream().map(Resource::getName).collect(Collectors.toList());
+    }
+
+    private static Path getTestProject() {
+
+        return new File(DependentResourceLoadTest.class.getResource(PROJECT_PATH).getPath()).toPath();
+    }
+
+    private static void copyProject(Path target) throws IOException {
+
+        Path source = getTestProject();
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                try {
+                    Path targetPath = target.resolve(source.relativize(path).toString());
+                    Files.createDirectories(targetPath.getParent());
+                    Files.copy(path, targetPath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted((first, second) -> second.compareTo(first)).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+}
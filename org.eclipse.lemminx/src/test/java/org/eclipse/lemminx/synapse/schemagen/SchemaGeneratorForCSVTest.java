@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -214,4 +215,38 @@ public class SchemaGeneratorForCSVTest {
         verifyGeneratedJSONSchema(csvFilePath, expectedJSONSchemaFilePath, "\t");
     }
 
+    @Test
+    public void testGenerateSchemaFromFile() throws IOException {
+
+        String csvFilePath = "src/test/resources/synapse/schemagen/csv/sampleWithQuotedValues.csv";
+        String expectedJSONSchemaFilePath =
+                "src/test/resources/synapse/schemagen/csv/expectedJsonSchema/sampleWithQuotedValues.json";
+        String generatedSchema =
+                new SchemaGeneratorForCSV().getSchemaResourcePath(csvFilePath, FileType.CSV, ",");
+        String expectedSchema = new String(Files.readAllBytes(Paths.get(expectedJSONSchemaFilePath)));
+        assertEquals(expectedSchema.replace("\r\n", "").replace("\n", "").replace(" ", "").trim(),
+                generatedSchema.trim().replace(" ", "").trim());
+    }
+
+    @Test
+    public void testGenerateSchemaFromFileWithInconsistentRows() {
+
+        String csvFilePath = "src/test/resources/synapse/schemagen/csv/sampleWithInconsistentRows.csv";
+        assertThrows(IOException.class, () -> {
+            new SchemaGeneratorForCSV().getSchemaResourcePath(csvFilePath, FileType.CSV, ",");
+        });
+    }
+
+    @Test
+    public void testGenerateSchemaFromFileWithSampleSize() throws IOException {
+
+        // The inconsistent row is after the sampled rows, hence it is not read
+        String csvFilePath = "src/test/resources/synapse/schemagen/csv/sampleWithInconsistentRows.csv";
+        String generatedSchema =
+                new SchemaGeneratorForCSV(1).getSchemaResourcePath(csvFilePath, FileType.CSV, ",");
+        List<String> lines = Files.readAllLines(Paths.get(csvFilePath));
+        String expectedSchema = new SchemaGeneratorForCSV().getSchemaContent(lines.get(0) + "\n" + lines.get(1),
+                FileType.CSV, ",");
+        assertEquals(expectedSchema, generatedSchema);
+    }
 }
@@ -14,12 +14,15 @@
 
 package org.eclipse.lemminx.synapse.schemagen;
 
+import com.google.gson.JsonSyntaxException;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForJSON;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -27,6 +30,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SchemaGeneratorForJSONTest {
 
+    @TempDir
+    private Path tempDir;
+
     private void verifyGeneratedJSONSchema(String jsonFilePath, String jsonSchemaFilePath) throws IOException {
 
         String generatedSchema = generateJSONSchema(jsonFilePath);
@@ -308,4 +314,64 @@ public class SchemaGeneratorForJSONTest {
         String jsonFilePath = "src/test/resources/synapse/schemagen/json/sampleWithWhitespaceOnly.json";
         assertThrows(ClassCastException.class, () -> generateJSONSchema(jsonFilePath));
     }
+
+    @Test
+    public void testGenerateSchemaFromFile() throws IOException {
+
+        String jsonFilePath = "src/test/resources/synapse/schemagen/json/sampleWithArrays.json";
+        String expectedJSONSchemaFilePath =
+                "src/test/resources/synapse/schemagen/json/expectedJsonSchema/sampleWithArrays.json";
+        String generatedSchema =
+                new SchemaGeneratorForJSON().getSchemaResourcePath(jsonFilePath, FileType.JSON, "");
+        String expectedSchema = new String(Files.readAllBytes(Paths.get(expectedJSONSchemaFilePath)));
+        assertEquals(expectedSchema.replace("\r\n", "").replace("\n", "").replace(" ", "").trim(),
+                generatedSchema.trim().replace(" ", "").trim());
+    }
+
+    @Test
+    public void testGenerateSchemaFromFileForRootArray() throws IOException {
+
+        // The elements of a root array are read one at a time
+        String jsonFilePath = "src/test/resources/synapse/schemagen/json/sampleWithEmptyArray.json";
+        String expectedJSONSchemaFilePath =
+                "src/test/resources/synapse/schemagen/json/expectedJsonSchema/sampleWithEmptyArray.json";
+        String generatedSchema =
+                new SchemaGeneratorForJSON().getSchemaResourcePath(jsonFilePath, FileType.JSON, "");
+        String expectedSchema = new String(Files.readAllBytes(Paths.get(expectedJSONSchemaFilePath)));
+        assertEquals(expectedSchema.replace("\r\n", "").replace("\n", "").replace(" ", "").trim(),
+                generatedSchema.trim().replace(" ", "").trim());
+
+        Path sample = tempDir.resolve("sample.json");
+        String content = "[{\"id\": 1, \"tags\": [\"a\"]}, {\"id\": 2, \"name\": \"b\"}, 3]";
+        Files.writeString(sample, content);
+        assertEquals(new SchemaGeneratorForJSON().getSchemaContent(content, FileType.JSON, ""),
+                new SchemaGeneratorForJSON().getSchemaResourcePath(sample.toString(), FileType.JSON, ""));
+    }
+
+    @Test
+    public void testGenerateSchemaFromSample() throws IOException {
+
+        Path sample = tempDir.resolve("sample.json");
+        Files.writeString(sample, "{\"orders\": [{\"id\": 1, \"items\": [{\"sku\": \"A\"}, {\"sku\": \"B\"}]}, " +
+                "{\"id\": 2}, {\"id\": 3, \"note\": \"skipped\"}], \"total\": 3}");
+        String generatedSchema =
+                new SchemaGeneratorForJSON(2).getSchemaResourcePath(sample.toString(), FileType.JSON, "");
+
+        // Only the first two elements of each array are used
+        String expectedSchema = new SchemaGeneratorForJSON().getSchemaContent(
+                "{\"orders\": [{\"id\": 1, \"items\": [{\"sku\": \"A\"}, {\"sku\": \"B\"}]}, {\"id\": 2}], " +
+                        "\"total\": 3}", FileType.JSON, "");
+        assertEquals(expectedSchema, generatedSchema);
+    }
+
+    @Test
+    public void testGenerateSchemaFromSampleWithTrailingContent() throws IOException {
+
+        Path sample = tempDir.resolve("sample.json");
+        Files.writeString(sample, "[1, 2, 3] {}");
+        assertThrows(JsonSyntaxException.class,
+                () -> new SchemaGeneratorForJSON(1).getSchemaResourcePath(sample.toString(), FileType.JSON, ""));
+        assertThrows(JsonSyntaxException.class,
+                () -> new SchemaGeneratorForJSON().getSchemaResourcePath(sample.toString(), FileType.JSON, ""));
+    }
 }
@@ -17,15 +17,20 @@ package org.eclipse.lemminx.synapse.schemagen;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForXML;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SchemaGeneratorForXMLTest {
 
+    @TempDir
+    private Path tempDir;
+
     private void verifyGeneratedJSONSchema(String xmlFilePath, String jsonSchemaFilePath) throws IOException {
 
         SchemaGeneratorForXML schemaGenerator = new SchemaGeneratorForXML();
@@ -216,4 +221,24 @@ public class SchemaGeneratorForXMLTest {
                 "src/test/resources/synapse/schemagen/xml/expectedJsonSchema/sampleWithSpecialCharacters.json";
         verifyGeneratedJSONSchema(xmlFilePath, expectedJSONSchemaFilePath);
     }
+
+    @Test
+    public void testGenerateSchemaFromSample() throws IOException {
+
+        Path sample = tempDir.resolve("sample.xml");
+        Files.writeString(sample, "<orders xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">" +
+                "<order id=\"1\"><item>A</item><item>B</item><item>C</item></order>" +
+                "<order id=\"2\"><item>D</item></order>" +
+                "<order id=\"3\"><note>skipped</note></order></orders>");
+        String generatedSchema =
+                new SchemaGeneratorForXML(2).getSchemaResourcePath(sample.toString(), FileType.XML, null);
+
+        // Only the first two occurrences of the repeated elements of each element are used
+        Path expectedSample = tempDir.resolve("expected.xml");
+        Files.writeString(expectedSample, "<orders xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">" +
+                "<order id=\"1\"><item>A</item><item>B</item></order>" +
+                "<order id=\"2\"><item>D</item></order></orders>");
+        assertEquals(new SchemaGeneratorForXML().getSchemaResourcePath(expectedSample.toString(), FileType.XML, null),
+                generatedSchema);
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.syntaxtree;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.Space;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.Spaces;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.TagRanges;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.TagSpaces;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class STNodeTest {
+
+    private static final String SEQUENCE = "<sequence name=\"TestSequence\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+            "    <log/>\n" +
+            "</sequence>";
+
+    @Test
+    public void testTagRangesSerialization() {
+
+        Gson gson = new Gson();
+        TagRanges tagRanges = new TagRanges(new Range(new Position(1, 4), new Position(1, 10)), null);
+
+        String json = gson.toJson(tagRanges);
+        assertEquals("{\"startTagRange\":{\"start\":{\"line\":1,\"character\":4}," +
+                "\"end\":{\"line\":1,\"character\":10}}}", json);
+        TagRanges deserialized = gson.fromJson(json, TagRanges.class);
+        assertEquals(tagRanges.getStartTagRange(), deserialized.getStartTagRange());
+        assertNull(deserialized.getEndTagRange());
+    }
+
+    @Test
+    public void testSpacesSerialization() {
+
+        Gson gson = new Gson();
+        Space leadingSpace = new Space("\n    ", new Range(new Position(0, 10), new Position(1, 4)));
+        Spaces spaces = new Spaces(new TagSpaces(leadingSpace, null), null);
+
+        String json = gson.toJson(spaces);
+        assertEquals("{\"startingTagSpace\":{\"leadingSpace\":{\"space\":\"\\n    \",\"range\":{\"start\":" +
+                "{\"line\":0,\"character\":10},\"end\":{\"line\":1,\"character\":4}}}}}", json);
+        Spaces deserialized = gson.fromJson(json, Spaces.class);
+        assertEquals("\n    ", deserialized.getStartingTagSpace().getLeadingSpace().getSpace());
+        assertEquals(leadingSpace.getRange(), deserialized.getStartingTagSpace().getLeadingSpace().getRange());
+        assertNull(deserialized.getStartingTagSpace().getTrailingSpace());
+        assertNull(deserialized.getEndingTagSpace());
+    }
+
+    @Test
+    public void testSyntaxTreeStringsAreShared() {
+
+        STNode first = buildTree(SEQUENCE, "file:///first.xml");
+        STNode second = buildTree(SEQUENCE, "file:///second.xml");
+
+        assertSame(first.getTag(), second.getTag());
+        assertSame(first.getNamespaces().get("xmlns"), second.getNamespaces().get("xmlns"));
+        assertSame(first.getTextNode(), second.getTextNode());
+    }
+
+    @Test
+    public void testSyntaxTreeRanges() {
+
+        JsonObject tree = new SyntaxTreeGenerator().getSyntaxTree(
+                DOMParser.getInstance().parse(SEQUENCE, "file:///sequence.xml", null)).getSyntaxTree()
+                .getAsJsonObject();
+        JsonObject range = tree.getAsJsonObject("sequence").getAsJsonObject("range");
+
+        assertEquals("{\"line\":0,\"character\":0}", range.getAsJsonObject("startTagRange").get("start").toString());
+        assertEquals("{\"line\":2,\"character\":11}", range.getAsJsonObject("endTagRange").get("end").toString());
+    }
+
+    private static STNode buildTree(String text, String uri) {
+
+        DOMDocument document = DOMParser.getInstance().parse(text, uri, null);
+        return SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptor;
+import org.eclipse.lemminx.customservice.synapse.utils.ProjectDescriptorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectDescriptorServiceTest {
+
+    private static final String PROJECT_PATH = "/synapse/pom.parser/test_pom_parser";
+    private static final String LEGACY_PROJECT_DESCRIPTION = "<projectDescription><name>test</name><natures>" +
+            "<nature>org.wso2.developerstudio.eclipse.mavenmultimodule.project.nature</nature>" +
+            "</natures></projectDescription>";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testProjectDescriptor() throws Exception {
+
+        Files.copy(Path.of(getProjectPath(), Constant.POM), tempDir.resolve(Constant.POM));
+        ProjectDescriptor descriptor = ProjectDescriptorService.getDescriptor(tempDir.toString());
+
+        assertFalse(descriptor.isProjectDescriptionPresent());
+        assertFalse(descriptor.isLegacyProject());
+        assertEquals(Constant.INTEGRATION_PROJECT, descriptor.getProjectType());
+        assertEquals(Constant.MI_SUPPORTED_VERSION_MAP.get("4.4.0"), descriptor.getServerVersion());
+        assertSame(descriptor, ProjectDescriptorService.getDescriptor(tempDir.toString()));
+    }
+
+    @Test
+    public void testProjectDescriptorIsRefreshedOnProjectFileChange() throws Exception {
+
+        Path pomFile = tempDir.resolve(Constant.POM);
+        Files.copy(Path.of(getProjectPath(), Constant.POM), pomFile);
+        ProjectDescriptor descriptor = ProjectDescriptorService.getDescriptor(tempDir.toString());
+        assertFalse(descriptor.isLegacyProject());
+
+        // Changes of other files do not discard the descriptor
+        Path projectFile = tempDir.resolve(Constant.DOT_PROJECT);
+        Files.writeString(projectFile, LEGACY_PROJECT_DESCRIPTION);
+        ProjectDescriptorService.projectFileChanged(tempDir.resolve("test.xsd").toUri().toString());
+        assertSame(descriptor, ProjectDescriptorService.getDescriptor(tempDir.toString()));
+
+        ProjectDescriptorService.projectFileChanged(projectFile.toUri().toString());
+        ProjectDescriptor legacyDescriptor = ProjectDescriptorService.getDescriptor(tempDir.toString());
+        assertNotSame(descriptor, legacyDescriptor);
+        assertTrue(legacyDescriptor.isProjectDescriptionPresent());
+        assertTrue(legacyDescriptor.isLegacyProject());
+
+        String pom = Files.readString(pomFile);
+        Files.writeString(pomFile, pom.replace("<project.runtime.version>4.4.0</project.runtime.version>",
+                "<project.runtime.version>4.3.0</project.runtime.version>"));
+        ProjectDescriptorService.projectFileChanged(pomFile.toString());
+        assertEquals(Constant.MI_SUPPORTED_VERSION_MAP.get("4.3.0"),
+                ProjectDescriptorService.getDescriptor(tempDir.toString()).getServerVersion());
+    }
+
+    private static String getProjectPath() {
+
+        return new File(ProjectDescriptorServiceTest.class.getResource(PROJECT_PATH).getPath()).getAbsolutePath();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SchemaExtractionTest {
+
+    private static final String SCHEMAS = "org/eclipse/lemminx/schemas/test";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testExtractionSkippedForSameSchemaSet() throws Exception {
+
+        Path targetFolder = tempDir.resolve("schemas");
+        Path jar = createSchemaJar("schemas.jar", Map.of("synapse.xsd", "<schema/>", "catalog.xml", "<catalog/>"));
+        Path schemaFolder;
+        try (URLClassLoader classLoader = getClassLoader(jar)) {
+            schemaFolder = Utils.extractSchemas(classLoader, SCHEMAS, targetFolder);
+        }
+        assertEquals("<schema/>", Files.readString(schemaFolder.resolve("synapse.xsd")));
+        assertEquals("<catalog/>", Files.readString(schemaFolder.resolve("catalog.xml")));
+
+        // An unchanged schema set is not extracted again
+        Files.delete(schemaFolder.resolve("synapse.xsd"));
+        try (URLClassLoader classLoader = getClassLoader(jar)) {
+            assertEquals(schemaFolder, Utils.extractSchemas(classLoader, SCHEMAS, targetFolder));
+        }
+        assertFalse(Files.exists(schemaFolder.resolve("synapse.xsd")));
+    }
+
+    @Test
+    public void testStaleSchemaSetsDeleted() throws Exception {
+
+        Path targetFolder = tempDir.resolve("schemas");
+        // Schemas extracted by an earlier layout, directly into the target folder
+        Files.createDirectories(targetFolder.resolve("mediators"));
+        Files.writeString(targetFolder.resolve("mediators").resolve("old.xsd"), "<schema/>");
+
+        Path oldJar = createSchemaJar("old.jar", Map.of("synapse.xsd", "<schema/>"));
+        Path oldSchemaFolder;
+        try (URLClassLoader classLoader = getClassLoader(oldJar)) {
+            oldSchemaFolder = Utils.extractSchemas(classLoader, SCHEMAS, targetFolder);
+        }
+        assertEquals(List.of(oldSchemaFolder), listFolder(targetFolder));
+
+        Path newJar = createSchemaJar("new.jar", Map.of("synapse.xsd", "<schema version=\"2\"/>"));
+        Path newSchemaFolder;
+        try (URLClassLoader classLoader = getClassLoader(newJar)) {
+            newSchemaFolder = Utils.extractSchemas(classLoader, SCHEMAS, targetFolder);
+        }
+        assertNotEquals(oldSchemaFolder, newSchemaFolder);
+        assertEquals("<schema version=\"2\"/>", Files.readString(newSchemaFolder.resolve("synapse.xsd")));
+        assertEquals(List.of(newSchemaFolder), listFolder(targetFolder));
+        assertTrue(Files.notExists(oldSchemaFolder));
+    }
+
+    private Path createSchemaJar(String name, Map<String, String> schemas) throws IOException {
+
+        Path jar = tempDir.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            // Directory entries, so that the schema folder is found as a resource
+            StringBuilder folder = new StringBuilder();
+            for (String segment : SCHEMAS.split("/")) {
+                folder.append(segment).append('/');
+                out.putNextEntry(new JarEntry(folder.toString()));
+                out.closeEntry();
+            }
+            for (Map.Entry<String, String> schema : schemas.entrySet()) {
+                out.putNextEntry(new JarEntry(SCHEMAS + "/" + schema.getKey()));
+                out.write(schema.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static URLClassLoader getClassLoader(Path jar) throws IOException {
+
+        // Without a parent, so that the schemas are not found in the test class path
+        return new URLClassLoader(new URL[]{jar.toUri().toURL()}, null);
+    }
+
+    private static List<Path> listFolder(Path folder) throws IOException {
+
+        try (Stream<Path> children = Files.list(folder)) {
+            return children.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipExtractionTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testExtractZip() throws Exception {
+
+        Path zip = tempDir.resolve("mi-connector-test-1.0.0.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            addEntry(out, "mi-connector-test-1.0.0/", null);
+            addEntry(out, "mi-connector-test-1.0.0/connector.xml", "<connector/>");
+            addEntry(out, "mi-connector-test-1.0.0/uischema/", null);
+            for (int i = 0; i < 20; i++) {
+                addEntry(out, "mi-connector-test-1.0.0/uischema/operation" + i + ".json", "{\"id\": " + i + "}");
+            }
+            addEntry(out, "mi-connector-test-1.0.0/icon/", null);
+        }
+        // A recently modified zip is expected to be still downloading, which delays the extraction
+        Files.setLastModifiedTime(zip, FileTime.fromMillis(1_000_000_000L));
+        Path extractTo = tempDir.resolve("extracted");
+        Utils.extractZip(zip.toFile(), extractTo.toFile());
+
+        // The folder named after the zip is not extracted
+        assertEquals("<connector/>", Files.readString(extractTo.resolve("connector.xml")));
+        assertEquals("{\"id\": 19}", Files.readString(extractTo.resolve("uischema").resolve("operation19.json")));
+        assertTrue(Files.isDirectory(extractTo.resolve("icon")));
+
+        // Unchanged files are not written again, while changed files are restored
+        Path unchangedFile = extractTo.resolve("uischema").resolve("operation0.json");
+        Path changedFile = extractTo.resolve("uischema").resolve("operation1.json");
+        FileTime lastModified = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(unchangedFile, lastModified);
+        Files.writeString(changedFile, "{\"id\": 9}");
+        Files.setLastModifiedTime(changedFile, lastModified);
+        Utils.extractZip(zip.toFile(), extractTo.toFile());
+        assertEquals(lastModified, Files.getLastModifiedTime(unchangedFile));
+        assertEquals("{\"id\": 1}", Files.readString(changedFile));
+    }
+
+    @Test
+    public void testExtractZipWithEntryOutsideTarget() throws Exception {
+
+        Path zip = tempDir.resolve("malicious.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            addEntry(out, "../outside.txt", "outside");
+        }
+        Files.setLastModifiedTime(zip, FileTime.fromMillis(1_000_000_000L));
+        Path extractTo = tempDir.resolve("extracted");
+        assertThrows(IOException.class, () -> Utils.extractZip(zip.toFile(), extractTo.toFile()));
+        assertFalse(Files.exists(tempDir.resolve("outside.txt")));
+    }
+
+    private static void addEntry(ZipOutputStream out, String name, String content) throws IOException {
+
+        out.putNextEntry(new ZipEntry(name));
+        if (content != null) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
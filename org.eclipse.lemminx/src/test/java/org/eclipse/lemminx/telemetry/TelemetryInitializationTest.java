@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.lemminx.XMLLanguageServer;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeNotification;
 import org.eclipse.lemminx.utils.platform.Platform;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializedParams;
@@ -121,6 +122,16 @@ public class TelemetryInitializationTest {
 			public void tryoutLog(String message) {
 
 			}
+
+			@Override
+			public void directoryTreeChanged(DirectoryTreeNotification message) {
+
+			}
+
+			@Override
+			public void projectExplorerChanged(DirectoryTreeNotification message) {
+
+			}
 		};
 		languageServer.setClient(client);
 		return languageServer;